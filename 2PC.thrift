@@ -9,6 +9,11 @@ enum Status{
   SUCCESSFUL = 1;
 }
 
+enum Codec{
+  NONE = 0;
+  DEFLATE = 1;
+}
+
 enum Operation{
   READ = 0;
   WRITE = 1;
@@ -28,18 +33,38 @@ struct RecoveryInformation{
   2: required RFile rFile;
 }
 
+struct RecoveryRequest{
+  1: required string filename;
+  2: required FileOperation fileOperation;
+  3: required i64 transactionId;
+}
+
 struct RFileMetadata{
   1: optional string filename;
   2: optional string contentHash;
   3: optional Timestamp created;
   4: optional Timestamp updated;
   5: optional i32 version;
-  6: optional i32 contentLength;
+  6: optional i64 contentLength;
+  7: optional Codec codec;
+  8: optional i64 rawLength;
 }
 
 struct RFile{
   1: optional RFileMetadata metadata;
-  2: optional string content;
+  2: optional binary content;
+  3: optional i64 writeId;
+}
+
+struct FileOp{
+  1: required Operation operation;
+  2: required RFile rFile;
+}
+
+struct FileOpResult{
+  1: required Status status;
+  2: optional RFile rFile;
+  3: optional string message;
 }
 
 service FileStore{
@@ -52,21 +77,57 @@ service FileStore{
   StatusReport deleteFile(1: string filenameToDelete)
     throws (1: SystemException systemException),
 
-  StatusReport doVote(1: RFile rFile, 2: FileOperation fileOperation)
+  StatusReport doVote(1: RFile rFile, 2: FileOperation fileOperation, 3: i64 timestamp)
+    throws (1: SystemException systemException),
+
+  RFile doCommitRead(1: string filenameToRead, 2: i64 timestamp)
+    throws (1: SystemException systemException),
+
+  StatusReport doCommitWrite(1: RFile rFile, 2: i64 timestamp)
+    throws (1: SystemException systemException),
+
+  StatusReport doCommitDelete(1: string filenameToDelete, 2: i64 timestamp)
+    throws (1: SystemException systemException),
+
+  StatusReport doAbort(1: RFile rFile, 2: FileOperation fileOperation, 3: i64 timestamp)
+    throws (1: SystemException systemException),
+
+  RecoveryInformation getRecoveryInformation(1: string filename, 2: FileOperation fileOperation, 3: string hostname, 4: i32 port, 5: i64 transactionId)
+    throws (1: SystemException systemException),
+
+  list<RecoveryInformation> getRecoveryInformationBatch(1: list<RecoveryRequest> recoveryRequests, 2: string hostname, 3: i32 port)
+    throws (1: SystemException systemException),
+
+  i64 beginWrite(1: string filename, 2: i64 writeId)
+    throws (1: SystemException systemException),
+
+  StatusReport appendChunk(1: i64 writeId, 2: binary chunk)
+    throws (1: SystemException systemException),
+
+  StatusReport finishWrite(1: i64 writeId)
+    throws (1: SystemException systemException),
+
+  StatusReport abortWrite(1: i64 writeId)
+    throws (1: SystemException systemException),
+
+  RFile readChunk(1: string filename, 2: i64 offset, 3: i32 length)
+    throws (1: SystemException systemException),
+
+  RFile readEncodedFile(1: string filenameToRead)
     throws (1: SystemException systemException),
 
-  RFile doCommitRead(1: string filenameToRead)
+  RFile readSnapshotChunk(1: string filename, 2: i32 version, 3: i64 offset, 4: i32 length)
     throws (1: SystemException systemException),
 
-  StatusReport doCommitWrite(1: RFile rFile)
+  list<FileOpResult> executeTransaction(1: list<FileOp> fileOps)
     throws (1: SystemException systemException),
 
-  StatusReport doCommitDelete(1: string filenameToDelete)
+  list<StatusReport> doVoteBatch(1: list<FileOp> fileOps, 2: i64 timestamp)
     throws (1: SystemException systemException),
 
-  StatusReport doAbort(1: RFile rFile, 2: FileOperation fileOperation)
+  list<FileOpResult> doCommitBatch(1: list<FileOp> fileOps, 2: i64 timestamp)
     throws (1: SystemException systemException),
 
-  RecoveryInformation getRecoveryInformation(1: string filename, 2: FileOperation fileOperation, 3: string hostname, 4: i32 port)
+  StatusReport doAbortBatch(1: list<FileOp> fileOps, 2: i64 timestamp)
     throws (1: SystemException systemException),
 }
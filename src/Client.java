@@ -1,10 +1,10 @@
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 import java.util.Scanner;
 
@@ -18,6 +18,10 @@ public class Client {
 	private static String coordinatorHostname = "PK.local";
 	private static int coordinatorPort = 12345;
 	private static TJSONProtocol tjsonProtocol;
+	//files larger than this are written in chunks of this size.
+	private static final int CHUNK_SIZE = Integer.getInteger("client.chunkSize", 1024 * 1024);
+	//files are read as stored and decompressed here, instead of by the participant.
+	private static final boolean ACCEPT_COMPRESSED = Boolean.getBoolean("client.acceptCompressed");
 
 	static{
 		tjsonProtocol = new TJSONProtocol(new TIOStreamTransport(System.out));
@@ -50,17 +54,14 @@ public class Client {
 						System.exit(0);
 					}
 					else{
-						File file = new File(filenameToWrite);
-						BufferedReader bufferedReader = null;
-						StringBuilder contentBuilder = new StringBuilder("");
 						try{
-							bufferedReader = new BufferedReader(new FileReader(file));
-							String line = null;
-							while((line = bufferedReader.readLine()) != null){
-								contentBuilder.append(line+"\n");
+							//the file is sent as is, whatever its encoding or line endings.
+							if(Files.size(path) > CHUNK_SIZE){
+								performChunkedWrite(filenameToWrite, path);
+							}
+							else{
+								performWrite(filenameToWrite, ByteBuffer.wrap(Files.readAllBytes(path)));
 							}
-							contentBuilder.setLength(contentBuilder.length()-1);
-							performWrite(filenameToWrite, contentBuilder.toString());
 						}
 						catch(IOException ioException){
 							System.out.println("Error : Please try again.");
@@ -88,7 +89,16 @@ public class Client {
 
 		try{
 
-			rFile = coordinator.readFile(filename);
+			if(ACCEPT_COMPRESSED){
+				rFile = coordinator.readEncodedFile(filename);
+				rFileMetadata = rFile.getMetadata();
+				if(rFileMetadata.isSetCodec() && !rFileMetadata.getCodec().equals(Codec.NONE)){
+					rFile.content = ContentCompressor.decompress(rFile.content, rFileMetadata.getRawLength());
+				}
+			}
+			else{
+				rFile = coordinator.readFile(filename);
+			}
 			rFile.write(tjsonProtocol);
 			System.out.println();
 		}
@@ -99,9 +109,12 @@ public class Client {
 		catch(TException te){
 			System.out.println(te.getMessage());
 		}
+		catch(IOException ioException){
+			System.out.println(ioException.getMessage());
+		}
 	}
 
-	private static void performWrite(String filename, String content){
+	private static void performWrite(String filename, ByteBuffer content){
 
 		FileStore.Client coordinator = ServerFetcher.getServer(coordinatorHostname, coordinatorPort);
 		RFile rFile = null;
@@ -116,8 +129,8 @@ public class Client {
 			//setting metadata
 			rFileMetadata.setFilename(filename);
 
-			//setting content and metadata to rFile
-			rFile.setContent(content);
+			//setting content and metadata to rFile, the field is set directly as the setter copies the buffer.
+			rFile.content = content;
 			rFile.setMetadata(rFileMetadata);
 
 			//making rpc to write method
@@ -133,6 +146,45 @@ public class Client {
 		}
 	}
 
+	private static void performChunkedWrite(String filename, Path path) throws IOException{
+		/*
+		 * the file is streamed to the coordinator a chunk at a time, reusing the same buffer for every chunk.
+		 * a chunk that could not be staged on all the servers aborts the write.
+		 */
+		FileStore.Client coordinator = ServerFetcher.getServer(coordinatorHostname, coordinatorPort);
+		FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+		try{
+			long writeId = coordinator.beginWrite(filename, 0);
+			ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+			StatusReport statusReport = new StatusReport(Status.SUCCESSFUL);
+			while(fileChannel.read(chunk) > 0 || chunk.position() > 0){
+				chunk.flip();
+				statusReport = coordinator.appendChunk(writeId, chunk);
+				chunk.clear();
+				if(!statusReport.equals(new StatusReport(Status.SUCCESSFUL))){
+					break;
+				}
+			}
+			if(statusReport.equals(new StatusReport(Status.SUCCESSFUL))){
+				statusReport = coordinator.finishWrite(writeId);
+			}
+			else{
+				coordinator.abortWrite(writeId);
+			}
+			statusReport.write(tjsonProtocol);
+			System.out.println();
+		}
+		catch(SystemException se){
+			System.out.println(se.getMessage());
+		}
+		catch(TException te){
+			System.out.println(te.getMessage());
+		}
+		finally{
+			fileChannel.close();
+		}
+	}
+
 	private static void performDelete(String filename){
 		FileStore.Client coordinator = ServerFetcher.getServer(coordinatorHostname, coordinatorPort);
 		StatusReport statusReport = null;
@@ -0,0 +1,255 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransportException;
+
+public class ConnectionPool {
+
+	/*
+	 * pool of open connections to the servers, kept per server.
+	 * a connection is borrowed for one call (or a few calls in a row) and then given back, so that it can be reused by the next transaction.
+	 * the pool can be tuned with the following system properties,
+	 * 		connectionPool.maxConnectionsPerServer	maximum number of connections to a single server, borrowers wait once all of them are in use.
+	 * 		connectionPool.idleTimeout				milliseconds after which an idle connection is closed.
+	 * 		connectionPool.validationInterval		milliseconds a connection can stay idle before it is checked for being alive when borrowed.
+	 * 		connectionPool.socketTimeout				read timeout in milliseconds of a connection, 0 for none.
+	 * 		connectionPool.initialBackoff			milliseconds to wait before reconnecting to a server that could not be reached.
+	 * 		connectionPool.maxBackoff				upper bound of the wait, which doubles with every failed attempt.
+	 */
+	private static final int MAX_CONNECTIONS_PER_SERVER = Integer.getInteger("connectionPool.maxConnectionsPerServer", 8);
+	private static final long IDLE_TIMEOUT = Long.getLong("connectionPool.idleTimeout", 60000);
+	private static final long VALIDATION_INTERVAL = Long.getLong("connectionPool.validationInterval", 2000);
+	private static final int SOCKET_TIMEOUT = Integer.getInteger("connectionPool.socketTimeout", 30000);
+	private static final long INITIAL_BACKOFF = Long.getLong("connectionPool.initialBackoff", 50);
+	private static final long MAX_BACKOFF = Long.getLong("connectionPool.maxBackoff", 1000);
+
+	private final ConcurrentMap<ServerInfo, ServerConnections> serverConnectionsMap = new ConcurrentHashMap<ServerInfo, ServerConnections>();
+	private final ScheduledExecutorService evictionExecutor;
+
+	private static class IdleConnection{
+		private final FileStore.Client client;
+		private final long idleSince;
+
+		private IdleConnection(FileStore.Client client, long idleSince){
+			this.client = client;
+			this.idleSince = idleSince;
+		}
+	}
+
+	private static class ServerConnections{
+		private final Semaphore permits = new Semaphore(MAX_CONNECTIONS_PER_SERVER, true);
+		//most recently used connection first, guarded by itself.
+		private final Deque<IdleConnection> idleConnections = new ArrayDeque<IdleConnection>();
+		//reconnect backoff, guarded by the ServerConnections object.
+		private long nextConnectTime = 0;
+		private long backoff = 0;
+	}
+
+	public ConnectionPool(){
+		evictionExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "connection-pool-evictor");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		long evictionInterval = Math.max(1, IDLE_TIMEOUT / 2);
+		evictionExecutor.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				evictIdleConnections();
+			}
+		}, evictionInterval, evictionInterval, TimeUnit.MILLISECONDS);
+	}
+
+	public FileStore.Client borrow(ServerInfo serverInfo, long deadline){
+		/*
+		 * hands out an idle connection to the server if there is one, otherwise opens a new one.
+		 * if the server cannot be reached then the connection is retried with backoff till the deadline.
+		 * returns null if no connection could be had before the deadline.
+		 */
+		ServerConnections serverConnections = getServerConnections(serverInfo);
+		try{
+			long remainingTime = deadline - new Date().getTime();
+			if(!serverConnections.permits.tryAcquire(Math.max(0, remainingTime), TimeUnit.MILLISECONDS)){
+				return null;
+			}
+		}
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+			return null;
+		}
+		FileStore.Client client = null;
+		try{
+			client = takeIdleConnection(serverConnections);
+			while(client == null && new Date().getTime() < deadline){
+				client = connect(serverInfo, serverConnections, deadline);
+			}
+			return client;
+		}
+		finally{
+			if(client == null){
+				serverConnections.permits.release();
+			}
+		}
+	}
+
+	public void release(ServerInfo serverInfo, FileStore.Client client, boolean reusable){
+		/*
+		 * gives back a borrowed connection.
+		 * a connection that failed in the middle of a call is not reusable, as we cannot tell what state it was left in, hence it is closed.
+		 */
+		ServerConnections serverConnections = getServerConnections(serverInfo);
+		if(reusable && client.getInputProtocol().getTransport().isOpen()){
+			synchronized(serverConnections.idleConnections){
+				serverConnections.idleConnections.addFirst(new IdleConnection(client, new Date().getTime()));
+			}
+		}
+		else{
+			close(client);
+		}
+		serverConnections.permits.release();
+	}
+
+	private ServerConnections getServerConnections(ServerInfo serverInfo){
+		ServerConnections serverConnections = serverConnectionsMap.get(serverInfo);
+		if(serverConnections == null){
+			serverConnectionsMap.putIfAbsent(serverInfo, new ServerConnections());
+			serverConnections = serverConnectionsMap.get(serverInfo);
+		}
+		return serverConnections;
+	}
+
+	private FileStore.Client takeIdleConnection(ServerConnections serverConnections){
+		while(true){
+			IdleConnection idleConnection = null;
+			synchronized(serverConnections.idleConnections){
+				idleConnection = serverConnections.idleConnections.pollFirst();
+			}
+			if(idleConnection == null){
+				return null;
+			}
+			long idleTime = new Date().getTime() - idleConnection.idleSince;
+			if(idleTime < VALIDATION_INTERVAL || isAlive(idleConnection.client)){
+				return idleConnection.client;
+			}
+			close(idleConnection.client);
+		}
+	}
+
+	private FileStore.Client connect(ServerInfo serverInfo, ServerConnections serverConnections, long deadline){
+		/*
+		 * waits out the backoff of the server before connecting.
+		 * the backoff is shared by all the borrowers of the server, so a server that is down is not hammered with connection attempts.
+		 */
+		long waitTime;
+		synchronized(serverConnections){
+			waitTime = serverConnections.nextConnectTime - new Date().getTime();
+		}
+		if(waitTime > 0){
+			if(new Date().getTime() + waitTime >= deadline){
+				waitTime = deadline - new Date().getTime();
+			}
+			try{
+				Thread.sleep(Math.max(0, waitTime));
+			}
+			catch(InterruptedException interruptedException){
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			if(new Date().getTime() >= deadline){
+				return null;
+			}
+		}
+		TSocket tSocket = new TSocket(serverInfo.getHostname(), serverInfo.getPort(), SOCKET_TIMEOUT);
+		try{
+			tSocket.open();
+			tSocket.getSocket().setKeepAlive(true);
+		}
+		catch(TTransportException tTransportException){
+			tSocket.close();
+			synchronized(serverConnections){
+				serverConnections.backoff = serverConnections.backoff == 0 ? INITIAL_BACKOFF : Math.min(MAX_BACKOFF, serverConnections.backoff * 2);
+				serverConnections.nextConnectTime = new Date().getTime() + serverConnections.backoff;
+			}
+			return null;
+		}
+		catch(SocketException socketException){
+			//keepalive is only an extra, the connection is usable without it.
+		}
+		synchronized(serverConnections){
+			serverConnections.backoff = 0;
+			serverConnections.nextConnectTime = 0;
+		}
+		return new FileStore.Client(new TBinaryProtocol(tSocket));
+	}
+
+	private static boolean isAlive(FileStore.Client client){
+		/*
+		 * a connection that has been idle for a while could have been closed by the server (e.g. when it crashed and rebooted).
+		 * nothing is expected from the server on an idle connection, hence a short read that times out means the connection is still alive,
+		 * 		whereas end of stream or anything else means it is not usable anymore.
+		 */
+		if(!client.getInputProtocol().getTransport().isOpen()){
+			return false;
+		}
+		Socket socket = ((TSocket)client.getInputProtocol().getTransport()).getSocket();
+		int soTimeout = 0;
+		try{
+			soTimeout = socket.getSoTimeout();
+			socket.setSoTimeout(1);
+			InputStream inputStream = socket.getInputStream();
+			inputStream.read();
+			return false;
+		}
+		catch(SocketTimeoutException socketTimeoutException){
+			return true;
+		}
+		catch(IOException ioException){
+			return false;
+		}
+		finally{
+			try{
+				socket.setSoTimeout(soTimeout);
+			}
+			catch(SocketException socketException){}
+		}
+	}
+
+	private static void close(FileStore.Client client){
+		client.getInputProtocol().getTransport().close();
+	}
+
+	private void evictIdleConnections(){
+		long now = new Date().getTime();
+		for(ServerConnections serverConnections : serverConnectionsMap.values()){
+			synchronized(serverConnections.idleConnections){
+				Iterator<IdleConnection> iterator = serverConnections.idleConnections.iterator();
+				while(iterator.hasNext()){
+					IdleConnection idleConnection = iterator.next();
+					if(now - idleConnection.idleSince >= IDLE_TIMEOUT){
+						iterator.remove();
+						close(idleConnection.client);
+					}
+				}
+			}
+		}
+	}
+}
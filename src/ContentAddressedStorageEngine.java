@@ -0,0 +1,228 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ContentAddressedStorageEngine extends StorageEngine {
+
+	/*
+	 * stores every distinct content once, as a blob in the blob directory named by the SHA-256 hash of the content.
+	 * 		a blob with the same hash is taken to hold the same content without comparing the bytes, hence the hash has to be collision resistant.
+	 * 		blobs stored under an earlier (MD5) name stay linked to their versions, they are just never shared with new content.
+	 * the version files are hard links to the blobs, so a version of a file whose content is already stored costs no write,
+	 * 		only a link, and identical files share one copy on disk.
+	 * a blob is referenced by the version files linked to it, and deleted when the last of them is.
+	 * the reference counts are not stored, they are counted on startup by matching the version files with the blobs by their file keys.
+	 * blobs are never written in place, a new blob is written under a temporary name, forced and then renamed.
+	 * content addressing needs hard links, and file keys to tell which blob a version file is linked to.
+	 */
+	private final Path blobDirectory;
+	//guarded by the ContentAddressedStorageEngine object.
+	private final Map<String, Integer> referenceCounts = new HashMap<String, Integer>();
+	//the hash of the blob with the given file key, guarded by the ContentAddressedStorageEngine object.
+	private final Map<Object, String> blobHashes = new HashMap<Object, String>();
+
+	public ContentAddressedStorageEngine(String liveDirectory, String versionDirectory, String blobDirectory) throws IOException{
+		super(liveDirectory, versionDirectory);
+		this.blobDirectory = Paths.get(blobDirectory);
+		Files.createDirectories(this.blobDirectory);
+		countReferences();
+	}
+
+	@Override
+	protected void createVersion(Path versionPath, ByteBuffer content) throws IOException{
+		String hash = getHash(content);
+		if(addReference(hash, null, versionPath)){
+			//the content is already stored.
+			return;
+		}
+		Path temporaryPath = blobDirectory.resolve(versionPath.getFileName()+TEMPORARY_SUFFIX);
+		writeTemporaryFile(temporaryPath, content);
+		addReference(hash, temporaryPath, versionPath);
+	}
+
+	@Override
+	protected void installVersion(Path versionPath, Path stagedPath) throws IOException{
+		addReference(getHash(stagedPath), stagedPath, versionPath);
+	}
+
+	@Override
+	protected synchronized void deleteVersion(Path versionPath) throws IOException{
+		Object fileKey = null;
+		try{
+			fileKey = getFileKey(versionPath);
+		}
+		catch(NoSuchFileException noSuchFileException){
+			return;
+		}
+		Files.delete(versionPath);
+		String hash = blobHashes.get(fileKey);
+		if(hash == null || !referenceCounts.containsKey(hash)){
+			//not linked to a blob.
+			return;
+		}
+		int referenceCount = referenceCounts.get(hash) - 1;
+		if(referenceCount > 0){
+			referenceCounts.put(hash, referenceCount);
+			return;
+		}
+		referenceCounts.remove(hash);
+		blobHashes.remove(fileKey);
+		Files.deleteIfExists(blobDirectory.resolve(hash));
+	}
+
+	@Override
+	public int sweep() throws IOException{
+		/*
+		 * also removes the temporary blobs, and the blobs no version file is linked to anymore.
+		 */
+		int removed = super.sweep();
+		List<Path> orphanPaths = new ArrayList<Path>();
+		synchronized(this){
+			DirectoryStream<Path> directoryStream = Files.newDirectoryStream(blobDirectory);
+			try{
+				for(Path path : directoryStream){
+					String name = path.getFileName().toString();
+					if(name.endsWith(TEMPORARY_SUFFIX)){
+						orphanPaths.add(path);
+					}
+					else if(Integer.valueOf(0).equals(referenceCounts.get(name))){
+						orphanPaths.add(path);
+						referenceCounts.remove(name);
+						blobHashes.values().remove(name);
+					}
+				}
+			}
+			finally{
+				directoryStream.close();
+			}
+			for(Path orphanPath : orphanPaths){
+				Files.delete(orphanPath);
+			}
+		}
+		if(!orphanPaths.isEmpty()){
+			forceDirectory(blobDirectory);
+		}
+		return removed + orphanPaths.size();
+	}
+
+	private synchronized boolean addReference(String hash, Path newBlobPath, Path versionPath) throws IOException{
+		/*
+		 * links the version file to the blob with the given hash.
+		 * if there is no such blob, the new blob (written and forced under another name) becomes it. if there is, the new blob is dropped.
+		 * returns false if there is neither, the caller then has to write the new blob first.
+		 */
+		Path blobPath = blobDirectory.resolve(hash);
+		Integer referenceCount = referenceCounts.get(hash);
+		if(referenceCount != null){
+			if(newBlobPath != null){
+				Files.delete(newBlobPath);
+			}
+		}
+		else{
+			if(newBlobPath == null){
+				return false;
+			}
+			Files.move(newBlobPath, blobPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			forceDirectory(blobDirectory);
+			blobHashes.put(getFileKey(blobPath), hash);
+			referenceCount = 0;
+		}
+		Files.createLink(versionPath, blobPath);
+		forceDirectory(versionDirectory);
+		referenceCounts.put(hash, referenceCount + 1);
+		return true;
+	}
+
+	private synchronized void countReferences() throws IOException{
+		DirectoryStream<Path> directoryStream = Files.newDirectoryStream(blobDirectory);
+		try{
+			for(Path path : directoryStream){
+				String name = path.getFileName().toString();
+				if(!name.endsWith(TEMPORARY_SUFFIX)){
+					blobHashes.put(getFileKey(path), name);
+					referenceCounts.put(name, 0);
+				}
+			}
+		}
+		finally{
+			directoryStream.close();
+		}
+		directoryStream = Files.newDirectoryStream(versionDirectory);
+		try{
+			for(Path path : directoryStream){
+				String hash = blobHashes.get(getFileKey(path));
+				if(hash != null){
+					referenceCounts.put(hash, referenceCounts.get(hash) + 1);
+				}
+			}
+		}
+		finally{
+			directoryStream.close();
+		}
+	}
+
+	private static Object getFileKey(Path path) throws IOException{
+		Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+		if(fileKey == null){
+			throw new IOException("Content addressing is not supported, the file system has no file keys");
+		}
+		return fileKey;
+	}
+
+	private static String getHash(ByteBuffer content) throws IOException{
+		MessageDigest messageDigest = getMessageDigest();
+		messageDigest.update(content.duplicate());
+		return toHex(messageDigest.digest());
+	}
+
+	private static String getHash(Path path) throws IOException{
+		/*
+		 * the file is hashed a buffer at a time, so that a large file is never held in memory.
+		 */
+		MessageDigest messageDigest = getMessageDigest();
+		FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+		try{
+			ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+			while(fileChannel.read(buffer) >= 0){
+				buffer.flip();
+				messageDigest.update(buffer);
+				buffer.clear();
+			}
+		}
+		finally{
+			fileChannel.close();
+		}
+		return toHex(messageDigest.digest());
+	}
+
+	private static MessageDigest getMessageDigest() throws IOException{
+		try{
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch(NoSuchAlgorithmException noSuchAlgorithmException){
+			throw new IOException("Error creating content hash!", noSuchAlgorithmException);
+		}
+	}
+
+	private static String toHex(byte[] digest){
+		StringBuilder stringBuilder = new StringBuilder(digest.length * 2);
+		for(byte digestByte : digest){
+			stringBuilder.append(String.format("%02x", digestByte & 0xff));
+		}
+		return stringBuilder.toString();
+	}
+}
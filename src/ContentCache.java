@@ -0,0 +1,131 @@
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ContentCache {
+
+	/*
+	 * keeps the content of recently read files in memory, keyed by filename and version, so that hot files are read without touching the disk.
+	 * the cache is bounded by the bytes it holds, the least recently read file is evicted first.
+	 * files larger than the entry limit are not cached, so that a single large file cannot flush the hot set.
+	 * a writer invalidates the file before and after it changes it. a reader takes a ticket for the file before reading it from disk,
+	 * 		and its content is only cached if the file was not invalidated since, so a read that raced with a write never caches stale content
+	 * 		while writes to other files do not keep it from being cached.
+	 * the ticket of a file is the invalidation that last touched it. the tickets are forgotten all at once when there are too many of them,
+	 * 		every file then has the ticket of the latest invalidation, which at worst keeps a read in progress from being cached.
+	 * the cached buffers are shared by all the readers, hence they are only ever read through duplicates.
+	 */
+	private final long maxBytes;
+	private final long maxEntryBytes;
+	//least recently read first, guarded by the ContentCache object along with the rest of the state.
+	private final LinkedHashMap<String, CachedContent> entries = new LinkedHashMap<String, CachedContent>(16, 0.75f, true);
+	private long cachedBytes = 0;
+	//counts all the invalidations, the tickets are taken from it.
+	private long invalidationCount = 0;
+	//the ticket of the files invalidated since the tickets were last forgotten.
+	private final HashMap<String, Long> invalidations = new HashMap<String, Long>();
+	//the ticket of every other file.
+	private long invalidationFloor = 0;
+	private static final int MAX_INVALIDATIONS = 16 * 1024;
+	private final AtomicLong hits = new AtomicLong(0);
+	private final AtomicLong misses = new AtomicLong(0);
+	private final AtomicLong evictions = new AtomicLong(0);
+
+	private static class CachedContent{
+		private final int version;
+		private final ByteBuffer content;
+
+		private CachedContent(int version, ByteBuffer content){
+			this.version = version;
+			this.content = content;
+		}
+	}
+
+	public ContentCache(long maxBytes, long maxEntryBytes){
+		this.maxBytes = maxBytes;
+		this.maxEntryBytes = Math.min(maxBytes, maxEntryBytes);
+	}
+
+	public ByteBuffer get(String filename, int version){
+		CachedContent cachedContent = null;
+		synchronized(this){
+			cachedContent = entries.get(filename);
+		}
+		if(cachedContent == null || cachedContent.version != version){
+			misses.incrementAndGet();
+			return null;
+		}
+		hits.incrementAndGet();
+		return cachedContent.content.duplicate();
+	}
+
+	public synchronized long getTicket(String filename){
+		Long ticket = invalidations.get(filename);
+		return ticket == null ? invalidationFloor : ticket;
+	}
+
+	public synchronized void put(String filename, int version, ByteBuffer content, long ticket){
+		long size = content.remaining();
+		if(ticket != getTicket(filename) || size > maxEntryBytes){
+			return;
+		}
+		CachedContent previousContent = entries.put(filename, new CachedContent(version, content.duplicate()));
+		cachedBytes += size;
+		if(previousContent != null){
+			cachedBytes -= previousContent.content.remaining();
+		}
+		Iterator<Map.Entry<String, CachedContent>> iterator = entries.entrySet().iterator();
+		while(cachedBytes > maxBytes && iterator.hasNext()){
+			CachedContent eldestContent = iterator.next().getValue();
+			iterator.remove();
+			cachedBytes -= eldestContent.content.remaining();
+			evictions.incrementAndGet();
+		}
+	}
+
+	public synchronized void invalidate(String filename){
+		invalidationCount++;
+		if(invalidations.size() >= MAX_INVALIDATIONS){
+			invalidations.clear();
+			invalidationFloor = invalidationCount;
+		}
+		invalidations.put(filename, invalidationCount);
+		CachedContent cachedContent = entries.remove(filename);
+		if(cachedContent != null){
+			cachedBytes -= cachedContent.content.remaining();
+		}
+	}
+
+	public long getHits(){
+		return this.hits.get();
+	}
+
+	public long getMisses(){
+		return this.misses.get();
+	}
+
+	public long getEvictions(){
+		return this.evictions.get();
+	}
+
+	public synchronized long getCachedBytes(){
+		return this.cachedBytes;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder stringBuilder = new StringBuilder("");
+		stringBuilder.append("hits : ");
+		stringBuilder.append(getHits());
+		stringBuilder.append(", misses : ");
+		stringBuilder.append(getMisses());
+		stringBuilder.append(", evictions : ");
+		stringBuilder.append(getEvictions());
+		stringBuilder.append(", cached bytes : ");
+		stringBuilder.append(getCachedBytes());
+		return stringBuilder.toString();
+	}
+}
@@ -0,0 +1,80 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class ContentCompressor {
+
+	/*
+	 * compresses and decompresses file content with deflate (java.util.zip), one buffer at a time.
+	 * the buffers returned are heap buffers, as thrift writes binaries out of the backing array.
+	 */
+
+	private ContentCompressor(){
+	}
+
+	public static ByteBuffer compress(ByteBuffer content, int level){
+		/*
+		 * returns the compressed content, or null if it does not come out smaller than the content.
+		 */
+		byte[] input = toArray(content);
+		Deflater deflater = new Deflater(level);
+		try{
+			deflater.setInput(input);
+			deflater.finish();
+			//anything that does not fit in the size of the input is not worth storing compressed.
+			byte[] output = new byte[input.length];
+			int length = 0;
+			while(!deflater.finished() && length < output.length){
+				length += deflater.deflate(output, length, output.length - length);
+			}
+			if(!deflater.finished()){
+				return null;
+			}
+			return ByteBuffer.wrap(output, 0, length).slice();
+		}
+		finally{
+			deflater.end();
+		}
+	}
+
+	public static ByteBuffer decompress(ByteBuffer content, long rawLength) throws IOException{
+		if(rawLength > Integer.MAX_VALUE){
+			throw new IOException("Content of "+rawLength+" bytes is too large to be decompressed at once");
+		}
+		byte[] output = new byte[(int)rawLength];
+		Inflater inflater = new Inflater();
+		try{
+			inflater.setInput(toArray(content));
+			int length = 0;
+			while(!inflater.finished() && length < output.length){
+				int inflated = inflater.inflate(output, length, output.length - length);
+				if(inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())){
+					break;
+				}
+				length += inflated;
+			}
+			if(length != output.length || !inflater.finished()){
+				throw new IOException("Compressed content does not match its length of "+rawLength+" bytes");
+			}
+			return ByteBuffer.wrap(output);
+		}
+		catch(DataFormatException dataFormatException){
+			throw new IOException("Compressed content is corrupt : "+dataFormatException.getMessage());
+		}
+		finally{
+			inflater.end();
+		}
+	}
+
+	private static byte[] toArray(ByteBuffer content){
+		ByteBuffer buffer = content.duplicate();
+		if(buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length){
+			return buffer.array();
+		}
+		byte[] array = new byte[buffer.remaining()];
+		buffer.get(array);
+		return array;
+	}
+}
@@ -1,14 +1,33 @@
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.thrift.TException;
 
@@ -18,16 +37,151 @@ public class Coordinator implements FileStore.Iface{
 	private int port;
 	private static final int TIME_OUT = 5000;
 	private static final String LOG_FILE_PATH_STRING = "Coordinator.log";
-	private static final String ERROR_FILE_PATH_STRING = "Coordinator_Error.log";
-	private static Map<String, ServerInfo> serverInformationMap = new HashMap<String, ServerInfo>();
-	private static Map<ServerInfo, Map<String, Map<Operation, OperationStatus>>> ongoingFileOperations = new HashMap<ServerInfo, Map<String, Map<Operation,OperationStatus>>>();
-	private static Map<ServerInfo, Map<String, RFile>> filesInfoMap = new HashMap<ServerInfo, Map<String, RFile>>();
-	private static Map<ServerInfo, Map<RFile, Map<Operation, OperationStatus>>> recoveryMap = new HashMap<ServerInfo, Map<RFile,Map<Operation,OperationStatus>>>();
+	/*
+	 * the decisions are logged in groups, see LogAppender.
+	 * coordinator.log.flushInterval is how long (in milliseconds) a group waits for more decisions to join it, 0 to write whatever is queued right away.
+	 * coordinator.log.batchSize is the maximum number of decisions in a group.
+	 * coordinator.log.segmentSize is the size in bytes after which the log goes on in a new segment file.
+	 * coordinator.log.checkpointInterval is the interval in milliseconds between checkpoints, 0 to not checkpoint.
+	 * coordinator.log.archiveSegments keeps the segments covered by a checkpoint in <log>.archive instead of deleting them.
+	 */
+	private static final long LOG_FLUSH_INTERVAL = Long.getLong("coordinator.log.flushInterval", 0);
+	private static final int LOG_BATCH_SIZE = Integer.getInteger("coordinator.log.batchSize", 256);
+	private static final long LOG_SEGMENT_SIZE = Long.getLong("coordinator.log.segmentSize", 16 * 1024 * 1024);
+	private static final long LOG_CHECKPOINT_INTERVAL = Long.getLong("coordinator.log.checkpointInterval", 60000);
+	private static final boolean LOG_ARCHIVE_SEGMENTS = Boolean.getBoolean("coordinator.log.archiveSegments");
+	private static LogAppender logAppender = null;
+	private static LogCheckpointer logCheckpointer = null;
+	/*
+	 * ids of the transactions, as recorded in the log.
+	 * they only ever increase (from the time the coordinator started), hence they are also the timestamps the servers
+	 * 		order conflicting transactions by (see LockTable.ConflictPolicy).
+	 */
+	private static final AtomicLong transactionIdGenerator = new AtomicLong(new Date().getTime() * 1000);
+	/*
+	 * coordinator.readMode decides how a read is carried out,
+	 * 		ALL	a read is a transaction like any other, i.e. voted on and committed by all the servers.
+	 * 		ONE	a read goes to a single server without voting or logging, falling back to the next server if it fails.
+	 * 			the read waits for the commit of a write or delete on the file to be acknowledged by all the servers (or given up on),
+	 * 			and skips the servers that did not acknowledge it, so the server it reads from has the committed content.
+	 */
+	private static final ReadMode READ_MODE = ReadMode.valueOf(System.getProperty("coordinator.readMode", ReadMode.ALL.toString()));
+	private static final ReplicaSelector replicaSelector = new ReplicaSelector(TIME_OUT);
+	private static Map<String, ServerInfo> serverInformationMap = new ConcurrentHashMap<String, ServerInfo>();
+	private static ConcurrentMap<ServerInfo, ConcurrentMap<String, Map<Operation, OperationStatus>>> ongoingFileOperations = new ConcurrentHashMap<ServerInfo, ConcurrentMap<String, Map<Operation,OperationStatus>>>();
+	private static ConcurrentMap<ServerInfo, ConcurrentMap<String, RFile>> filesInfoMap = new ConcurrentHashMap<ServerInfo, ConcurrentMap<String, RFile>>();
+	/*
+	 * the decisions the servers have not acknowledged yet, keyed by transaction id and filename (see getRecoveryKey),
+	 * 		so that a restarting server is told the outcome of the very transaction it voted for.
+	 * an entry is removed once its server has acknowledged the decision.
+	 */
+	private static ConcurrentMap<ServerInfo, ConcurrentMap<String, RecoveryEntry>> recoveryMap = new ConcurrentHashMap<ServerInfo, ConcurrentMap<String, RecoveryEntry>>();
+	//serializes the conflicting transactions on the same file, reads of a file and transactions on different files run in parallel.
+	private static final FileLockManager fileLockManager = new FileLockManager();
+	//used to send the vote requests to all the servers in parallel.
+	private static final ExecutorService voteExecutor = Executors.newCachedThreadPool();
+	//used to send the global-commit and abort messages to all the servers in parallel.
+	private static final ExecutorService phaseTwoExecutor = Executors.newCachedThreadPool();
+	/*
+	 * coordinator.coalesce gathers the reads, writes and deletes of concurrent clients into batches (see RequestCoalescer).
+	 * 		every server votes on a batch with one request and is sent the decisions with one request for the committed operations
+	 * 		and one for the aborted ones. an operation is committed if all the servers voted for it, whatever the votes on the rest of the batch.
+	 * coordinator.coalesce.window is how long (in milliseconds) a batch waits for more operations to join it, 0 to take whatever is queued right away.
+	 * coordinator.coalesce.maxBatchSize is the maximum number of operations in a batch.
+	 */
+	private static final boolean COALESCE = Boolean.getBoolean("coordinator.coalesce");
+	private static final long COALESCE_WINDOW = Long.getLong("coordinator.coalesce.window", 2);
+	private static final int COALESCE_MAX_BATCH_SIZE = Integer.getInteger("coordinator.coalesce.maxBatchSize", 64);
+	private static RequestCoalescer requestCoalescer = null;
+	/*
+	 * a large file is written in chunks, beginWrite, appendChunk (any number of times) and then finishWrite.
+	 * every chunk is passed on to all the servers, which stage it, so only a chunk at a time is held in memory.
+	 * finishWrite then commits the staged file as an ordinary write transaction.
+	 * coordinator.chunkedWriteTimeout is how long (in milliseconds) a write may go without a chunk before it is aborted,
+	 * 		so that the files staged for a client that went away are removed from the servers.
+	 */
+	private static final ConcurrentMap<Long, ChunkedWrite> chunkedWrites = new ConcurrentHashMap<Long, ChunkedWrite>();
+	private static final long CHUNKED_WRITE_TIMEOUT = Long.getLong("coordinator.chunkedWriteTimeout", 60000);
+	private static ScheduledExecutorService chunkedWriteSweeper = null;
 
-	public Coordinator(String hostname, int port, File inputFile){
+	private static class ChunkedWrite{
+		private final String filename;
+		//set once a server could not stage a chunk, the write is then aborted on finishing.
+		private volatile boolean failed = false;
+		//the time the write was begun or last had a chunk appended.
+		private volatile long lastActivity = new Date().getTime();
+
+		private ChunkedWrite(String filename){
+			this.filename = filename;
+		}
+	}
+
+	private static class RecoveryEntry{
+		private final RFile rFile;
+		private final Operation operation;
+		private final OperationStatus operationStatus;
+		private final long transactionId;
+
+		private RecoveryEntry(RFile rFile, Operation operation, OperationStatus operationStatus, long transactionId){
+			this.rFile = rFile;
+			this.operation = operation;
+			this.operationStatus = operationStatus;
+			this.transactionId = transactionId;
+		}
+	}
+
+	private static interface ServerCall<T>{
+		T call(FileStore.Client server, String filename) throws TException;
+	}
+
+	public Coordinator(String hostname, int port, File inputFile) throws SystemException{
 		this.hostname = hostname;
 		this.port = port;
 		initialize(inputFile);
+		if(COALESCE){
+			requestCoalescer = new RequestCoalescer(COALESCE_WINDOW, COALESCE_MAX_BATCH_SIZE, new RequestCoalescer.BatchHandler() {
+				@Override
+				public List<FileOpResult> handle(List<FileOp> fileOps) throws Exception {
+					return executeBatch(fileOps);
+				}
+			}, voteExecutor);
+		}
+		startChunkedWriteSweeper();
+		try{
+			loadPendingCommits();
+			logAppender = new LogAppender(LOG_FILE_PATH_STRING, LOG_FLUSH_INTERVAL, LOG_BATCH_SIZE, LOG_SEGMENT_SIZE);
+			logCheckpointer = new LogCheckpointer(logAppender, LogCheckpoint.Role.COORDINATOR, LOG_ARCHIVE_SEGMENTS);
+			logCheckpointer.start(LOG_CHECKPOINT_INTERVAL);
+		}
+		catch(IOException ioException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error opening "+LOG_FILE_PATH_STRING+" : "+ioException.getMessage());
+			throw systemException;
+		}
+	}
+
+	private static void loadPendingCommits() throws IOException{
+		/*
+		 * the commits logged before a restart that not every server has acknowledged (see LogCheckpoint.Role),
+		 * 		so that a server recovering one of them is not told it was aborted.
+		 * the log only has the filename, hence a server can recover a committed read or delete this way, but not a write,
+		 * 		which stays in doubt on the server. the content of the write is only kept in memory.
+		 * which of the servers acknowledged is not logged, every server is given the entry and those that did never ask.
+		 */
+		for(LogRecord logRecord : LogCheckpoint.recover(LOG_FILE_PATH_STRING, LogCheckpoint.Role.COORDINATOR).getPendingRecords()){
+			RFileMetadata rFileMetadata = new RFileMetadata();
+			rFileMetadata.setFilename(logRecord.getFilename());
+			RFile rFile = new RFile();
+			rFile.setMetadata(rFileMetadata);
+			for(ServerInfo serverInfo : serverInformationMap.values()){
+				ConcurrentMap<String, RecoveryEntry> recoveryEntries = recoveryMap.get(serverInfo);
+				if(recoveryEntries == null){
+					recoveryMap.putIfAbsent(serverInfo, new ConcurrentHashMap<String, RecoveryEntry>());
+					recoveryEntries = recoveryMap.get(serverInfo);
+				}
+				recoveryEntries.put(getRecoveryKey(logRecord.getFilename(), logRecord.getTransactionId()), new RecoveryEntry(rFile, logRecord.getOperation(), OperationStatus.GLOBAL_COMMIT, logRecord.getTransactionId()));
+			}
+		}
 	}
 
 	private static void initialize(File inputFile){
@@ -45,8 +199,8 @@ public class Coordinator implements FileStore.Iface{
 				ipAddress = InetAddress.getByName(hostname).getHostAddress();
 				port = (int)Integer.parseInt(lineValues[1]);
 				serverInfo = new ServerInfo(hostname, ipAddress, port);
-				filesInfoMap.put(serverInfo, new HashMap<String, RFile>());
-				ongoingFileOperations.put(serverInfo, new HashMap<String, Map<Operation,OperationStatus>>());
+				filesInfoMap.put(serverInfo, new ConcurrentHashMap<String, RFile>());
+				ongoingFileOperations.put(serverInfo, new ConcurrentHashMap<String, Map<Operation,OperationStatus>>());
 				serverInformationMap.put(hostname, serverInfo);
 			}
 		}
@@ -67,6 +221,11 @@ public class Coordinator implements FileStore.Iface{
 		ABORT;
 	}
 
+	private static enum ReadMode{
+		ALL,
+		ONE;
+	}
+
 	@Override
 	public StatusReport deleteFile(String filenameToDelete) throws SystemException,
 	TException {
@@ -77,14 +236,22 @@ public class Coordinator implements FileStore.Iface{
 		 * else or timedout before hand then,
 		 * 		multicast global-abort messages to all the servers.
 		 */
-		synchronized(filenameToDelete){
+		if(requestCoalescer != null){
+			FileOpResult fileOpResult = coalesce(Operation.DELETE, filenameToDelete, null);
+			return fileOpResult != null ? new StatusReport(fileOpResult.getStatus()) : null;
+		}
+		fileLockManager.lock(filenameToDelete, Operation.DELETE);
+		//once phase two is dispatched, the lock is released by it after all the servers are done.
+		boolean lockHandedOff = false;
+		try{
+			long transactionId = transactionIdGenerator.incrementAndGet();
 			FileOperation fileOperation = new FileOperation(Operation.DELETE);
 			RFile rFile = new RFile();
 			RFileMetadata rFileMetadata = new RFileMetadata();
 			rFileMetadata.setFilename(filenameToDelete);
 			rFile.setMetadata(rFileMetadata);
 			//retrieving votes fro all the servers for the current operation.
-			Map<ServerInfo, StatusReport> voteCollectorMap = getVotes(fileOperation, rFile);
+			Map<ServerInfo, StatusReport> voteCollectorMap = getVotes(fileOperation, rFile, transactionId);
 			/*
 			 * check ig all the servers have voted.
 			 * if not then we need to log the abort message and send an abort message to all the alive servers.
@@ -94,59 +261,25 @@ public class Coordinator implements FileStore.Iface{
 			 */
 			if(voteCollectorMap.size() < serverInformationMap.size() || voteCollectorMap.values().contains(new StatusReport(Status.FAILED))){
 				//logging abort message
-				log(OperationStatus.ABORT, fileOperation, filenameToDelete);
-				for(ServerInfo serverInfo : voteCollectorMap.keySet()){
-					//adding corresponding entry in recoveryMap
-					Map<Operation, OperationStatus> operationMap = new HashMap<Operation, Coordinator.OperationStatus>();
-					Map<RFile, Map<Operation, OperationStatus>> fileOperationsMap = new HashMap<RFile, Map<Operation,OperationStatus>>();
-					operationMap.put(Operation.DELETE, OperationStatus.ABORT);
-					fileOperationsMap.put(rFile, operationMap);
-					recoveryMap.put(serverInfo, fileOperationsMap);
-
-					if(ongoingFileOperations.get(serverInfo).containsKey(filenameToDelete)){
-						ongoingFileOperations.get(serverInfo).get(filenameToDelete).put(Operation.DELETE, OperationStatus.ABORT);
-					}
-					else{
-						HashMap<Operation, OperationStatus> hashMap = new HashMap<Operation, OperationStatus>();
-						HashMap<String, HashMap<Operation, OperationStatus>> perServerOngoingOperationMap = new HashMap<String, HashMap<Operation,OperationStatus>>();
-						hashMap.put(Operation.DELETE, OperationStatus.ABORT);
-						perServerOngoingOperationMap.put(filenameToDelete, hashMap);
-						ongoingFileOperations.get(serverInfo).putAll(perServerOngoingOperationMap);
-					}
-					StatusReport statusReport = sendAbort(fileOperation, rFile, serverInfo.getHostname(), serverInfo.getPort(), serverInfo);
-					if(statusReport != null){
-						ongoingFileOperations.get(serverInfo).get(filenameToDelete).remove(Operation.DELETE);
-						//removing corresponding entry from recoveryMap as the server has taken care of it.
-						recoveryMap.get(serverInfo).get(rFile).remove(fileOperation.getOperation());
-					}
-				}
+				log(OperationStatus.ABORT, fileOperation, filenameToDelete, transactionId);
+				lockHandedOff = true;
+				dispatchDecision(OperationStatus.ABORT, fileOperation, rFile, voteCollectorMap.keySet(), transactionId);
 			}
 			else{
 				//need to log global-commit
-				log(OperationStatus.GLOBAL_COMMIT, fileOperation, filenameToDelete);
-				for(Map.Entry<String, ServerInfo> serverInformationMapEntry : serverInformationMap.entrySet()){
-
-					//adding corresponding entry in recoveryMap
-					Map<Operation, OperationStatus> operationMap = new HashMap<Operation, Coordinator.OperationStatus>();
-					Map<RFile, Map<Operation, OperationStatus>> fileOperationsMap = new HashMap<RFile, Map<Operation,OperationStatus>>();
-					operationMap.put(Operation.DELETE, OperationStatus.GLOBAL_COMMIT);
-					fileOperationsMap.put(rFile, operationMap);
-					recoveryMap.put(serverInformationMapEntry.getValue(), fileOperationsMap);
-
-					Object commmitedValue = sendCommit(new FileOperation(Operation.DELETE), rFile, serverInformationMapEntry.getKey(), serverInformationMapEntry.getValue().getPort(), serverInformationMapEntry.getValue());
-					if(commmitedValue != null){
-						if(ongoingFileOperations.containsKey(serverInformationMapEntry.getValue()) && ongoingFileOperations.get(serverInformationMapEntry.getValue()).containsKey(filenameToDelete)){
-							ongoingFileOperations.get(serverInformationMapEntry.getValue()).get(filenameToDelete).remove(Operation.DELETE);
-						}
-						//removing corresponding entry from recovery map as the server has taken care of it.
-						recoveryMap.get(serverInformationMapEntry.getValue()).get(rFile).remove(fileOperation.getOperation());
-						if(commmitedValue instanceof StatusReport){
-							return (StatusReport)commmitedValue;
-						}
-					}
+				log(OperationStatus.GLOBAL_COMMIT, fileOperation, filenameToDelete, transactionId);
+				lockHandedOff = true;
+				Object commmitedValue = dispatchDecision(OperationStatus.GLOBAL_COMMIT, fileOperation, rFile, serverInformationMap.values(), transactionId);
+				if(commmitedValue instanceof StatusReport){
+					return (StatusReport)commmitedValue;
 				}
 			}
 		}
+		finally{
+			if(!lockHandedOff){
+				fileLockManager.unlock(filenameToDelete, Operation.DELETE);
+			}
+		}
 		return null;
 	}
 
@@ -162,11 +295,19 @@ public class Coordinator implements FileStore.Iface{
 		 * else or timedout before hand then,
 		 * 		multicast global-abort messages to all the servers.
 		 */
-		synchronized (rFile) {
-			String filename = rFile.getMetadata().getFilename();
+		String filename = rFile.getMetadata().getFilename();
+		if(requestCoalescer != null){
+			FileOpResult fileOpResult = coalesce(Operation.WRITE, filename, rFile);
+			return fileOpResult != null ? new StatusReport(fileOpResult.getStatus()) : null;
+		}
+		fileLockManager.lock(filename, Operation.WRITE);
+		//once phase two is dispatched, the lock is released by it after all the servers are done.
+		boolean lockHandedOff = false;
+		try{
+			long transactionId = transactionIdGenerator.incrementAndGet();
 			FileOperation fileOperation = new FileOperation(Operation.WRITE);
 			//retrieving votes from all the servers for the current operation.
-			Map<ServerInfo, StatusReport> voteCollectorMap = getVotes(fileOperation, rFile);
+			Map<ServerInfo, StatusReport> voteCollectorMap = getVotes(fileOperation, rFile, transactionId);
 			/*
 			 * check if all the servers have voted.
 			 * If not then we need to log the abort message and send an abort message to all the alive servers.
@@ -176,63 +317,33 @@ public class Coordinator implements FileStore.Iface{
 			 */
 			if(voteCollectorMap.size() < serverInformationMap.size() || voteCollectorMap.values().contains(new StatusReport(Status.FAILED))){
 				//logging abort message
-				log(OperationStatus.ABORT, fileOperation, filename);
-				for(ServerInfo serverInfo : voteCollectorMap.keySet()){
-
-					//adding corresponding entry in recoveryMap
-					Map<Operation, OperationStatus> operationMap = new HashMap<Operation, Coordinator.OperationStatus>();
-					Map<RFile, Map<Operation, OperationStatus>> fileOperationsMap = new HashMap<RFile, Map<Operation,OperationStatus>>();
-					operationMap.put(Operation.WRITE, OperationStatus.ABORT);
-					fileOperationsMap.put(rFile, operationMap);
-					recoveryMap.put(serverInfo, fileOperationsMap);
-
-					if(ongoingFileOperations.get(serverInfo).containsKey(filename)){
-						ongoingFileOperations.get(serverInfo).get(filename).put(Operation.WRITE, OperationStatus.ABORT);
-					}
-					else{
-						HashMap<Operation, OperationStatus> hashMap = new HashMap<Operation, OperationStatus>();
-						HashMap<String, HashMap<Operation, OperationStatus>> perServerOngoingOperationMap = new HashMap<String, HashMap<Operation,OperationStatus>>();
-						hashMap.put(Operation.WRITE, OperationStatus.ABORT);
-						perServerOngoingOperationMap.put(filename, hashMap);
-						ongoingFileOperations.get(serverInfo).putAll(perServerOngoingOperationMap);
-					}
-					StatusReport statusReport = sendAbort(fileOperation, rFile, serverInfo.getHostname(), serverInfo.getPort(), serverInfo);
-					if(statusReport != null){
-						//removing corresponding entry from recovery map as the server has taken care of it.
-						recoveryMap.get(serverInfo).get(rFile).remove(fileOperation.getOperation());
-						ongoingFileOperations.get(serverInfo).get(filename).remove(Operation.WRITE);
-					}
-				}
+				log(OperationStatus.ABORT, fileOperation, filename, transactionId);
+				lockHandedOff = true;
+				dispatchDecision(OperationStatus.ABORT, fileOperation, rFile, voteCollectorMap.keySet(), transactionId);
 			}
 			else{
 				//need to log global-commit
-				log(OperationStatus.GLOBAL_COMMIT, fileOperation, filename);
-				for(Map.Entry<String, ServerInfo> serverInformationMapEntry : serverInformationMap.entrySet()){
-
-					//adding corresponding entry in recoveryMap
-					Map<Operation, OperationStatus> operationMap = new HashMap<Operation, Coordinator.OperationStatus>();
-					Map<RFile, Map<Operation, OperationStatus>> fileOperationsMap = new HashMap<RFile, Map<Operation,OperationStatus>>();
-					operationMap.put(Operation.WRITE, OperationStatus.GLOBAL_COMMIT);
-					fileOperationsMap.put(rFile, operationMap);
-					recoveryMap.put(serverInformationMapEntry.getValue(), fileOperationsMap);
-
-					Object commmitedValue = sendCommit(new FileOperation(Operation.WRITE), rFile, serverInformationMapEntry.getKey(), serverInformationMapEntry.getValue().getPort(), serverInformationMapEntry.getValue());
-					if(commmitedValue != null){
-						//removing corresponding entry from recovery map as the server has taken care of it.
-						recoveryMap.get(serverInformationMapEntry.getValue()).get(rFile).remove(fileOperation.getOperation());
-						if(commmitedValue instanceof StatusReport){
-							ongoingFileOperations.get(serverInformationMapEntry.getValue()).get(filename).remove(Operation.WRITE);
-							return (StatusReport)commmitedValue;
-						}
-					}
+				log(OperationStatus.GLOBAL_COMMIT, fileOperation, filename, transactionId);
+				lockHandedOff = true;
+				Object commmitedValue = dispatchDecision(OperationStatus.GLOBAL_COMMIT, fileOperation, rFile, serverInformationMap.values(), transactionId);
+				if(commmitedValue instanceof StatusReport){
+					return (StatusReport)commmitedValue;
 				}
 			}
 		}
+		finally{
+			if(!lockHandedOff){
+				fileLockManager.unlock(filename, Operation.WRITE);
+			}
+		}
 		return null;
 	}
 
 	@Override
 	public RFile readFile(String filename) throws SystemException, TException {
+		if(READ_MODE.equals(ReadMode.ONE)){
+			return readFromOneServer(filename);
+		}
 		/*
 		 * need to send a vote message to all the servers.
 		 * if received all yes votes,
@@ -240,14 +351,22 @@ public class Coordinator implements FileStore.Iface{
 		 * else  or timedout before hand then
 		 * 		multicast global-abort messages to all the servers.
 		 */
-		synchronized (filename) {
+		if(requestCoalescer != null){
+			FileOpResult fileOpResult = coalesce(Operation.READ, filename, null);
+			return fileOpResult != null ? fileOpResult.getRFile() : null;
+		}
+		fileLockManager.lock(filename, Operation.READ);
+		//once phase two is dispatched, the lock is released by it after all the servers are done.
+		boolean lockHandedOff = false;
+		try{
+			long transactionId = transactionIdGenerator.incrementAndGet();
 			RFile rFile = new RFile();
 			RFileMetadata rFileMetadata = new RFileMetadata();
 			rFileMetadata.setFilename(filename);
 			rFile.setMetadata(rFileMetadata);
 			FileOperation fileOperation = new FileOperation(Operation.READ);
 			//retrieving votes from all the servers for the current operation
-			Map<ServerInfo, StatusReport> voteCollectorMap = getVotes(fileOperation, rFile);
+			Map<ServerInfo, StatusReport> voteCollectorMap = getVotes(fileOperation, rFile, transactionId);
 			/*
 			 * check if all the servers have voted.
 			 * If not then we need to log the abort and send an abort message to all the alive servers.
@@ -257,180 +376,1095 @@ public class Coordinator implements FileStore.Iface{
 			 */
 			if(voteCollectorMap.size() < serverInformationMap.size() || voteCollectorMap.values().contains(new StatusReport(Status.FAILED))){
 				//logging abort message
-				log(OperationStatus.ABORT, fileOperation, filename);
-				for(ServerInfo serverInfo : voteCollectorMap.keySet()){
-
-					//adding corresponding entry in recoveryMap
-					Map<Operation, OperationStatus> operationMap = new HashMap<Operation, Coordinator.OperationStatus>();
-					Map<RFile, Map<Operation, OperationStatus>> fileOperationsMap = new HashMap<RFile, Map<Operation,OperationStatus>>();
-					operationMap.put(Operation.READ, OperationStatus.ABORT);
-					fileOperationsMap.put(rFile, operationMap);
-					recoveryMap.put(serverInfo, fileOperationsMap);
-
-					if(ongoingFileOperations.get(serverInfo).containsKey(filename)){
-						ongoingFileOperations.get(serverInfo).get(filename).put(Operation.READ, OperationStatus.ABORT);
+				log(OperationStatus.ABORT, fileOperation, filename, transactionId);
+				lockHandedOff = true;
+				dispatchDecision(OperationStatus.ABORT, fileOperation, rFile, voteCollectorMap.keySet(), transactionId);
+			}
+			else{
+				//need to log global-commit
+				log(OperationStatus.GLOBAL_COMMIT, fileOperation, filename, transactionId);
+				lockHandedOff = true;
+				Object commmitedValue = dispatchDecision(OperationStatus.GLOBAL_COMMIT, fileOperation, rFile, serverInformationMap.values(), transactionId);
+				if(commmitedValue instanceof RFile){
+					return (RFile)commmitedValue;
+				}
+			}
+		}
+		finally{
+			if(!lockHandedOff){
+				fileLockManager.unlock(filename, Operation.READ);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public List<FileOpResult> executeTransaction(List<FileOp> fileOps) throws SystemException, TException {
+		/*
+		 * carries out operations on several files as one transaction, either all of them are committed or none is.
+		 * every server votes on all the operations in a single request, and the decision is logged and sent out once for all of them.
+		 * the files are locked in the order of their names, so two transactions sharing some of their files cannot wait on each other.
+		 * the results are in the same order as the operations.
+		 * 		if the transaction is aborted, every result is failed and the message tells the operations that were voted against.
+		 */
+		List<String> filenames = getTransactionFilenames(fileOps);
+		Map<String, Operation> operations = new HashMap<String, Operation>();
+		for(FileOp fileOp : fileOps){
+			operations.put(fileOp.getRFile().getMetadata().getFilename(), fileOp.getOperation());
+		}
+		for(String filename : filenames){
+			fileLockManager.lock(filename, operations.get(filename));
+		}
+		//once phase two is dispatched, the locks are released by it after all the servers are done.
+		boolean lockHandedOff = false;
+		try{
+			long transactionId = transactionIdGenerator.incrementAndGet();
+			//retrieving the votes of all the servers for all the operations.
+			Map<ServerInfo, List<StatusReport>> voteCollectorMap = getBatchVotes(fileOps, transactionId);
+			boolean[] rejectedOperations = getRejectedOperations(fileOps.size(), voteCollectorMap.values());
+			boolean allVoted = voteCollectorMap.size() == serverInformationMap.size();
+			boolean rejected = false;
+			for(boolean rejectedOperation : rejectedOperations){
+				rejected = rejected || rejectedOperation;
+			}
+			if(!allVoted || rejected){
+				//logging abort message
+				log(OperationStatus.ABORT, fileOps, transactionId);
+				lockHandedOff = true;
+				dispatchBatchDecision(OperationStatus.ABORT, fileOps, voteCollectorMap.keySet(), transactionId);
+				List<FileOpResult> fileOpResults = new ArrayList<FileOpResult>(fileOps.size());
+				for(int i = 0; i < fileOps.size(); i++){
+					FileOpResult fileOpResult = new FileOpResult(Status.FAILED);
+					if(rejectedOperations[i]){
+						fileOpResult.setMessage(fileOps.get(i).getOperation()+" of "+fileOps.get(i).getRFile().getMetadata().getFilename()+" was voted against, transaction aborted");
+					}
+					else if(!allVoted){
+						fileOpResult.setMessage("Not all the servers voted, transaction aborted");
 					}
 					else{
-						HashMap<Operation, OperationStatus> hashMap = new HashMap<Operation, OperationStatus>();
-						HashMap<String, HashMap<Operation, OperationStatus>> perServerOngoingOperationsMap = new HashMap<String, HashMap<Operation,OperationStatus>>();
-						hashMap.put(Operation.READ, OperationStatus.ABORT);
-						perServerOngoingOperationsMap.put(filename,hashMap);
-						ongoingFileOperations.get(serverInfo).putAll(perServerOngoingOperationsMap);
+						fileOpResult.setMessage("Another operation of the transaction was voted against, transaction aborted");
 					}
-					StatusReport statusReport = sendAbort(fileOperation, rFile, serverInfo.getHostname(), serverInfo.getPort(), serverInfo);
-					if(statusReport != null){
-						//removing corresponding entry from recovery map as the server has taken care of it.
-						recoveryMap.get(serverInfo).get(rFile).remove(fileOperation.getOperation());
-						ongoingFileOperations.get(serverInfo).get(filename).remove(Operation.READ);
+					fileOpResults.add(fileOpResult);
+				}
+				return fileOpResults;
+			}
+			//need to log global-commit
+			log(OperationStatus.GLOBAL_COMMIT, fileOps, transactionId);
+			lockHandedOff = true;
+			return dispatchBatchDecision(OperationStatus.GLOBAL_COMMIT, fileOps, serverInformationMap.values(), transactionId);
+		}
+		finally{
+			if(!lockHandedOff){
+				unlockFiles(fileOps);
+			}
+		}
+	}
+
+	private FileOpResult coalesce(Operation operation, String filename, RFile rFile) throws SystemException{
+		/*
+		 * hands the operation to the request coalescer and waits for its result, null if it was aborted.
+		 * the file is locked here, as for any other transaction, so no two conflicting operations on a file are queued at once.
+		 * 		reads share the lock, the request coalescer puts the reads of the same file in different batches.
+		 * 		the lock is released by phase two of the batch.
+		 * an operation that was committed but could not be carried out fails with the message of the server.
+		 */
+		if(rFile == null){
+			RFileMetadata rFileMetadata = new RFileMetadata();
+			rFileMetadata.setFilename(filename);
+			rFile = new RFile();
+			rFile.setMetadata(rFileMetadata);
+		}
+		fileLockManager.lock(filename, operation);
+		Future<FileOpResult> pendingResult = requestCoalescer.submit(new FileOp(operation, rFile));
+		FileOpResult fileOpResult = null;
+		try{
+			fileOpResult = pendingResult.get();
+		}
+		catch(ExecutionException executionException){
+			if(executionException.getCause() instanceof SystemException){
+				throw (SystemException)executionException.getCause();
+			}
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error in carrying out "+operation+" of "+filename+" : "+executionException.getCause().getMessage());
+			throw systemException;
+		}
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Interrupted while carrying out "+operation+" of "+filename);
+			throw systemException;
+		}
+		if(fileOpResult != null && fileOpResult.isSetMessage()){
+			SystemException systemException = new SystemException();
+			systemException.setMessage(fileOpResult.getMessage());
+			throw systemException;
+		}
+		return fileOpResult;
+	}
+
+	private List<FileOpResult> executeBatch(List<FileOp> fileOps) throws SystemException, TException{
+		/*
+		 * carries out a batch of the request coalescer. the operations are on different files and already locked.
+		 * the batch shares a transaction id, but every operation is a transaction of its own,
+		 * 		i.e. an operation is committed if all the servers voted for it and aborted otherwise, without regard to the others.
+		 * the decisions for all the operations are made durable by the same write, then the committed ones are sent out
+		 * 		with one request per server and the aborted ones with another.
+		 * the result of an aborted operation is null.
+		 */
+		boolean lockHandedOff = false;
+		try{
+			long transactionId = transactionIdGenerator.incrementAndGet();
+			//retrieving the votes of all the servers for all the operations.
+			Map<ServerInfo, List<StatusReport>> voteCollectorMap = getBatchVotes(fileOps, transactionId);
+			boolean[] rejectedOperations = getRejectedOperations(fileOps.size(), voteCollectorMap.values());
+			boolean allVoted = voteCollectorMap.size() == serverInformationMap.size();
+			List<FileOp> committedOperations = new ArrayList<FileOp>();
+			List<FileOp> abortedOperations = new ArrayList<FileOp>();
+			for(int i = 0; i < fileOps.size(); i++){
+				if(allVoted && !rejectedOperations[i]){
+					committedOperations.add(fileOps.get(i));
+				}
+				else{
+					abortedOperations.add(fileOps.get(i));
+				}
+			}
+			//logging the decisions
+			List<Future<Long>> logRecords = appendLog(OperationStatus.ABORT, abortedOperations, transactionId);
+			logRecords.addAll(appendLog(OperationStatus.GLOBAL_COMMIT, committedOperations, transactionId));
+			awaitLog(logRecords, transactionId);
+			lockHandedOff = true;
+			if(!abortedOperations.isEmpty()){
+				dispatchBatchDecision(OperationStatus.ABORT, abortedOperations, voteCollectorMap.keySet(), transactionId);
+			}
+			List<FileOpResult> committedResults = null;
+			if(!committedOperations.isEmpty()){
+				try{
+					committedResults = dispatchBatchDecision(OperationStatus.GLOBAL_COMMIT, committedOperations, serverInformationMap.values(), transactionId);
+				}
+				catch(TException tException){
+					//none of the servers could carry out the commit, every committed operation fails with the error.
+					committedResults = new ArrayList<FileOpResult>(committedOperations.size());
+					for(int i = 0; i < committedOperations.size(); i++){
+						FileOpResult fileOpResult = new FileOpResult(Status.FAILED);
+						fileOpResult.setMessage(tException instanceof SystemException ? ((SystemException)tException).getMessage() : tException.toString());
+						committedResults.add(fileOpResult);
 					}
 				}
 			}
-			else{
-				//need to log global-commit
-				log(OperationStatus.GLOBAL_COMMIT, fileOperation, filename);
-				for(Map.Entry<String, ServerInfo> serverInformationMapEntry : serverInformationMap.entrySet()){
-
-					//adding corresponding entry in recoveryMap
-					Map<Operation, OperationStatus> operationMap = new HashMap<Operation, Coordinator.OperationStatus>();
-					Map<RFile, Map<Operation, OperationStatus>> fileOperationsMap = new HashMap<RFile, Map<Operation,OperationStatus>>();
-					operationMap.put(Operation.READ, OperationStatus.GLOBAL_COMMIT);
-					fileOperationsMap.put(rFile, operationMap);
-					recoveryMap.put(serverInformationMapEntry.getValue(), fileOperationsMap);
-
-					Object commmitedValue = sendCommit(new FileOperation(Operation.READ), rFile, serverInformationMapEntry.getKey(), serverInformationMapEntry.getValue().getPort(), serverInformationMapEntry.getValue());
-					if(commmitedValue != null){
-						//removing corresponding entry from recovery map as they server has taken care of it.
-						recoveryMap.get(serverInformationMapEntry.getValue()).get(rFile).remove(fileOperation.getOperation());
-						if(commmitedValue instanceof RFile){
-							ongoingFileOperations.get(serverInformationMapEntry.getValue()).get(filename).remove(Operation.READ);
-							return (RFile)commmitedValue;
+			List<FileOpResult> fileOpResults = new ArrayList<FileOpResult>(fileOps.size());
+			int committedIndex = 0;
+			for(int i = 0; i < fileOps.size(); i++){
+				if(allVoted && !rejectedOperations[i]){
+					fileOpResults.add(committedResults != null ? committedResults.get(committedIndex) : null);
+					committedIndex++;
+				}
+				else{
+					fileOpResults.add(null);
+				}
+			}
+			return fileOpResults;
+		}
+		finally{
+			if(!lockHandedOff){
+				unlockFiles(fileOps);
+			}
+		}
+	}
+
+	@Override
+	public long beginWrite(String filename, long writeId) throws SystemException, TException {
+		/*
+		 * the write id is chosen here, whatever the client passed, and handed to all the servers so that the commit can refer to it.
+		 */
+		final long chunkedWriteId = transactionIdGenerator.incrementAndGet();
+		boolean begun = callAllServers(filename, new ServerCall<Long>() {
+			@Override
+			public Long call(FileStore.Client server, String filename) throws TException {
+				return server.beginWrite(filename, chunkedWriteId);
+			}
+		});
+		if(!begun){
+			abortWrite(chunkedWriteId);
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Could not begin writing "+filename+" on all the servers");
+			throw systemException;
+		}
+		chunkedWrites.put(chunkedWriteId, new ChunkedWrite(filename));
+		return chunkedWriteId;
+	}
+
+	@Override
+	public StatusReport appendChunk(final long writeId, final ByteBuffer chunk) throws SystemException, TException {
+		ChunkedWrite chunkedWrite = getChunkedWrite(writeId);
+		if(chunkedWrite.failed){
+			return new StatusReport(Status.FAILED);
+		}
+		chunkedWrite.lastActivity = new Date().getTime();
+		boolean appended = callAllServers(chunkedWrite.filename, new ServerCall<StatusReport>() {
+			@Override
+			public StatusReport call(FileStore.Client server, String filename) throws TException {
+				return server.appendChunk(writeId, chunk.duplicate());
+			}
+		});
+		if(!appended){
+			chunkedWrite.failed = true;
+			return new StatusReport(Status.FAILED);
+		}
+		chunkedWrite.lastActivity = new Date().getTime();
+		return new StatusReport(Status.SUCCESSFUL);
+	}
+
+	@Override
+	public StatusReport finishWrite(final long writeId) throws SystemException, TException {
+		/*
+		 * the servers force their staged files to disk first, then the write goes through the usual vote and commit,
+		 * 		with the write id standing in for the content.
+		 */
+		/* removing the write first means it is either finished here or aborted by the sweeper, never both. */
+		ChunkedWrite chunkedWrite = chunkedWrites.remove(writeId);
+		if(chunkedWrite == null){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Unknown write "+writeId);
+			throw systemException;
+		}
+		boolean finished = !chunkedWrite.failed && callAllServers(chunkedWrite.filename, new ServerCall<StatusReport>() {
+			@Override
+			public StatusReport call(FileStore.Client server, String filename) throws TException {
+				return server.finishWrite(writeId);
+			}
+		});
+		if(!finished){
+			abortWrite(writeId);
+			return new StatusReport(Status.FAILED);
+		}
+		RFile rFile = new RFile();
+		RFileMetadata rFileMetadata = new RFileMetadata();
+		rFileMetadata.setFilename(chunkedWrite.filename);
+		rFile.setMetadata(rFileMetadata);
+		rFile.setWriteId(writeId);
+		return writeFile(rFile);
+	}
+
+	@Override
+	public StatusReport abortWrite(final long writeId) throws SystemException, TException {
+		ChunkedWrite chunkedWrite = chunkedWrites.remove(writeId);
+		abortStagedWrite(writeId, chunkedWrite == null ? null : chunkedWrite.filename);
+		return new StatusReport(Status.SUCCESSFUL);
+	}
+
+	private void abortStagedWrite(final long writeId, String filename){
+		callAllServers(filename, new ServerCall<StatusReport>() {
+			@Override
+			public StatusReport call(FileStore.Client server, String filename) throws TException {
+				return server.abortWrite(writeId);
+			}
+		});
+	}
+
+	private void startChunkedWriteSweeper(){
+		/*
+		 * aborts, every second, the chunked writes that went without a chunk for longer than the time out.
+		 * a write is only aborted if it is still the one that went idle, a write being finished has already been removed.
+		 */
+		if(CHUNKED_WRITE_TIMEOUT <= 0){
+			return;
+		}
+		chunkedWriteSweeper = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "chunked-write-sweeper");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		chunkedWriteSweeper.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				long idleSince = new Date().getTime() - CHUNKED_WRITE_TIMEOUT;
+				for(Map.Entry<Long, ChunkedWrite> chunkedWriteEntry : chunkedWrites.entrySet()){
+					ChunkedWrite chunkedWrite = chunkedWriteEntry.getValue();
+					if(chunkedWrite.lastActivity < idleSince && chunkedWrites.remove(chunkedWriteEntry.getKey(), chunkedWrite)){
+						System.out.println("Aborting idle write "+chunkedWriteEntry.getKey()+" of "+chunkedWrite.filename);
+						abortStagedWrite(chunkedWriteEntry.getKey(), chunkedWrite.filename);
+					}
+				}
+			}
+		}, 1, 1, TimeUnit.SECONDS);
+	}
+
+	@Override
+	public RFile readChunk(String filename, final long offset, final int length) throws SystemException, TException {
+		/*
+		 * a chunk is read from a single server that has the committed content (see readFromOneServer).
+		 * every chunk carries the metadata of the file, so a reader can tell from the version if the file was rewritten in between chunks.
+		 */
+		return readFromOneServer(filename, new ServerCall<RFile>() {
+			@Override
+			public RFile call(FileStore.Client server, String filename) throws TException {
+				return server.readChunk(filename, offset, length);
+			}
+		});
+	}
+
+	@Override
+	public RFile readEncodedFile(String filename) throws SystemException, TException {
+		/*
+		 * like a chunk, the stored content is read from a single server and passed on as it is, compressed or not.
+		 */
+		return readFromOneServer(filename, new ServerCall<RFile>() {
+			@Override
+			public RFile call(FileStore.Client server, String filename) throws TException {
+				return server.readEncodedFile(filename);
+			}
+		});
+	}
+
+	@Override
+	public RFile readSnapshotChunk(String filename, final int version, final long offset, final int length) throws SystemException, TException {
+		/*
+		 * every server commits the same versions, so any one of them can serve a chunk of a version.
+		 */
+		return readFromOneServer(filename, new ServerCall<RFile>() {
+			@Override
+			public RFile call(FileStore.Client server, String filename) throws TException {
+				return server.readSnapshotChunk(filename, version, offset, length);
+			}
+		});
+	}
+
+	private static ChunkedWrite getChunkedWrite(long writeId) throws SystemException{
+		ChunkedWrite chunkedWrite = chunkedWrites.get(writeId);
+		if(chunkedWrite == null){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Unknown write "+writeId);
+			throw systemException;
+		}
+		return chunkedWrite;
+	}
+
+	private <T> boolean callAllServers(final String filename, final ServerCall<T> serverCall){
+		/*
+		 * makes the call on all the servers in parallel, returns true if every one of them answered within the time out.
+		 * a StatusReport answer has to be SUCCESSFUL to count.
+		 */
+		final long deadline = new Date().getTime() + TIME_OUT;
+		List<Future<T>> answers = new ArrayList<Future<T>>();
+		for(final ServerInfo serverInfo : serverInformationMap.values()){
+			answers.add(voteExecutor.submit(new Callable<T>() {
+				@Override
+				public T call() throws Exception {
+					FileStore.Client server = ServerFetcher.borrowServer(serverInfo, deadline);
+					if(server == null){
+						return null;
+					}
+					boolean reusable = false;
+					try{
+						T answer = serverCall.call(server, filename);
+						reusable = true;
+						return answer;
+					}
+					catch(SystemException systemException){
+						reusable = true;
+						throw systemException;
+					}
+					finally{
+						ServerFetcher.returnServer(serverInfo, server, reusable);
+					}
+				}
+			}));
+		}
+		boolean successful = true;
+		for(Future<T> answer : answers){
+			try{
+				T value = answer.get(Math.max(0, deadline - new Date().getTime()), TimeUnit.MILLISECONDS);
+				if(value == null || (value instanceof StatusReport && !value.equals(new StatusReport(Status.SUCCESSFUL)))){
+					successful = false;
+				}
+			}
+			catch(ExecutionException executionException){
+				successful = false;
+			}
+			catch(TimeoutException timeoutException){
+				answer.cancel(true);
+				successful = false;
+			}
+			catch(InterruptedException interruptedException){
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return successful;
+	}
+
+	private RFile readFromOneServer(String filename) throws SystemException{
+		return readFromOneServer(filename, new ServerCall<RFile>() {
+			@Override
+			public RFile call(FileStore.Client server, String filename) throws TException {
+				return server.readFile(filename);
+			}
+		});
+	}
+
+	private RFile readFromOneServer(String filename, ServerCall<RFile> serverCall) throws SystemException{
+		/*
+		 * the servers are tried one after the other, best ranked first, till one of them answers.
+		 * a SystemException is an answer too (e.g. the file does not exist), hence it is passed on to the client without trying the rest.
+		 * the read holds the file's lock, shared with other reads, so it waits for a write or delete on the file until every server
+		 * 		has acknowledged it or given up. a server that has not acknowledged a commit on the file is behind and is skipped.
+		 */
+		fileLockManager.lock(filename, Operation.READ);
+		try{
+			long deadline = new Date().getTime() + TIME_OUT;
+			for(ServerInfo serverInfo : replicaSelector.rank(serverInformationMap.values())){
+				if(new Date().getTime() >= deadline){
+					break;
+				}
+				if(hasPendingCommit(serverInfo, filename)){
+					continue;
+				}
+				FileStore.Client server = ServerFetcher.borrowServer(serverInfo, deadline);
+				if(server == null){
+					continue;
+				}
+				long startTime = new Date().getTime();
+				boolean successful = false;
+				boolean reusable = false;
+				replicaSelector.requestStarted(serverInfo);
+				try{
+					RFile rFile = serverCall.call(server, filename);
+					successful = true;
+					reusable = true;
+					return rFile;
+				}
+				catch(SystemException systemException){
+					successful = true;
+					reusable = true;
+					throw systemException;
+				}
+				catch(TException tException){
+					//server failed mid-read, falling back to the next one.
+				}
+				finally{
+					replicaSelector.requestFinished(serverInfo, new Date().getTime() - startTime, successful);
+					ServerFetcher.returnServer(serverInfo, server, reusable);
+				}
+			}
+		}
+		finally{
+			fileLockManager.unlock(filename, Operation.READ);
+		}
+		SystemException systemException = new SystemException();
+		systemException.setMessage("No server available to read "+filename);
+		throw systemException;
+	}
+
+	private Object dispatchDecision(final OperationStatus decision, final FileOperation fileOperation, final RFile rFile, Collection<ServerInfo> servers, final long transactionId) throws SystemException, TException{
+		/*
+		 * phase two of the protocol. the decision has already been logged by the time we get here.
+		 * the decision is sent to all the given servers in parallel and every acknowledgement is tracked on its own,
+		 * 		i.e. the recovery entry of a server is only removed once that server has acknowledged the decision.
+		 * 		a server that does not acknowledge keeps its entry and picks up the decision when it boots up.
+		 * in case of commit, we reply to the client with the first successful result and let the rest of the servers finish in the background.
+		 * in case of abort, there is nothing to wait for.
+		 * the lock on the file is released only after every server is done, so that the next transaction on the file
+		 * 		does not collect votes from servers that are still in the ready state for this one.
+		 */
+		final String filename = rFile.getMetadata().getFilename();
+		CompletionService<Object> completionService = new ExecutorCompletionService<Object>(phaseTwoExecutor);
+		final AtomicInteger outstandingCount = new AtomicInteger(servers.size());
+		final AtomicInteger acknowledgedCount = new AtomicInteger(0);
+		final int serverCount = servers.size();
+		if(servers.isEmpty()){
+			fileLockManager.unlock(filename, fileOperation.getOperation());
+		}
+		int dispatchedCount = 0;
+		for(final ServerInfo serverInfo : servers){
+			//adding corresponding entry in recoveryMap and ongoingFileOperations.
+			recordOperation(serverInfo, rFile, fileOperation.getOperation(), decision, transactionId);
+			completionService.submit(new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					try{
+						Object acknowledgement = null;
+						if(decision.equals(OperationStatus.GLOBAL_COMMIT)){
+							acknowledgement = sendCommit(fileOperation, rFile, transactionId, serverInfo.getHostname(), serverInfo.getPort(), serverInfo);
 						}
+						else{
+							acknowledgement = sendAbort(fileOperation, rFile, transactionId, serverInfo.getHostname(), serverInfo.getPort(), serverInfo);
+						}
+						if(acknowledgement != null){
+							//removing corresponding entries as the server has taken care of it.
+							clearOperation(serverInfo, filename, fileOperation.getOperation(), transactionId);
+							acknowledgedCount.incrementAndGet();
+						}
+						return acknowledgement;
 					}
+					finally{
+						if(outstandingCount.decrementAndGet() == 0){
+							fileLockManager.unlock(filename, fileOperation.getOperation());
+							if(decision.equals(OperationStatus.GLOBAL_COMMIT) && acknowledgedCount.get() == serverCount){
+								logEnd(fileOperation.getOperation(), filename, transactionId);
+							}
+						}
+					}
+				}
+			});
+			dispatchedCount++;
+		}
+		if(decision.equals(OperationStatus.ABORT)){
+			return null;
+		}
+		return awaitFirstAcknowledgement(completionService, dispatchedCount);
+	}
 
+	private List<FileOpResult> dispatchBatchDecision(final OperationStatus decision, final List<FileOp> fileOps, Collection<ServerInfo> servers, final long transactionId) throws SystemException, TException{
+		/*
+		 * phase two for the operations of a transaction over several files, the same as dispatchDecision does for one operation.
+		 * every server is sent the decision for all the operations in one request.
+		 * the recovery entries are kept per operation, so a server that does not acknowledge recovers each of its files on its own.
+		 * the locks on the files are released only after every server is done.
+		 */
+		CompletionService<List<FileOpResult>> completionService = new ExecutorCompletionService<List<FileOpResult>>(phaseTwoExecutor);
+		final AtomicInteger outstandingCount = new AtomicInteger(servers.size());
+		final AtomicInteger acknowledgedCount = new AtomicInteger(0);
+		final int serverCount = servers.size();
+		if(servers.isEmpty()){
+			unlockFiles(fileOps);
+		}
+		int dispatchedCount = 0;
+		for(final ServerInfo serverInfo : servers){
+			//adding corresponding entries in recoveryMap and ongoingFileOperations.
+			for(FileOp fileOp : fileOps){
+				recordOperation(serverInfo, fileOp.getRFile(), fileOp.getOperation(), decision, transactionId);
+			}
+			completionService.submit(new Callable<List<FileOpResult>>() {
+				@Override
+				public List<FileOpResult> call() throws Exception {
+					try{
+						List<FileOpResult> acknowledgement = null;
+						boolean acknowledged = false;
+						if(decision.equals(OperationStatus.GLOBAL_COMMIT)){
+							acknowledgement = sendCommitBatch(fileOps, transactionId, serverInfo);
+							acknowledged = acknowledgement != null;
+						}
+						else{
+							acknowledged = sendAbortBatch(fileOps, transactionId, serverInfo) != null;
+						}
+						if(acknowledged){
+							//removing corresponding entries as the server has taken care of them.
+							for(FileOp fileOp : fileOps){
+								clearOperation(serverInfo, fileOp.getRFile().getMetadata().getFilename(), fileOp.getOperation(), transactionId);
+							}
+							acknowledgedCount.incrementAndGet();
+						}
+						return acknowledgement;
+					}
+					finally{
+						if(outstandingCount.decrementAndGet() == 0){
+							unlockFiles(fileOps);
+							if(decision.equals(OperationStatus.GLOBAL_COMMIT) && acknowledgedCount.get() == serverCount){
+								for(FileOp fileOp : fileOps){
+									logEnd(fileOp.getOperation(), fileOp.getRFile().getMetadata().getFilename(), transactionId);
+								}
+							}
+						}
+					}
+				}
+			});
+			dispatchedCount++;
+		}
+		if(decision.equals(OperationStatus.ABORT)){
+			return null;
+		}
+		return awaitFirstAcknowledgement(completionService, dispatchedCount);
+	}
+
+	private static <T> T awaitFirstAcknowledgement(CompletionService<T> completionService, int dispatchedCount) throws SystemException, TException{
+		/*
+		 * returns the first successful result of a commit sent to dispatchedCount servers, waiting for up to TIME_OUT.
+		 */
+		long deadline = new Date().getTime() + TIME_OUT;
+		Throwable failure = null;
+		try{
+			for(int i = 0; i < dispatchedCount; i++){
+				long remainingTime = deadline - new Date().getTime();
+				if(remainingTime <= 0){
+					break;
+				}
+				Future<T> acknowledgement = completionService.poll(remainingTime, TimeUnit.MILLISECONDS);
+				if(acknowledgement == null){
+					break;
+				}
+				try{
+					T committedValue = acknowledgement.get();
+					if(committedValue != null){
+						return committedValue;
+					}
+				}
+				catch(ExecutionException executionException){
+					if(failure == null){
+						failure = executionException.getCause();
+					}
 				}
 			}
 		}
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+		}
+		//none of the servers could carry out the commit, hence passing on the error of the first one.
+		if(failure instanceof SystemException){
+			throw (SystemException)failure;
+		}
+		if(failure instanceof TException){
+			throw (TException)failure;
+		}
 		return null;
 	}
 
-	private synchronized Map<ServerInfo, StatusReport> getVotes(FileOperation fileOperation, RFile rFile){
-		long startTime = new Date().getTime();
+	private static void unlockFiles(List<FileOp> fileOps){
+		for(FileOp fileOp : fileOps){
+			fileLockManager.unlock(fileOp.getRFile().getMetadata().getFilename(), fileOp.getOperation());
+		}
+	}
+
+	private static void recordOperation(ServerInfo serverInfo, RFile rFile, Operation operation, OperationStatus operationStatus, long transactionId){
+		ConcurrentMap<String, RecoveryEntry> recoveryEntries = recoveryMap.get(serverInfo);
+		if(recoveryEntries == null){
+			recoveryMap.putIfAbsent(serverInfo, new ConcurrentHashMap<String, RecoveryEntry>());
+			recoveryEntries = recoveryMap.get(serverInfo);
+		}
+		recoveryEntries.put(getRecoveryKey(rFile.getMetadata().getFilename(), transactionId), new RecoveryEntry(rFile, operation, operationStatus, transactionId));
+
+		ConcurrentMap<String, Map<Operation, OperationStatus>> perServerOngoingOperationsMap = ongoingFileOperations.get(serverInfo);
+		perServerOngoingOperationsMap.putIfAbsent(rFile.getMetadata().getFilename(), new ConcurrentHashMap<Operation, OperationStatus>());
+		perServerOngoingOperationsMap.get(rFile.getMetadata().getFilename()).put(operation, operationStatus);
+	}
+
+	private static void clearOperation(ServerInfo serverInfo, String filename, Operation operation, long transactionId){
+		//the whole entry goes, along with the content of a write it keeps for the recovery.
+		ConcurrentMap<String, RecoveryEntry> recoveryEntries = recoveryMap.get(serverInfo);
+		if(recoveryEntries != null){
+			recoveryEntries.remove(getRecoveryKey(filename, transactionId));
+		}
+		Map<Operation, OperationStatus> operationsMap = ongoingFileOperations.get(serverInfo).get(filename);
+		if(operationsMap != null){
+			operationsMap.remove(operation);
+		}
+	}
+
+	private static boolean hasPendingCommit(ServerInfo serverInfo, String filename){
+		/*
+		 * whether the server has yet to acknowledge a committed write or delete of the file.
+		 * there is an entry per decision the server has not acknowledged, so only the few unacknowledged ones are looked at.
+		 */
+		ConcurrentMap<String, RecoveryEntry> recoveryEntries = recoveryMap.get(serverInfo);
+		if(recoveryEntries == null){
+			return false;
+		}
+		for(RecoveryEntry recoveryEntry : recoveryEntries.values()){
+			if(recoveryEntry.operationStatus.equals(OperationStatus.GLOBAL_COMMIT) && !recoveryEntry.operation.equals(Operation.READ)
+					&& recoveryEntry.rFile.getMetadata().getFilename().equals(filename)){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String getRecoveryKey(String filename, long transactionId){
+		//a transaction has at most one operation per file.
+		return transactionId+":"+filename;
+	}
+
+	private Map<ServerInfo, StatusReport> getVotes(final FileOperation fileOperation, final RFile rFile, final long transactionId){
+		/*
+		 * the vote request goes out to all the servers at once and the votes are collected in the order they arrive.
+		 * all the servers share the same deadline, so the vote phase takes as long as the slowest server and not the sum of all of them.
+		 * the first failed vote ends the vote phase right away, as the transaction is going to be aborted anyway.
+		 */
+		final long deadline = new Date().getTime() + TIME_OUT;
 		Map<ServerInfo, StatusReport> voteCollectorMap = new HashMap<ServerInfo, StatusReport>();
-		try{
-			FileStore.Client server = null;
-			StatusReport statusReport = null;
-			for(Map.Entry<String, ServerInfo> serverInformationMapEntry : serverInformationMap.entrySet()){
-				while((new Date().getTime() - startTime) < TIME_OUT){
-					if((new Date().getTime() - startTime) >= TIME_OUT){
-						throw new SystemException();
+		CompletionService<StatusReport> completionService = new ExecutorCompletionService<StatusReport>(voteExecutor);
+		final Map<Future<StatusReport>, ServerInfo> pendingVotes = new HashMap<Future<StatusReport>, ServerInfo>();
+		//the votes whose connection failed, the server may still be voting and is sent an abort along with the pending ones.
+		Map<Future<StatusReport>, ServerInfo> failedVotes = new HashMap<Future<StatusReport>, ServerInfo>();
+		for(final ServerInfo serverInfo : serverInformationMap.values()){
+			Future<StatusReport> vote = completionService.submit(new Callable<StatusReport>() {
+				@Override
+				public StatusReport call() throws Exception {
+					FileStore.Client server = ServerFetcher.borrowServer(serverInfo, deadline);
+					if(server == null){
+						return null;
+					}
+					boolean reusable = false;
+					try{
+						StatusReport statusReport = server.doVote(rFile, fileOperation, transactionId);
+						reusable = true;
+						return statusReport;
 					}
-					server = ServerFetcher.getServer(serverInformationMapEntry.getKey(), serverInformationMapEntry.getValue().getPort());
-					if(server != null){
-						break;
+					catch(SystemException systemException){
+						reusable = true;
+						throw systemException;
 					}
+					finally{
+						ServerFetcher.returnServer(serverInfo, server, reusable);
+					}
+				}
+			});
+			pendingVotes.put(vote, serverInfo);
+		}
+		try{
+			while(!pendingVotes.isEmpty()){
+				long remainingTime = deadline - new Date().getTime();
+				if(remainingTime <= 0){
+					break;
+				}
+				Future<StatusReport> vote = completionService.poll(remainingTime, TimeUnit.MILLISECONDS);
+				if(vote == null){
+					//timed out before all the servers have voted.
+					break;
+				}
+				ServerInfo serverInfo = pendingVotes.remove(vote);
+				StatusReport statusReport = null;
+				try{
+					statusReport = vote.get();
+				}
+				catch(ExecutionException executionException){
+					//server crashed while voting, hence no vote from it.
+					failedVotes.put(vote, serverInfo);
+					continue;
+				}
+				if(statusReport == null){
+					continue;
+				}
+				voteCollectorMap.put(serverInfo, statusReport);
+				if(statusReport.equals(new StatusReport(Status.FAILED))){
+					break;
 				}
-				statusReport = server.doVote(rFile, fileOperation);
-				voteCollectorMap.put(serverInformationMapEntry.getValue(), statusReport);
 			}
 		}
-		catch(SystemException systemException){
-			return voteCollectorMap;
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
 		}
-		catch(TException tException){
-			return voteCollectorMap;
+		pendingVotes.putAll(failedVotes);
+		if(!pendingVotes.isEmpty()){
+			abortPendingVoters(pendingVotes, fileOperation, rFile, transactionId, deadline);
 		}
+		OperationStatus operationStatus = OperationStatus.GLOBAL_COMMIT;
 		if(voteCollectorMap.values().contains(new StatusReport(Status.FAILED))){
-			for(ServerInfo serverInfo : voteCollectorMap.keySet()){
-				Map<String, Map<Operation, OperationStatus>> hashMap = new HashMap<String, Map<Operation,OperationStatus>>();
-				HashMap<Operation, OperationStatus> hashMap2 = new HashMap<Operation, OperationStatus>();
-				hashMap2.put(fileOperation.getOperation(), OperationStatus.ABORT);
-				hashMap.put(rFile.getMetadata().getFilename(), hashMap2);
-				ongoingFileOperations.put(serverInfo, hashMap);
+			operationStatus = OperationStatus.ABORT;
+		}
+		for(ServerInfo serverInfo : voteCollectorMap.keySet()){
+			ConcurrentMap<String, Map<Operation, OperationStatus>> perServerOngoingOperationsMap = ongoingFileOperations.get(serverInfo);
+			perServerOngoingOperationsMap.putIfAbsent(rFile.getMetadata().getFilename(), new ConcurrentHashMap<Operation, OperationStatus>());
+			perServerOngoingOperationsMap.get(rFile.getMetadata().getFilename()).put(fileOperation.getOperation(), operationStatus);
+		}
+		return voteCollectorMap;
+	}
+
+	private void abortPendingVoters(final Map<Future<StatusReport>, ServerInfo> pendingVotes, final FileOperation fileOperation, final RFile rFile, final long transactionId, final long deadline){
+		/*
+		 * the vote phase ended before these servers voted, so the transaction will be aborted without them.
+		 * a server that still votes before the deadline would otherwise be left in the ready state, hence it is sent an abort once its vote arrives.
+		 * a server that has not voted by the deadline may still be waiting for the lock of the file, or get the vote request only later,
+		 * 		hence it is sent an abort as well, which makes the vote give up (see LockTable).
+		 */
+		voteExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				for(Map.Entry<Future<StatusReport>, ServerInfo> pendingVote : pendingVotes.entrySet()){
+					try{
+						long remainingTime = Math.max(0, deadline - new Date().getTime());
+						StatusReport statusReport = pendingVote.getKey().get(remainingTime, TimeUnit.MILLISECONDS);
+						if(statusReport != null && statusReport.equals(new StatusReport(Status.SUCCESSFUL))){
+							sendAbort(fileOperation, rFile, transactionId, pendingVote.getValue().getHostname(), pendingVote.getValue().getPort(), pendingVote.getValue());
+						}
+					}
+					catch(TimeoutException timeoutException){
+						pendingVote.getKey().cancel(true);
+						sendAbort(fileOperation, rFile, transactionId, pendingVote.getValue().getHostname(), pendingVote.getValue().getPort(), pendingVote.getValue());
+					}
+					catch(ExecutionException executionException){
+						if(!(executionException.getCause() instanceof SystemException)){
+							//the connection failed, the server may still be voting.
+							sendAbort(fileOperation, rFile, transactionId, pendingVote.getValue().getHostname(), pendingVote.getValue().getPort(), pendingVote.getValue());
+						}
+					}
+					catch(InterruptedException interruptedException){
+						return;
+					}
+				}
+			}
+		});
+	}
+
+	private Map<ServerInfo, List<StatusReport>> getBatchVotes(final List<FileOp> fileOps, final long transactionId){
+		/*
+		 * the same as getVotes, with every server voting on all the given operations in one request.
+		 * the vote phase does not end at the first failed vote, as the votes of every server tell which of the operations it could prepare.
+		 * a server whose answer does not have a vote for every operation is taken as not having voted.
+		 */
+		final long deadline = new Date().getTime() + TIME_OUT;
+		Map<ServerInfo, List<StatusReport>> voteCollectorMap = new HashMap<ServerInfo, List<StatusReport>>();
+		CompletionService<List<StatusReport>> completionService = new ExecutorCompletionService<List<StatusReport>>(voteExecutor);
+		final Map<Future<List<StatusReport>>, ServerInfo> pendingVotes = new HashMap<Future<List<StatusReport>>, ServerInfo>();
+		Map<Future<List<StatusReport>>, ServerInfo> failedVotes = new HashMap<Future<List<StatusReport>>, ServerInfo>();
+		for(final ServerInfo serverInfo : serverInformationMap.values()){
+			Future<List<StatusReport>> vote = completionService.submit(new Callable<List<StatusReport>>() {
+				@Override
+				public List<StatusReport> call() throws Exception {
+					FileStore.Client server = ServerFetcher.borrowServer(serverInfo, deadline);
+					if(server == null){
+						return null;
+					}
+					boolean reusable = false;
+					try{
+						List<StatusReport> statusReports = server.doVoteBatch(fileOps, transactionId);
+						reusable = true;
+						return statusReports;
+					}
+					catch(SystemException systemException){
+						reusable = true;
+						throw systemException;
+					}
+					finally{
+						ServerFetcher.returnServer(serverInfo, server, reusable);
+					}
+				}
+			});
+			pendingVotes.put(vote, serverInfo);
+		}
+		try{
+			while(!pendingVotes.isEmpty()){
+				long remainingTime = deadline - new Date().getTime();
+				if(remainingTime <= 0){
+					break;
+				}
+				Future<List<StatusReport>> vote = completionService.poll(remainingTime, TimeUnit.MILLISECONDS);
+				if(vote == null){
+					//timed out before all the servers have voted.
+					break;
+				}
+				ServerInfo serverInfo = pendingVotes.remove(vote);
+				List<StatusReport> statusReports = null;
+				try{
+					statusReports = vote.get();
+				}
+				catch(ExecutionException executionException){
+					//server crashed while voting, hence no vote from it.
+					failedVotes.put(vote, serverInfo);
+					continue;
+				}
+				if(statusReports == null || statusReports.size() != fileOps.size()){
+					continue;
+				}
+				voteCollectorMap.put(serverInfo, statusReports);
 			}
 		}
-		else{
-			for(ServerInfo serverInfo : voteCollectorMap.keySet()){
-				Map<String, Map<Operation, OperationStatus>> hashMap = new HashMap<String, Map<Operation,OperationStatus>>();
-				HashMap<Operation, OperationStatus> hashMap2 = new HashMap<Operation, OperationStatus>();
-				hashMap2.put(fileOperation.getOperation(), OperationStatus.GLOBAL_COMMIT);
-				hashMap.put(rFile.getMetadata().getFilename(), hashMap2);
-				ongoingFileOperations.put(serverInfo, hashMap);
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+		}
+		pendingVotes.putAll(failedVotes);
+		if(!pendingVotes.isEmpty()){
+			abortPendingBatchVoters(pendingVotes, fileOps, transactionId, deadline);
+		}
+		boolean[] rejectedOperations = getRejectedOperations(fileOps.size(), voteCollectorMap.values());
+		for(ServerInfo serverInfo : voteCollectorMap.keySet()){
+			ConcurrentMap<String, Map<Operation, OperationStatus>> perServerOngoingOperationsMap = ongoingFileOperations.get(serverInfo);
+			for(int i = 0; i < fileOps.size(); i++){
+				String filename = fileOps.get(i).getRFile().getMetadata().getFilename();
+				perServerOngoingOperationsMap.putIfAbsent(filename, new ConcurrentHashMap<Operation, OperationStatus>());
+				perServerOngoingOperationsMap.get(filename).put(fileOps.get(i).getOperation(), rejectedOperations[i] ? OperationStatus.ABORT : OperationStatus.GLOBAL_COMMIT);
 			}
 		}
 		return voteCollectorMap;
 	}
 
-	private synchronized StatusReport sendAbort(FileOperation fileOperation, RFile rFile, String hostname, int port, ServerInfo serverInfo){
+	private static boolean[] getRejectedOperations(int operationCount, Collection<List<StatusReport>> votes){
+		//an operation is rejected if any of the servers voted against it.
+		boolean[] rejectedOperations = new boolean[operationCount];
+		for(List<StatusReport> statusReports : votes){
+			for(int i = 0; i < operationCount; i++){
+				if(statusReports.get(i).equals(new StatusReport(Status.FAILED))){
+					rejectedOperations[i] = true;
+				}
+			}
+		}
+		return rejectedOperations;
+	}
+
+	private void abortPendingBatchVoters(final Map<Future<List<StatusReport>>, ServerInfo> pendingVotes, final List<FileOp> fileOps, final long transactionId, final long deadline){
 		/*
-		 * send abort message to each server.
-		 * upon receiving status report, remove corresponding entry from the ongoing file operations map.
+		 * the same as abortPendingVoters, for the servers that had not voted on the operations of a transaction over several files.
+		 */
+		voteExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				for(Map.Entry<Future<List<StatusReport>>, ServerInfo> pendingVote : pendingVotes.entrySet()){
+					try{
+						long remainingTime = Math.max(0, deadline - new Date().getTime());
+						List<StatusReport> statusReports = pendingVote.getKey().get(remainingTime, TimeUnit.MILLISECONDS);
+						if(statusReports != null && statusReports.contains(new StatusReport(Status.SUCCESSFUL))){
+							sendAbortBatch(fileOps, transactionId, pendingVote.getValue());
+						}
+					}
+					catch(TimeoutException timeoutException){
+						pendingVote.getKey().cancel(true);
+						sendAbortBatch(fileOps, transactionId, pendingVote.getValue());
+					}
+					catch(ExecutionException executionException){
+						if(!(executionException.getCause() instanceof SystemException)){
+							//the connection failed, the server may still be voting.
+							sendAbortBatch(fileOps, transactionId, pendingVote.getValue());
+						}
+					}
+					catch(InterruptedException interruptedException){
+						return;
+					}
+				}
+			}
+		});
+	}
+
+	private StatusReport sendAbort(FileOperation fileOperation, RFile rFile, long transactionId, String hostname, int port, ServerInfo serverInfo){
+		/*
+		 * send abort message to the server.
+		 * the caller removes the corresponding entry from the ongoing file operations map upon receiving the status report.
 		 * in-case server crashes then there will still remain an ongoing operation in its entry.
 		 */
 		FileStore.Client server = null;
 		StatusReport statusReport = null;
+		boolean reusable = false;
 		try{
-			server = ServerFetcher.getServer(hostname, port);
+			server = ServerFetcher.borrowServer(serverInfo, new Date().getTime() + TIME_OUT);
 			if(server != null){
-				ongoingFileOperations.get(serverInfo).get(rFile.getMetadata().getFilename()).remove(fileOperation.getOperation());
-				statusReport = server.doAbort(rFile, fileOperation);
+				statusReport = server.doAbort(rFile, fileOperation, transactionId);
+				reusable = true;
 			}
 		}
 		catch(SystemException systemException){
+			reusable = true;
 			systemException.printStackTrace();
 		}
 		catch(TException tException){
 			tException.printStackTrace();
 		}
+		finally{
+			if(server != null){
+				ServerFetcher.returnServer(serverInfo, server, reusable);
+			}
+		}
 		return statusReport;
 	}
 
-	private synchronized Object sendCommit(FileOperation fileOperation, RFile rFile, String hostname, int port, ServerInfo serverInfo) throws SystemException, TException{
+	private Object sendCommit(FileOperation fileOperation, RFile rFile, long transactionId, String hostname, int port, ServerInfo serverInfo) throws SystemException, TException{
 		/*
-		 * send commit message to each server.
-		 * upon receiving status report, remove corresponding entry from the ongoing file operations map.
+		 * send commit message to the server.
+		 * the caller removes the corresponding entry from the ongoing file operations map upon receiving the status report.
 		 * in-case server crashes then there will still remain an ongoing operation in its entry.
 		 */
-		FileStore.Client server = null;
 		Object returnValue = null;
-		long currentTime = new Date().getTime();
-		while((new Date().getTime() - currentTime) < TIME_OUT && server == null){
-			if((new Date().getTime() - currentTime) >= TIME_OUT){
-				return null;
-			}
-			server = ServerFetcher.getServer(hostname, port);
+		FileStore.Client server = ServerFetcher.borrowServer(serverInfo, new Date().getTime() + TIME_OUT);
+		if(server == null){
+			return null;
 		}
-		if(server != null){
+		boolean reusable = false;
+		try{
 			if(fileOperation.getOperation().equals(Operation.READ)){
-				returnValue = server.doCommitRead(rFile.getMetadata().getFilename());
-				ongoingFileOperations.get(serverInfo).get(rFile.getMetadata().getFilename()).remove(fileOperation.getOperation());
+				returnValue = server.doCommitRead(rFile.getMetadata().getFilename(), transactionId);
 			}
 			else if(fileOperation.getOperation().equals(Operation.WRITE)){
-				if(!filesInfoMap.get(serverInfo).containsKey(rFile.getMetadata().getFilename())){
-					HashMap<String, RFile> map = new HashMap<String, RFile>();
-					map.put(rFile.getMetadata().getFilename(), rFile);
-					filesInfoMap.get(serverInfo).putAll(map);
-				}
-				returnValue =  server.doCommitWrite(rFile);
-				if(((StatusReport)returnValue).equals(new StatusReport(Status.SUCCESSFUL))){
-					ongoingFileOperations.get(serverInfo).get(rFile.getMetadata().getFilename()).remove(fileOperation.getOperation());
-				}
+				filesInfoMap.get(serverInfo).putIfAbsent(rFile.getMetadata().getFilename(), rFile);
+				returnValue =  server.doCommitWrite(rFile, transactionId);
 			}
 			else{
-				returnValue = server.doCommitDelete(rFile.getMetadata().getFilename());
+				returnValue = server.doCommitDelete(rFile.getMetadata().getFilename(), transactionId);
 				if(((StatusReport)returnValue).equals(new StatusReport(Status.SUCCESSFUL))){
 					filesInfoMap.get(serverInfo).remove(rFile.getMetadata().getFilename());
-					ongoingFileOperations.get(serverInfo).remove(rFile.getMetadata().getFilename());
 				}
 
 			}
+			reusable = true;
+		}
+		catch(SystemException systemException){
+			reusable = true;
+			throw systemException;
+		}
+		finally{
+			ServerFetcher.returnServer(serverInfo, server, reusable);
 		}
 		return returnValue;
 	}
 
+	private StatusReport sendAbortBatch(List<FileOp> fileOps, long transactionId, ServerInfo serverInfo){
+		/*
+		 * send abort message for all the operations to the server, the same as sendAbort.
+		 */
+		FileStore.Client server = null;
+		StatusReport statusReport = null;
+		boolean reusable = false;
+		try{
+			server = ServerFetcher.borrowServer(serverInfo, new Date().getTime() + TIME_OUT);
+			if(server != null){
+				statusReport = server.doAbortBatch(fileOps, transactionId);
+				reusable = true;
+			}
+		}
+		catch(SystemException systemException){
+			reusable = true;
+			systemException.printStackTrace();
+		}
+		catch(TException tException){
+			tException.printStackTrace();
+		}
+		finally{
+			if(server != null){
+				ServerFetcher.returnServer(serverInfo, server, reusable);
+			}
+		}
+		return statusReport;
+	}
+
+	private List<FileOpResult> sendCommitBatch(List<FileOp> fileOps, long transactionId, ServerInfo serverInfo) throws SystemException, TException{
+		/*
+		 * send commit message for all the operations to the server, the same as sendCommit.
+		 */
+		FileStore.Client server = ServerFetcher.borrowServer(serverInfo, new Date().getTime() + TIME_OUT);
+		if(server == null){
+			return null;
+		}
+		List<FileOpResult> fileOpResults = null;
+		boolean reusable = false;
+		try{
+			for(FileOp fileOp : fileOps){
+				if(fileOp.getOperation().equals(Operation.WRITE)){
+					filesInfoMap.get(serverInfo).putIfAbsent(fileOp.getRFile().getMetadata().getFilename(), fileOp.getRFile());
+				}
+			}
+			fileOpResults = server.doCommitBatch(fileOps, transactionId);
+			for(int i = 0; i < fileOps.size() && i < fileOpResults.size(); i++){
+				if(fileOps.get(i).getOperation().equals(Operation.DELETE) && fileOpResults.get(i).getStatus().equals(Status.SUCCESSFUL)){
+					filesInfoMap.get(serverInfo).remove(fileOps.get(i).getRFile().getMetadata().getFilename());
+				}
+			}
+			reusable = true;
+		}
+		catch(SystemException systemException){
+			reusable = true;
+			throw systemException;
+		}
+		finally{
+			ServerFetcher.returnServer(serverInfo, server, reusable);
+		}
+		return fileOpResults;
+	}
+
 	@Override
 	public RecoveryInformation getRecoveryInformation(String filename,
-			FileOperation fileOperation, String hostname, int port) throws SystemException, TException {
-
+			FileOperation fileOperation, String hostname, int port, long transactionId) throws SystemException, TException {
+		/*
+		 * the outcome of the operation of the given transaction on the file, as voted for by the server.
+		 * an operation we have no entry for is aborted.
+		 */
 		String ipAddress = null;
 		ServerInfo serverInfo = null;
 		RecoveryInformation recoveryInformation = new RecoveryInformation();
@@ -441,31 +1475,9 @@ public class Coordinator implements FileStore.Iface{
 				return null;
 			}
 			else{
-				Map<RFile, Map<Operation, OperationStatus>> fileOperationsMap = recoveryMap.get(serverInfo);
-				for(Map.Entry<RFile, Map<Operation, OperationStatus>> entry : fileOperationsMap.entrySet()){
-					RFile rFileEntry = entry.getKey();
-					if(rFileEntry.getMetadata().getFilename().equals(filename)){
-						if(!entry.getValue().containsKey(fileOperation.getOperation())){
-							Status status = Status.FAILED;
-							recoveryInformation.setRFile(rFileEntry);
-							recoveryInformation.setStatus(status);
-							return recoveryInformation;
-						}
-						else{
-							if(entry.getValue().get(fileOperation.getOperation()).equals(OperationStatus.GLOBAL_COMMIT)){
-								Status status = Status.SUCCESSFUL;
-								recoveryInformation.setRFile(rFileEntry);
-								recoveryInformation.setStatus(status);
-								return recoveryInformation;
-							}
-							else{
-								Status status = Status.FAILED;
-								recoveryInformation.setRFile(rFileEntry);
-								recoveryInformation.setStatus(status);
-								return recoveryInformation;
-							}
-						}
-					}
+				RecoveryEntry recoveryEntry = recoveryMap.get(serverInfo).get(getRecoveryKey(filename, transactionId));
+				if(recoveryEntry != null){
+					return resolveRecovery(recoveryEntry, fileOperation.getOperation());
 				}
 			}
 		}
@@ -480,93 +1492,207 @@ public class Coordinator implements FileStore.Iface{
 
 	}
 
-	private static synchronized void log(OperationStatus operationStatus, FileOperation fileOperation, String filename){
+	@Override
+	public List<RecoveryInformation> getRecoveryInformationBatch(List<RecoveryRequest> recoveryRequests, String hostname, int port) throws SystemException, TException {
+		/*
+		 * resolves all the in-doubt operations of a restarting participant in one round trip.
+		 * the answers are in the same order as the requests.
+		 * every request names the transaction the operation was voted for in, so it is matched with the decision of that transaction only.
+		 * an operation we have no entry for is aborted, its RFile then only carries the filename as the field is required on the wire.
+		 */
+		ConcurrentMap<String, RecoveryEntry> recoveryEntries = null;
+		try{
+			ServerInfo serverInfo = new ServerInfo(hostname, InetAddress.getByName(hostname).getHostAddress(), port);
+			recoveryEntries = recoveryMap.get(serverInfo);
+		}
+		catch(UnknownHostException unknownHostException){
+			unknownHostException.printStackTrace();
+		}
+		List<RecoveryInformation> recoveryInformationList = new ArrayList<RecoveryInformation>(recoveryRequests.size());
+		for(RecoveryRequest recoveryRequest : recoveryRequests){
+			RecoveryEntry recoveryEntry = null;
+			if(recoveryEntries != null){
+				recoveryEntry = recoveryEntries.get(getRecoveryKey(recoveryRequest.getFilename(), recoveryRequest.getTransactionId()));
+			}
+			if(recoveryEntry != null){
+				recoveryInformationList.add(resolveRecovery(recoveryEntry, recoveryRequest.getFileOperation().getOperation()));
+			}
+			else{
+				RFileMetadata metadata = new RFileMetadata();
+				metadata.setFilename(recoveryRequest.getFilename());
+				RFile rFile = new RFile();
+				rFile.setMetadata(metadata);
+				RecoveryInformation recoveryInformation = new RecoveryInformation();
+				recoveryInformation.setStatus(Status.FAILED);
+				recoveryInformation.setRFile(rFile);
+				recoveryInformationList.add(recoveryInformation);
+			}
+		}
+		return recoveryInformationList;
+	}
+
+	private static RecoveryInformation resolveRecovery(RecoveryEntry recoveryEntry, Operation operation){
+		/*
+		 * the operation was committed only if the global commit was recorded for it, otherwise it is aborted.
+		 */
+		RecoveryInformation recoveryInformation = new RecoveryInformation();
+		recoveryInformation.setRFile(recoveryEntry.rFile);
+		if(recoveryEntry.operation.equals(operation) && recoveryEntry.operationStatus.equals(OperationStatus.GLOBAL_COMMIT)){
+			recoveryInformation.setStatus(Status.SUCCESSFUL);
+		}
+		else{
+			recoveryInformation.setStatus(Status.FAILED);
+		}
+		return recoveryInformation;
+	}
+
+	private static void log(OperationStatus operationStatus, FileOperation fileOperation, String filename, long transactionId) throws SystemException{
 		/*
-		 * logging the abort message.
+		 * logging the decision.
+		 * the record is handed to the log appender, which makes it durable along with the records of the other ongoing transactions.
+		 * we return only once the record is on disk, as the decision must not be sent out before that.
 		 */
-		File logFile = null;
-		FileOutputStream fileOutputStream = null;
-		StringBuilder logBuilder = new StringBuilder("");
+		LogRecord logRecord = new LogRecord(LogRecord.Type.valueOf(operationStatus.toString()), fileOperation.getOperation(), transactionId, filename);
 		try{
-			logFile = new File(LOG_FILE_PATH_STRING);
-			fileOutputStream = new FileOutputStream(logFile, true);
+			logAppender.append(logRecord).get();
+		}
+		catch(ExecutionException executionException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error in logging "+operationStatus+" for "+filename+" : "+executionException.getCause().getMessage());
+			throw systemException;
+		}
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Interrupted while logging "+operationStatus+" for "+filename);
+			throw systemException;
+		}
+	}
+
+	private static void logEnd(Operation operation, String filename, long transactionId){
+		/*
+		 * every server has acknowledged the commit, so it no longer has to be kept by the checkpoints of the log.
+		 * the record is not waited for, if it is lost the commit is only kept a while longer.
+		 */
+		logAppender.append(new LogRecord(LogRecord.Type.END, operation, transactionId, filename));
+	}
 
-			logBuilder.append(operationStatus.toString());
-			logBuilder.append(":");
-			logBuilder.append(fileOperation.getOperation().toString());
-			logBuilder.append(" ");
-			logBuilder.append(filename);
-			logBuilder.append("\n");
+	private static void log(OperationStatus operationStatus, List<FileOp> fileOps, long transactionId) throws SystemException{
+		/*
+		 * logging the decision for all the operations of a transaction, one record per file.
+		 * the records are handed to the log appender together, so they are made durable by the same write,
+		 * 		and we return only once all of them are on disk.
+		 */
+		awaitLog(appendLog(operationStatus, fileOps, transactionId), transactionId);
+	}
 
-			fileOutputStream.write(logBuilder.toString().getBytes());
+	private static List<Future<Long>> appendLog(OperationStatus operationStatus, List<FileOp> fileOps, long transactionId){
+		List<Future<Long>> logRecords = new ArrayList<Future<Long>>(fileOps.size());
+		for(FileOp fileOp : fileOps){
+			logRecords.add(logAppender.append(new LogRecord(LogRecord.Type.valueOf(operationStatus.toString()), fileOp.getOperation(), transactionId, fileOp.getRFile().getMetadata().getFilename())));
 		}
-		catch(FileNotFoundException fileNotFoundException){
-			File errorFile = new File(ERROR_FILE_PATH_STRING);
-			FileOutputStream fileOutputStream2 = null;
-			try{
-				fileOutputStream2 = new FileOutputStream(errorFile, true);
-				fileOutputStream2.write(fileNotFoundException.getStackTrace().toString().getBytes());
-			}
-			catch(Exception e){}
-			finally{
-				try{
-					if(fileOutputStream2 != null){
-						fileOutputStream2.close();
-					}
-				}
-				catch(IOException ioException){
-					ioException.printStackTrace();
-				}
+		return logRecords;
+	}
+
+	private static void awaitLog(List<Future<Long>> logRecords, long transactionId) throws SystemException{
+		try{
+			for(Future<Long> logRecord : logRecords){
+				logRecord.get();
 			}
 		}
-		catch(IOException ioException){
-			ioException.printStackTrace();
+		catch(ExecutionException executionException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error in logging the decision for transaction "+transactionId+" : "+executionException.getCause().getMessage());
+			throw systemException;
 		}
-		finally{
-			try{
-				if(fileOutputStream != null){
-					fileOutputStream.close();
-				}
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Interrupted while logging the decision for transaction "+transactionId);
+			throw systemException;
+		}
+	}
+
+	private static List<String> getTransactionFilenames(List<FileOp> fileOps) throws SystemException{
+		/*
+		 * returns the names of the files of a transaction in order, after checking that there is at most one operation per file.
+		 */
+		List<String> filenames = new ArrayList<String>(fileOps.size());
+		for(FileOp fileOp : fileOps){
+			if(!fileOp.isSetRFile() || !fileOp.getRFile().isSetMetadata() || !fileOp.getRFile().getMetadata().isSetFilename()){
+				SystemException systemException = new SystemException();
+				systemException.setMessage("Every operation of a transaction needs a filename");
+				throw systemException;
 			}
-			catch(IOException ioException2){
-				ioException2.printStackTrace();
+			filenames.add(fileOp.getRFile().getMetadata().getFilename());
+		}
+		if(filenames.isEmpty()){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("A transaction needs at least one operation");
+			throw systemException;
+		}
+		Collections.sort(filenames);
+		for(int i = 1; i < filenames.size(); i++){
+			if(filenames.get(i).equals(filenames.get(i - 1))){
+				SystemException systemException = new SystemException();
+				systemException.setMessage("More than one operation on "+filenames.get(i)+" in a transaction");
+				throw systemException;
 			}
 		}
+		return filenames;
 	}
 
 	@Override
-	public StatusReport doVote(RFile rFile, FileOperation fileOperation)
+	public StatusReport doVote(RFile rFile, FileOperation fileOperation, long timestamp)
 			throws SystemException, TException {
 		// TODO Auto-generated method stub
 		return null;
 	}
 
 	@Override
-	public RFile doCommitRead(String filenameToRead) throws SystemException,
+	public RFile doCommitRead(String filenameToRead, long timestamp) throws SystemException,
 	TException {
 		// TODO Auto-generated method stub
 		return null;
 	}
 
 	@Override
-	public StatusReport doCommitWrite(RFile rFile) throws SystemException,
+	public StatusReport doCommitWrite(RFile rFile, long timestamp) throws SystemException,
 	TException {
 		// TODO Auto-generated method stub
 		return null;
 	}
 
 	@Override
-	public StatusReport doCommitDelete(String filenameToDelete)
+	public StatusReport doCommitDelete(String filenameToDelete, long timestamp)
 			throws SystemException, TException {
 		// TODO Auto-generated method stub
 		return null;
 	}
 
 	@Override
-	public StatusReport doAbort(RFile rFile, FileOperation fileOperation)
+	public StatusReport doAbort(RFile rFile, FileOperation fileOperation, long timestamp)
 			throws SystemException, TException {
 		// TODO Auto-generated method stub
 		return null;
 	}
 
+	@Override
+	public List<StatusReport> doVoteBatch(List<FileOp> fileOps, long timestamp) throws SystemException, TException {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public List<FileOpResult> doCommitBatch(List<FileOp> fileOps, long timestamp) throws SystemException, TException {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public StatusReport doAbortBatch(List<FileOp> fileOps, long timestamp) throws SystemException, TException {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 }
@@ -0,0 +1,55 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+public class FileLockManager {
+
+	/*
+	 * one lock per file that currently has a transaction running or waiting on it.
+	 * a lock is shared by the reads of the file and held by a write or delete on its own, so only conflicting transactions queue.
+	 * 		a shared lock takes one permit and an exclusive lock all of them.
+	 * the locks are fair, hence the transactions waiting on a file are let in the order in which they arrived,
+	 * 		and a read does not get ahead of a write that waits for the reads before it.
+	 * a lock is removed once no transaction holds it or waits on it, so the table only grows with the number of busy files.
+	 * the lock is not owned by a thread, as a transaction is finished by the threads that collect the acknowledgements of phase two.
+	 */
+	private static final int PERMITS = Integer.MAX_VALUE;
+	private final Map<String, FileLock> fileLocks = new HashMap<String, FileLock>();
+
+	private static class FileLock{
+		private final Semaphore semaphore = new Semaphore(PERMITS, true);
+		//number of transactions holding or waiting on this lock, guarded by fileLocks.
+		private int users = 0;
+	}
+
+	public void lock(String filename, Operation operation){
+		FileLock fileLock = null;
+		synchronized(fileLocks){
+			fileLock = fileLocks.get(filename);
+			if(fileLock == null){
+				fileLock = new FileLock();
+				fileLocks.put(filename, fileLock);
+			}
+			fileLock.users++;
+		}
+		fileLock.semaphore.acquireUninterruptibly(getPermits(operation));
+	}
+
+	public void unlock(String filename, Operation operation){
+		synchronized(fileLocks){
+			FileLock fileLock = fileLocks.get(filename);
+			if(fileLock == null){
+				throw new IllegalMonitorStateException("no lock held on " + filename);
+			}
+			fileLock.semaphore.release(getPermits(operation));
+			fileLock.users--;
+			if(fileLock.users == 0){
+				fileLocks.remove(filename);
+			}
+		}
+	}
+
+	private static int getPermits(Operation operation){
+		return Operation.READ.equals(operation) ? 1 : PERMITS;
+	}
+}
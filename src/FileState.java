@@ -0,0 +1,254 @@
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+
+public class FileState {
+
+	/*
+	 * the state of a file on a participant, kept in the lock table (see LockTable) with one object per file,
+	 * 		so that the votes and commits of different files never wait on each other.
+	 * a transition is made holding the monitor of the FileState object of the file, and only of that file.
+	 * a file is,
+	 * 		IDLE				not part of a prepared transaction.
+	 * 		PREPARED_READ		voted for one or more reads, which share the file.
+	 * 		PREPARED_WRITE		voted for a write, which excludes any other operation.
+	 * 		PREPARED_DELETE		voted for a delete, which excludes any other operation.
+	 * the metadata is null while the file does not exist, e.g. while its first write is prepared.
+	 * 		the metadata object is replaced on every change and never modified, so it can be read without the monitor.
+	 * an operation that conflicts with the prepared ones can wait for them in the queue of the file.
+	 * 		the queue is served in arrival order, so a read does not get ahead of a write waiting before it.
+	 * every operation carries the timestamp of its transaction (smaller is older, 0 if the coordinator did not stamp it),
+	 * 		which tells the holders apart on release and decides who waits and who gives up (see LockTable.ConflictPolicy).
+	 * a state that is idle, has no metadata and no one waiting is retired and removed from the map. whoever finds it retired
+	 * 		after waiting for its monitor has to look the file up again.
+	 */
+	public static enum Phase{
+		IDLE,
+		PREPARED_READ,
+		PREPARED_WRITE,
+		PREPARED_DELETE;
+	}
+
+	private final String filename;
+	private volatile RFileMetadata metadata;
+	//guarded by the FileState object.
+	private Phase phase = Phase.IDLE;
+	//the timestamps of the prepared operations, one per prepared read, guarded by the FileState object.
+	private final List<Long> holders = new ArrayList<Long>();
+	//the operations waiting to be prepared in arrival order, guarded by the FileState object.
+	private final LinkedList<Waiter> waiters = new LinkedList<Waiter>();
+	//guarded by the FileState object.
+	private boolean retired = false;
+
+	private static class Waiter{
+		private final long timestamp;
+		//set by an older transaction that takes its place under wound-wait, guarded by the FileState object.
+		private boolean wounded = false;
+		//set once the transaction is aborted while it waits, e.g. after its vote timed out at the coordinator. guarded by the FileState object.
+		private boolean aborted = false;
+
+		private Waiter(long timestamp){
+			this.timestamp = timestamp;
+		}
+	}
+
+	public FileState(String filename, RFileMetadata metadata){
+		this.filename = filename;
+		this.metadata = metadata;
+	}
+
+	public String getFilename(){
+		return filename;
+	}
+
+	public RFileMetadata getMetadata(){
+		return metadata;
+	}
+
+	public void setMetadata(RFileMetadata metadata){
+		this.metadata = metadata;
+	}
+
+	public synchronized Phase getPhase(){
+		return phase;
+	}
+
+	public synchronized boolean isRetired(){
+		return retired;
+	}
+
+	public synchronized boolean prepare(Operation operation, long timestamp){
+		/*
+		 * returns false if the operation conflicts with the prepared ones, or if it reads or deletes a file that does not exist.
+		 */
+		return !retired && waiters.isEmpty() && isPreparable(operation) && grant(operation, timestamp);
+	}
+
+	public synchronized boolean prepare(Operation operation, long timestamp, long timeout, LockTable.ConflictPolicy conflictPolicy) throws InterruptedException{
+		/*
+		 * like prepare, but waits up to timeout milliseconds for the conflicting operations to be released.
+		 * only the head of the queue is let in. once it is, the next one is woken up, in case it is a read joining a read.
+		 * returns false once the timeout has passed, as soon as the file the operation reads or deletes no longer exists,
+		 * 		or right away if the conflict policy has the operation give up rather than wait.
+		 */
+		if(prepare(operation, timestamp)){
+			return true;
+		}
+		if(retired || timeout <= 0 || !isApplicable(operation)){
+			return false;
+		}
+		if(timestamp != 0){
+			if(LockTable.ConflictPolicy.WAIT_DIE.equals(conflictPolicy) && !isOlderThanAll(timestamp)){
+				//dies, only an older transaction may wait for a younger one.
+				return false;
+			}
+			if(LockTable.ConflictPolicy.WOUND_WAIT.equals(conflictPolicy)){
+				woundYoungerWaiters(timestamp);
+			}
+		}
+		long deadline = new Date().getTime() + timeout;
+		Waiter waiter = new Waiter(timestamp);
+		waiters.addLast(waiter);
+		try{
+			while(true){
+				if(waiter.wounded || waiter.aborted){
+					return false;
+				}
+				if(waiters.getFirst() == waiter && isPreparable(operation)){
+					return grant(operation, timestamp);
+				}
+				long remainingTime = deadline - new Date().getTime();
+				if(!isApplicable(operation) || remainingTime <= 0){
+					return false;
+				}
+				wait(remainingTime);
+			}
+		}
+		finally{
+			waiters.remove(waiter);
+			//the next one in the queue may be able to go ahead now.
+			notifyAll();
+		}
+	}
+
+	public synchronized int getWaiting(){
+		return waiters.size();
+	}
+
+	public synchronized boolean release(Operation operation, long timestamp){
+		/*
+		 * ends a prepared operation, returns false if the operation was not prepared (voted against), which leaves the state as it is.
+		 */
+		boolean released = false;
+		if(Operation.READ.equals(operation)){
+			released = phase.equals(Phase.PREPARED_READ) && holders.remove(Long.valueOf(timestamp));
+		}
+		else if(Operation.WRITE.equals(operation)){
+			released = phase.equals(Phase.PREPARED_WRITE) && holders.remove(Long.valueOf(timestamp));
+		}
+		else{
+			released = phase.equals(Phase.PREPARED_DELETE) && holders.remove(Long.valueOf(timestamp));
+		}
+		if(released && holders.isEmpty()){
+			phase = Phase.IDLE;
+		}
+		if(released && !waiters.isEmpty()){
+			notifyAll();
+		}
+		return released;
+	}
+
+	public synchronized boolean abortWaiting(long timestamp){
+		/*
+		 * makes the operations of the transaction still waiting in the queue give up, returns false if none of them is waiting.
+		 */
+		boolean aborted = false;
+		for(Waiter waiter : waiters){
+			if(waiter.timestamp == timestamp){
+				waiter.aborted = true;
+				aborted = true;
+			}
+		}
+		if(aborted){
+			notifyAll();
+		}
+		return aborted;
+	}
+
+	public synchronized boolean retire(){
+		/*
+		 * retires the state if the file neither exists nor is part of a prepared transaction, returns true if it did.
+		 */
+		if(!retired && metadata == null && phase.equals(Phase.IDLE) && waiters.isEmpty()){
+			retired = true;
+		}
+		return retired;
+	}
+
+	@Override
+	public synchronized String toString(){
+		return filename+" "+phase+(holders.isEmpty() ? "" : " "+holders)+(waiters.isEmpty() ? "" : ", "+waiters.size()+" waiting");
+	}
+
+	private boolean isApplicable(Operation operation){
+		//a read or a delete needs the file to exist.
+		return Operation.WRITE.equals(operation) || metadata != null;
+	}
+
+	private boolean isPreparable(Operation operation){
+		if(!isApplicable(operation)){
+			return false;
+		}
+		return phase.equals(Phase.IDLE) || (Operation.READ.equals(operation) && phase.equals(Phase.PREPARED_READ));
+	}
+
+	private boolean grant(Operation operation, long timestamp){
+		if(Operation.READ.equals(operation)){
+			phase = Phase.PREPARED_READ;
+		}
+		else if(Operation.WRITE.equals(operation)){
+			phase = Phase.PREPARED_WRITE;
+		}
+		else{
+			phase = Phase.PREPARED_DELETE;
+		}
+		holders.add(timestamp);
+		return true;
+	}
+
+	private boolean isOlderThanAll(long timestamp){
+		/*
+		 * whether the transaction is older than every holder and waiter of the file, the unstamped ones aside.
+		 * under wait-die a transaction only waits if it is, so every wait is for a younger transaction and no cycle of waits can form.
+		 */
+		for(long holder : holders){
+			if(holder != 0 && holder <= timestamp){
+				return false;
+			}
+		}
+		for(Waiter waiter : waiters){
+			if(waiter.timestamp != 0 && waiter.timestamp <= timestamp){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void woundYoungerWaiters(long timestamp){
+		/*
+		 * the younger transactions still waiting give up, so an older one never waits behind them.
+		 * the holders are not wounded, they already voted to commit and only the coordinator can abort them now.
+		 */
+		boolean wounded = false;
+		for(Waiter waiter : waiters){
+			if(waiter.timestamp > timestamp && !waiter.wounded){
+				waiter.wounded = true;
+				wounded = true;
+			}
+		}
+		if(wounded){
+			notifyAll();
+		}
+	}
+}
@@ -4,7 +4,9 @@
  * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
  *  @generated
  */
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -39,17 +41,41 @@ public class FileStore {
 
     public StatusReport deleteFile(String filenameToDelete) throws SystemException, org.apache.thrift.TException;
 
-    public StatusReport doVote(RFile rFile, FileOperation fileOperation) throws SystemException, org.apache.thrift.TException;
+    public StatusReport doVote(RFile rFile, FileOperation fileOperation, long timestamp) throws SystemException, org.apache.thrift.TException;
 
-    public RFile doCommitRead(String filenameToRead) throws SystemException, org.apache.thrift.TException;
+    public RFile doCommitRead(String filenameToRead, long timestamp) throws SystemException, org.apache.thrift.TException;
 
-    public StatusReport doCommitWrite(RFile rFile) throws SystemException, org.apache.thrift.TException;
+    public StatusReport doCommitWrite(RFile rFile, long timestamp) throws SystemException, org.apache.thrift.TException;
 
-    public StatusReport doCommitDelete(String filenameToDelete) throws SystemException, org.apache.thrift.TException;
+    public StatusReport doCommitDelete(String filenameToDelete, long timestamp) throws SystemException, org.apache.thrift.TException;
 
-    public StatusReport doAbort(RFile rFile, FileOperation fileOperation) throws SystemException, org.apache.thrift.TException;
+    public StatusReport doAbort(RFile rFile, FileOperation fileOperation, long timestamp) throws SystemException, org.apache.thrift.TException;
 
-    public RecoveryInformation getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port) throws SystemException, org.apache.thrift.TException;
+    public RecoveryInformation getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port, long transactionId) throws SystemException, org.apache.thrift.TException;
+
+    public List<RecoveryInformation> getRecoveryInformationBatch(List<RecoveryRequest> recoveryRequests, String hostname, int port) throws SystemException, org.apache.thrift.TException;
+
+    public long beginWrite(String filename, long writeId) throws SystemException, org.apache.thrift.TException;
+
+    public StatusReport appendChunk(long writeId, ByteBuffer chunk) throws SystemException, org.apache.thrift.TException;
+
+    public StatusReport finishWrite(long writeId) throws SystemException, org.apache.thrift.TException;
+
+    public StatusReport abortWrite(long writeId) throws SystemException, org.apache.thrift.TException;
+
+    public RFile readChunk(String filename, long offset, int length) throws SystemException, org.apache.thrift.TException;
+
+    public RFile readEncodedFile(String filenameToRead) throws SystemException, org.apache.thrift.TException;
+
+    public RFile readSnapshotChunk(String filename, int version, long offset, int length) throws SystemException, org.apache.thrift.TException;
+
+    public List<FileOpResult> executeTransaction(List<FileOp> fileOps) throws SystemException, org.apache.thrift.TException;
+
+    public List<StatusReport> doVoteBatch(List<FileOp> fileOps, long timestamp) throws SystemException, org.apache.thrift.TException;
+
+    public List<FileOpResult> doCommitBatch(List<FileOp> fileOps, long timestamp) throws SystemException, org.apache.thrift.TException;
+
+    public StatusReport doAbortBatch(List<FileOp> fileOps, long timestamp) throws SystemException, org.apache.thrift.TException;
 
   }
 
@@ -61,17 +87,41 @@ public class FileStore {
 
     public void deleteFile(String filenameToDelete, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
-    public void doVote(RFile rFile, FileOperation fileOperation, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void doVote(RFile rFile, FileOperation fileOperation, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void doCommitRead(String filenameToRead, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void doCommitWrite(RFile rFile, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void doCommitDelete(String filenameToDelete, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void doAbort(RFile rFile, FileOperation fileOperation, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
-    public void doCommitRead(String filenameToRead, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port, long transactionId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
-    public void doCommitWrite(RFile rFile, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void getRecoveryInformationBatch(List<RecoveryRequest> recoveryRequests, String hostname, int port, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
-    public void doCommitDelete(String filenameToDelete, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void beginWrite(String filename, long writeId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
-    public void doAbort(RFile rFile, FileOperation fileOperation, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void appendChunk(long writeId, ByteBuffer chunk, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
-    public void getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void finishWrite(long writeId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void abortWrite(long writeId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void readChunk(String filename, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void readEncodedFile(String filenameToRead, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void readSnapshotChunk(String filename, int version, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void executeTransaction(List<FileOp> fileOps, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void doVoteBatch(List<FileOp> fileOps, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void doCommitBatch(List<FileOp> fileOps, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void doAbortBatch(List<FileOp> fileOps, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
   }
 
@@ -173,17 +223,18 @@ public class FileStore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "deleteFile failed: unknown result");
     }
 
-    public StatusReport doVote(RFile rFile, FileOperation fileOperation) throws SystemException, org.apache.thrift.TException
+    public StatusReport doVote(RFile rFile, FileOperation fileOperation, long timestamp) throws SystemException, org.apache.thrift.TException
     {
-      send_doVote(rFile, fileOperation);
+      send_doVote(rFile, fileOperation, timestamp);
       return recv_doVote();
     }
 
-    public void send_doVote(RFile rFile, FileOperation fileOperation) throws org.apache.thrift.TException
+    public void send_doVote(RFile rFile, FileOperation fileOperation, long timestamp) throws org.apache.thrift.TException
     {
       doVote_args args = new doVote_args();
       args.setRFile(rFile);
       args.setFileOperation(fileOperation);
+      args.setTimestamp(timestamp);
       sendBase("doVote", args);
     }
 
@@ -200,16 +251,17 @@ public class FileStore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "doVote failed: unknown result");
     }
 
-    public RFile doCommitRead(String filenameToRead) throws SystemException, org.apache.thrift.TException
+    public RFile doCommitRead(String filenameToRead, long timestamp) throws SystemException, org.apache.thrift.TException
     {
-      send_doCommitRead(filenameToRead);
+      send_doCommitRead(filenameToRead, timestamp);
       return recv_doCommitRead();
     }
 
-    public void send_doCommitRead(String filenameToRead) throws org.apache.thrift.TException
+    public void send_doCommitRead(String filenameToRead, long timestamp) throws org.apache.thrift.TException
     {
       doCommitRead_args args = new doCommitRead_args();
       args.setFilenameToRead(filenameToRead);
+      args.setTimestamp(timestamp);
       sendBase("doCommitRead", args);
     }
 
@@ -226,16 +278,17 @@ public class FileStore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "doCommitRead failed: unknown result");
     }
 
-    public StatusReport doCommitWrite(RFile rFile) throws SystemException, org.apache.thrift.TException
+    public StatusReport doCommitWrite(RFile rFile, long timestamp) throws SystemException, org.apache.thrift.TException
     {
-      send_doCommitWrite(rFile);
+      send_doCommitWrite(rFile, timestamp);
       return recv_doCommitWrite();
     }
 
-    public void send_doCommitWrite(RFile rFile) throws org.apache.thrift.TException
+    public void send_doCommitWrite(RFile rFile, long timestamp) throws org.apache.thrift.TException
     {
       doCommitWrite_args args = new doCommitWrite_args();
       args.setRFile(rFile);
+      args.setTimestamp(timestamp);
       sendBase("doCommitWrite", args);
     }
 
@@ -252,16 +305,17 @@ public class FileStore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "doCommitWrite failed: unknown result");
     }
 
-    public StatusReport doCommitDelete(String filenameToDelete) throws SystemException, org.apache.thrift.TException
+    public StatusReport doCommitDelete(String filenameToDelete, long timestamp) throws SystemException, org.apache.thrift.TException
     {
-      send_doCommitDelete(filenameToDelete);
+      send_doCommitDelete(filenameToDelete, timestamp);
       return recv_doCommitDelete();
     }
 
-    public void send_doCommitDelete(String filenameToDelete) throws org.apache.thrift.TException
+    public void send_doCommitDelete(String filenameToDelete, long timestamp) throws org.apache.thrift.TException
     {
       doCommitDelete_args args = new doCommitDelete_args();
       args.setFilenameToDelete(filenameToDelete);
+      args.setTimestamp(timestamp);
       sendBase("doCommitDelete", args);
     }
 
@@ -278,17 +332,18 @@ public class FileStore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "doCommitDelete failed: unknown result");
     }
 
-    public StatusReport doAbort(RFile rFile, FileOperation fileOperation) throws SystemException, org.apache.thrift.TException
+    public StatusReport doAbort(RFile rFile, FileOperation fileOperation, long timestamp) throws SystemException, org.apache.thrift.TException
     {
-      send_doAbort(rFile, fileOperation);
+      send_doAbort(rFile, fileOperation, timestamp);
       return recv_doAbort();
     }
 
-    public void send_doAbort(RFile rFile, FileOperation fileOperation) throws org.apache.thrift.TException
+    public void send_doAbort(RFile rFile, FileOperation fileOperation, long timestamp) throws org.apache.thrift.TException
     {
       doAbort_args args = new doAbort_args();
       args.setRFile(rFile);
       args.setFileOperation(fileOperation);
+      args.setTimestamp(timestamp);
       sendBase("doAbort", args);
     }
 
@@ -305,19 +360,20 @@ public class FileStore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "doAbort failed: unknown result");
     }
 
-    public RecoveryInformation getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port) throws SystemException, org.apache.thrift.TException
+    public RecoveryInformation getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port, long transactionId) throws SystemException, org.apache.thrift.TException
     {
-      send_getRecoveryInformation(filename, fileOperation, hostname, port);
+      send_getRecoveryInformation(filename, fileOperation, hostname, port, transactionId);
       return recv_getRecoveryInformation();
     }
 
-    public void send_getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port) throws org.apache.thrift.TException
+    public void send_getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port, long transactionId) throws org.apache.thrift.TException
     {
       getRecoveryInformation_args args = new getRecoveryInformation_args();
       args.setFilename(filename);
       args.setFileOperation(fileOperation);
       args.setHostname(hostname);
       args.setPort(port);
+      args.setTransactionId(transactionId);
       sendBase("getRecoveryInformation", args);
     }
 
@@ -334,6 +390,330 @@ public class FileStore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getRecoveryInformation failed: unknown result");
     }
 
+    public List<RecoveryInformation> getRecoveryInformationBatch(List<RecoveryRequest> recoveryRequests, String hostname, int port) throws SystemException, org.apache.thrift.TException
+    {
+      send_getRecoveryInformationBatch(recoveryRequests, hostname, port);
+      return recv_getRecoveryInformationBatch();
+    }
+
+    public void send_getRecoveryInformationBatch(List<RecoveryRequest> recoveryRequests, String hostname, int port) throws org.apache.thrift.TException
+    {
+      getRecoveryInformationBatch_args args = new getRecoveryInformationBatch_args();
+      args.setRecoveryRequests(recoveryRequests);
+      args.setHostname(hostname);
+      args.setPort(port);
+      sendBase("getRecoveryInformationBatch", args);
+    }
+
+    public List<RecoveryInformation> recv_getRecoveryInformationBatch() throws SystemException, org.apache.thrift.TException
+    {
+      getRecoveryInformationBatch_result result = new getRecoveryInformationBatch_result();
+      receiveBase(result, "getRecoveryInformationBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getRecoveryInformationBatch failed: unknown result");
+    }
+
+    public long beginWrite(String filename, long writeId) throws SystemException, org.apache.thrift.TException
+    {
+      send_beginWrite(filename, writeId);
+      return recv_beginWrite();
+    }
+
+    public void send_beginWrite(String filename, long writeId) throws org.apache.thrift.TException
+    {
+      beginWrite_args args = new beginWrite_args();
+      args.setFilename(filename);
+      args.setWriteId(writeId);
+      sendBase("beginWrite", args);
+    }
+
+    public long recv_beginWrite() throws SystemException, org.apache.thrift.TException
+    {
+      beginWrite_result result = new beginWrite_result();
+      receiveBase(result, "beginWrite");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "beginWrite failed: unknown result");
+    }
+
+    public StatusReport appendChunk(long writeId, ByteBuffer chunk) throws SystemException, org.apache.thrift.TException
+    {
+      send_appendChunk(writeId, chunk);
+      return recv_appendChunk();
+    }
+
+    public void send_appendChunk(long writeId, ByteBuffer chunk) throws org.apache.thrift.TException
+    {
+      appendChunk_args args = new appendChunk_args();
+      args.setWriteId(writeId);
+      args.setChunk(chunk);
+      sendBase("appendChunk", args);
+    }
+
+    public StatusReport recv_appendChunk() throws SystemException, org.apache.thrift.TException
+    {
+      appendChunk_result result = new appendChunk_result();
+      receiveBase(result, "appendChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "appendChunk failed: unknown result");
+    }
+
+    public StatusReport finishWrite(long writeId) throws SystemException, org.apache.thrift.TException
+    {
+      send_finishWrite(writeId);
+      return recv_finishWrite();
+    }
+
+    public void send_finishWrite(long writeId) throws org.apache.thrift.TException
+    {
+      finishWrite_args args = new finishWrite_args();
+      args.setWriteId(writeId);
+      sendBase("finishWrite", args);
+    }
+
+    public StatusReport recv_finishWrite() throws SystemException, org.apache.thrift.TException
+    {
+      finishWrite_result result = new finishWrite_result();
+      receiveBase(result, "finishWrite");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "finishWrite failed: unknown result");
+    }
+
+    public StatusReport abortWrite(long writeId) throws SystemException, org.apache.thrift.TException
+    {
+      send_abortWrite(writeId);
+      return recv_abortWrite();
+    }
+
+    public void send_abortWrite(long writeId) throws org.apache.thrift.TException
+    {
+      abortWrite_args args = new abortWrite_args();
+      args.setWriteId(writeId);
+      sendBase("abortWrite", args);
+    }
+
+    public StatusReport recv_abortWrite() throws SystemException, org.apache.thrift.TException
+    {
+      abortWrite_result result = new abortWrite_result();
+      receiveBase(result, "abortWrite");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "abortWrite failed: unknown result");
+    }
+
+    public RFile readChunk(String filename, long offset, int length) throws SystemException, org.apache.thrift.TException
+    {
+      send_readChunk(filename, offset, length);
+      return recv_readChunk();
+    }
+
+    public void send_readChunk(String filename, long offset, int length) throws org.apache.thrift.TException
+    {
+      readChunk_args args = new readChunk_args();
+      args.setFilename(filename);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("readChunk", args);
+    }
+
+    public RFile recv_readChunk() throws SystemException, org.apache.thrift.TException
+    {
+      readChunk_result result = new readChunk_result();
+      receiveBase(result, "readChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readChunk failed: unknown result");
+    }
+
+    public RFile readEncodedFile(String filenameToRead) throws SystemException, org.apache.thrift.TException
+    {
+      send_readEncodedFile(filenameToRead);
+      return recv_readEncodedFile();
+    }
+
+    public void send_readEncodedFile(String filenameToRead) throws org.apache.thrift.TException
+    {
+      readEncodedFile_args args = new readEncodedFile_args();
+      args.setFilenameToRead(filenameToRead);
+      sendBase("readEncodedFile", args);
+    }
+
+    public RFile recv_readEncodedFile() throws SystemException, org.apache.thrift.TException
+    {
+      readEncodedFile_result result = new readEncodedFile_result();
+      receiveBase(result, "readEncodedFile");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readEncodedFile failed: unknown result");
+    }
+
+    public RFile readSnapshotChunk(String filename, int version, long offset, int length) throws SystemException, org.apache.thrift.TException
+    {
+      send_readSnapshotChunk(filename, version, offset, length);
+      return recv_readSnapshotChunk();
+    }
+
+    public void send_readSnapshotChunk(String filename, int version, long offset, int length) throws org.apache.thrift.TException
+    {
+      readSnapshotChunk_args args = new readSnapshotChunk_args();
+      args.setFilename(filename);
+      args.setVersion(version);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("readSnapshotChunk", args);
+    }
+
+    public RFile recv_readSnapshotChunk() throws SystemException, org.apache.thrift.TException
+    {
+      readSnapshotChunk_result result = new readSnapshotChunk_result();
+      receiveBase(result, "readSnapshotChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readSnapshotChunk failed: unknown result");
+    }
+
+    public List<FileOpResult> executeTransaction(List<FileOp> fileOps) throws SystemException, org.apache.thrift.TException
+    {
+      send_executeTransaction(fileOps);
+      return recv_executeTransaction();
+    }
+
+    public void send_executeTransaction(List<FileOp> fileOps) throws org.apache.thrift.TException
+    {
+      executeTransaction_args args = new executeTransaction_args();
+      args.setFileOps(fileOps);
+      sendBase("executeTransaction", args);
+    }
+
+    public List<FileOpResult> recv_executeTransaction() throws SystemException, org.apache.thrift.TException
+    {
+      executeTransaction_result result = new executeTransaction_result();
+      receiveBase(result, "executeTransaction");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "executeTransaction failed: unknown result");
+    }
+
+    public List<StatusReport> doVoteBatch(List<FileOp> fileOps, long timestamp) throws SystemException, org.apache.thrift.TException
+    {
+      send_doVoteBatch(fileOps, timestamp);
+      return recv_doVoteBatch();
+    }
+
+    public void send_doVoteBatch(List<FileOp> fileOps, long timestamp) throws org.apache.thrift.TException
+    {
+      doVoteBatch_args args = new doVoteBatch_args();
+      args.setFileOps(fileOps);
+      args.setTimestamp(timestamp);
+      sendBase("doVoteBatch", args);
+    }
+
+    public List<StatusReport> recv_doVoteBatch() throws SystemException, org.apache.thrift.TException
+    {
+      doVoteBatch_result result = new doVoteBatch_result();
+      receiveBase(result, "doVoteBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "doVoteBatch failed: unknown result");
+    }
+
+    public List<FileOpResult> doCommitBatch(List<FileOp> fileOps, long timestamp) throws SystemException, org.apache.thrift.TException
+    {
+      send_doCommitBatch(fileOps, timestamp);
+      return recv_doCommitBatch();
+    }
+
+    public void send_doCommitBatch(List<FileOp> fileOps, long timestamp) throws org.apache.thrift.TException
+    {
+      doCommitBatch_args args = new doCommitBatch_args();
+      args.setFileOps(fileOps);
+      args.setTimestamp(timestamp);
+      sendBase("doCommitBatch", args);
+    }
+
+    public List<FileOpResult> recv_doCommitBatch() throws SystemException, org.apache.thrift.TException
+    {
+      doCommitBatch_result result = new doCommitBatch_result();
+      receiveBase(result, "doCommitBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "doCommitBatch failed: unknown result");
+    }
+
+    public StatusReport doAbortBatch(List<FileOp> fileOps, long timestamp) throws SystemException, org.apache.thrift.TException
+    {
+      send_doAbortBatch(fileOps, timestamp);
+      return recv_doAbortBatch();
+    }
+
+    public void send_doAbortBatch(List<FileOp> fileOps, long timestamp) throws org.apache.thrift.TException
+    {
+      doAbortBatch_args args = new doAbortBatch_args();
+      args.setFileOps(fileOps);
+      args.setTimestamp(timestamp);
+      sendBase("doAbortBatch", args);
+    }
+
+    public StatusReport recv_doAbortBatch() throws SystemException, org.apache.thrift.TException
+    {
+      doAbortBatch_result result = new doAbortBatch_result();
+      receiveBase(result, "doAbortBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "doAbortBatch failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -448,9 +828,9 @@ public class FileStore {
       }
     }
 
-    public void doVote(RFile rFile, FileOperation fileOperation, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void doVote(RFile rFile, FileOperation fileOperation, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      doVote_call method_call = new doVote_call(rFile, fileOperation, resultHandler, this, ___protocolFactory, ___transport);
+      doVote_call method_call = new doVote_call(rFile, fileOperation, timestamp, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
@@ -458,10 +838,12 @@ public class FileStore {
     public static class doVote_call extends org.apache.thrift.async.TAsyncMethodCall {
       private RFile rFile;
       private FileOperation fileOperation;
-      public doVote_call(RFile rFile, FileOperation fileOperation, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private long timestamp;
+      public doVote_call(RFile rFile, FileOperation fileOperation, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.rFile = rFile;
         this.fileOperation = fileOperation;
+        this.timestamp = timestamp;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
@@ -469,6 +851,7 @@ public class FileStore {
         doVote_args args = new doVote_args();
         args.setRFile(rFile);
         args.setFileOperation(fileOperation);
+        args.setTimestamp(timestamp);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -483,24 +866,27 @@ public class FileStore {
       }
     }
 
-    public void doCommitRead(String filenameToRead, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void doCommitRead(String filenameToRead, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      doCommitRead_call method_call = new doCommitRead_call(filenameToRead, resultHandler, this, ___protocolFactory, ___transport);
+      doCommitRead_call method_call = new doCommitRead_call(filenameToRead, timestamp, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
     public static class doCommitRead_call extends org.apache.thrift.async.TAsyncMethodCall {
       private String filenameToRead;
-      public doCommitRead_call(String filenameToRead, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private long timestamp;
+      public doCommitRead_call(String filenameToRead, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.filenameToRead = filenameToRead;
+        this.timestamp = timestamp;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
         prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("doCommitRead", org.apache.thrift.protocol.TMessageType.CALL, 0));
         doCommitRead_args args = new doCommitRead_args();
         args.setFilenameToRead(filenameToRead);
+        args.setTimestamp(timestamp);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -515,24 +901,27 @@ public class FileStore {
       }
     }
 
-    public void doCommitWrite(RFile rFile, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void doCommitWrite(RFile rFile, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      doCommitWrite_call method_call = new doCommitWrite_call(rFile, resultHandler, this, ___protocolFactory, ___transport);
+      doCommitWrite_call method_call = new doCommitWrite_call(rFile, timestamp, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
     public static class doCommitWrite_call extends org.apache.thrift.async.TAsyncMethodCall {
       private RFile rFile;
-      public doCommitWrite_call(RFile rFile, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private long timestamp;
+      public doCommitWrite_call(RFile rFile, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.rFile = rFile;
+        this.timestamp = timestamp;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
         prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("doCommitWrite", org.apache.thrift.protocol.TMessageType.CALL, 0));
         doCommitWrite_args args = new doCommitWrite_args();
         args.setRFile(rFile);
+        args.setTimestamp(timestamp);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -547,24 +936,27 @@ public class FileStore {
       }
     }
 
-    public void doCommitDelete(String filenameToDelete, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void doCommitDelete(String filenameToDelete, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      doCommitDelete_call method_call = new doCommitDelete_call(filenameToDelete, resultHandler, this, ___protocolFactory, ___transport);
+      doCommitDelete_call method_call = new doCommitDelete_call(filenameToDelete, timestamp, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
     public static class doCommitDelete_call extends org.apache.thrift.async.TAsyncMethodCall {
       private String filenameToDelete;
-      public doCommitDelete_call(String filenameToDelete, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private long timestamp;
+      public doCommitDelete_call(String filenameToDelete, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.filenameToDelete = filenameToDelete;
+        this.timestamp = timestamp;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
         prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("doCommitDelete", org.apache.thrift.protocol.TMessageType.CALL, 0));
         doCommitDelete_args args = new doCommitDelete_args();
         args.setFilenameToDelete(filenameToDelete);
+        args.setTimestamp(timestamp);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -579,9 +971,9 @@ public class FileStore {
       }
     }
 
-    public void doAbort(RFile rFile, FileOperation fileOperation, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void doAbort(RFile rFile, FileOperation fileOperation, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      doAbort_call method_call = new doAbort_call(rFile, fileOperation, resultHandler, this, ___protocolFactory, ___transport);
+      doAbort_call method_call = new doAbort_call(rFile, fileOperation, timestamp, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
@@ -589,10 +981,12 @@ public class FileStore {
     public static class doAbort_call extends org.apache.thrift.async.TAsyncMethodCall {
       private RFile rFile;
       private FileOperation fileOperation;
-      public doAbort_call(RFile rFile, FileOperation fileOperation, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private long timestamp;
+      public doAbort_call(RFile rFile, FileOperation fileOperation, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.rFile = rFile;
         this.fileOperation = fileOperation;
+        this.timestamp = timestamp;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
@@ -600,6 +994,7 @@ public class FileStore {
         doAbort_args args = new doAbort_args();
         args.setRFile(rFile);
         args.setFileOperation(fileOperation);
+        args.setTimestamp(timestamp);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -614,9 +1009,9 @@ public class FileStore {
       }
     }
 
-    public void getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void getRecoveryInformation(String filename, FileOperation fileOperation, String hostname, int port, long transactionId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getRecoveryInformation_call method_call = new getRecoveryInformation_call(filename, fileOperation, hostname, port, resultHandler, this, ___protocolFactory, ___transport);
+      getRecoveryInformation_call method_call = new getRecoveryInformation_call(filename, fileOperation, hostname, port, transactionId, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
@@ -626,12 +1021,14 @@ public class FileStore {
       private FileOperation fileOperation;
       private String hostname;
       private int port;
-      public getRecoveryInformation_call(String filename, FileOperation fileOperation, String hostname, int port, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private long transactionId;
+      public getRecoveryInformation_call(String filename, FileOperation fileOperation, String hostname, int port, long transactionId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.filename = filename;
         this.fileOperation = fileOperation;
         this.hostname = hostname;
         this.port = port;
+        this.transactionId = transactionId;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
@@ -641,6 +1038,7 @@ public class FileStore {
         args.setFileOperation(fileOperation);
         args.setHostname(hostname);
         args.setPort(port);
+        args.setTransactionId(transactionId);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -655,273 +1053,464 @@ public class FileStore {
       }
     }
 
-  }
-
-  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
-    public Processor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
-    }
-
-    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
-
-    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      processMap.put("writeFile", new writeFile());
-      processMap.put("readFile", new readFile());
-      processMap.put("deleteFile", new deleteFile());
-      processMap.put("doVote", new doVote());
-      processMap.put("doCommitRead", new doCommitRead());
-      processMap.put("doCommitWrite", new doCommitWrite());
-      processMap.put("doCommitDelete", new doCommitDelete());
-      processMap.put("doAbort", new doAbort());
-      processMap.put("getRecoveryInformation", new getRecoveryInformation());
-      return processMap;
+    public void getRecoveryInformationBatch(List<RecoveryRequest> recoveryRequests, String hostname, int port, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getRecoveryInformationBatch_call method_call = new getRecoveryInformationBatch_call(recoveryRequests, hostname, port, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class writeFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, writeFile_args> {
-      public writeFile() {
-        super("writeFile");
-      }
-
-      public writeFile_args getEmptyArgsInstance() {
-        return new writeFile_args();
+    public static class getRecoveryInformationBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<RecoveryRequest> recoveryRequests;
+      private String hostname;
+      private int port;
+      public getRecoveryInformationBatch_call(List<RecoveryRequest> recoveryRequests, String hostname, int port, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.recoveryRequests = recoveryRequests;
+        this.hostname = hostname;
+        this.port = port;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getRecoveryInformationBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getRecoveryInformationBatch_args args = new getRecoveryInformationBatch_args();
+        args.setRecoveryRequests(recoveryRequests);
+        args.setHostname(hostname);
+        args.setPort(port);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public writeFile_result getResult(I iface, writeFile_args args) throws org.apache.thrift.TException {
-        writeFile_result result = new writeFile_result();
-        try {
-          result.success = iface.writeFile(args.rFile);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public List<RecoveryInformation> getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getRecoveryInformationBatch();
       }
     }
 
-    public static class readFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readFile_args> {
-      public readFile() {
-        super("readFile");
-      }
+    public void beginWrite(String filename, long writeId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      beginWrite_call method_call = new beginWrite_call(filename, writeId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public readFile_args getEmptyArgsInstance() {
-        return new readFile_args();
+    public static class beginWrite_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String filename;
+      private long writeId;
+      public beginWrite_call(String filename, long writeId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filename = filename;
+        this.writeId = writeId;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("beginWrite", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        beginWrite_args args = new beginWrite_args();
+        args.setFilename(filename);
+        args.setWriteId(writeId);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public readFile_result getResult(I iface, readFile_args args) throws org.apache.thrift.TException {
-        readFile_result result = new readFile_result();
-        try {
-          result.success = iface.readFile(args.filenameToRead);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public long getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_beginWrite();
       }
     }
 
-    public static class deleteFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deleteFile_args> {
-      public deleteFile() {
-        super("deleteFile");
-      }
+    public void appendChunk(long writeId, ByteBuffer chunk, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      appendChunk_call method_call = new appendChunk_call(writeId, chunk, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public deleteFile_args getEmptyArgsInstance() {
-        return new deleteFile_args();
+    public static class appendChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long writeId;
+      private ByteBuffer chunk;
+      public appendChunk_call(long writeId, ByteBuffer chunk, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.writeId = writeId;
+        this.chunk = chunk;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("appendChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        appendChunk_args args = new appendChunk_args();
+        args.setWriteId(writeId);
+        args.setChunk(chunk);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public deleteFile_result getResult(I iface, deleteFile_args args) throws org.apache.thrift.TException {
-        deleteFile_result result = new deleteFile_result();
-        try {
-          result.success = iface.deleteFile(args.filenameToDelete);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public StatusReport getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_appendChunk();
       }
     }
 
-    public static class doVote<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doVote_args> {
-      public doVote() {
-        super("doVote");
-      }
+    public void finishWrite(long writeId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      finishWrite_call method_call = new finishWrite_call(writeId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public doVote_args getEmptyArgsInstance() {
-        return new doVote_args();
+    public static class finishWrite_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long writeId;
+      public finishWrite_call(long writeId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.writeId = writeId;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("finishWrite", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        finishWrite_args args = new finishWrite_args();
+        args.setWriteId(writeId);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public doVote_result getResult(I iface, doVote_args args) throws org.apache.thrift.TException {
-        doVote_result result = new doVote_result();
-        try {
-          result.success = iface.doVote(args.rFile, args.fileOperation);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public StatusReport getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_finishWrite();
       }
     }
 
-    public static class doCommitRead<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doCommitRead_args> {
-      public doCommitRead() {
-        super("doCommitRead");
-      }
+    public void abortWrite(long writeId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      abortWrite_call method_call = new abortWrite_call(writeId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public doCommitRead_args getEmptyArgsInstance() {
-        return new doCommitRead_args();
+    public static class abortWrite_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long writeId;
+      public abortWrite_call(long writeId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.writeId = writeId;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("abortWrite", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        abortWrite_args args = new abortWrite_args();
+        args.setWriteId(writeId);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public doCommitRead_result getResult(I iface, doCommitRead_args args) throws org.apache.thrift.TException {
-        doCommitRead_result result = new doCommitRead_result();
-        try {
-          result.success = iface.doCommitRead(args.filenameToRead);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public StatusReport getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_abortWrite();
       }
     }
 
-    public static class doCommitWrite<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doCommitWrite_args> {
-      public doCommitWrite() {
-        super("doCommitWrite");
-      }
+    public void readChunk(String filename, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      readChunk_call method_call = new readChunk_call(filename, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public doCommitWrite_args getEmptyArgsInstance() {
-        return new doCommitWrite_args();
+    public static class readChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String filename;
+      private long offset;
+      private int length;
+      public readChunk_call(String filename, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filename = filename;
+        this.offset = offset;
+        this.length = length;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("readChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        readChunk_args args = new readChunk_args();
+        args.setFilename(filename);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public doCommitWrite_result getResult(I iface, doCommitWrite_args args) throws org.apache.thrift.TException {
-        doCommitWrite_result result = new doCommitWrite_result();
-        try {
-          result.success = iface.doCommitWrite(args.rFile);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public RFile getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_readChunk();
       }
     }
 
-    public static class doCommitDelete<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doCommitDelete_args> {
-      public doCommitDelete() {
-        super("doCommitDelete");
-      }
+    public void readEncodedFile(String filenameToRead, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      readEncodedFile_call method_call = new readEncodedFile_call(filenameToRead, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public doCommitDelete_args getEmptyArgsInstance() {
-        return new doCommitDelete_args();
+    public static class readEncodedFile_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String filenameToRead;
+      public readEncodedFile_call(String filenameToRead, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filenameToRead = filenameToRead;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("readEncodedFile", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        readEncodedFile_args args = new readEncodedFile_args();
+        args.setFilenameToRead(filenameToRead);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public doCommitDelete_result getResult(I iface, doCommitDelete_args args) throws org.apache.thrift.TException {
-        doCommitDelete_result result = new doCommitDelete_result();
-        try {
-          result.success = iface.doCommitDelete(args.filenameToDelete);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public RFile getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_readEncodedFile();
       }
     }
 
-    public static class doAbort<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doAbort_args> {
-      public doAbort() {
-        super("doAbort");
-      }
+    public void readSnapshotChunk(String filename, int version, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      readSnapshotChunk_call method_call = new readSnapshotChunk_call(filename, version, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public doAbort_args getEmptyArgsInstance() {
-        return new doAbort_args();
+    public static class readSnapshotChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String filename;
+      private int version;
+      private long offset;
+      private int length;
+      public readSnapshotChunk_call(String filename, int version, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filename = filename;
+        this.version = version;
+        this.offset = offset;
+        this.length = length;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("readSnapshotChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        readSnapshotChunk_args args = new readSnapshotChunk_args();
+        args.setFilename(filename);
+        args.setVersion(version);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public doAbort_result getResult(I iface, doAbort_args args) throws org.apache.thrift.TException {
-        doAbort_result result = new doAbort_result();
-        try {
-          result.success = iface.doAbort(args.rFile, args.fileOperation);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public RFile getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_readSnapshotChunk();
       }
     }
 
-    public static class getRecoveryInformation<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getRecoveryInformation_args> {
-      public getRecoveryInformation() {
-        super("getRecoveryInformation");
-      }
+    public void executeTransaction(List<FileOp> fileOps, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      executeTransaction_call method_call = new executeTransaction_call(fileOps, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public getRecoveryInformation_args getEmptyArgsInstance() {
-        return new getRecoveryInformation_args();
+    public static class executeTransaction_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<FileOp> fileOps;
+      public executeTransaction_call(List<FileOp> fileOps, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileOps = fileOps;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("executeTransaction", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        executeTransaction_args args = new executeTransaction_args();
+        args.setFileOps(fileOps);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public getRecoveryInformation_result getResult(I iface, getRecoveryInformation_args args) throws org.apache.thrift.TException {
-        getRecoveryInformation_result result = new getRecoveryInformation_result();
-        try {
-          result.success = iface.getRecoveryInformation(args.filename, args.fileOperation, args.hostname, args.port);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public List<FileOpResult> getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_executeTransaction();
       }
     }
 
-  }
-
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
-    public AsyncProcessor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    public void doVoteBatch(List<FileOp> fileOps, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      doVoteBatch_call method_call = new doVoteBatch_call(fileOps, timestamp, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    protected AsyncProcessor(I iface, Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
+    public static class doVoteBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<FileOp> fileOps;
+      private long timestamp;
+      public doVoteBatch_call(List<FileOp> fileOps, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileOps = fileOps;
+        this.timestamp = timestamp;
+      }
 
-    private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      processMap.put("writeFile", new writeFile());
-      processMap.put("readFile", new readFile());
-      processMap.put("deleteFile", new deleteFile());
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("doVoteBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        doVoteBatch_args args = new doVoteBatch_args();
+        args.setFileOps(fileOps);
+        args.setTimestamp(timestamp);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<StatusReport> getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_doVoteBatch();
+      }
+    }
+
+    public void doCommitBatch(List<FileOp> fileOps, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      doCommitBatch_call method_call = new doCommitBatch_call(fileOps, timestamp, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class doCommitBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<FileOp> fileOps;
+      private long timestamp;
+      public doCommitBatch_call(List<FileOp> fileOps, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileOps = fileOps;
+        this.timestamp = timestamp;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("doCommitBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        doCommitBatch_args args = new doCommitBatch_args();
+        args.setFileOps(fileOps);
+        args.setTimestamp(timestamp);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<FileOpResult> getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_doCommitBatch();
+      }
+    }
+
+    public void doAbortBatch(List<FileOp> fileOps, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      doAbortBatch_call method_call = new doAbortBatch_call(fileOps, timestamp, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class doAbortBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<FileOp> fileOps;
+      private long timestamp;
+      public doAbortBatch_call(List<FileOp> fileOps, long timestamp, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileOps = fileOps;
+        this.timestamp = timestamp;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("doAbortBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        doAbortBatch_args args = new doAbortBatch_args();
+        args.setFileOps(fileOps);
+        args.setTimestamp(timestamp);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public StatusReport getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_doAbortBatch();
+      }
+    }
+
+  }
+
+  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
+    }
+
+    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      processMap.put("writeFile", new writeFile());
+      processMap.put("readFile", new readFile());
+      processMap.put("deleteFile", new deleteFile());
       processMap.put("doVote", new doVote());
       processMap.put("doCommitRead", new doCommitRead());
       processMap.put("doCommitWrite", new doCommitWrite());
       processMap.put("doCommitDelete", new doCommitDelete());
       processMap.put("doAbort", new doAbort());
       processMap.put("getRecoveryInformation", new getRecoveryInformation());
+      processMap.put("getRecoveryInformationBatch", new getRecoveryInformationBatch());
+      processMap.put("beginWrite", new beginWrite());
+      processMap.put("appendChunk", new appendChunk());
+      processMap.put("finishWrite", new finishWrite());
+      processMap.put("abortWrite", new abortWrite());
+      processMap.put("readChunk", new readChunk());
+      processMap.put("readEncodedFile", new readEncodedFile());
+      processMap.put("readSnapshotChunk", new readSnapshotChunk());
+      processMap.put("executeTransaction", new executeTransaction());
+      processMap.put("doVoteBatch", new doVoteBatch());
+      processMap.put("doCommitBatch", new doCommitBatch());
+      processMap.put("doAbortBatch", new doAbortBatch());
       return processMap;
     }
 
-    public static class writeFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, writeFile_args, StatusReport> {
+    public static class writeFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, writeFile_args> {
       public writeFile() {
         super("writeFile");
       }
@@ -930,55 +1519,22 @@ public class FileStore {
         return new writeFile_args();
       }
 
-      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<StatusReport>() { 
-          public void onComplete(StatusReport o) {
-            writeFile_result result = new writeFile_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            writeFile_result result = new writeFile_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, writeFile_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
-        iface.writeFile(args.rFile,resultHandler);
+      public writeFile_result getResult(I iface, writeFile_args args) throws org.apache.thrift.TException {
+        writeFile_result result = new writeFile_result();
+        try {
+          result.success = iface.writeFile(args.rFile);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
       }
     }
 
-    public static class readFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readFile_args, RFile> {
+    public static class readFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readFile_args> {
       public readFile() {
         super("readFile");
       }
@@ -987,55 +1543,22 @@ public class FileStore {
         return new readFile_args();
       }
 
-      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<RFile>() { 
-          public void onComplete(RFile o) {
-            readFile_result result = new readFile_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            readFile_result result = new readFile_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, readFile_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
-        iface.readFile(args.filenameToRead,resultHandler);
+      public readFile_result getResult(I iface, readFile_args args) throws org.apache.thrift.TException {
+        readFile_result result = new readFile_result();
+        try {
+          result.success = iface.readFile(args.filenameToRead);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
       }
     }
 
-    public static class deleteFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteFile_args, StatusReport> {
+    public static class deleteFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deleteFile_args> {
       public deleteFile() {
         super("deleteFile");
       }
@@ -1044,55 +1567,22 @@ public class FileStore {
         return new deleteFile_args();
       }
 
-      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<StatusReport>() { 
-          public void onComplete(StatusReport o) {
-            deleteFile_result result = new deleteFile_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            deleteFile_result result = new deleteFile_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, deleteFile_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
-        iface.deleteFile(args.filenameToDelete,resultHandler);
+      public deleteFile_result getResult(I iface, deleteFile_args args) throws org.apache.thrift.TException {
+        deleteFile_result result = new deleteFile_result();
+        try {
+          result.success = iface.deleteFile(args.filenameToDelete);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
       }
     }
 
-    public static class doVote<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doVote_args, StatusReport> {
+    public static class doVote<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doVote_args> {
       public doVote() {
         super("doVote");
       }
@@ -1101,55 +1591,22 @@ public class FileStore {
         return new doVote_args();
       }
 
-      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<StatusReport>() { 
-          public void onComplete(StatusReport o) {
-            doVote_result result = new doVote_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            doVote_result result = new doVote_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, doVote_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
-        iface.doVote(args.rFile, args.fileOperation,resultHandler);
+      public doVote_result getResult(I iface, doVote_args args) throws org.apache.thrift.TException {
+        doVote_result result = new doVote_result();
+        try {
+          result.success = iface.doVote(args.rFile, args.fileOperation, args.timestamp);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
       }
     }
 
-    public static class doCommitRead<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doCommitRead_args, RFile> {
+    public static class doCommitRead<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doCommitRead_args> {
       public doCommitRead() {
         super("doCommitRead");
       }
@@ -1158,55 +1615,22 @@ public class FileStore {
         return new doCommitRead_args();
       }
 
-      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<RFile>() { 
-          public void onComplete(RFile o) {
-            doCommitRead_result result = new doCommitRead_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            doCommitRead_result result = new doCommitRead_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, doCommitRead_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
-        iface.doCommitRead(args.filenameToRead,resultHandler);
+      public doCommitRead_result getResult(I iface, doCommitRead_args args) throws org.apache.thrift.TException {
+        doCommitRead_result result = new doCommitRead_result();
+        try {
+          result.success = iface.doCommitRead(args.filenameToRead, args.timestamp);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
       }
     }
 
-    public static class doCommitWrite<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doCommitWrite_args, StatusReport> {
+    public static class doCommitWrite<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doCommitWrite_args> {
       public doCommitWrite() {
         super("doCommitWrite");
       }
@@ -1215,55 +1639,22 @@ public class FileStore {
         return new doCommitWrite_args();
       }
 
-      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<StatusReport>() { 
-          public void onComplete(StatusReport o) {
-            doCommitWrite_result result = new doCommitWrite_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            doCommitWrite_result result = new doCommitWrite_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, doCommitWrite_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
-        iface.doCommitWrite(args.rFile,resultHandler);
+      public doCommitWrite_result getResult(I iface, doCommitWrite_args args) throws org.apache.thrift.TException {
+        doCommitWrite_result result = new doCommitWrite_result();
+        try {
+          result.success = iface.doCommitWrite(args.rFile, args.timestamp);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
       }
     }
 
-    public static class doCommitDelete<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doCommitDelete_args, StatusReport> {
+    public static class doCommitDelete<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doCommitDelete_args> {
       public doCommitDelete() {
         super("doCommitDelete");
       }
@@ -1272,55 +1663,22 @@ public class FileStore {
         return new doCommitDelete_args();
       }
 
-      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<StatusReport>() { 
-          public void onComplete(StatusReport o) {
-            doCommitDelete_result result = new doCommitDelete_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            doCommitDelete_result result = new doCommitDelete_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, doCommitDelete_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
-        iface.doCommitDelete(args.filenameToDelete,resultHandler);
+      public doCommitDelete_result getResult(I iface, doCommitDelete_args args) throws org.apache.thrift.TException {
+        doCommitDelete_result result = new doCommitDelete_result();
+        try {
+          result.success = iface.doCommitDelete(args.filenameToDelete, args.timestamp);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
       }
     }
 
-    public static class doAbort<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doAbort_args, StatusReport> {
+    public static class doAbort<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doAbort_args> {
       public doAbort() {
         super("doAbort");
       }
@@ -1329,129 +1687,13287 @@ public class FileStore {
         return new doAbort_args();
       }
 
-      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<StatusReport>() { 
-          public void onComplete(StatusReport o) {
-            doAbort_result result = new doAbort_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            doAbort_result result = new doAbort_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public doAbort_result getResult(I iface, doAbort_args args) throws org.apache.thrift.TException {
+        doAbort_result result = new doAbort_result();
+        try {
+          result.success = iface.doAbort(args.rFile, args.fileOperation, args.timestamp);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class getRecoveryInformation<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getRecoveryInformation_args> {
+      public getRecoveryInformation() {
+        super("getRecoveryInformation");
+      }
+
+      public getRecoveryInformation_args getEmptyArgsInstance() {
+        return new getRecoveryInformation_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getRecoveryInformation_result getResult(I iface, getRecoveryInformation_args args) throws org.apache.thrift.TException {
+        getRecoveryInformation_result result = new getRecoveryInformation_result();
+        try {
+          result.success = iface.getRecoveryInformation(args.filename, args.fileOperation, args.hostname, args.port, args.transactionId);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class getRecoveryInformationBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getRecoveryInformationBatch_args> {
+      public getRecoveryInformationBatch() {
+        super("getRecoveryInformationBatch");
+      }
+
+      public getRecoveryInformationBatch_args getEmptyArgsInstance() {
+        return new getRecoveryInformationBatch_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, doAbort_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
-        iface.doAbort(args.rFile, args.fileOperation,resultHandler);
-      }
+      public getRecoveryInformationBatch_result getResult(I iface, getRecoveryInformationBatch_args args) throws org.apache.thrift.TException {
+        getRecoveryInformationBatch_result result = new getRecoveryInformationBatch_result();
+        try {
+          result.success = iface.getRecoveryInformationBatch(args.recoveryRequests, args.hostname, args.port);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class beginWrite<I extends Iface> extends org.apache.thrift.ProcessFunction<I, beginWrite_args> {
+      public beginWrite() {
+        super("beginWrite");
+      }
+
+      public beginWrite_args getEmptyArgsInstance() {
+        return new beginWrite_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public beginWrite_result getResult(I iface, beginWrite_args args) throws org.apache.thrift.TException {
+        beginWrite_result result = new beginWrite_result();
+        try {
+          result.success = iface.beginWrite(args.filename, args.writeId);
+          result.setSuccessIsSet(true);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class appendChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, appendChunk_args> {
+      public appendChunk() {
+        super("appendChunk");
+      }
+
+      public appendChunk_args getEmptyArgsInstance() {
+        return new appendChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public appendChunk_result getResult(I iface, appendChunk_args args) throws org.apache.thrift.TException {
+        appendChunk_result result = new appendChunk_result();
+        try {
+          result.success = iface.appendChunk(args.writeId, args.chunk);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class finishWrite<I extends Iface> extends org.apache.thrift.ProcessFunction<I, finishWrite_args> {
+      public finishWrite() {
+        super("finishWrite");
+      }
+
+      public finishWrite_args getEmptyArgsInstance() {
+        return new finishWrite_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public finishWrite_result getResult(I iface, finishWrite_args args) throws org.apache.thrift.TException {
+        finishWrite_result result = new finishWrite_result();
+        try {
+          result.success = iface.finishWrite(args.writeId);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class abortWrite<I extends Iface> extends org.apache.thrift.ProcessFunction<I, abortWrite_args> {
+      public abortWrite() {
+        super("abortWrite");
+      }
+
+      public abortWrite_args getEmptyArgsInstance() {
+        return new abortWrite_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public abortWrite_result getResult(I iface, abortWrite_args args) throws org.apache.thrift.TException {
+        abortWrite_result result = new abortWrite_result();
+        try {
+          result.success = iface.abortWrite(args.writeId);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class readChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readChunk_args> {
+      public readChunk() {
+        super("readChunk");
+      }
+
+      public readChunk_args getEmptyArgsInstance() {
+        return new readChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public readChunk_result getResult(I iface, readChunk_args args) throws org.apache.thrift.TException {
+        readChunk_result result = new readChunk_result();
+        try {
+          result.success = iface.readChunk(args.filename, args.offset, args.length);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class readEncodedFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readEncodedFile_args> {
+      public readEncodedFile() {
+        super("readEncodedFile");
+      }
+
+      public readEncodedFile_args getEmptyArgsInstance() {
+        return new readEncodedFile_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public readEncodedFile_result getResult(I iface, readEncodedFile_args args) throws org.apache.thrift.TException {
+        readEncodedFile_result result = new readEncodedFile_result();
+        try {
+          result.success = iface.readEncodedFile(args.filenameToRead);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class readSnapshotChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readSnapshotChunk_args> {
+      public readSnapshotChunk() {
+        super("readSnapshotChunk");
+      }
+
+      public readSnapshotChunk_args getEmptyArgsInstance() {
+        return new readSnapshotChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public readSnapshotChunk_result getResult(I iface, readSnapshotChunk_args args) throws org.apache.thrift.TException {
+        readSnapshotChunk_result result = new readSnapshotChunk_result();
+        try {
+          result.success = iface.readSnapshotChunk(args.filename, args.version, args.offset, args.length);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class executeTransaction<I extends Iface> extends org.apache.thrift.ProcessFunction<I, executeTransaction_args> {
+      public executeTransaction() {
+        super("executeTransaction");
+      }
+
+      public executeTransaction_args getEmptyArgsInstance() {
+        return new executeTransaction_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public executeTransaction_result getResult(I iface, executeTransaction_args args) throws org.apache.thrift.TException {
+        executeTransaction_result result = new executeTransaction_result();
+        try {
+          result.success = iface.executeTransaction(args.fileOps);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class doVoteBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doVoteBatch_args> {
+      public doVoteBatch() {
+        super("doVoteBatch");
+      }
+
+      public doVoteBatch_args getEmptyArgsInstance() {
+        return new doVoteBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public doVoteBatch_result getResult(I iface, doVoteBatch_args args) throws org.apache.thrift.TException {
+        doVoteBatch_result result = new doVoteBatch_result();
+        try {
+          result.success = iface.doVoteBatch(args.fileOps, args.timestamp);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class doCommitBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doCommitBatch_args> {
+      public doCommitBatch() {
+        super("doCommitBatch");
+      }
+
+      public doCommitBatch_args getEmptyArgsInstance() {
+        return new doCommitBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public doCommitBatch_result getResult(I iface, doCommitBatch_args args) throws org.apache.thrift.TException {
+        doCommitBatch_result result = new doCommitBatch_result();
+        try {
+          result.success = iface.doCommitBatch(args.fileOps, args.timestamp);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class doAbortBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doAbortBatch_args> {
+      public doAbortBatch() {
+        super("doAbortBatch");
+      }
+
+      public doAbortBatch_args getEmptyArgsInstance() {
+        return new doAbortBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public doAbortBatch_result getResult(I iface, doAbortBatch_args args) throws org.apache.thrift.TException {
+        doAbortBatch_result result = new doAbortBatch_result();
+        try {
+          result.success = iface.doAbortBatch(args.fileOps, args.timestamp);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    }
+
+    protected AsyncProcessor(I iface, Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("writeFile", new writeFile());
+      processMap.put("readFile", new readFile());
+      processMap.put("deleteFile", new deleteFile());
+      processMap.put("doVote", new doVote());
+      processMap.put("doCommitRead", new doCommitRead());
+      processMap.put("doCommitWrite", new doCommitWrite());
+      processMap.put("doCommitDelete", new doCommitDelete());
+      processMap.put("doAbort", new doAbort());
+      processMap.put("getRecoveryInformation", new getRecoveryInformation());
+      processMap.put("getRecoveryInformationBatch", new getRecoveryInformationBatch());
+      processMap.put("beginWrite", new beginWrite());
+      processMap.put("appendChunk", new appendChunk());
+      processMap.put("finishWrite", new finishWrite());
+      processMap.put("abortWrite", new abortWrite());
+      processMap.put("readChunk", new readChunk());
+      processMap.put("readEncodedFile", new readEncodedFile());
+      processMap.put("readSnapshotChunk", new readSnapshotChunk());
+      processMap.put("executeTransaction", new executeTransaction());
+      processMap.put("doVoteBatch", new doVoteBatch());
+      processMap.put("doCommitBatch", new doCommitBatch());
+      processMap.put("doAbortBatch", new doAbortBatch());
+      return processMap;
+    }
+
+    public static class writeFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, writeFile_args, StatusReport> {
+      public writeFile() {
+        super("writeFile");
+      }
+
+      public writeFile_args getEmptyArgsInstance() {
+        return new writeFile_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            writeFile_result result = new writeFile_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            writeFile_result result = new writeFile_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, writeFile_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.writeFile(args.rFile,resultHandler);
+      }
+    }
+
+    public static class readFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readFile_args, RFile> {
+      public readFile() {
+        super("readFile");
+      }
+
+      public readFile_args getEmptyArgsInstance() {
+        return new readFile_args();
+      }
+
+      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RFile>() { 
+          public void onComplete(RFile o) {
+            readFile_result result = new readFile_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            readFile_result result = new readFile_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readFile_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
+        iface.readFile(args.filenameToRead,resultHandler);
+      }
+    }
+
+    public static class deleteFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteFile_args, StatusReport> {
+      public deleteFile() {
+        super("deleteFile");
+      }
+
+      public deleteFile_args getEmptyArgsInstance() {
+        return new deleteFile_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            deleteFile_result result = new deleteFile_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            deleteFile_result result = new deleteFile_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, deleteFile_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.deleteFile(args.filenameToDelete,resultHandler);
+      }
+    }
+
+    public static class doVote<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doVote_args, StatusReport> {
+      public doVote() {
+        super("doVote");
+      }
+
+      public doVote_args getEmptyArgsInstance() {
+        return new doVote_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            doVote_result result = new doVote_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            doVote_result result = new doVote_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, doVote_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.doVote(args.rFile, args.fileOperation, args.timestamp,resultHandler);
+      }
+    }
+
+    public static class doCommitRead<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doCommitRead_args, RFile> {
+      public doCommitRead() {
+        super("doCommitRead");
+      }
+
+      public doCommitRead_args getEmptyArgsInstance() {
+        return new doCommitRead_args();
+      }
+
+      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RFile>() { 
+          public void onComplete(RFile o) {
+            doCommitRead_result result = new doCommitRead_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            doCommitRead_result result = new doCommitRead_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, doCommitRead_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
+        iface.doCommitRead(args.filenameToRead, args.timestamp,resultHandler);
+      }
+    }
+
+    public static class doCommitWrite<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doCommitWrite_args, StatusReport> {
+      public doCommitWrite() {
+        super("doCommitWrite");
+      }
+
+      public doCommitWrite_args getEmptyArgsInstance() {
+        return new doCommitWrite_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            doCommitWrite_result result = new doCommitWrite_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            doCommitWrite_result result = new doCommitWrite_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, doCommitWrite_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.doCommitWrite(args.rFile, args.timestamp,resultHandler);
+      }
+    }
+
+    public static class doCommitDelete<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doCommitDelete_args, StatusReport> {
+      public doCommitDelete() {
+        super("doCommitDelete");
+      }
+
+      public doCommitDelete_args getEmptyArgsInstance() {
+        return new doCommitDelete_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            doCommitDelete_result result = new doCommitDelete_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            doCommitDelete_result result = new doCommitDelete_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, doCommitDelete_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.doCommitDelete(args.filenameToDelete, args.timestamp,resultHandler);
+      }
+    }
+
+    public static class doAbort<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doAbort_args, StatusReport> {
+      public doAbort() {
+        super("doAbort");
+      }
+
+      public doAbort_args getEmptyArgsInstance() {
+        return new doAbort_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            doAbort_result result = new doAbort_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            doAbort_result result = new doAbort_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, doAbort_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.doAbort(args.rFile, args.fileOperation, args.timestamp,resultHandler);
+      }
+    }
+
+    public static class getRecoveryInformation<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getRecoveryInformation_args, RecoveryInformation> {
+      public getRecoveryInformation() {
+        super("getRecoveryInformation");
+      }
+
+      public getRecoveryInformation_args getEmptyArgsInstance() {
+        return new getRecoveryInformation_args();
+      }
+
+      public AsyncMethodCallback<RecoveryInformation> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RecoveryInformation>() { 
+          public void onComplete(RecoveryInformation o) {
+            getRecoveryInformation_result result = new getRecoveryInformation_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getRecoveryInformation_result result = new getRecoveryInformation_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getRecoveryInformation_args args, org.apache.thrift.async.AsyncMethodCallback<RecoveryInformation> resultHandler) throws TException {
+        iface.getRecoveryInformation(args.filename, args.fileOperation, args.hostname, args.port, args.transactionId,resultHandler);
+      }
+    }
+
+    public static class getRecoveryInformationBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getRecoveryInformationBatch_args, List<RecoveryInformation>> {
+      public getRecoveryInformationBatch() {
+        super("getRecoveryInformationBatch");
+      }
+
+      public getRecoveryInformationBatch_args getEmptyArgsInstance() {
+        return new getRecoveryInformationBatch_args();
+      }
+
+      public AsyncMethodCallback<List<RecoveryInformation>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<RecoveryInformation>>() { 
+          public void onComplete(List<RecoveryInformation> o) {
+            getRecoveryInformationBatch_result result = new getRecoveryInformationBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getRecoveryInformationBatch_result result = new getRecoveryInformationBatch_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getRecoveryInformationBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<RecoveryInformation>> resultHandler) throws TException {
+        iface.getRecoveryInformationBatch(args.recoveryRequests, args.hostname, args.port,resultHandler);
+      }
+    }
+
+    public static class beginWrite<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, beginWrite_args, Long> {
+      public beginWrite() {
+        super("beginWrite");
+      }
+
+      public beginWrite_args getEmptyArgsInstance() {
+        return new beginWrite_args();
+      }
+
+      public AsyncMethodCallback<Long> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Long>() { 
+          public void onComplete(Long o) {
+            beginWrite_result result = new beginWrite_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            beginWrite_result result = new beginWrite_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, beginWrite_args args, org.apache.thrift.async.AsyncMethodCallback<Long> resultHandler) throws TException {
+        iface.beginWrite(args.filename, args.writeId,resultHandler);
+      }
+    }
+
+    public static class appendChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, appendChunk_args, StatusReport> {
+      public appendChunk() {
+        super("appendChunk");
+      }
+
+      public appendChunk_args getEmptyArgsInstance() {
+        return new appendChunk_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            appendChunk_result result = new appendChunk_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            appendChunk_result result = new appendChunk_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, appendChunk_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.appendChunk(args.writeId, args.chunk,resultHandler);
+      }
+    }
+
+    public static class finishWrite<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, finishWrite_args, StatusReport> {
+      public finishWrite() {
+        super("finishWrite");
+      }
+
+      public finishWrite_args getEmptyArgsInstance() {
+        return new finishWrite_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            finishWrite_result result = new finishWrite_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            finishWrite_result result = new finishWrite_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, finishWrite_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.finishWrite(args.writeId,resultHandler);
+      }
+    }
+
+    public static class abortWrite<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, abortWrite_args, StatusReport> {
+      public abortWrite() {
+        super("abortWrite");
+      }
+
+      public abortWrite_args getEmptyArgsInstance() {
+        return new abortWrite_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            abortWrite_result result = new abortWrite_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            abortWrite_result result = new abortWrite_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, abortWrite_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.abortWrite(args.writeId,resultHandler);
+      }
+    }
+
+    public static class readChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readChunk_args, RFile> {
+      public readChunk() {
+        super("readChunk");
+      }
+
+      public readChunk_args getEmptyArgsInstance() {
+        return new readChunk_args();
+      }
+
+      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RFile>() { 
+          public void onComplete(RFile o) {
+            readChunk_result result = new readChunk_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            readChunk_result result = new readChunk_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readChunk_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
+        iface.readChunk(args.filename, args.offset, args.length,resultHandler);
+      }
+    }
+
+    public static class readEncodedFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readEncodedFile_args, RFile> {
+      public readEncodedFile() {
+        super("readEncodedFile");
+      }
+
+      public readEncodedFile_args getEmptyArgsInstance() {
+        return new readEncodedFile_args();
+      }
+
+      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RFile>() { 
+          public void onComplete(RFile o) {
+            readEncodedFile_result result = new readEncodedFile_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            readEncodedFile_result result = new readEncodedFile_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readEncodedFile_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
+        iface.readEncodedFile(args.filenameToRead,resultHandler);
+      }
+    }
+
+    public static class readSnapshotChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readSnapshotChunk_args, RFile> {
+      public readSnapshotChunk() {
+        super("readSnapshotChunk");
+      }
+
+      public readSnapshotChunk_args getEmptyArgsInstance() {
+        return new readSnapshotChunk_args();
+      }
+
+      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RFile>() { 
+          public void onComplete(RFile o) {
+            readSnapshotChunk_result result = new readSnapshotChunk_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            readSnapshotChunk_result result = new readSnapshotChunk_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readSnapshotChunk_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
+        iface.readSnapshotChunk(args.filename, args.version, args.offset, args.length,resultHandler);
+      }
+    }
+
+    public static class executeTransaction<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, executeTransaction_args, List<FileOpResult>> {
+      public executeTransaction() {
+        super("executeTransaction");
+      }
+
+      public executeTransaction_args getEmptyArgsInstance() {
+        return new executeTransaction_args();
+      }
+
+      public AsyncMethodCallback<List<FileOpResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<FileOpResult>>() { 
+          public void onComplete(List<FileOpResult> o) {
+            executeTransaction_result result = new executeTransaction_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            executeTransaction_result result = new executeTransaction_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, executeTransaction_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileOpResult>> resultHandler) throws TException {
+        iface.executeTransaction(args.fileOps,resultHandler);
+      }
+    }
+
+    public static class doVoteBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doVoteBatch_args, List<StatusReport>> {
+      public doVoteBatch() {
+        super("doVoteBatch");
+      }
+
+      public doVoteBatch_args getEmptyArgsInstance() {
+        return new doVoteBatch_args();
+      }
+
+      public AsyncMethodCallback<List<StatusReport>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<StatusReport>>() { 
+          public void onComplete(List<StatusReport> o) {
+            doVoteBatch_result result = new doVoteBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            doVoteBatch_result result = new doVoteBatch_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, doVoteBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<StatusReport>> resultHandler) throws TException {
+        iface.doVoteBatch(args.fileOps, args.timestamp,resultHandler);
+      }
+    }
+
+    public static class doCommitBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doCommitBatch_args, List<FileOpResult>> {
+      public doCommitBatch() {
+        super("doCommitBatch");
+      }
+
+      public doCommitBatch_args getEmptyArgsInstance() {
+        return new doCommitBatch_args();
+      }
+
+      public AsyncMethodCallback<List<FileOpResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<FileOpResult>>() { 
+          public void onComplete(List<FileOpResult> o) {
+            doCommitBatch_result result = new doCommitBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            doCommitBatch_result result = new doCommitBatch_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, doCommitBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileOpResult>> resultHandler) throws TException {
+        iface.doCommitBatch(args.fileOps, args.timestamp,resultHandler);
+      }
+    }
+
+    public static class doAbortBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doAbortBatch_args, StatusReport> {
+      public doAbortBatch() {
+        super("doAbortBatch");
+      }
+
+      public doAbortBatch_args getEmptyArgsInstance() {
+        return new doAbortBatch_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            doAbortBatch_result result = new doAbortBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            doAbortBatch_result result = new doAbortBatch_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, doAbortBatch_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.doAbortBatch(args.fileOps, args.timestamp,resultHandler);
+      }
+    }
+
+  }
+
+  public static class writeFile_args implements org.apache.thrift.TBase<writeFile_args, writeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<writeFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeFile_args");
+
+    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new writeFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new writeFile_argsTupleSchemeFactory());
+    }
+
+    public RFile rFile; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      R_FILE((short)1, "rFile");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // R_FILE
+            return R_FILE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeFile_args.class, metaDataMap);
+    }
+
+    public writeFile_args() {
+    }
+
+    public writeFile_args(
+      RFile rFile)
+    {
+      this();
+      this.rFile = rFile;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public writeFile_args(writeFile_args other) {
+      if (other.isSetRFile()) {
+        this.rFile = new RFile(other.rFile);
+      }
+    }
+
+    public writeFile_args deepCopy() {
+      return new writeFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.rFile = null;
+    }
+
+    public RFile getRFile() {
+      return this.rFile;
+    }
+
+    public writeFile_args setRFile(RFile rFile) {
+      this.rFile = rFile;
+      return this;
+    }
+
+    public void unsetRFile() {
+      this.rFile = null;
+    }
+
+    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
+    public boolean isSetRFile() {
+      return this.rFile != null;
+    }
+
+    public void setRFileIsSet(boolean value) {
+      if (!value) {
+        this.rFile = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case R_FILE:
+        if (value == null) {
+          unsetRFile();
+        } else {
+          setRFile((RFile)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case R_FILE:
+        return getRFile();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case R_FILE:
+        return isSetRFile();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof writeFile_args)
+        return this.equals((writeFile_args)that);
+      return false;
+    }
+
+    public boolean equals(writeFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_rFile = true && this.isSetRFile();
+      boolean that_present_rFile = true && that.isSetRFile();
+      if (this_present_rFile || that_present_rFile) {
+        if (!(this_present_rFile && that_present_rFile))
+          return false;
+        if (!this.rFile.equals(that.rFile))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_rFile = true && (isSetRFile());
+      list.add(present_rFile);
+      if (present_rFile)
+        list.add(rFile);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(writeFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRFile()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("writeFile_args(");
+      boolean first = true;
+
+      sb.append("rFile:");
+      if (this.rFile == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.rFile);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (rFile != null) {
+        rFile.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class writeFile_argsStandardSchemeFactory implements SchemeFactory {
+      public writeFile_argsStandardScheme getScheme() {
+        return new writeFile_argsStandardScheme();
+      }
+    }
+
+    private static class writeFile_argsStandardScheme extends StandardScheme<writeFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, writeFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // R_FILE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.rFile = new RFile();
+                struct.rFile.read(iprot);
+                struct.setRFileIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, writeFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.rFile != null) {
+          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
+          struct.rFile.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class writeFile_argsTupleSchemeFactory implements SchemeFactory {
+      public writeFile_argsTupleScheme getScheme() {
+        return new writeFile_argsTupleScheme();
+      }
+    }
+
+    private static class writeFile_argsTupleScheme extends TupleScheme<writeFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, writeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRFile()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRFile()) {
+          struct.rFile.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, writeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.rFile = new RFile();
+          struct.rFile.read(iprot);
+          struct.setRFileIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class writeFile_result implements org.apache.thrift.TBase<writeFile_result, writeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<writeFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new writeFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new writeFile_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeFile_result.class, metaDataMap);
+    }
+
+    public writeFile_result() {
+    }
+
+    public writeFile_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public writeFile_result(writeFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public writeFile_result deepCopy() {
+      return new writeFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public writeFile_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public writeFile_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof writeFile_result)
+        return this.equals((writeFile_result)that);
+      return false;
+    }
+
+    public boolean equals(writeFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(writeFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("writeFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class writeFile_resultStandardSchemeFactory implements SchemeFactory {
+      public writeFile_resultStandardScheme getScheme() {
+        return new writeFile_resultStandardScheme();
+      }
+    }
+
+    private static class writeFile_resultStandardScheme extends StandardScheme<writeFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, writeFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, writeFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class writeFile_resultTupleSchemeFactory implements SchemeFactory {
+      public writeFile_resultTupleScheme getScheme() {
+        return new writeFile_resultTupleScheme();
+      }
+    }
+
+    private static class writeFile_resultTupleScheme extends TupleScheme<writeFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, writeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, writeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readFile_args implements org.apache.thrift.TBase<readFile_args, readFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_TO_READ_FIELD_DESC = new org.apache.thrift.protocol.TField("filenameToRead", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFile_argsTupleSchemeFactory());
+    }
+
+    public String filenameToRead; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME_TO_READ((short)1, "filenameToRead");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME_TO_READ
+            return FILENAME_TO_READ;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME_TO_READ, new org.apache.thrift.meta_data.FieldMetaData("filenameToRead", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_args.class, metaDataMap);
+    }
+
+    public readFile_args() {
+    }
+
+    public readFile_args(
+      String filenameToRead)
+    {
+      this();
+      this.filenameToRead = filenameToRead;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFile_args(readFile_args other) {
+      if (other.isSetFilenameToRead()) {
+        this.filenameToRead = other.filenameToRead;
+      }
+    }
+
+    public readFile_args deepCopy() {
+      return new readFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filenameToRead = null;
+    }
+
+    public String getFilenameToRead() {
+      return this.filenameToRead;
+    }
+
+    public readFile_args setFilenameToRead(String filenameToRead) {
+      this.filenameToRead = filenameToRead;
+      return this;
+    }
+
+    public void unsetFilenameToRead() {
+      this.filenameToRead = null;
+    }
+
+    /** Returns true if field filenameToRead is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilenameToRead() {
+      return this.filenameToRead != null;
+    }
+
+    public void setFilenameToReadIsSet(boolean value) {
+      if (!value) {
+        this.filenameToRead = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME_TO_READ:
+        if (value == null) {
+          unsetFilenameToRead();
+        } else {
+          setFilenameToRead((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME_TO_READ:
+        return getFilenameToRead();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME_TO_READ:
+        return isSetFilenameToRead();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFile_args)
+        return this.equals((readFile_args)that);
+      return false;
+    }
+
+    public boolean equals(readFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filenameToRead = true && this.isSetFilenameToRead();
+      boolean that_present_filenameToRead = true && that.isSetFilenameToRead();
+      if (this_present_filenameToRead || that_present_filenameToRead) {
+        if (!(this_present_filenameToRead && that_present_filenameToRead))
+          return false;
+        if (!this.filenameToRead.equals(that.filenameToRead))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filenameToRead = true && (isSetFilenameToRead());
+      list.add(present_filenameToRead);
+      if (present_filenameToRead)
+        list.add(filenameToRead);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilenameToRead()).compareTo(other.isSetFilenameToRead());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilenameToRead()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filenameToRead, other.filenameToRead);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFile_args(");
+      boolean first = true;
+
+      sb.append("filenameToRead:");
+      if (this.filenameToRead == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filenameToRead);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFile_argsStandardSchemeFactory implements SchemeFactory {
+      public readFile_argsStandardScheme getScheme() {
+        return new readFile_argsStandardScheme();
+      }
+    }
+
+    private static class readFile_argsStandardScheme extends StandardScheme<readFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME_TO_READ
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filenameToRead = iprot.readString();
+                struct.setFilenameToReadIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filenameToRead != null) {
+          oprot.writeFieldBegin(FILENAME_TO_READ_FIELD_DESC);
+          oprot.writeString(struct.filenameToRead);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFile_argsTupleSchemeFactory implements SchemeFactory {
+      public readFile_argsTupleScheme getScheme() {
+        return new readFile_argsTupleScheme();
+      }
+    }
+
+    private static class readFile_argsTupleScheme extends TupleScheme<readFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilenameToRead()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFilenameToRead()) {
+          oprot.writeString(struct.filenameToRead);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.filenameToRead = iprot.readString();
+          struct.setFilenameToReadIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readFile_result implements org.apache.thrift.TBase<readFile_result, readFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFile_resultTupleSchemeFactory());
+    }
+
+    public RFile success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_result.class, metaDataMap);
+    }
+
+    public readFile_result() {
+    }
+
+    public readFile_result(
+      RFile success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFile_result(readFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new RFile(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public readFile_result deepCopy() {
+      return new readFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public RFile getSuccess() {
+      return this.success;
+    }
+
+    public readFile_result setSuccess(RFile success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public readFile_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((RFile)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFile_result)
+        return this.equals((readFile_result)that);
+      return false;
+    }
+
+    public boolean equals(readFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFile_resultStandardSchemeFactory implements SchemeFactory {
+      public readFile_resultStandardScheme getScheme() {
+        return new readFile_resultStandardScheme();
+      }
+    }
+
+    private static class readFile_resultStandardScheme extends StandardScheme<readFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new RFile();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFile_resultTupleSchemeFactory implements SchemeFactory {
+      public readFile_resultTupleScheme getScheme() {
+        return new readFile_resultTupleScheme();
+      }
+    }
+
+    private static class readFile_resultTupleScheme extends TupleScheme<readFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new RFile();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class deleteFile_args implements org.apache.thrift.TBase<deleteFile_args, deleteFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteFile_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_TO_DELETE_FIELD_DESC = new org.apache.thrift.protocol.TField("filenameToDelete", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new deleteFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteFile_argsTupleSchemeFactory());
+    }
+
+    public String filenameToDelete; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME_TO_DELETE((short)1, "filenameToDelete");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME_TO_DELETE
+            return FILENAME_TO_DELETE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME_TO_DELETE, new org.apache.thrift.meta_data.FieldMetaData("filenameToDelete", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteFile_args.class, metaDataMap);
+    }
+
+    public deleteFile_args() {
+    }
+
+    public deleteFile_args(
+      String filenameToDelete)
+    {
+      this();
+      this.filenameToDelete = filenameToDelete;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteFile_args(deleteFile_args other) {
+      if (other.isSetFilenameToDelete()) {
+        this.filenameToDelete = other.filenameToDelete;
+      }
+    }
+
+    public deleteFile_args deepCopy() {
+      return new deleteFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filenameToDelete = null;
+    }
+
+    public String getFilenameToDelete() {
+      return this.filenameToDelete;
+    }
+
+    public deleteFile_args setFilenameToDelete(String filenameToDelete) {
+      this.filenameToDelete = filenameToDelete;
+      return this;
+    }
+
+    public void unsetFilenameToDelete() {
+      this.filenameToDelete = null;
+    }
+
+    /** Returns true if field filenameToDelete is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilenameToDelete() {
+      return this.filenameToDelete != null;
+    }
+
+    public void setFilenameToDeleteIsSet(boolean value) {
+      if (!value) {
+        this.filenameToDelete = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME_TO_DELETE:
+        if (value == null) {
+          unsetFilenameToDelete();
+        } else {
+          setFilenameToDelete((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME_TO_DELETE:
+        return getFilenameToDelete();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME_TO_DELETE:
+        return isSetFilenameToDelete();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof deleteFile_args)
+        return this.equals((deleteFile_args)that);
+      return false;
+    }
+
+    public boolean equals(deleteFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filenameToDelete = true && this.isSetFilenameToDelete();
+      boolean that_present_filenameToDelete = true && that.isSetFilenameToDelete();
+      if (this_present_filenameToDelete || that_present_filenameToDelete) {
+        if (!(this_present_filenameToDelete && that_present_filenameToDelete))
+          return false;
+        if (!this.filenameToDelete.equals(that.filenameToDelete))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filenameToDelete = true && (isSetFilenameToDelete());
+      list.add(present_filenameToDelete);
+      if (present_filenameToDelete)
+        list.add(filenameToDelete);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(deleteFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilenameToDelete()).compareTo(other.isSetFilenameToDelete());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilenameToDelete()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filenameToDelete, other.filenameToDelete);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("deleteFile_args(");
+      boolean first = true;
+
+      sb.append("filenameToDelete:");
+      if (this.filenameToDelete == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filenameToDelete);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteFile_argsStandardSchemeFactory implements SchemeFactory {
+      public deleteFile_argsStandardScheme getScheme() {
+        return new deleteFile_argsStandardScheme();
+      }
+    }
+
+    private static class deleteFile_argsStandardScheme extends StandardScheme<deleteFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME_TO_DELETE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filenameToDelete = iprot.readString();
+                struct.setFilenameToDeleteIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filenameToDelete != null) {
+          oprot.writeFieldBegin(FILENAME_TO_DELETE_FIELD_DESC);
+          oprot.writeString(struct.filenameToDelete);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteFile_argsTupleSchemeFactory implements SchemeFactory {
+      public deleteFile_argsTupleScheme getScheme() {
+        return new deleteFile_argsTupleScheme();
+      }
+    }
+
+    private static class deleteFile_argsTupleScheme extends TupleScheme<deleteFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilenameToDelete()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFilenameToDelete()) {
+          oprot.writeString(struct.filenameToDelete);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.filenameToDelete = iprot.readString();
+          struct.setFilenameToDeleteIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class deleteFile_result implements org.apache.thrift.TBase<deleteFile_result, deleteFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new deleteFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteFile_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteFile_result.class, metaDataMap);
+    }
+
+    public deleteFile_result() {
+    }
+
+    public deleteFile_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteFile_result(deleteFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public deleteFile_result deepCopy() {
+      return new deleteFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public deleteFile_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public deleteFile_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof deleteFile_result)
+        return this.equals((deleteFile_result)that);
+      return false;
+    }
+
+    public boolean equals(deleteFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(deleteFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("deleteFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteFile_resultStandardSchemeFactory implements SchemeFactory {
+      public deleteFile_resultStandardScheme getScheme() {
+        return new deleteFile_resultStandardScheme();
+      }
+    }
+
+    private static class deleteFile_resultStandardScheme extends StandardScheme<deleteFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteFile_resultTupleSchemeFactory implements SchemeFactory {
+      public deleteFile_resultTupleScheme getScheme() {
+        return new deleteFile_resultTupleScheme();
+      }
+    }
+
+    private static class deleteFile_resultTupleScheme extends TupleScheme<deleteFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doVote_args implements org.apache.thrift.TBase<doVote_args, doVote_args._Fields>, java.io.Serializable, Cloneable, Comparable<doVote_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doVote_args");
+
+    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_OPERATION_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOperation", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I64, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doVote_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doVote_argsTupleSchemeFactory());
+    }
+
+    public RFile rFile; // required
+    public FileOperation fileOperation; // required
+    public long timestamp; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      R_FILE((short)1, "rFile"),
+      FILE_OPERATION((short)2, "fileOperation"),
+      TIMESTAMP((short)3, "timestamp");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // R_FILE
+            return R_FILE;
+          case 2: // FILE_OPERATION
+            return FILE_OPERATION;
+          case 3: // TIMESTAMP
+            return TIMESTAMP;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TIMESTAMP_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.FILE_OPERATION, new org.apache.thrift.meta_data.FieldMetaData("fileOperation", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperation.class)));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doVote_args.class, metaDataMap);
+    }
+
+    public doVote_args() {
+    }
+
+    public doVote_args(
+      RFile rFile,
+      FileOperation fileOperation,
+      long timestamp)
+    {
+      this();
+      this.rFile = rFile;
+      this.fileOperation = fileOperation;
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doVote_args(doVote_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetRFile()) {
+        this.rFile = new RFile(other.rFile);
+      }
+      if (other.isSetFileOperation()) {
+        this.fileOperation = new FileOperation(other.fileOperation);
+      }
+      this.timestamp = other.timestamp;
+    }
+
+    public doVote_args deepCopy() {
+      return new doVote_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.rFile = null;
+      this.fileOperation = null;
+      setTimestampIsSet(false);
+      this.timestamp = 0;
+    }
+
+    public RFile getRFile() {
+      return this.rFile;
+    }
+
+    public doVote_args setRFile(RFile rFile) {
+      this.rFile = rFile;
+      return this;
+    }
+
+    public void unsetRFile() {
+      this.rFile = null;
+    }
+
+    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
+    public boolean isSetRFile() {
+      return this.rFile != null;
+    }
+
+    public void setRFileIsSet(boolean value) {
+      if (!value) {
+        this.rFile = null;
+      }
+    }
+
+    public FileOperation getFileOperation() {
+      return this.fileOperation;
+    }
+
+    public doVote_args setFileOperation(FileOperation fileOperation) {
+      this.fileOperation = fileOperation;
+      return this;
+    }
+
+    public void unsetFileOperation() {
+      this.fileOperation = null;
+    }
+
+    /** Returns true if field fileOperation is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileOperation() {
+      return this.fileOperation != null;
+    }
+
+    public void setFileOperationIsSet(boolean value) {
+      if (!value) {
+        this.fileOperation = null;
+      }
+    }
+
+    public long getTimestamp() {
+      return this.timestamp;
+    }
+
+    public doVote_args setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+      return this;
+    }
+
+    public void unsetTimestamp() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    public void setTimestampIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case R_FILE:
+        if (value == null) {
+          unsetRFile();
+        } else {
+          setRFile((RFile)value);
+        }
+        break;
+
+      case FILE_OPERATION:
+        if (value == null) {
+          unsetFileOperation();
+        } else {
+          setFileOperation((FileOperation)value);
+        }
+        break;
+
+      case TIMESTAMP:
+        if (value == null) {
+          unsetTimestamp();
+        } else {
+          setTimestamp((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case R_FILE:
+        return getRFile();
+
+      case FILE_OPERATION:
+        return getFileOperation();
+
+      case TIMESTAMP:
+        return Long.valueOf(getTimestamp());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case R_FILE:
+        return isSetRFile();
+      case FILE_OPERATION:
+        return isSetFileOperation();
+      case TIMESTAMP:
+        return isSetTimestamp();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doVote_args)
+        return this.equals((doVote_args)that);
+      return false;
+    }
+
+    public boolean equals(doVote_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_rFile = true && this.isSetRFile();
+      boolean that_present_rFile = true && that.isSetRFile();
+      if (this_present_rFile || that_present_rFile) {
+        if (!(this_present_rFile && that_present_rFile))
+          return false;
+        if (!this.rFile.equals(that.rFile))
+          return false;
+      }
+
+      boolean this_present_fileOperation = true && this.isSetFileOperation();
+      boolean that_present_fileOperation = true && that.isSetFileOperation();
+      if (this_present_fileOperation || that_present_fileOperation) {
+        if (!(this_present_fileOperation && that_present_fileOperation))
+          return false;
+        if (!this.fileOperation.equals(that.fileOperation))
+          return false;
+      }
+
+      boolean this_present_timestamp = true;
+      boolean that_present_timestamp = true;
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
+          return false;
+        if (this.timestamp != that.timestamp)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_rFile = true && (isSetRFile());
+      list.add(present_rFile);
+      if (present_rFile)
+        list.add(rFile);
+
+      boolean present_fileOperation = true && (isSetFileOperation());
+      list.add(present_fileOperation);
+      if (present_fileOperation)
+        list.add(fileOperation);
+
+      boolean present_timestamp = true;
+      list.add(present_timestamp);
+      if (present_timestamp)
+        list.add(timestamp);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doVote_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRFile()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFileOperation()).compareTo(other.isSetFileOperation());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileOperation()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOperation, other.fileOperation);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(other.isSetTimestamp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doVote_args(");
+      boolean first = true;
+
+      sb.append("rFile:");
+      if (this.rFile == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.rFile);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("fileOperation:");
+      if (this.fileOperation == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fileOperation);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timestamp:");
+      sb.append(this.timestamp);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (rFile != null) {
+        rFile.validate();
+      }
+      if (fileOperation != null) {
+        fileOperation.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doVote_argsStandardSchemeFactory implements SchemeFactory {
+      public doVote_argsStandardScheme getScheme() {
+        return new doVote_argsStandardScheme();
+      }
+    }
+
+    private static class doVote_argsStandardScheme extends StandardScheme<doVote_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doVote_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // R_FILE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.rFile = new RFile();
+                struct.rFile.read(iprot);
+                struct.setRFileIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // FILE_OPERATION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.fileOperation = new FileOperation();
+                struct.fileOperation.read(iprot);
+                struct.setFileOperationIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timestamp = iprot.readI64();
+                struct.setTimestampIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doVote_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.rFile != null) {
+          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
+          struct.rFile.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.fileOperation != null) {
+          oprot.writeFieldBegin(FILE_OPERATION_FIELD_DESC);
+          struct.fileOperation.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+        oprot.writeI64(struct.timestamp);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doVote_argsTupleSchemeFactory implements SchemeFactory {
+      public doVote_argsTupleScheme getScheme() {
+        return new doVote_argsTupleScheme();
+      }
+    }
+
+    private static class doVote_argsTupleScheme extends TupleScheme<doVote_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doVote_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRFile()) {
+          optionals.set(0);
+        }
+        if (struct.isSetFileOperation()) {
+          optionals.set(1);
+        }
+        if (struct.isSetTimestamp()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetRFile()) {
+          struct.rFile.write(oprot);
+        }
+        if (struct.isSetFileOperation()) {
+          struct.fileOperation.write(oprot);
+        }
+        if (struct.isSetTimestamp()) {
+          oprot.writeI64(struct.timestamp);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doVote_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.rFile = new RFile();
+          struct.rFile.read(iprot);
+          struct.setRFileIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.fileOperation = new FileOperation();
+          struct.fileOperation.read(iprot);
+          struct.setFileOperationIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.timestamp = iprot.readI64();
+          struct.setTimestampIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doVote_result implements org.apache.thrift.TBase<doVote_result, doVote_result._Fields>, java.io.Serializable, Cloneable, Comparable<doVote_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doVote_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doVote_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doVote_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doVote_result.class, metaDataMap);
+    }
+
+    public doVote_result() {
+    }
+
+    public doVote_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doVote_result(doVote_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public doVote_result deepCopy() {
+      return new doVote_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public doVote_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public doVote_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doVote_result)
+        return this.equals((doVote_result)that);
+      return false;
+    }
+
+    public boolean equals(doVote_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doVote_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doVote_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doVote_resultStandardSchemeFactory implements SchemeFactory {
+      public doVote_resultStandardScheme getScheme() {
+        return new doVote_resultStandardScheme();
+      }
+    }
+
+    private static class doVote_resultStandardScheme extends StandardScheme<doVote_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doVote_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doVote_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doVote_resultTupleSchemeFactory implements SchemeFactory {
+      public doVote_resultTupleScheme getScheme() {
+        return new doVote_resultTupleScheme();
+      }
+    }
+
+    private static class doVote_resultTupleScheme extends TupleScheme<doVote_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doVote_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doVote_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doCommitRead_args implements org.apache.thrift.TBase<doCommitRead_args, doCommitRead_args._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitRead_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitRead_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_TO_READ_FIELD_DESC = new org.apache.thrift.protocol.TField("filenameToRead", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I64, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doCommitRead_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommitRead_argsTupleSchemeFactory());
+    }
+
+    public String filenameToRead; // required
+    public long timestamp; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME_TO_READ((short)1, "filenameToRead"),
+      TIMESTAMP((short)2, "timestamp");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME_TO_READ
+            return FILENAME_TO_READ;
+          case 2: // TIMESTAMP
+            return TIMESTAMP;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TIMESTAMP_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME_TO_READ, new org.apache.thrift.meta_data.FieldMetaData("filenameToRead", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitRead_args.class, metaDataMap);
+    }
+
+    public doCommitRead_args() {
+    }
+
+    public doCommitRead_args(
+      String filenameToRead,
+      long timestamp)
+    {
+      this();
+      this.filenameToRead = filenameToRead;
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doCommitRead_args(doCommitRead_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFilenameToRead()) {
+        this.filenameToRead = other.filenameToRead;
+      }
+      this.timestamp = other.timestamp;
+    }
+
+    public doCommitRead_args deepCopy() {
+      return new doCommitRead_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filenameToRead = null;
+      setTimestampIsSet(false);
+      this.timestamp = 0;
+    }
+
+    public String getFilenameToRead() {
+      return this.filenameToRead;
+    }
+
+    public doCommitRead_args setFilenameToRead(String filenameToRead) {
+      this.filenameToRead = filenameToRead;
+      return this;
+    }
+
+    public void unsetFilenameToRead() {
+      this.filenameToRead = null;
+    }
+
+    /** Returns true if field filenameToRead is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilenameToRead() {
+      return this.filenameToRead != null;
+    }
+
+    public void setFilenameToReadIsSet(boolean value) {
+      if (!value) {
+        this.filenameToRead = null;
+      }
+    }
+
+    public long getTimestamp() {
+      return this.timestamp;
+    }
+
+    public doCommitRead_args setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+      return this;
+    }
+
+    public void unsetTimestamp() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    public void setTimestampIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME_TO_READ:
+        if (value == null) {
+          unsetFilenameToRead();
+        } else {
+          setFilenameToRead((String)value);
+        }
+        break;
+
+      case TIMESTAMP:
+        if (value == null) {
+          unsetTimestamp();
+        } else {
+          setTimestamp((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME_TO_READ:
+        return getFilenameToRead();
+
+      case TIMESTAMP:
+        return Long.valueOf(getTimestamp());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME_TO_READ:
+        return isSetFilenameToRead();
+      case TIMESTAMP:
+        return isSetTimestamp();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doCommitRead_args)
+        return this.equals((doCommitRead_args)that);
+      return false;
+    }
+
+    public boolean equals(doCommitRead_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filenameToRead = true && this.isSetFilenameToRead();
+      boolean that_present_filenameToRead = true && that.isSetFilenameToRead();
+      if (this_present_filenameToRead || that_present_filenameToRead) {
+        if (!(this_present_filenameToRead && that_present_filenameToRead))
+          return false;
+        if (!this.filenameToRead.equals(that.filenameToRead))
+          return false;
+      }
+
+      boolean this_present_timestamp = true;
+      boolean that_present_timestamp = true;
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
+          return false;
+        if (this.timestamp != that.timestamp)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filenameToRead = true && (isSetFilenameToRead());
+      list.add(present_filenameToRead);
+      if (present_filenameToRead)
+        list.add(filenameToRead);
+
+      boolean present_timestamp = true;
+      list.add(present_timestamp);
+      if (present_timestamp)
+        list.add(timestamp);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doCommitRead_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilenameToRead()).compareTo(other.isSetFilenameToRead());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilenameToRead()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filenameToRead, other.filenameToRead);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(other.isSetTimestamp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doCommitRead_args(");
+      boolean first = true;
+
+      sb.append("filenameToRead:");
+      if (this.filenameToRead == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filenameToRead);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timestamp:");
+      sb.append(this.timestamp);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doCommitRead_argsStandardSchemeFactory implements SchemeFactory {
+      public doCommitRead_argsStandardScheme getScheme() {
+        return new doCommitRead_argsStandardScheme();
+      }
+    }
+
+    private static class doCommitRead_argsStandardScheme extends StandardScheme<doCommitRead_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitRead_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME_TO_READ
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filenameToRead = iprot.readString();
+                struct.setFilenameToReadIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timestamp = iprot.readI64();
+                struct.setTimestampIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitRead_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filenameToRead != null) {
+          oprot.writeFieldBegin(FILENAME_TO_READ_FIELD_DESC);
+          oprot.writeString(struct.filenameToRead);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+        oprot.writeI64(struct.timestamp);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doCommitRead_argsTupleSchemeFactory implements SchemeFactory {
+      public doCommitRead_argsTupleScheme getScheme() {
+        return new doCommitRead_argsTupleScheme();
+      }
+    }
+
+    private static class doCommitRead_argsTupleScheme extends TupleScheme<doCommitRead_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitRead_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilenameToRead()) {
+          optionals.set(0);
+        }
+        if (struct.isSetTimestamp()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFilenameToRead()) {
+          oprot.writeString(struct.filenameToRead);
+        }
+        if (struct.isSetTimestamp()) {
+          oprot.writeI64(struct.timestamp);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitRead_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.filenameToRead = iprot.readString();
+          struct.setFilenameToReadIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.timestamp = iprot.readI64();
+          struct.setTimestampIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doCommitRead_result implements org.apache.thrift.TBase<doCommitRead_result, doCommitRead_result._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitRead_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitRead_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doCommitRead_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommitRead_resultTupleSchemeFactory());
+    }
+
+    public RFile success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitRead_result.class, metaDataMap);
+    }
+
+    public doCommitRead_result() {
+    }
+
+    public doCommitRead_result(
+      RFile success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doCommitRead_result(doCommitRead_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new RFile(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public doCommitRead_result deepCopy() {
+      return new doCommitRead_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public RFile getSuccess() {
+      return this.success;
+    }
+
+    public doCommitRead_result setSuccess(RFile success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public doCommitRead_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((RFile)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doCommitRead_result)
+        return this.equals((doCommitRead_result)that);
+      return false;
+    }
+
+    public boolean equals(doCommitRead_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doCommitRead_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doCommitRead_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doCommitRead_resultStandardSchemeFactory implements SchemeFactory {
+      public doCommitRead_resultStandardScheme getScheme() {
+        return new doCommitRead_resultStandardScheme();
+      }
+    }
+
+    private static class doCommitRead_resultStandardScheme extends StandardScheme<doCommitRead_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitRead_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new RFile();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitRead_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doCommitRead_resultTupleSchemeFactory implements SchemeFactory {
+      public doCommitRead_resultTupleScheme getScheme() {
+        return new doCommitRead_resultTupleScheme();
+      }
+    }
+
+    private static class doCommitRead_resultTupleScheme extends TupleScheme<doCommitRead_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitRead_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitRead_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new RFile();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doCommitWrite_args implements org.apache.thrift.TBase<doCommitWrite_args, doCommitWrite_args._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitWrite_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitWrite_args");
+
+    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I64, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doCommitWrite_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommitWrite_argsTupleSchemeFactory());
+    }
+
+    public RFile rFile; // required
+    public long timestamp; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      R_FILE((short)1, "rFile"),
+      TIMESTAMP((short)2, "timestamp");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // R_FILE
+            return R_FILE;
+          case 2: // TIMESTAMP
+            return TIMESTAMP;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TIMESTAMP_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitWrite_args.class, metaDataMap);
+    }
+
+    public doCommitWrite_args() {
+    }
+
+    public doCommitWrite_args(
+      RFile rFile,
+      long timestamp)
+    {
+      this();
+      this.rFile = rFile;
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doCommitWrite_args(doCommitWrite_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetRFile()) {
+        this.rFile = new RFile(other.rFile);
+      }
+      this.timestamp = other.timestamp;
+    }
+
+    public doCommitWrite_args deepCopy() {
+      return new doCommitWrite_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.rFile = null;
+      setTimestampIsSet(false);
+      this.timestamp = 0;
+    }
+
+    public RFile getRFile() {
+      return this.rFile;
+    }
+
+    public doCommitWrite_args setRFile(RFile rFile) {
+      this.rFile = rFile;
+      return this;
+    }
+
+    public void unsetRFile() {
+      this.rFile = null;
+    }
+
+    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
+    public boolean isSetRFile() {
+      return this.rFile != null;
+    }
+
+    public void setRFileIsSet(boolean value) {
+      if (!value) {
+        this.rFile = null;
+      }
+    }
+
+    public long getTimestamp() {
+      return this.timestamp;
+    }
+
+    public doCommitWrite_args setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+      return this;
+    }
+
+    public void unsetTimestamp() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    public void setTimestampIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case R_FILE:
+        if (value == null) {
+          unsetRFile();
+        } else {
+          setRFile((RFile)value);
+        }
+        break;
+
+      case TIMESTAMP:
+        if (value == null) {
+          unsetTimestamp();
+        } else {
+          setTimestamp((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case R_FILE:
+        return getRFile();
+
+      case TIMESTAMP:
+        return Long.valueOf(getTimestamp());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case R_FILE:
+        return isSetRFile();
+      case TIMESTAMP:
+        return isSetTimestamp();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doCommitWrite_args)
+        return this.equals((doCommitWrite_args)that);
+      return false;
+    }
+
+    public boolean equals(doCommitWrite_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_rFile = true && this.isSetRFile();
+      boolean that_present_rFile = true && that.isSetRFile();
+      if (this_present_rFile || that_present_rFile) {
+        if (!(this_present_rFile && that_present_rFile))
+          return false;
+        if (!this.rFile.equals(that.rFile))
+          return false;
+      }
+
+      boolean this_present_timestamp = true;
+      boolean that_present_timestamp = true;
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
+          return false;
+        if (this.timestamp != that.timestamp)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_rFile = true && (isSetRFile());
+      list.add(present_rFile);
+      if (present_rFile)
+        list.add(rFile);
+
+      boolean present_timestamp = true;
+      list.add(present_timestamp);
+      if (present_timestamp)
+        list.add(timestamp);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doCommitWrite_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRFile()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(other.isSetTimestamp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doCommitWrite_args(");
+      boolean first = true;
+
+      sb.append("rFile:");
+      if (this.rFile == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.rFile);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timestamp:");
+      sb.append(this.timestamp);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (rFile != null) {
+        rFile.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doCommitWrite_argsStandardSchemeFactory implements SchemeFactory {
+      public doCommitWrite_argsStandardScheme getScheme() {
+        return new doCommitWrite_argsStandardScheme();
+      }
+    }
+
+    private static class doCommitWrite_argsStandardScheme extends StandardScheme<doCommitWrite_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitWrite_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // R_FILE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.rFile = new RFile();
+                struct.rFile.read(iprot);
+                struct.setRFileIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timestamp = iprot.readI64();
+                struct.setTimestampIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitWrite_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.rFile != null) {
+          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
+          struct.rFile.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+        oprot.writeI64(struct.timestamp);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doCommitWrite_argsTupleSchemeFactory implements SchemeFactory {
+      public doCommitWrite_argsTupleScheme getScheme() {
+        return new doCommitWrite_argsTupleScheme();
+      }
+    }
+
+    private static class doCommitWrite_argsTupleScheme extends TupleScheme<doCommitWrite_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitWrite_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRFile()) {
+          optionals.set(0);
+        }
+        if (struct.isSetTimestamp()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetRFile()) {
+          struct.rFile.write(oprot);
+        }
+        if (struct.isSetTimestamp()) {
+          oprot.writeI64(struct.timestamp);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitWrite_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.rFile = new RFile();
+          struct.rFile.read(iprot);
+          struct.setRFileIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.timestamp = iprot.readI64();
+          struct.setTimestampIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doCommitWrite_result implements org.apache.thrift.TBase<doCommitWrite_result, doCommitWrite_result._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitWrite_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitWrite_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doCommitWrite_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommitWrite_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitWrite_result.class, metaDataMap);
+    }
+
+    public doCommitWrite_result() {
+    }
+
+    public doCommitWrite_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doCommitWrite_result(doCommitWrite_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public doCommitWrite_result deepCopy() {
+      return new doCommitWrite_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public doCommitWrite_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public doCommitWrite_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doCommitWrite_result)
+        return this.equals((doCommitWrite_result)that);
+      return false;
+    }
+
+    public boolean equals(doCommitWrite_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doCommitWrite_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doCommitWrite_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doCommitWrite_resultStandardSchemeFactory implements SchemeFactory {
+      public doCommitWrite_resultStandardScheme getScheme() {
+        return new doCommitWrite_resultStandardScheme();
+      }
+    }
+
+    private static class doCommitWrite_resultStandardScheme extends StandardScheme<doCommitWrite_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitWrite_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitWrite_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doCommitWrite_resultTupleSchemeFactory implements SchemeFactory {
+      public doCommitWrite_resultTupleScheme getScheme() {
+        return new doCommitWrite_resultTupleScheme();
+      }
+    }
+
+    private static class doCommitWrite_resultTupleScheme extends TupleScheme<doCommitWrite_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitWrite_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitWrite_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doCommitDelete_args implements org.apache.thrift.TBase<doCommitDelete_args, doCommitDelete_args._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitDelete_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitDelete_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_TO_DELETE_FIELD_DESC = new org.apache.thrift.protocol.TField("filenameToDelete", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I64, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doCommitDelete_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommitDelete_argsTupleSchemeFactory());
+    }
+
+    public String filenameToDelete; // required
+    public long timestamp; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME_TO_DELETE((short)1, "filenameToDelete"),
+      TIMESTAMP((short)2, "timestamp");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME_TO_DELETE
+            return FILENAME_TO_DELETE;
+          case 2: // TIMESTAMP
+            return TIMESTAMP;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TIMESTAMP_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME_TO_DELETE, new org.apache.thrift.meta_data.FieldMetaData("filenameToDelete", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitDelete_args.class, metaDataMap);
+    }
+
+    public doCommitDelete_args() {
+    }
+
+    public doCommitDelete_args(
+      String filenameToDelete,
+      long timestamp)
+    {
+      this();
+      this.filenameToDelete = filenameToDelete;
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doCommitDelete_args(doCommitDelete_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFilenameToDelete()) {
+        this.filenameToDelete = other.filenameToDelete;
+      }
+      this.timestamp = other.timestamp;
+    }
+
+    public doCommitDelete_args deepCopy() {
+      return new doCommitDelete_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filenameToDelete = null;
+      setTimestampIsSet(false);
+      this.timestamp = 0;
+    }
+
+    public String getFilenameToDelete() {
+      return this.filenameToDelete;
+    }
+
+    public doCommitDelete_args setFilenameToDelete(String filenameToDelete) {
+      this.filenameToDelete = filenameToDelete;
+      return this;
+    }
+
+    public void unsetFilenameToDelete() {
+      this.filenameToDelete = null;
+    }
+
+    /** Returns true if field filenameToDelete is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilenameToDelete() {
+      return this.filenameToDelete != null;
+    }
+
+    public void setFilenameToDeleteIsSet(boolean value) {
+      if (!value) {
+        this.filenameToDelete = null;
+      }
+    }
+
+    public long getTimestamp() {
+      return this.timestamp;
+    }
+
+    public doCommitDelete_args setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+      return this;
+    }
+
+    public void unsetTimestamp() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    public void setTimestampIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME_TO_DELETE:
+        if (value == null) {
+          unsetFilenameToDelete();
+        } else {
+          setFilenameToDelete((String)value);
+        }
+        break;
+
+      case TIMESTAMP:
+        if (value == null) {
+          unsetTimestamp();
+        } else {
+          setTimestamp((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME_TO_DELETE:
+        return getFilenameToDelete();
+
+      case TIMESTAMP:
+        return Long.valueOf(getTimestamp());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME_TO_DELETE:
+        return isSetFilenameToDelete();
+      case TIMESTAMP:
+        return isSetTimestamp();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doCommitDelete_args)
+        return this.equals((doCommitDelete_args)that);
+      return false;
+    }
+
+    public boolean equals(doCommitDelete_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filenameToDelete = true && this.isSetFilenameToDelete();
+      boolean that_present_filenameToDelete = true && that.isSetFilenameToDelete();
+      if (this_present_filenameToDelete || that_present_filenameToDelete) {
+        if (!(this_present_filenameToDelete && that_present_filenameToDelete))
+          return false;
+        if (!this.filenameToDelete.equals(that.filenameToDelete))
+          return false;
+      }
+
+      boolean this_present_timestamp = true;
+      boolean that_present_timestamp = true;
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
+          return false;
+        if (this.timestamp != that.timestamp)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filenameToDelete = true && (isSetFilenameToDelete());
+      list.add(present_filenameToDelete);
+      if (present_filenameToDelete)
+        list.add(filenameToDelete);
+
+      boolean present_timestamp = true;
+      list.add(present_timestamp);
+      if (present_timestamp)
+        list.add(timestamp);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doCommitDelete_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilenameToDelete()).compareTo(other.isSetFilenameToDelete());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilenameToDelete()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filenameToDelete, other.filenameToDelete);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(other.isSetTimestamp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doCommitDelete_args(");
+      boolean first = true;
+
+      sb.append("filenameToDelete:");
+      if (this.filenameToDelete == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filenameToDelete);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timestamp:");
+      sb.append(this.timestamp);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doCommitDelete_argsStandardSchemeFactory implements SchemeFactory {
+      public doCommitDelete_argsStandardScheme getScheme() {
+        return new doCommitDelete_argsStandardScheme();
+      }
+    }
+
+    private static class doCommitDelete_argsStandardScheme extends StandardScheme<doCommitDelete_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitDelete_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME_TO_DELETE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filenameToDelete = iprot.readString();
+                struct.setFilenameToDeleteIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timestamp = iprot.readI64();
+                struct.setTimestampIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitDelete_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filenameToDelete != null) {
+          oprot.writeFieldBegin(FILENAME_TO_DELETE_FIELD_DESC);
+          oprot.writeString(struct.filenameToDelete);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+        oprot.writeI64(struct.timestamp);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doCommitDelete_argsTupleSchemeFactory implements SchemeFactory {
+      public doCommitDelete_argsTupleScheme getScheme() {
+        return new doCommitDelete_argsTupleScheme();
+      }
+    }
+
+    private static class doCommitDelete_argsTupleScheme extends TupleScheme<doCommitDelete_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitDelete_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilenameToDelete()) {
+          optionals.set(0);
+        }
+        if (struct.isSetTimestamp()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFilenameToDelete()) {
+          oprot.writeString(struct.filenameToDelete);
+        }
+        if (struct.isSetTimestamp()) {
+          oprot.writeI64(struct.timestamp);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitDelete_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.filenameToDelete = iprot.readString();
+          struct.setFilenameToDeleteIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.timestamp = iprot.readI64();
+          struct.setTimestampIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doCommitDelete_result implements org.apache.thrift.TBase<doCommitDelete_result, doCommitDelete_result._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitDelete_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitDelete_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doCommitDelete_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommitDelete_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitDelete_result.class, metaDataMap);
+    }
+
+    public doCommitDelete_result() {
+    }
+
+    public doCommitDelete_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doCommitDelete_result(doCommitDelete_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public doCommitDelete_result deepCopy() {
+      return new doCommitDelete_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public doCommitDelete_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public doCommitDelete_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doCommitDelete_result)
+        return this.equals((doCommitDelete_result)that);
+      return false;
+    }
+
+    public boolean equals(doCommitDelete_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doCommitDelete_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doCommitDelete_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doCommitDelete_resultStandardSchemeFactory implements SchemeFactory {
+      public doCommitDelete_resultStandardScheme getScheme() {
+        return new doCommitDelete_resultStandardScheme();
+      }
+    }
+
+    private static class doCommitDelete_resultStandardScheme extends StandardScheme<doCommitDelete_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitDelete_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitDelete_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doCommitDelete_resultTupleSchemeFactory implements SchemeFactory {
+      public doCommitDelete_resultTupleScheme getScheme() {
+        return new doCommitDelete_resultTupleScheme();
+      }
+    }
+
+    private static class doCommitDelete_resultTupleScheme extends TupleScheme<doCommitDelete_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitDelete_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitDelete_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doAbort_args implements org.apache.thrift.TBase<doAbort_args, doAbort_args._Fields>, java.io.Serializable, Cloneable, Comparable<doAbort_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbort_args");
+
+    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_OPERATION_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOperation", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I64, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doAbort_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doAbort_argsTupleSchemeFactory());
+    }
+
+    public RFile rFile; // required
+    public FileOperation fileOperation; // required
+    public long timestamp; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      R_FILE((short)1, "rFile"),
+      FILE_OPERATION((short)2, "fileOperation"),
+      TIMESTAMP((short)3, "timestamp");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // R_FILE
+            return R_FILE;
+          case 2: // FILE_OPERATION
+            return FILE_OPERATION;
+          case 3: // TIMESTAMP
+            return TIMESTAMP;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TIMESTAMP_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.FILE_OPERATION, new org.apache.thrift.meta_data.FieldMetaData("fileOperation", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperation.class)));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbort_args.class, metaDataMap);
+    }
+
+    public doAbort_args() {
+    }
+
+    public doAbort_args(
+      RFile rFile,
+      FileOperation fileOperation,
+      long timestamp)
+    {
+      this();
+      this.rFile = rFile;
+      this.fileOperation = fileOperation;
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doAbort_args(doAbort_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetRFile()) {
+        this.rFile = new RFile(other.rFile);
+      }
+      if (other.isSetFileOperation()) {
+        this.fileOperation = new FileOperation(other.fileOperation);
+      }
+      this.timestamp = other.timestamp;
+    }
+
+    public doAbort_args deepCopy() {
+      return new doAbort_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.rFile = null;
+      this.fileOperation = null;
+      setTimestampIsSet(false);
+      this.timestamp = 0;
+    }
+
+    public RFile getRFile() {
+      return this.rFile;
+    }
+
+    public doAbort_args setRFile(RFile rFile) {
+      this.rFile = rFile;
+      return this;
+    }
+
+    public void unsetRFile() {
+      this.rFile = null;
+    }
+
+    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
+    public boolean isSetRFile() {
+      return this.rFile != null;
+    }
+
+    public void setRFileIsSet(boolean value) {
+      if (!value) {
+        this.rFile = null;
+      }
+    }
+
+    public FileOperation getFileOperation() {
+      return this.fileOperation;
+    }
+
+    public doAbort_args setFileOperation(FileOperation fileOperation) {
+      this.fileOperation = fileOperation;
+      return this;
+    }
+
+    public void unsetFileOperation() {
+      this.fileOperation = null;
+    }
+
+    /** Returns true if field fileOperation is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileOperation() {
+      return this.fileOperation != null;
+    }
+
+    public void setFileOperationIsSet(boolean value) {
+      if (!value) {
+        this.fileOperation = null;
+      }
+    }
+
+    public long getTimestamp() {
+      return this.timestamp;
+    }
+
+    public doAbort_args setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+      return this;
+    }
+
+    public void unsetTimestamp() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    public void setTimestampIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case R_FILE:
+        if (value == null) {
+          unsetRFile();
+        } else {
+          setRFile((RFile)value);
+        }
+        break;
+
+      case FILE_OPERATION:
+        if (value == null) {
+          unsetFileOperation();
+        } else {
+          setFileOperation((FileOperation)value);
+        }
+        break;
+
+      case TIMESTAMP:
+        if (value == null) {
+          unsetTimestamp();
+        } else {
+          setTimestamp((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case R_FILE:
+        return getRFile();
+
+      case FILE_OPERATION:
+        return getFileOperation();
+
+      case TIMESTAMP:
+        return Long.valueOf(getTimestamp());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case R_FILE:
+        return isSetRFile();
+      case FILE_OPERATION:
+        return isSetFileOperation();
+      case TIMESTAMP:
+        return isSetTimestamp();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doAbort_args)
+        return this.equals((doAbort_args)that);
+      return false;
+    }
+
+    public boolean equals(doAbort_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_rFile = true && this.isSetRFile();
+      boolean that_present_rFile = true && that.isSetRFile();
+      if (this_present_rFile || that_present_rFile) {
+        if (!(this_present_rFile && that_present_rFile))
+          return false;
+        if (!this.rFile.equals(that.rFile))
+          return false;
+      }
+
+      boolean this_present_fileOperation = true && this.isSetFileOperation();
+      boolean that_present_fileOperation = true && that.isSetFileOperation();
+      if (this_present_fileOperation || that_present_fileOperation) {
+        if (!(this_present_fileOperation && that_present_fileOperation))
+          return false;
+        if (!this.fileOperation.equals(that.fileOperation))
+          return false;
+      }
+
+      boolean this_present_timestamp = true;
+      boolean that_present_timestamp = true;
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
+          return false;
+        if (this.timestamp != that.timestamp)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_rFile = true && (isSetRFile());
+      list.add(present_rFile);
+      if (present_rFile)
+        list.add(rFile);
+
+      boolean present_fileOperation = true && (isSetFileOperation());
+      list.add(present_fileOperation);
+      if (present_fileOperation)
+        list.add(fileOperation);
+
+      boolean present_timestamp = true;
+      list.add(present_timestamp);
+      if (present_timestamp)
+        list.add(timestamp);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doAbort_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRFile()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFileOperation()).compareTo(other.isSetFileOperation());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileOperation()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOperation, other.fileOperation);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(other.isSetTimestamp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doAbort_args(");
+      boolean first = true;
+
+      sb.append("rFile:");
+      if (this.rFile == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.rFile);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("fileOperation:");
+      if (this.fileOperation == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fileOperation);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timestamp:");
+      sb.append(this.timestamp);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (rFile != null) {
+        rFile.validate();
+      }
+      if (fileOperation != null) {
+        fileOperation.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doAbort_argsStandardSchemeFactory implements SchemeFactory {
+      public doAbort_argsStandardScheme getScheme() {
+        return new doAbort_argsStandardScheme();
+      }
+    }
+
+    private static class doAbort_argsStandardScheme extends StandardScheme<doAbort_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbort_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // R_FILE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.rFile = new RFile();
+                struct.rFile.read(iprot);
+                struct.setRFileIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // FILE_OPERATION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.fileOperation = new FileOperation();
+                struct.fileOperation.read(iprot);
+                struct.setFileOperationIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timestamp = iprot.readI64();
+                struct.setTimestampIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbort_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.rFile != null) {
+          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
+          struct.rFile.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.fileOperation != null) {
+          oprot.writeFieldBegin(FILE_OPERATION_FIELD_DESC);
+          struct.fileOperation.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+        oprot.writeI64(struct.timestamp);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doAbort_argsTupleSchemeFactory implements SchemeFactory {
+      public doAbort_argsTupleScheme getScheme() {
+        return new doAbort_argsTupleScheme();
+      }
+    }
+
+    private static class doAbort_argsTupleScheme extends TupleScheme<doAbort_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doAbort_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRFile()) {
+          optionals.set(0);
+        }
+        if (struct.isSetFileOperation()) {
+          optionals.set(1);
+        }
+        if (struct.isSetTimestamp()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetRFile()) {
+          struct.rFile.write(oprot);
+        }
+        if (struct.isSetFileOperation()) {
+          struct.fileOperation.write(oprot);
+        }
+        if (struct.isSetTimestamp()) {
+          oprot.writeI64(struct.timestamp);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doAbort_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.rFile = new RFile();
+          struct.rFile.read(iprot);
+          struct.setRFileIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.fileOperation = new FileOperation();
+          struct.fileOperation.read(iprot);
+          struct.setFileOperationIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.timestamp = iprot.readI64();
+          struct.setTimestampIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class doAbort_result implements org.apache.thrift.TBase<doAbort_result, doAbort_result._Fields>, java.io.Serializable, Cloneable, Comparable<doAbort_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbort_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new doAbort_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doAbort_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbort_result.class, metaDataMap);
+    }
+
+    public doAbort_result() {
+    }
+
+    public doAbort_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public doAbort_result(doAbort_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public doAbort_result deepCopy() {
+      return new doAbort_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public doAbort_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public doAbort_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof doAbort_result)
+        return this.equals((doAbort_result)that);
+      return false;
+    }
+
+    public boolean equals(doAbort_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(doAbort_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("doAbort_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class doAbort_resultStandardSchemeFactory implements SchemeFactory {
+      public doAbort_resultStandardScheme getScheme() {
+        return new doAbort_resultStandardScheme();
+      }
+    }
+
+    private static class doAbort_resultStandardScheme extends StandardScheme<doAbort_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbort_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbort_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class doAbort_resultTupleSchemeFactory implements SchemeFactory {
+      public doAbort_resultTupleScheme getScheme() {
+        return new doAbort_resultTupleScheme();
+      }
+    }
+
+    private static class doAbort_resultTupleScheme extends TupleScheme<doAbort_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, doAbort_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, doAbort_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getRecoveryInformation_args implements org.apache.thrift.TBase<getRecoveryInformation_args, getRecoveryInformation_args._Fields>, java.io.Serializable, Cloneable, Comparable<getRecoveryInformation_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getRecoveryInformation_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_OPERATION_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOperation", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField HOSTNAME_FIELD_DESC = new org.apache.thrift.protocol.TField("hostname", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField PORT_FIELD_DESC = new org.apache.thrift.protocol.TField("port", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField TRANSACTION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("transactionId", org.apache.thrift.protocol.TType.I64, (short)5);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getRecoveryInformation_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getRecoveryInformation_argsTupleSchemeFactory());
+    }
+
+    public String filename; // required
+    public FileOperation fileOperation; // required
+    public String hostname; // required
+    public int port; // required
+    public long transactionId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME((short)1, "filename"),
+      FILE_OPERATION((short)2, "fileOperation"),
+      HOSTNAME((short)3, "hostname"),
+      PORT((short)4, "port"),
+      TRANSACTION_ID((short)5, "transactionId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // FILE_OPERATION
+            return FILE_OPERATION;
+          case 3: // HOSTNAME
+            return HOSTNAME;
+          case 4: // PORT
+            return PORT;
+          case 5: // TRANSACTION_ID
+            return TRANSACTION_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PORT_ISSET_ID = 0;
+    private static final int __TRANSACTIONID_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.FILE_OPERATION, new org.apache.thrift.meta_data.FieldMetaData("fileOperation", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperation.class)));
+      tmpMap.put(_Fields.HOSTNAME, new org.apache.thrift.meta_data.FieldMetaData("hostname", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PORT, new org.apache.thrift.meta_data.FieldMetaData("port", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.TRANSACTION_ID, new org.apache.thrift.meta_data.FieldMetaData("transactionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getRecoveryInformation_args.class, metaDataMap);
+    }
+
+    public getRecoveryInformation_args() {
+    }
+
+    public getRecoveryInformation_args(
+      String filename,
+      FileOperation fileOperation,
+      String hostname,
+      int port,
+      long transactionId)
+    {
+      this();
+      this.filename = filename;
+      this.fileOperation = fileOperation;
+      this.hostname = hostname;
+      this.port = port;
+      setPortIsSet(true);
+      this.transactionId = transactionId;
+      setTransactionIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getRecoveryInformation_args(getRecoveryInformation_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
+      }
+      if (other.isSetFileOperation()) {
+        this.fileOperation = new FileOperation(other.fileOperation);
+      }
+      if (other.isSetHostname()) {
+        this.hostname = other.hostname;
+      }
+      this.port = other.port;
+      this.transactionId = other.transactionId;
+    }
+
+    public getRecoveryInformation_args deepCopy() {
+      return new getRecoveryInformation_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filename = null;
+      this.fileOperation = null;
+      this.hostname = null;
+      setPortIsSet(false);
+      this.port = 0;
+      setTransactionIdIsSet(false);
+      this.transactionId = 0;
+    }
+
+    public String getFilename() {
+      return this.filename;
+    }
+
+    public getRecoveryInformation_args setFilename(String filename) {
+      this.filename = filename;
+      return this;
+    }
+
+    public void unsetFilename() {
+      this.filename = null;
+    }
+
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
+    }
+
+    public void setFilenameIsSet(boolean value) {
+      if (!value) {
+        this.filename = null;
+      }
+    }
+
+    public FileOperation getFileOperation() {
+      return this.fileOperation;
+    }
+
+    public getRecoveryInformation_args setFileOperation(FileOperation fileOperation) {
+      this.fileOperation = fileOperation;
+      return this;
+    }
+
+    public void unsetFileOperation() {
+      this.fileOperation = null;
+    }
+
+    /** Returns true if field fileOperation is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileOperation() {
+      return this.fileOperation != null;
+    }
+
+    public void setFileOperationIsSet(boolean value) {
+      if (!value) {
+        this.fileOperation = null;
+      }
+    }
+
+    public String getHostname() {
+      return this.hostname;
+    }
+
+    public getRecoveryInformation_args setHostname(String hostname) {
+      this.hostname = hostname;
+      return this;
+    }
+
+    public void unsetHostname() {
+      this.hostname = null;
+    }
+
+    /** Returns true if field hostname is set (has been assigned a value) and false otherwise */
+    public boolean isSetHostname() {
+      return this.hostname != null;
+    }
+
+    public void setHostnameIsSet(boolean value) {
+      if (!value) {
+        this.hostname = null;
+      }
+    }
+
+    public int getPort() {
+      return this.port;
+    }
+
+    public getRecoveryInformation_args setPort(int port) {
+      this.port = port;
+      setPortIsSet(true);
+      return this;
+    }
+
+    public void unsetPort() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PORT_ISSET_ID);
+    }
+
+    /** Returns true if field port is set (has been assigned a value) and false otherwise */
+    public boolean isSetPort() {
+      return EncodingUtils.testBit(__isset_bitfield, __PORT_ISSET_ID);
+    }
+
+    public void setPortIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PORT_ISSET_ID, value);
+    }
+
+    public long getTransactionId() {
+      return this.transactionId;
+    }
+
+    public getRecoveryInformation_args setTransactionId(long transactionId) {
+      this.transactionId = transactionId;
+      setTransactionIdIsSet(true);
+      return this;
+    }
+
+    public void unsetTransactionId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TRANSACTIONID_ISSET_ID);
+    }
+
+    /** Returns true if field transactionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransactionId() {
+      return EncodingUtils.testBit(__isset_bitfield, __TRANSACTIONID_ISSET_ID);
+    }
+
+    public void setTransactionIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TRANSACTIONID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME:
+        if (value == null) {
+          unsetFilename();
+        } else {
+          setFilename((String)value);
+        }
+        break;
+
+      case FILE_OPERATION:
+        if (value == null) {
+          unsetFileOperation();
+        } else {
+          setFileOperation((FileOperation)value);
+        }
+        break;
+
+      case HOSTNAME:
+        if (value == null) {
+          unsetHostname();
+        } else {
+          setHostname((String)value);
+        }
+        break;
+
+      case PORT:
+        if (value == null) {
+          unsetPort();
+        } else {
+          setPort((Integer)value);
+        }
+        break;
+
+      case TRANSACTION_ID:
+        if (value == null) {
+          unsetTransactionId();
+        } else {
+          setTransactionId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME:
+        return getFilename();
+
+      case FILE_OPERATION:
+        return getFileOperation();
+
+      case HOSTNAME:
+        return getHostname();
+
+      case PORT:
+        return Integer.valueOf(getPort());
+
+      case TRANSACTION_ID:
+        return Long.valueOf(getTransactionId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME:
+        return isSetFilename();
+      case FILE_OPERATION:
+        return isSetFileOperation();
+      case HOSTNAME:
+        return isSetHostname();
+      case PORT:
+        return isSetPort();
+      case TRANSACTION_ID:
+        return isSetTransactionId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getRecoveryInformation_args)
+        return this.equals((getRecoveryInformation_args)that);
+      return false;
+    }
+
+    public boolean equals(getRecoveryInformation_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
+          return false;
+        if (!this.filename.equals(that.filename))
+          return false;
+      }
+
+      boolean this_present_fileOperation = true && this.isSetFileOperation();
+      boolean that_present_fileOperation = true && that.isSetFileOperation();
+      if (this_present_fileOperation || that_present_fileOperation) {
+        if (!(this_present_fileOperation && that_present_fileOperation))
+          return false;
+        if (!this.fileOperation.equals(that.fileOperation))
+          return false;
+      }
+
+      boolean this_present_hostname = true && this.isSetHostname();
+      boolean that_present_hostname = true && that.isSetHostname();
+      if (this_present_hostname || that_present_hostname) {
+        if (!(this_present_hostname && that_present_hostname))
+          return false;
+        if (!this.hostname.equals(that.hostname))
+          return false;
+      }
+
+      boolean this_present_port = true;
+      boolean that_present_port = true;
+      if (this_present_port || that_present_port) {
+        if (!(this_present_port && that_present_port))
+          return false;
+        if (this.port != that.port)
+          return false;
+      }
+
+      boolean this_present_transactionId = true;
+      boolean that_present_transactionId = true;
+      if (this_present_transactionId || that_present_transactionId) {
+        if (!(this_present_transactionId && that_present_transactionId))
+          return false;
+        if (this.transactionId != that.transactionId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
+
+      boolean present_fileOperation = true && (isSetFileOperation());
+      list.add(present_fileOperation);
+      if (present_fileOperation)
+        list.add(fileOperation);
+
+      boolean present_hostname = true && (isSetHostname());
+      list.add(present_hostname);
+      if (present_hostname)
+        list.add(hostname);
+
+      boolean present_port = true;
+      list.add(present_port);
+      if (present_port)
+        list.add(port);
+
+      boolean present_transactionId = true;
+      list.add(present_transactionId);
+      if (present_transactionId)
+        list.add(transactionId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getRecoveryInformation_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFileOperation()).compareTo(other.isSetFileOperation());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileOperation()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOperation, other.fileOperation);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetHostname()).compareTo(other.isSetHostname());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetHostname()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.hostname, other.hostname);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPort()).compareTo(other.isSetPort());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPort()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.port, other.port);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTransactionId()).compareTo(other.isSetTransactionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTransactionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transactionId, other.transactionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getRecoveryInformation_args(");
+      boolean first = true;
+
+      sb.append("filename:");
+      if (this.filename == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filename);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("fileOperation:");
+      if (this.fileOperation == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fileOperation);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("hostname:");
+      if (this.hostname == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.hostname);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("port:");
+      sb.append(this.port);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("transactionId:");
+      sb.append(this.transactionId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (fileOperation != null) {
+        fileOperation.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getRecoveryInformation_argsStandardSchemeFactory implements SchemeFactory {
+      public getRecoveryInformation_argsStandardScheme getScheme() {
+        return new getRecoveryInformation_argsStandardScheme();
+      }
+    }
+
+    private static class getRecoveryInformation_argsStandardScheme extends StandardScheme<getRecoveryInformation_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getRecoveryInformation_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // FILE_OPERATION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.fileOperation = new FileOperation();
+                struct.fileOperation.read(iprot);
+                struct.setFileOperationIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // HOSTNAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.hostname = iprot.readString();
+                struct.setHostnameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // PORT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.port = iprot.readI32();
+                struct.setPortIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // TRANSACTION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.transactionId = iprot.readI64();
+                struct.setTransactionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getRecoveryInformation_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
+          oprot.writeFieldEnd();
+        }
+        if (struct.fileOperation != null) {
+          oprot.writeFieldBegin(FILE_OPERATION_FIELD_DESC);
+          struct.fileOperation.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.hostname != null) {
+          oprot.writeFieldBegin(HOSTNAME_FIELD_DESC);
+          oprot.writeString(struct.hostname);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PORT_FIELD_DESC);
+        oprot.writeI32(struct.port);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(TRANSACTION_ID_FIELD_DESC);
+        oprot.writeI64(struct.transactionId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getRecoveryInformation_argsTupleSchemeFactory implements SchemeFactory {
+      public getRecoveryInformation_argsTupleScheme getScheme() {
+        return new getRecoveryInformation_argsTupleScheme();
+      }
+    }
+
+    private static class getRecoveryInformation_argsTupleScheme extends TupleScheme<getRecoveryInformation_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformation_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilename()) {
+          optionals.set(0);
+        }
+        if (struct.isSetFileOperation()) {
+          optionals.set(1);
+        }
+        if (struct.isSetHostname()) {
+          optionals.set(2);
+        }
+        if (struct.isSetPort()) {
+          optionals.set(3);
+        }
+        if (struct.isSetTransactionId()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
+        }
+        if (struct.isSetFileOperation()) {
+          struct.fileOperation.write(oprot);
+        }
+        if (struct.isSetHostname()) {
+          oprot.writeString(struct.hostname);
+        }
+        if (struct.isSetPort()) {
+          oprot.writeI32(struct.port);
+        }
+        if (struct.isSetTransactionId()) {
+          oprot.writeI64(struct.transactionId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformation_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.fileOperation = new FileOperation();
+          struct.fileOperation.read(iprot);
+          struct.setFileOperationIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.hostname = iprot.readString();
+          struct.setHostnameIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.port = iprot.readI32();
+          struct.setPortIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.transactionId = iprot.readI64();
+          struct.setTransactionIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getRecoveryInformation_result implements org.apache.thrift.TBase<getRecoveryInformation_result, getRecoveryInformation_result._Fields>, java.io.Serializable, Cloneable, Comparable<getRecoveryInformation_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getRecoveryInformation_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getRecoveryInformation_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getRecoveryInformation_resultTupleSchemeFactory());
+    }
+
+    public RecoveryInformation success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RecoveryInformation.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getRecoveryInformation_result.class, metaDataMap);
+    }
+
+    public getRecoveryInformation_result() {
+    }
+
+    public getRecoveryInformation_result(
+      RecoveryInformation success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getRecoveryInformation_result(getRecoveryInformation_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new RecoveryInformation(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public getRecoveryInformation_result deepCopy() {
+      return new getRecoveryInformation_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public RecoveryInformation getSuccess() {
+      return this.success;
+    }
+
+    public getRecoveryInformation_result setSuccess(RecoveryInformation success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public getRecoveryInformation_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((RecoveryInformation)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getRecoveryInformation_result)
+        return this.equals((getRecoveryInformation_result)that);
+      return false;
+    }
+
+    public boolean equals(getRecoveryInformation_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getRecoveryInformation_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getRecoveryInformation_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getRecoveryInformation_resultStandardSchemeFactory implements SchemeFactory {
+      public getRecoveryInformation_resultStandardScheme getScheme() {
+        return new getRecoveryInformation_resultStandardScheme();
+      }
+    }
+
+    private static class getRecoveryInformation_resultStandardScheme extends StandardScheme<getRecoveryInformation_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getRecoveryInformation_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new RecoveryInformation();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getRecoveryInformation_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getRecoveryInformation_resultTupleSchemeFactory implements SchemeFactory {
+      public getRecoveryInformation_resultTupleScheme getScheme() {
+        return new getRecoveryInformation_resultTupleScheme();
+      }
+    }
+
+    private static class getRecoveryInformation_resultTupleScheme extends TupleScheme<getRecoveryInformation_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformation_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformation_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new RecoveryInformation();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getRecoveryInformationBatch_args implements org.apache.thrift.TBase<getRecoveryInformationBatch_args, getRecoveryInformationBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<getRecoveryInformationBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getRecoveryInformationBatch_args");
+
+    private static final org.apache.thrift.protocol.TField RECOVERY_REQUESTS_FIELD_DESC = new org.apache.thrift.protocol.TField("recoveryRequests", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField HOSTNAME_FIELD_DESC = new org.apache.thrift.protocol.TField("hostname", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PORT_FIELD_DESC = new org.apache.thrift.protocol.TField("port", org.apache.thrift.protocol.TType.I32, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getRecoveryInformationBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getRecoveryInformationBatch_argsTupleSchemeFactory());
+    }
+
+    public List<RecoveryRequest> recoveryRequests; // required
+    public String hostname; // required
+    public int port; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      RECOVERY_REQUESTS((short)1, "recoveryRequests"),
+      HOSTNAME((short)2, "hostname"),
+      PORT((short)3, "port");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // RECOVERY_REQUESTS
+            return RECOVERY_REQUESTS;
+          case 2: // HOSTNAME
+            return HOSTNAME;
+          case 3: // PORT
+            return PORT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PORT_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.RECOVERY_REQUESTS, new org.apache.thrift.meta_data.FieldMetaData("recoveryRequests", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RecoveryRequest.class))));
+      tmpMap.put(_Fields.HOSTNAME, new org.apache.thrift.meta_data.FieldMetaData("hostname", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PORT, new org.apache.thrift.meta_data.FieldMetaData("port", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getRecoveryInformationBatch_args.class, metaDataMap);
+    }
+
+    public getRecoveryInformationBatch_args() {
+    }
+
+    public getRecoveryInformationBatch_args(
+      List<RecoveryRequest> recoveryRequests,
+      String hostname,
+      int port)
+    {
+      this();
+      this.recoveryRequests = recoveryRequests;
+      this.hostname = hostname;
+      this.port = port;
+      setPortIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getRecoveryInformationBatch_args(getRecoveryInformationBatch_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetRecoveryRequests()) {
+        List<RecoveryRequest> __this__recoveryRequests = new ArrayList<RecoveryRequest>(other.recoveryRequests.size());
+        for (RecoveryRequest other_element : other.recoveryRequests) {
+          __this__recoveryRequests.add(new RecoveryRequest(other_element));
+        }
+        this.recoveryRequests = __this__recoveryRequests;
+      }
+      if (other.isSetHostname()) {
+        this.hostname = other.hostname;
+      }
+      this.port = other.port;
+    }
+
+    public getRecoveryInformationBatch_args deepCopy() {
+      return new getRecoveryInformationBatch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.recoveryRequests = null;
+      this.hostname = null;
+      setPortIsSet(false);
+      this.port = 0;
+    }
+
+    public int getRecoveryRequestsSize() {
+      return (this.recoveryRequests == null) ? 0 : this.recoveryRequests.size();
+    }
+
+    public java.util.Iterator<RecoveryRequest> getRecoveryRequestsIterator() {
+      return (this.recoveryRequests == null) ? null : this.recoveryRequests.iterator();
+    }
+
+    public void addToRecoveryRequests(RecoveryRequest elem) {
+      if (this.recoveryRequests == null) {
+        this.recoveryRequests = new ArrayList<RecoveryRequest>();
+      }
+      this.recoveryRequests.add(elem);
+    }
+
+    public List<RecoveryRequest> getRecoveryRequests() {
+      return this.recoveryRequests;
+    }
+
+    public getRecoveryInformationBatch_args setRecoveryRequests(List<RecoveryRequest> recoveryRequests) {
+      this.recoveryRequests = recoveryRequests;
+      return this;
+    }
+
+    public void unsetRecoveryRequests() {
+      this.recoveryRequests = null;
+    }
+
+    /** Returns true if field recoveryRequests is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecoveryRequests() {
+      return this.recoveryRequests != null;
+    }
+
+    public void setRecoveryRequestsIsSet(boolean value) {
+      if (!value) {
+        this.recoveryRequests = null;
+      }
+    }
+
+    public String getHostname() {
+      return this.hostname;
+    }
+
+    public getRecoveryInformationBatch_args setHostname(String hostname) {
+      this.hostname = hostname;
+      return this;
+    }
+
+    public void unsetHostname() {
+      this.hostname = null;
+    }
+
+    /** Returns true if field hostname is set (has been assigned a value) and false otherwise */
+    public boolean isSetHostname() {
+      return this.hostname != null;
+    }
+
+    public void setHostnameIsSet(boolean value) {
+      if (!value) {
+        this.hostname = null;
+      }
+    }
+
+    public int getPort() {
+      return this.port;
+    }
+
+    public getRecoveryInformationBatch_args setPort(int port) {
+      this.port = port;
+      setPortIsSet(true);
+      return this;
+    }
+
+    public void unsetPort() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PORT_ISSET_ID);
+    }
+
+    /** Returns true if field port is set (has been assigned a value) and false otherwise */
+    public boolean isSetPort() {
+      return EncodingUtils.testBit(__isset_bitfield, __PORT_ISSET_ID);
+    }
+
+    public void setPortIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PORT_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case RECOVERY_REQUESTS:
+        if (value == null) {
+          unsetRecoveryRequests();
+        } else {
+          setRecoveryRequests((List<RecoveryRequest>)value);
+        }
+        break;
+
+      case HOSTNAME:
+        if (value == null) {
+          unsetHostname();
+        } else {
+          setHostname((String)value);
+        }
+        break;
+
+      case PORT:
+        if (value == null) {
+          unsetPort();
+        } else {
+          setPort((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case RECOVERY_REQUESTS:
+        return getRecoveryRequests();
+
+      case HOSTNAME:
+        return getHostname();
+
+      case PORT:
+        return Integer.valueOf(getPort());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case RECOVERY_REQUESTS:
+        return isSetRecoveryRequests();
+      case HOSTNAME:
+        return isSetHostname();
+      case PORT:
+        return isSetPort();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getRecoveryInformationBatch_args)
+        return this.equals((getRecoveryInformationBatch_args)that);
+      return false;
+    }
+
+    public boolean equals(getRecoveryInformationBatch_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_recoveryRequests = true && this.isSetRecoveryRequests();
+      boolean that_present_recoveryRequests = true && that.isSetRecoveryRequests();
+      if (this_present_recoveryRequests || that_present_recoveryRequests) {
+        if (!(this_present_recoveryRequests && that_present_recoveryRequests))
+          return false;
+        if (!this.recoveryRequests.equals(that.recoveryRequests))
+          return false;
+      }
+
+      boolean this_present_hostname = true && this.isSetHostname();
+      boolean that_present_hostname = true && that.isSetHostname();
+      if (this_present_hostname || that_present_hostname) {
+        if (!(this_present_hostname && that_present_hostname))
+          return false;
+        if (!this.hostname.equals(that.hostname))
+          return false;
+      }
+
+      boolean this_present_port = true;
+      boolean that_present_port = true;
+      if (this_present_port || that_present_port) {
+        if (!(this_present_port && that_present_port))
+          return false;
+        if (this.port != that.port)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_recoveryRequests = true && (isSetRecoveryRequests());
+      list.add(present_recoveryRequests);
+      if (present_recoveryRequests)
+        list.add(recoveryRequests);
+
+      boolean present_hostname = true && (isSetHostname());
+      list.add(present_hostname);
+      if (present_hostname)
+        list.add(hostname);
+
+      boolean present_port = true;
+      list.add(present_port);
+      if (present_port)
+        list.add(port);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getRecoveryInformationBatch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRecoveryRequests()).compareTo(other.isSetRecoveryRequests());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecoveryRequests()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recoveryRequests, other.recoveryRequests);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetHostname()).compareTo(other.isSetHostname());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetHostname()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.hostname, other.hostname);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPort()).compareTo(other.isSetPort());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPort()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.port, other.port);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getRecoveryInformationBatch_args(");
+      boolean first = true;
+
+      sb.append("recoveryRequests:");
+      if (this.recoveryRequests == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.recoveryRequests);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("hostname:");
+      if (this.hostname == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.hostname);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("port:");
+      sb.append(this.port);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getRecoveryInformationBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public getRecoveryInformationBatch_argsStandardScheme getScheme() {
+        return new getRecoveryInformationBatch_argsStandardScheme();
+      }
+    }
+
+    private static class getRecoveryInformationBatch_argsStandardScheme extends StandardScheme<getRecoveryInformationBatch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getRecoveryInformationBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // RECOVERY_REQUESTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.recoveryRequests = new ArrayList<RecoveryRequest>(_list0.size);
+                  RecoveryRequest _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = new RecoveryRequest();
+                    _elem1.read(iprot);
+                    struct.recoveryRequests.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRecoveryRequestsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // HOSTNAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.hostname = iprot.readString();
+                struct.setHostnameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PORT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.port = iprot.readI32();
+                struct.setPortIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getRecoveryInformationBatch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.recoveryRequests != null) {
+          oprot.writeFieldBegin(RECOVERY_REQUESTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.recoveryRequests.size()));
+            for (RecoveryRequest _iter3 : struct.recoveryRequests)
+            {
+              _iter3.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.hostname != null) {
+          oprot.writeFieldBegin(HOSTNAME_FIELD_DESC);
+          oprot.writeString(struct.hostname);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PORT_FIELD_DESC);
+        oprot.writeI32(struct.port);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getRecoveryInformationBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public getRecoveryInformationBatch_argsTupleScheme getScheme() {
+        return new getRecoveryInformationBatch_argsTupleScheme();
+      }
+    }
+
+    private static class getRecoveryInformationBatch_argsTupleScheme extends TupleScheme<getRecoveryInformationBatch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformationBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRecoveryRequests()) {
+          optionals.set(0);
+        }
+        if (struct.isSetHostname()) {
+          optionals.set(1);
+        }
+        if (struct.isSetPort()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetRecoveryRequests()) {
+          {
+            oprot.writeI32(struct.recoveryRequests.size());
+            for (RecoveryRequest _iter4 : struct.recoveryRequests)
+            {
+              _iter4.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetHostname()) {
+          oprot.writeString(struct.hostname);
+        }
+        if (struct.isSetPort()) {
+          oprot.writeI32(struct.port);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformationBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.recoveryRequests = new ArrayList<RecoveryRequest>(_list5.size);
+            RecoveryRequest _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = new RecoveryRequest();
+              _elem6.read(iprot);
+              struct.recoveryRequests.add(_elem6);
+            }
+          }
+          struct.setRecoveryRequestsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.hostname = iprot.readString();
+          struct.setHostnameIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.port = iprot.readI32();
+          struct.setPortIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getRecoveryInformationBatch_result implements org.apache.thrift.TBase<getRecoveryInformationBatch_result, getRecoveryInformationBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<getRecoveryInformationBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getRecoveryInformationBatch_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getRecoveryInformationBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getRecoveryInformationBatch_resultTupleSchemeFactory());
+    }
+
+    public List<RecoveryInformation> success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RecoveryInformation.class))));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getRecoveryInformationBatch_result.class, metaDataMap);
+    }
+
+    public getRecoveryInformationBatch_result() {
+    }
+
+    public getRecoveryInformationBatch_result(
+      List<RecoveryInformation> success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getRecoveryInformationBatch_result(getRecoveryInformationBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<RecoveryInformation> __this__success = new ArrayList<RecoveryInformation>(other.success.size());
+        for (RecoveryInformation other_element : other.success) {
+          __this__success.add(new RecoveryInformation(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public getRecoveryInformationBatch_result deepCopy() {
+      return new getRecoveryInformationBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<RecoveryInformation> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(RecoveryInformation elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<RecoveryInformation>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<RecoveryInformation> getSuccess() {
+      return this.success;
+    }
+
+    public getRecoveryInformationBatch_result setSuccess(List<RecoveryInformation> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public getRecoveryInformationBatch_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<RecoveryInformation>)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getRecoveryInformationBatch_result)
+        return this.equals((getRecoveryInformationBatch_result)that);
+      return false;
+    }
+
+    public boolean equals(getRecoveryInformationBatch_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getRecoveryInformationBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getRecoveryInformationBatch_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getRecoveryInformationBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public getRecoveryInformationBatch_resultStandardScheme getScheme() {
+        return new getRecoveryInformationBatch_resultStandardScheme();
+      }
+    }
+
+    private static class getRecoveryInformationBatch_resultStandardScheme extends StandardScheme<getRecoveryInformationBatch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getRecoveryInformationBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.success = new ArrayList<RecoveryInformation>(_list8.size);
+                  RecoveryInformation _elem9;
+                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  {
+                    _elem9 = new RecoveryInformation();
+                    _elem9.read(iprot);
+                    struct.success.add(_elem9);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getRecoveryInformationBatch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (RecoveryInformation _iter11 : struct.success)
+            {
+              _iter11.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getRecoveryInformationBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public getRecoveryInformationBatch_resultTupleScheme getScheme() {
+        return new getRecoveryInformationBatch_resultTupleScheme();
+      }
+    }
+
+    private static class getRecoveryInformationBatch_resultTupleScheme extends TupleScheme<getRecoveryInformationBatch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformationBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (RecoveryInformation _iter12 : struct.success)
+            {
+              _iter12.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformationBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<RecoveryInformation>(_list13.size);
+            RecoveryInformation _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = new RecoveryInformation();
+              _elem14.read(iprot);
+              struct.success.add(_elem14);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class beginWrite_args implements org.apache.thrift.TBase<beginWrite_args, beginWrite_args._Fields>, java.io.Serializable, Cloneable, Comparable<beginWrite_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("beginWrite_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField WRITE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("writeId", org.apache.thrift.protocol.TType.I64, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new beginWrite_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new beginWrite_argsTupleSchemeFactory());
+    }
+
+    public String filename; // required
+    public long writeId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME((short)1, "filename"),
+      WRITE_ID((short)2, "writeId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // WRITE_ID
+            return WRITE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __WRITEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.WRITE_ID, new org.apache.thrift.meta_data.FieldMetaData("writeId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(beginWrite_args.class, metaDataMap);
+    }
+
+    public beginWrite_args() {
+    }
+
+    public beginWrite_args(
+      String filename,
+      long writeId)
+    {
+      this();
+      this.filename = filename;
+      this.writeId = writeId;
+      setWriteIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public beginWrite_args(beginWrite_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
+      }
+      this.writeId = other.writeId;
+    }
+
+    public beginWrite_args deepCopy() {
+      return new beginWrite_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filename = null;
+      setWriteIdIsSet(false);
+      this.writeId = 0;
+    }
+
+    public String getFilename() {
+      return this.filename;
+    }
+
+    public beginWrite_args setFilename(String filename) {
+      this.filename = filename;
+      return this;
+    }
+
+    public void unsetFilename() {
+      this.filename = null;
+    }
+
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
+    }
+
+    public void setFilenameIsSet(boolean value) {
+      if (!value) {
+        this.filename = null;
+      }
+    }
+
+    public long getWriteId() {
+      return this.writeId;
+    }
+
+    public beginWrite_args setWriteId(long writeId) {
+      this.writeId = writeId;
+      setWriteIdIsSet(true);
+      return this;
+    }
+
+    public void unsetWriteId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WRITEID_ISSET_ID);
+    }
+
+    /** Returns true if field writeId is set (has been assigned a value) and false otherwise */
+    public boolean isSetWriteId() {
+      return EncodingUtils.testBit(__isset_bitfield, __WRITEID_ISSET_ID);
+    }
+
+    public void setWriteIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WRITEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME:
+        if (value == null) {
+          unsetFilename();
+        } else {
+          setFilename((String)value);
+        }
+        break;
+
+      case WRITE_ID:
+        if (value == null) {
+          unsetWriteId();
+        } else {
+          setWriteId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME:
+        return getFilename();
+
+      case WRITE_ID:
+        return Long.valueOf(getWriteId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME:
+        return isSetFilename();
+      case WRITE_ID:
+        return isSetWriteId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof beginWrite_args)
+        return this.equals((beginWrite_args)that);
+      return false;
+    }
+
+    public boolean equals(beginWrite_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
+          return false;
+        if (!this.filename.equals(that.filename))
+          return false;
+      }
+
+      boolean this_present_writeId = true;
+      boolean that_present_writeId = true;
+      if (this_present_writeId || that_present_writeId) {
+        if (!(this_present_writeId && that_present_writeId))
+          return false;
+        if (this.writeId != that.writeId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
+
+      boolean present_writeId = true;
+      list.add(present_writeId);
+      if (present_writeId)
+        list.add(writeId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(beginWrite_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetWriteId()).compareTo(other.isSetWriteId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetWriteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.writeId, other.writeId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("beginWrite_args(");
+      boolean first = true;
+
+      sb.append("filename:");
+      if (this.filename == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filename);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("writeId:");
+      sb.append(this.writeId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class beginWrite_argsStandardSchemeFactory implements SchemeFactory {
+      public beginWrite_argsStandardScheme getScheme() {
+        return new beginWrite_argsStandardScheme();
+      }
+    }
+
+    private static class beginWrite_argsStandardScheme extends StandardScheme<beginWrite_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, beginWrite_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // WRITE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.writeId = iprot.readI64();
+                struct.setWriteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, beginWrite_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(WRITE_ID_FIELD_DESC);
+        oprot.writeI64(struct.writeId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class beginWrite_argsTupleSchemeFactory implements SchemeFactory {
+      public beginWrite_argsTupleScheme getScheme() {
+        return new beginWrite_argsTupleScheme();
+      }
+    }
+
+    private static class beginWrite_argsTupleScheme extends TupleScheme<beginWrite_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, beginWrite_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilename()) {
+          optionals.set(0);
+        }
+        if (struct.isSetWriteId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
+        }
+        if (struct.isSetWriteId()) {
+          oprot.writeI64(struct.writeId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, beginWrite_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.writeId = iprot.readI64();
+          struct.setWriteIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class beginWrite_result implements org.apache.thrift.TBase<beginWrite_result, beginWrite_result._Fields>, java.io.Serializable, Cloneable, Comparable<beginWrite_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("beginWrite_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new beginWrite_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new beginWrite_resultTupleSchemeFactory());
+    }
+
+    public long success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(beginWrite_result.class, metaDataMap);
+    }
+
+    public beginWrite_result() {
+    }
+
+    public beginWrite_result(
+      long success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public beginWrite_result(beginWrite_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public beginWrite_result deepCopy() {
+      return new beginWrite_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.systemException = null;
+    }
+
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public beginWrite_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public beginWrite_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Long)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Long.valueOf(getSuccess());
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof beginWrite_result)
+        return this.equals((beginWrite_result)that);
+      return false;
+    }
+
+    public boolean equals(beginWrite_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(beginWrite_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("beginWrite_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class beginWrite_resultStandardSchemeFactory implements SchemeFactory {
+      public beginWrite_resultStandardScheme getScheme() {
+        return new beginWrite_resultStandardScheme();
+      }
+    }
+
+    private static class beginWrite_resultStandardScheme extends StandardScheme<beginWrite_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, beginWrite_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, beginWrite_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeI64(struct.success);
+        oprot.writeFieldEnd();
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class beginWrite_resultTupleSchemeFactory implements SchemeFactory {
+      public beginWrite_resultTupleScheme getScheme() {
+        return new beginWrite_resultTupleScheme();
+      }
+    }
+
+    private static class beginWrite_resultTupleScheme extends TupleScheme<beginWrite_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, beginWrite_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, beginWrite_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class appendChunk_args implements org.apache.thrift.TBase<appendChunk_args, appendChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendChunk_args");
+
+    private static final org.apache.thrift.protocol.TField WRITE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("writeId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField CHUNK_FIELD_DESC = new org.apache.thrift.protocol.TField("chunk", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendChunk_argsTupleSchemeFactory());
+    }
+
+    public long writeId; // required
+    public ByteBuffer chunk; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      WRITE_ID((short)1, "writeId"),
+      CHUNK((short)2, "chunk");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // WRITE_ID
+            return WRITE_ID;
+          case 2: // CHUNK
+            return CHUNK;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __WRITEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.WRITE_ID, new org.apache.thrift.meta_data.FieldMetaData("writeId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.CHUNK, new org.apache.thrift.meta_data.FieldMetaData("chunk", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendChunk_args.class, metaDataMap);
+    }
+
+    public appendChunk_args() {
+    }
+
+    public appendChunk_args(
+      long writeId,
+      ByteBuffer chunk)
+    {
+      this();
+      this.writeId = writeId;
+      setWriteIdIsSet(true);
+      this.chunk = org.apache.thrift.TBaseHelper.copyBinary(chunk);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendChunk_args(appendChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.writeId = other.writeId;
+      if (other.isSetChunk()) {
+        this.chunk = org.apache.thrift.TBaseHelper.copyBinary(other.chunk);
+      }
+    }
+
+    public appendChunk_args deepCopy() {
+      return new appendChunk_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setWriteIdIsSet(false);
+      this.writeId = 0;
+      this.chunk = null;
+    }
+
+    public long getWriteId() {
+      return this.writeId;
+    }
+
+    public appendChunk_args setWriteId(long writeId) {
+      this.writeId = writeId;
+      setWriteIdIsSet(true);
+      return this;
+    }
+
+    public void unsetWriteId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WRITEID_ISSET_ID);
+    }
+
+    /** Returns true if field writeId is set (has been assigned a value) and false otherwise */
+    public boolean isSetWriteId() {
+      return EncodingUtils.testBit(__isset_bitfield, __WRITEID_ISSET_ID);
+    }
+
+    public void setWriteIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WRITEID_ISSET_ID, value);
+    }
+
+    public byte[] getChunk() {
+      setChunk(org.apache.thrift.TBaseHelper.rightSize(chunk));
+      return chunk == null ? null : chunk.array();
+    }
+
+    public ByteBuffer bufferForChunk() {
+      return org.apache.thrift.TBaseHelper.copyBinary(chunk);
+    }
+
+    public appendChunk_args setChunk(byte[] chunk) {
+      this.chunk = chunk == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(chunk, chunk.length));
+      return this;
+    }
+
+    public appendChunk_args setChunk(ByteBuffer chunk) {
+      this.chunk = org.apache.thrift.TBaseHelper.copyBinary(chunk);
+      return this;
+    }
+
+    public void unsetChunk() {
+      this.chunk = null;
+    }
+
+    /** Returns true if field chunk is set (has been assigned a value) and false otherwise */
+    public boolean isSetChunk() {
+      return this.chunk != null;
+    }
+
+    public void setChunkIsSet(boolean value) {
+      if (!value) {
+        this.chunk = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case WRITE_ID:
+        if (value == null) {
+          unsetWriteId();
+        } else {
+          setWriteId((Long)value);
+        }
+        break;
+
+      case CHUNK:
+        if (value == null) {
+          unsetChunk();
+        } else {
+          setChunk((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case WRITE_ID:
+        return Long.valueOf(getWriteId());
+
+      case CHUNK:
+        return getChunk();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case WRITE_ID:
+        return isSetWriteId();
+      case CHUNK:
+        return isSetChunk();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendChunk_args)
+        return this.equals((appendChunk_args)that);
+      return false;
+    }
+
+    public boolean equals(appendChunk_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_writeId = true;
+      boolean that_present_writeId = true;
+      if (this_present_writeId || that_present_writeId) {
+        if (!(this_present_writeId && that_present_writeId))
+          return false;
+        if (this.writeId != that.writeId)
+          return false;
+      }
+
+      boolean this_present_chunk = true && this.isSetChunk();
+      boolean that_present_chunk = true && that.isSetChunk();
+      if (this_present_chunk || that_present_chunk) {
+        if (!(this_present_chunk && that_present_chunk))
+          return false;
+        if (!this.chunk.equals(that.chunk))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_writeId = true;
+      list.add(present_writeId);
+      if (present_writeId)
+        list.add(writeId);
+
+      boolean present_chunk = true && (isSetChunk());
+      list.add(present_chunk);
+      if (present_chunk)
+        list.add(chunk);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendChunk_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetWriteId()).compareTo(other.isSetWriteId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetWriteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.writeId, other.writeId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetChunk()).compareTo(other.isSetChunk());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChunk()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chunk, other.chunk);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendChunk_args(");
+      boolean first = true;
+
+      sb.append("writeId:");
+      sb.append(this.writeId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("chunk:");
+      if (this.chunk == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.chunk, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public appendChunk_argsStandardScheme getScheme() {
+        return new appendChunk_argsStandardScheme();
+      }
+    }
+
+    private static class appendChunk_argsStandardScheme extends StandardScheme<appendChunk_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendChunk_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // WRITE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.writeId = iprot.readI64();
+                struct.setWriteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHUNK
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.chunk = iprot.readBinary();
+                struct.setChunkIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendChunk_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(WRITE_ID_FIELD_DESC);
+        oprot.writeI64(struct.writeId);
+        oprot.writeFieldEnd();
+        if (struct.chunk != null) {
+          oprot.writeFieldBegin(CHUNK_FIELD_DESC);
+          oprot.writeBinary(struct.chunk);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public appendChunk_argsTupleScheme getScheme() {
+        return new appendChunk_argsTupleScheme();
+      }
+    }
+
+    private static class appendChunk_argsTupleScheme extends TupleScheme<appendChunk_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendChunk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetWriteId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetChunk()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetWriteId()) {
+          oprot.writeI64(struct.writeId);
+        }
+        if (struct.isSetChunk()) {
+          oprot.writeBinary(struct.chunk);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendChunk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.writeId = iprot.readI64();
+          struct.setWriteIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.chunk = iprot.readBinary();
+          struct.setChunkIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class appendChunk_result implements org.apache.thrift.TBase<appendChunk_result, appendChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendChunk_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new appendChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new appendChunk_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendChunk_result.class, metaDataMap);
+    }
+
+    public appendChunk_result() {
+    }
+
+    public appendChunk_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendChunk_result(appendChunk_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public appendChunk_result deepCopy() {
+      return new appendChunk_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public appendChunk_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public appendChunk_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendChunk_result)
+        return this.equals((appendChunk_result)that);
+      return false;
+    }
+
+    public boolean equals(appendChunk_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(appendChunk_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("appendChunk_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public appendChunk_resultStandardScheme getScheme() {
+        return new appendChunk_resultStandardScheme();
+      }
+    }
+
+    private static class appendChunk_resultStandardScheme extends StandardScheme<appendChunk_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendChunk_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendChunk_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
     }
 
-    public static class getRecoveryInformation<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getRecoveryInformation_args, RecoveryInformation> {
-      public getRecoveryInformation() {
-        super("getRecoveryInformation");
-      }
-
-      public getRecoveryInformation_args getEmptyArgsInstance() {
-        return new getRecoveryInformation_args();
+    private static class appendChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public appendChunk_resultTupleScheme getScheme() {
+        return new appendChunk_resultTupleScheme();
       }
+    }
 
-      public AsyncMethodCallback<RecoveryInformation> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<RecoveryInformation>() { 
-          public void onComplete(RecoveryInformation o) {
-            getRecoveryInformation_result result = new getRecoveryInformation_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            getRecoveryInformation_result result = new getRecoveryInformation_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
+    private static class appendChunk_resultTupleScheme extends TupleScheme<appendChunk_result> {
 
-      protected boolean isOneway() {
-        return false;
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendChunk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
       }
 
-      public void start(I iface, getRecoveryInformation_args args, org.apache.thrift.async.AsyncMethodCallback<RecoveryInformation> resultHandler) throws TException {
-        iface.getRecoveryInformation(args.filename, args.fileOperation, args.hostname, args.port,resultHandler);
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendChunk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class writeFile_args implements org.apache.thrift.TBase<writeFile_args, writeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<writeFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeFile_args");
+  public static class finishWrite_args implements org.apache.thrift.TBase<finishWrite_args, finishWrite_args._Fields>, java.io.Serializable, Cloneable, Comparable<finishWrite_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("finishWrite_args");
 
-    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField WRITE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("writeId", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new writeFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new writeFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new finishWrite_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new finishWrite_argsTupleSchemeFactory());
     }
 
-    public RFile rFile; // required
+    public long writeId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      R_FILE((short)1, "rFile");
+      WRITE_ID((short)1, "writeId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1466,8 +14982,8 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // R_FILE
-            return R_FILE;
+          case 1: // WRITE_ID
+            return WRITE_ID;
           default:
             return null;
         }
@@ -1508,74 +15024,76 @@ public class FileStore {
     }
 
     // isset id assignments
+    private static final int __WRITEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.WRITE_ID, new org.apache.thrift.meta_data.FieldMetaData("writeId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(finishWrite_args.class, metaDataMap);
     }
 
-    public writeFile_args() {
+    public finishWrite_args() {
     }
 
-    public writeFile_args(
-      RFile rFile)
+    public finishWrite_args(
+      long writeId)
     {
       this();
-      this.rFile = rFile;
+      this.writeId = writeId;
+      setWriteIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public writeFile_args(writeFile_args other) {
-      if (other.isSetRFile()) {
-        this.rFile = new RFile(other.rFile);
-      }
+    public finishWrite_args(finishWrite_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.writeId = other.writeId;
     }
 
-    public writeFile_args deepCopy() {
-      return new writeFile_args(this);
+    public finishWrite_args deepCopy() {
+      return new finishWrite_args(this);
     }
 
     @Override
     public void clear() {
-      this.rFile = null;
+      setWriteIdIsSet(false);
+      this.writeId = 0;
     }
 
-    public RFile getRFile() {
-      return this.rFile;
+    public long getWriteId() {
+      return this.writeId;
     }
 
-    public writeFile_args setRFile(RFile rFile) {
-      this.rFile = rFile;
+    public finishWrite_args setWriteId(long writeId) {
+      this.writeId = writeId;
+      setWriteIdIsSet(true);
       return this;
     }
 
-    public void unsetRFile() {
-      this.rFile = null;
+    public void unsetWriteId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WRITEID_ISSET_ID);
     }
 
-    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
-    public boolean isSetRFile() {
-      return this.rFile != null;
+    /** Returns true if field writeId is set (has been assigned a value) and false otherwise */
+    public boolean isSetWriteId() {
+      return EncodingUtils.testBit(__isset_bitfield, __WRITEID_ISSET_ID);
     }
 
-    public void setRFileIsSet(boolean value) {
-      if (!value) {
-        this.rFile = null;
-      }
+    public void setWriteIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WRITEID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case R_FILE:
+      case WRITE_ID:
         if (value == null) {
-          unsetRFile();
+          unsetWriteId();
         } else {
-          setRFile((RFile)value);
+          setWriteId((Long)value);
         }
         break;
 
@@ -1584,8 +15102,8 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case R_FILE:
-        return getRFile();
+      case WRITE_ID:
+        return Long.valueOf(getWriteId());
 
       }
       throw new IllegalStateException();
@@ -1598,8 +15116,8 @@ public class FileStore {
       }
 
       switch (field) {
-      case R_FILE:
-        return isSetRFile();
+      case WRITE_ID:
+        return isSetWriteId();
       }
       throw new IllegalStateException();
     }
@@ -1608,21 +15126,21 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof writeFile_args)
-        return this.equals((writeFile_args)that);
+      if (that instanceof finishWrite_args)
+        return this.equals((finishWrite_args)that);
       return false;
     }
 
-    public boolean equals(writeFile_args that) {
+    public boolean equals(finishWrite_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_rFile = true && this.isSetRFile();
-      boolean that_present_rFile = true && that.isSetRFile();
-      if (this_present_rFile || that_present_rFile) {
-        if (!(this_present_rFile && that_present_rFile))
+      boolean this_present_writeId = true;
+      boolean that_present_writeId = true;
+      if (this_present_writeId || that_present_writeId) {
+        if (!(this_present_writeId && that_present_writeId))
           return false;
-        if (!this.rFile.equals(that.rFile))
+        if (this.writeId != that.writeId)
           return false;
       }
 
@@ -1633,28 +15151,28 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_rFile = true && (isSetRFile());
-      list.add(present_rFile);
-      if (present_rFile)
-        list.add(rFile);
+      boolean present_writeId = true;
+      list.add(present_writeId);
+      if (present_writeId)
+        list.add(writeId);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(writeFile_args other) {
+    public int compareTo(finishWrite_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
+      lastComparison = Boolean.valueOf(isSetWriteId()).compareTo(other.isSetWriteId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRFile()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
+      if (isSetWriteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.writeId, other.writeId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1676,15 +15194,11 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("writeFile_args(");
+      StringBuilder sb = new StringBuilder("finishWrite_args(");
       boolean first = true;
 
-      sb.append("rFile:");
-      if (this.rFile == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.rFile);
-      }
+      sb.append("writeId:");
+      sb.append(this.writeId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -1693,9 +15207,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (rFile != null) {
-        rFile.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -1708,21 +15219,23 @@ public class FileStore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class writeFile_argsStandardSchemeFactory implements SchemeFactory {
-      public writeFile_argsStandardScheme getScheme() {
-        return new writeFile_argsStandardScheme();
+    private static class finishWrite_argsStandardSchemeFactory implements SchemeFactory {
+      public finishWrite_argsStandardScheme getScheme() {
+        return new finishWrite_argsStandardScheme();
       }
     }
 
-    private static class writeFile_argsStandardScheme extends StandardScheme<writeFile_args> {
+    private static class finishWrite_argsStandardScheme extends StandardScheme<finishWrite_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, writeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, finishWrite_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1732,11 +15245,10 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // R_FILE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.rFile = new RFile();
-                struct.rFile.read(iprot);
-                struct.setRFileIsSet(true);
+            case 1: // WRITE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.writeId = iprot.readI64();
+                struct.setWriteIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1752,66 +15264,63 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, writeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, finishWrite_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.rFile != null) {
-          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
-          struct.rFile.write(oprot);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(WRITE_ID_FIELD_DESC);
+        oprot.writeI64(struct.writeId);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class writeFile_argsTupleSchemeFactory implements SchemeFactory {
-      public writeFile_argsTupleScheme getScheme() {
-        return new writeFile_argsTupleScheme();
+    private static class finishWrite_argsTupleSchemeFactory implements SchemeFactory {
+      public finishWrite_argsTupleScheme getScheme() {
+        return new finishWrite_argsTupleScheme();
       }
     }
 
-    private static class writeFile_argsTupleScheme extends TupleScheme<writeFile_args> {
+    private static class finishWrite_argsTupleScheme extends TupleScheme<finishWrite_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, writeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, finishWrite_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetRFile()) {
+        if (struct.isSetWriteId()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetRFile()) {
-          struct.rFile.write(oprot);
+        if (struct.isSetWriteId()) {
+          oprot.writeI64(struct.writeId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, writeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, finishWrite_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.rFile = new RFile();
-          struct.rFile.read(iprot);
-          struct.setRFileIsSet(true);
+          struct.writeId = iprot.readI64();
+          struct.setWriteIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class writeFile_result implements org.apache.thrift.TBase<writeFile_result, writeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<writeFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeFile_result");
+  public static class finishWrite_result implements org.apache.thrift.TBase<finishWrite_result, finishWrite_result._Fields>, java.io.Serializable, Cloneable, Comparable<finishWrite_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("finishWrite_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new writeFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new writeFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new finishWrite_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new finishWrite_resultTupleSchemeFactory());
     }
 
     public StatusReport success; // required
@@ -1887,13 +15396,13 @@ public class FileStore {
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(finishWrite_result.class, metaDataMap);
     }
 
-    public writeFile_result() {
+    public finishWrite_result() {
     }
 
-    public writeFile_result(
+    public finishWrite_result(
       StatusReport success,
       SystemException systemException)
     {
@@ -1905,7 +15414,7 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public writeFile_result(writeFile_result other) {
+    public finishWrite_result(finishWrite_result other) {
       if (other.isSetSuccess()) {
         this.success = new StatusReport(other.success);
       }
@@ -1914,8 +15423,8 @@ public class FileStore {
       }
     }
 
-    public writeFile_result deepCopy() {
-      return new writeFile_result(this);
+    public finishWrite_result deepCopy() {
+      return new finishWrite_result(this);
     }
 
     @Override
@@ -1928,7 +15437,7 @@ public class FileStore {
       return this.success;
     }
 
-    public writeFile_result setSuccess(StatusReport success) {
+    public finishWrite_result setSuccess(StatusReport success) {
       this.success = success;
       return this;
     }
@@ -1952,7 +15461,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public writeFile_result setSystemException(SystemException systemException) {
+    public finishWrite_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -2024,12 +15533,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof writeFile_result)
-        return this.equals((writeFile_result)that);
+      if (that instanceof finishWrite_result)
+        return this.equals((finishWrite_result)that);
       return false;
     }
 
-    public boolean equals(writeFile_result that) {
+    public boolean equals(finishWrite_result that) {
       if (that == null)
         return false;
 
@@ -2072,7 +15581,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(writeFile_result other) {
+    public int compareTo(finishWrite_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2116,7 +15625,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("writeFile_result(");
+      StringBuilder sb = new StringBuilder("finishWrite_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -2162,15 +15671,15 @@ public class FileStore {
       }
     }
 
-    private static class writeFile_resultStandardSchemeFactory implements SchemeFactory {
-      public writeFile_resultStandardScheme getScheme() {
-        return new writeFile_resultStandardScheme();
+    private static class finishWrite_resultStandardSchemeFactory implements SchemeFactory {
+      public finishWrite_resultStandardScheme getScheme() {
+        return new finishWrite_resultStandardScheme();
       }
     }
 
-    private static class writeFile_resultStandardScheme extends StandardScheme<writeFile_result> {
+    private static class finishWrite_resultStandardScheme extends StandardScheme<finishWrite_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, writeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, finishWrite_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2209,7 +15718,7 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, writeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, finishWrite_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2229,16 +15738,16 @@ public class FileStore {
 
     }
 
-    private static class writeFile_resultTupleSchemeFactory implements SchemeFactory {
-      public writeFile_resultTupleScheme getScheme() {
-        return new writeFile_resultTupleScheme();
+    private static class finishWrite_resultTupleSchemeFactory implements SchemeFactory {
+      public finishWrite_resultTupleScheme getScheme() {
+        return new finishWrite_resultTupleScheme();
       }
     }
 
-    private static class writeFile_resultTupleScheme extends TupleScheme<writeFile_result> {
+    private static class finishWrite_resultTupleScheme extends TupleScheme<finishWrite_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, writeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, finishWrite_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -2257,7 +15766,7 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, writeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, finishWrite_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -2275,22 +15784,22 @@ public class FileStore {
 
   }
 
-  public static class readFile_args implements org.apache.thrift.TBase<readFile_args, readFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_args");
+  public static class abortWrite_args implements org.apache.thrift.TBase<abortWrite_args, abortWrite_args._Fields>, java.io.Serializable, Cloneable, Comparable<abortWrite_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("abortWrite_args");
 
-    private static final org.apache.thrift.protocol.TField FILENAME_TO_READ_FIELD_DESC = new org.apache.thrift.protocol.TField("filenameToRead", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField WRITE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("writeId", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new readFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new readFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new abortWrite_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new abortWrite_argsTupleSchemeFactory());
     }
 
-    public String filenameToRead; // required
+    public long writeId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILENAME_TO_READ((short)1, "filenameToRead");
+      WRITE_ID((short)1, "writeId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2305,8 +15814,8 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILENAME_TO_READ
-            return FILENAME_TO_READ;
+          case 1: // WRITE_ID
+            return WRITE_ID;
           default:
             return null;
         }
@@ -2347,74 +15856,76 @@ public class FileStore {
     }
 
     // isset id assignments
+    private static final int __WRITEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILENAME_TO_READ, new org.apache.thrift.meta_data.FieldMetaData("filenameToRead", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.WRITE_ID, new org.apache.thrift.meta_data.FieldMetaData("writeId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(abortWrite_args.class, metaDataMap);
     }
 
-    public readFile_args() {
+    public abortWrite_args() {
     }
 
-    public readFile_args(
-      String filenameToRead)
+    public abortWrite_args(
+      long writeId)
     {
       this();
-      this.filenameToRead = filenameToRead;
+      this.writeId = writeId;
+      setWriteIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public readFile_args(readFile_args other) {
-      if (other.isSetFilenameToRead()) {
-        this.filenameToRead = other.filenameToRead;
-      }
+    public abortWrite_args(abortWrite_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.writeId = other.writeId;
     }
 
-    public readFile_args deepCopy() {
-      return new readFile_args(this);
+    public abortWrite_args deepCopy() {
+      return new abortWrite_args(this);
     }
 
     @Override
     public void clear() {
-      this.filenameToRead = null;
+      setWriteIdIsSet(false);
+      this.writeId = 0;
     }
 
-    public String getFilenameToRead() {
-      return this.filenameToRead;
+    public long getWriteId() {
+      return this.writeId;
     }
 
-    public readFile_args setFilenameToRead(String filenameToRead) {
-      this.filenameToRead = filenameToRead;
+    public abortWrite_args setWriteId(long writeId) {
+      this.writeId = writeId;
+      setWriteIdIsSet(true);
       return this;
     }
 
-    public void unsetFilenameToRead() {
-      this.filenameToRead = null;
+    public void unsetWriteId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WRITEID_ISSET_ID);
     }
 
-    /** Returns true if field filenameToRead is set (has been assigned a value) and false otherwise */
-    public boolean isSetFilenameToRead() {
-      return this.filenameToRead != null;
+    /** Returns true if field writeId is set (has been assigned a value) and false otherwise */
+    public boolean isSetWriteId() {
+      return EncodingUtils.testBit(__isset_bitfield, __WRITEID_ISSET_ID);
     }
 
-    public void setFilenameToReadIsSet(boolean value) {
-      if (!value) {
-        this.filenameToRead = null;
-      }
+    public void setWriteIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WRITEID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILENAME_TO_READ:
+      case WRITE_ID:
         if (value == null) {
-          unsetFilenameToRead();
+          unsetWriteId();
         } else {
-          setFilenameToRead((String)value);
+          setWriteId((Long)value);
         }
         break;
 
@@ -2423,8 +15934,8 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILENAME_TO_READ:
-        return getFilenameToRead();
+      case WRITE_ID:
+        return Long.valueOf(getWriteId());
 
       }
       throw new IllegalStateException();
@@ -2437,8 +15948,8 @@ public class FileStore {
       }
 
       switch (field) {
-      case FILENAME_TO_READ:
-        return isSetFilenameToRead();
+      case WRITE_ID:
+        return isSetWriteId();
       }
       throw new IllegalStateException();
     }
@@ -2447,21 +15958,21 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof readFile_args)
-        return this.equals((readFile_args)that);
+      if (that instanceof abortWrite_args)
+        return this.equals((abortWrite_args)that);
       return false;
     }
 
-    public boolean equals(readFile_args that) {
+    public boolean equals(abortWrite_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_filenameToRead = true && this.isSetFilenameToRead();
-      boolean that_present_filenameToRead = true && that.isSetFilenameToRead();
-      if (this_present_filenameToRead || that_present_filenameToRead) {
-        if (!(this_present_filenameToRead && that_present_filenameToRead))
+      boolean this_present_writeId = true;
+      boolean that_present_writeId = true;
+      if (this_present_writeId || that_present_writeId) {
+        if (!(this_present_writeId && that_present_writeId))
           return false;
-        if (!this.filenameToRead.equals(that.filenameToRead))
+        if (this.writeId != that.writeId)
           return false;
       }
 
@@ -2472,28 +15983,28 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_filenameToRead = true && (isSetFilenameToRead());
-      list.add(present_filenameToRead);
-      if (present_filenameToRead)
-        list.add(filenameToRead);
+      boolean present_writeId = true;
+      list.add(present_writeId);
+      if (present_writeId)
+        list.add(writeId);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(readFile_args other) {
+    public int compareTo(abortWrite_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFilenameToRead()).compareTo(other.isSetFilenameToRead());
+      lastComparison = Boolean.valueOf(isSetWriteId()).compareTo(other.isSetWriteId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFilenameToRead()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filenameToRead, other.filenameToRead);
+      if (isSetWriteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.writeId, other.writeId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2515,15 +16026,11 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("readFile_args(");
+      StringBuilder sb = new StringBuilder("abortWrite_args(");
       boolean first = true;
 
-      sb.append("filenameToRead:");
-      if (this.filenameToRead == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.filenameToRead);
-      }
+      sb.append("writeId:");
+      sb.append(this.writeId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -2544,21 +16051,23 @@ public class FileStore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class readFile_argsStandardSchemeFactory implements SchemeFactory {
-      public readFile_argsStandardScheme getScheme() {
-        return new readFile_argsStandardScheme();
+    private static class abortWrite_argsStandardSchemeFactory implements SchemeFactory {
+      public abortWrite_argsStandardScheme getScheme() {
+        return new abortWrite_argsStandardScheme();
       }
     }
 
-    private static class readFile_argsStandardScheme extends StandardScheme<readFile_args> {
+    private static class abortWrite_argsStandardScheme extends StandardScheme<abortWrite_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, abortWrite_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2568,10 +16077,10 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILENAME_TO_READ
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.filenameToRead = iprot.readString();
-                struct.setFilenameToReadIsSet(true);
+            case 1: // WRITE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.writeId = iprot.readI64();
+                struct.setWriteIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2587,68 +16096,66 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, abortWrite_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.filenameToRead != null) {
-          oprot.writeFieldBegin(FILENAME_TO_READ_FIELD_DESC);
-          oprot.writeString(struct.filenameToRead);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(WRITE_ID_FIELD_DESC);
+        oprot.writeI64(struct.writeId);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class readFile_argsTupleSchemeFactory implements SchemeFactory {
-      public readFile_argsTupleScheme getScheme() {
-        return new readFile_argsTupleScheme();
+    private static class abortWrite_argsTupleSchemeFactory implements SchemeFactory {
+      public abortWrite_argsTupleScheme getScheme() {
+        return new abortWrite_argsTupleScheme();
       }
     }
 
-    private static class readFile_argsTupleScheme extends TupleScheme<readFile_args> {
+    private static class abortWrite_argsTupleScheme extends TupleScheme<abortWrite_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, abortWrite_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFilenameToRead()) {
+        if (struct.isSetWriteId()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFilenameToRead()) {
-          oprot.writeString(struct.filenameToRead);
+        if (struct.isSetWriteId()) {
+          oprot.writeI64(struct.writeId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, abortWrite_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.filenameToRead = iprot.readString();
-          struct.setFilenameToReadIsSet(true);
+          struct.writeId = iprot.readI64();
+          struct.setWriteIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class readFile_result implements org.apache.thrift.TBase<readFile_result, readFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_result");
+  public static class abortWrite_result implements org.apache.thrift.TBase<abortWrite_result, abortWrite_result._Fields>, java.io.Serializable, Cloneable, Comparable<abortWrite_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("abortWrite_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new readFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new readFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new abortWrite_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new abortWrite_resultTupleSchemeFactory());
     }
 
-    public RFile success; // required
+    public StatusReport success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -2717,18 +16224,18 @@ public class FileStore {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(abortWrite_result.class, metaDataMap);
     }
 
-    public readFile_result() {
+    public abortWrite_result() {
     }
 
-    public readFile_result(
-      RFile success,
+    public abortWrite_result(
+      StatusReport success,
       SystemException systemException)
     {
       this();
@@ -2739,17 +16246,17 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public readFile_result(readFile_result other) {
+    public abortWrite_result(abortWrite_result other) {
       if (other.isSetSuccess()) {
-        this.success = new RFile(other.success);
+        this.success = new StatusReport(other.success);
       }
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public readFile_result deepCopy() {
-      return new readFile_result(this);
+    public abortWrite_result deepCopy() {
+      return new abortWrite_result(this);
     }
 
     @Override
@@ -2758,11 +16265,11 @@ public class FileStore {
       this.systemException = null;
     }
 
-    public RFile getSuccess() {
+    public StatusReport getSuccess() {
       return this.success;
     }
 
-    public readFile_result setSuccess(RFile success) {
+    public abortWrite_result setSuccess(StatusReport success) {
       this.success = success;
       return this;
     }
@@ -2786,7 +16293,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public readFile_result setSystemException(SystemException systemException) {
+    public abortWrite_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -2812,7 +16319,7 @@ public class FileStore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((RFile)value);
+          setSuccess((StatusReport)value);
         }
         break;
 
@@ -2858,12 +16365,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof readFile_result)
-        return this.equals((readFile_result)that);
+      if (that instanceof abortWrite_result)
+        return this.equals((abortWrite_result)that);
       return false;
     }
 
-    public boolean equals(readFile_result that) {
+    public boolean equals(abortWrite_result that) {
       if (that == null)
         return false;
 
@@ -2906,7 +16413,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(readFile_result other) {
+    public int compareTo(abortWrite_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2950,7 +16457,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("readFile_result(");
+      StringBuilder sb = new StringBuilder("abortWrite_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -2996,15 +16503,15 @@ public class FileStore {
       }
     }
 
-    private static class readFile_resultStandardSchemeFactory implements SchemeFactory {
-      public readFile_resultStandardScheme getScheme() {
-        return new readFile_resultStandardScheme();
+    private static class abortWrite_resultStandardSchemeFactory implements SchemeFactory {
+      public abortWrite_resultStandardScheme getScheme() {
+        return new abortWrite_resultStandardScheme();
       }
     }
 
-    private static class readFile_resultStandardScheme extends StandardScheme<readFile_result> {
+    private static class abortWrite_resultStandardScheme extends StandardScheme<abortWrite_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, abortWrite_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3016,7 +16523,7 @@ public class FileStore {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new RFile();
+                struct.success = new StatusReport();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -3043,7 +16550,7 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, abortWrite_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3063,16 +16570,16 @@ public class FileStore {
 
     }
 
-    private static class readFile_resultTupleSchemeFactory implements SchemeFactory {
-      public readFile_resultTupleScheme getScheme() {
-        return new readFile_resultTupleScheme();
+    private static class abortWrite_resultTupleSchemeFactory implements SchemeFactory {
+      public abortWrite_resultTupleScheme getScheme() {
+        return new abortWrite_resultTupleScheme();
       }
     }
 
-    private static class readFile_resultTupleScheme extends TupleScheme<readFile_result> {
+    private static class abortWrite_resultTupleScheme extends TupleScheme<abortWrite_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, abortWrite_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -3091,11 +16598,11 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, abortWrite_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new RFile();
+          struct.success = new StatusReport();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -3109,22 +16616,28 @@ public class FileStore {
 
   }
 
-  public static class deleteFile_args implements org.apache.thrift.TBase<deleteFile_args, deleteFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteFile_args");
+  public static class readChunk_args implements org.apache.thrift.TBase<readChunk_args, readChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<readChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readChunk_args");
 
-    private static final org.apache.thrift.protocol.TField FILENAME_TO_DELETE_FIELD_DESC = new org.apache.thrift.protocol.TField("filenameToDelete", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new deleteFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new deleteFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new readChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readChunk_argsTupleSchemeFactory());
     }
 
-    public String filenameToDelete; // required
+    public String filename; // required
+    public long offset; // required
+    public int length; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILENAME_TO_DELETE((short)1, "filenameToDelete");
+      FILENAME((short)1, "filename"),
+      OFFSET((short)2, "offset"),
+      LENGTH((short)3, "length");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3139,8 +16652,12 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILENAME_TO_DELETE
-            return FILENAME_TO_DELETE;
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // OFFSET
+            return OFFSET;
+          case 3: // LENGTH
+            return LENGTH;
           default:
             return null;
         }
@@ -3181,74 +16698,156 @@ public class FileStore {
     }
 
     // isset id assignments
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LENGTH_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILENAME_TO_DELETE, new org.apache.thrift.meta_data.FieldMetaData("filenameToDelete", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readChunk_args.class, metaDataMap);
     }
 
-    public deleteFile_args() {
+    public readChunk_args() {
     }
 
-    public deleteFile_args(
-      String filenameToDelete)
+    public readChunk_args(
+      String filename,
+      long offset,
+      int length)
     {
       this();
-      this.filenameToDelete = filenameToDelete;
+      this.filename = filename;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteFile_args(deleteFile_args other) {
-      if (other.isSetFilenameToDelete()) {
-        this.filenameToDelete = other.filenameToDelete;
+    public readChunk_args(readChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
       }
+      this.offset = other.offset;
+      this.length = other.length;
     }
 
-    public deleteFile_args deepCopy() {
-      return new deleteFile_args(this);
+    public readChunk_args deepCopy() {
+      return new readChunk_args(this);
     }
 
     @Override
     public void clear() {
-      this.filenameToDelete = null;
+      this.filename = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
     }
 
-    public String getFilenameToDelete() {
-      return this.filenameToDelete;
+    public String getFilename() {
+      return this.filename;
     }
 
-    public deleteFile_args setFilenameToDelete(String filenameToDelete) {
-      this.filenameToDelete = filenameToDelete;
+    public readChunk_args setFilename(String filename) {
+      this.filename = filename;
       return this;
     }
 
-    public void unsetFilenameToDelete() {
-      this.filenameToDelete = null;
+    public void unsetFilename() {
+      this.filename = null;
     }
 
-    /** Returns true if field filenameToDelete is set (has been assigned a value) and false otherwise */
-    public boolean isSetFilenameToDelete() {
-      return this.filenameToDelete != null;
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
     }
 
-    public void setFilenameToDeleteIsSet(boolean value) {
+    public void setFilenameIsSet(boolean value) {
       if (!value) {
-        this.filenameToDelete = null;
+        this.filename = null;
       }
     }
 
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public readChunk_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getLength() {
+      return this.length;
+    }
+
+    public readChunk_args setLength(int length) {
+      this.length = length;
+      setLengthIsSet(true);
+      return this;
+    }
+
+    public void unsetLength() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILENAME_TO_DELETE:
+      case FILENAME:
         if (value == null) {
-          unsetFilenameToDelete();
+          unsetFilename();
         } else {
-          setFilenameToDelete((String)value);
+          setFilename((String)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unsetLength();
+        } else {
+          setLength((Integer)value);
         }
         break;
 
@@ -3257,8 +16856,14 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILENAME_TO_DELETE:
-        return getFilenameToDelete();
+      case FILENAME:
+        return getFilename();
+
+      case OFFSET:
+        return Long.valueOf(getOffset());
+
+      case LENGTH:
+        return Integer.valueOf(getLength());
 
       }
       throw new IllegalStateException();
@@ -3271,8 +16876,12 @@ public class FileStore {
       }
 
       switch (field) {
-      case FILENAME_TO_DELETE:
-        return isSetFilenameToDelete();
+      case FILENAME:
+        return isSetFilename();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
       }
       throw new IllegalStateException();
     }
@@ -3281,21 +16890,39 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteFile_args)
-        return this.equals((deleteFile_args)that);
+      if (that instanceof readChunk_args)
+        return this.equals((readChunk_args)that);
       return false;
     }
 
-    public boolean equals(deleteFile_args that) {
+    public boolean equals(readChunk_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_filenameToDelete = true && this.isSetFilenameToDelete();
-      boolean that_present_filenameToDelete = true && that.isSetFilenameToDelete();
-      if (this_present_filenameToDelete || that_present_filenameToDelete) {
-        if (!(this_present_filenameToDelete && that_present_filenameToDelete))
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
           return false;
-        if (!this.filenameToDelete.equals(that.filenameToDelete))
+        if (!this.filename.equals(that.filename))
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
           return false;
       }
 
@@ -3306,28 +16933,58 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_filenameToDelete = true && (isSetFilenameToDelete());
-      list.add(present_filenameToDelete);
-      if (present_filenameToDelete)
-        list.add(filenameToDelete);
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_length = true;
+      list.add(present_length);
+      if (present_length)
+        list.add(length);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(deleteFile_args other) {
+    public int compareTo(readChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
-
-      int lastComparison = 0;
-
-      lastComparison = Boolean.valueOf(isSetFilenameToDelete()).compareTo(other.isSetFilenameToDelete());
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFilenameToDelete()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filenameToDelete, other.filenameToDelete);
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3349,16 +17006,24 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("deleteFile_args(");
+      StringBuilder sb = new StringBuilder("readChunk_args(");
       boolean first = true;
 
-      sb.append("filenameToDelete:");
-      if (this.filenameToDelete == null) {
+      sb.append("filename:");
+      if (this.filename == null) {
         sb.append("null");
       } else {
-        sb.append(this.filenameToDelete);
+        sb.append(this.filename);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -3378,21 +17043,23 @@ public class FileStore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class deleteFile_argsStandardSchemeFactory implements SchemeFactory {
-      public deleteFile_argsStandardScheme getScheme() {
-        return new deleteFile_argsStandardScheme();
+    private static class readChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public readChunk_argsStandardScheme getScheme() {
+        return new readChunk_argsStandardScheme();
       }
     }
 
-    private static class deleteFile_argsStandardScheme extends StandardScheme<deleteFile_args> {
+    private static class readChunk_argsStandardScheme extends StandardScheme<readChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3402,10 +17069,26 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILENAME_TO_DELETE
+            case 1: // FILENAME
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.filenameToDelete = iprot.readString();
-                struct.setFilenameToDeleteIsSet(true);
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LENGTH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.length = iprot.readI32();
+                struct.setLengthIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3421,68 +17104,94 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.filenameToDelete != null) {
-          oprot.writeFieldBegin(FILENAME_TO_DELETE_FIELD_DESC);
-          oprot.writeString(struct.filenameToDelete);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class deleteFile_argsTupleSchemeFactory implements SchemeFactory {
-      public deleteFile_argsTupleScheme getScheme() {
-        return new deleteFile_argsTupleScheme();
+    private static class readChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public readChunk_argsTupleScheme getScheme() {
+        return new readChunk_argsTupleScheme();
       }
     }
 
-    private static class deleteFile_argsTupleScheme extends TupleScheme<deleteFile_args> {
+    private static class readChunk_argsTupleScheme extends TupleScheme<readChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFilenameToDelete()) {
+        if (struct.isSetFilename()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFilenameToDelete()) {
-          oprot.writeString(struct.filenameToDelete);
+        if (struct.isSetOffset()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLength()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetLength()) {
+          oprot.writeI32(struct.length);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.filenameToDelete = iprot.readString();
-          struct.setFilenameToDeleteIsSet(true);
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.length = iprot.readI32();
+          struct.setLengthIsSet(true);
         }
       }
     }
 
   }
 
-  public static class deleteFile_result implements org.apache.thrift.TBase<deleteFile_result, deleteFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteFile_result");
+  public static class readChunk_result implements org.apache.thrift.TBase<readChunk_result, readChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<readChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readChunk_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new deleteFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new deleteFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new readChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readChunk_resultTupleSchemeFactory());
     }
 
-    public StatusReport success; // required
+    public RFile success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -3551,18 +17260,18 @@ public class FileStore {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readChunk_result.class, metaDataMap);
     }
 
-    public deleteFile_result() {
+    public readChunk_result() {
     }
 
-    public deleteFile_result(
-      StatusReport success,
+    public readChunk_result(
+      RFile success,
       SystemException systemException)
     {
       this();
@@ -3573,17 +17282,17 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteFile_result(deleteFile_result other) {
+    public readChunk_result(readChunk_result other) {
       if (other.isSetSuccess()) {
-        this.success = new StatusReport(other.success);
+        this.success = new RFile(other.success);
       }
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public deleteFile_result deepCopy() {
-      return new deleteFile_result(this);
+    public readChunk_result deepCopy() {
+      return new readChunk_result(this);
     }
 
     @Override
@@ -3592,11 +17301,11 @@ public class FileStore {
       this.systemException = null;
     }
 
-    public StatusReport getSuccess() {
+    public RFile getSuccess() {
       return this.success;
     }
 
-    public deleteFile_result setSuccess(StatusReport success) {
+    public readChunk_result setSuccess(RFile success) {
       this.success = success;
       return this;
     }
@@ -3620,7 +17329,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public deleteFile_result setSystemException(SystemException systemException) {
+    public readChunk_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -3646,7 +17355,7 @@ public class FileStore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((StatusReport)value);
+          setSuccess((RFile)value);
         }
         break;
 
@@ -3692,12 +17401,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteFile_result)
-        return this.equals((deleteFile_result)that);
+      if (that instanceof readChunk_result)
+        return this.equals((readChunk_result)that);
       return false;
     }
 
-    public boolean equals(deleteFile_result that) {
+    public boolean equals(readChunk_result that) {
       if (that == null)
         return false;
 
@@ -3740,7 +17449,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(deleteFile_result other) {
+    public int compareTo(readChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3784,7 +17493,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("deleteFile_result(");
+      StringBuilder sb = new StringBuilder("readChunk_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -3830,15 +17539,15 @@ public class FileStore {
       }
     }
 
-    private static class deleteFile_resultStandardSchemeFactory implements SchemeFactory {
-      public deleteFile_resultStandardScheme getScheme() {
-        return new deleteFile_resultStandardScheme();
+    private static class readChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public readChunk_resultStandardScheme getScheme() {
+        return new readChunk_resultStandardScheme();
       }
     }
 
-    private static class deleteFile_resultStandardScheme extends StandardScheme<deleteFile_result> {
+    private static class readChunk_resultStandardScheme extends StandardScheme<readChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3850,7 +17559,7 @@ public class FileStore {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new StatusReport();
+                struct.success = new RFile();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -3877,7 +17586,7 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3897,16 +17606,16 @@ public class FileStore {
 
     }
 
-    private static class deleteFile_resultTupleSchemeFactory implements SchemeFactory {
-      public deleteFile_resultTupleScheme getScheme() {
-        return new deleteFile_resultTupleScheme();
+    private static class readChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public readChunk_resultTupleScheme getScheme() {
+        return new readChunk_resultTupleScheme();
       }
     }
 
-    private static class deleteFile_resultTupleScheme extends TupleScheme<deleteFile_result> {
+    private static class readChunk_resultTupleScheme extends TupleScheme<readChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -3925,11 +17634,11 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new StatusReport();
+          struct.success = new RFile();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -3943,25 +17652,22 @@ public class FileStore {
 
   }
 
-  public static class doVote_args implements org.apache.thrift.TBase<doVote_args, doVote_args._Fields>, java.io.Serializable, Cloneable, Comparable<doVote_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doVote_args");
+  public static class readEncodedFile_args implements org.apache.thrift.TBase<readEncodedFile_args, readEncodedFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<readEncodedFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readEncodedFile_args");
 
-    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField FILE_OPERATION_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOperation", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField FILENAME_TO_READ_FIELD_DESC = new org.apache.thrift.protocol.TField("filenameToRead", org.apache.thrift.protocol.TType.STRING, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doVote_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doVote_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new readEncodedFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readEncodedFile_argsTupleSchemeFactory());
     }
 
-    public RFile rFile; // required
-    public FileOperation fileOperation; // required
+    public String filenameToRead; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      R_FILE((short)1, "rFile"),
-      FILE_OPERATION((short)2, "fileOperation");
+      FILENAME_TO_READ((short)1, "filenameToRead");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3976,10 +17682,8 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // R_FILE
-            return R_FILE;
-          case 2: // FILE_OPERATION
-            return FILE_OPERATION;
+          case 1: // FILENAME_TO_READ
+            return FILENAME_TO_READ;
           default:
             return null;
         }
@@ -4023,111 +17727,71 @@ public class FileStore {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
-      tmpMap.put(_Fields.FILE_OPERATION, new org.apache.thrift.meta_data.FieldMetaData("fileOperation", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperation.class)));
+      tmpMap.put(_Fields.FILENAME_TO_READ, new org.apache.thrift.meta_data.FieldMetaData("filenameToRead", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doVote_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readEncodedFile_args.class, metaDataMap);
     }
 
-    public doVote_args() {
+    public readEncodedFile_args() {
     }
 
-    public doVote_args(
-      RFile rFile,
-      FileOperation fileOperation)
+    public readEncodedFile_args(
+      String filenameToRead)
     {
       this();
-      this.rFile = rFile;
-      this.fileOperation = fileOperation;
+      this.filenameToRead = filenameToRead;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doVote_args(doVote_args other) {
-      if (other.isSetRFile()) {
-        this.rFile = new RFile(other.rFile);
-      }
-      if (other.isSetFileOperation()) {
-        this.fileOperation = new FileOperation(other.fileOperation);
+    public readEncodedFile_args(readEncodedFile_args other) {
+      if (other.isSetFilenameToRead()) {
+        this.filenameToRead = other.filenameToRead;
       }
     }
 
-    public doVote_args deepCopy() {
-      return new doVote_args(this);
+    public readEncodedFile_args deepCopy() {
+      return new readEncodedFile_args(this);
     }
 
     @Override
     public void clear() {
-      this.rFile = null;
-      this.fileOperation = null;
-    }
-
-    public RFile getRFile() {
-      return this.rFile;
-    }
-
-    public doVote_args setRFile(RFile rFile) {
-      this.rFile = rFile;
-      return this;
-    }
-
-    public void unsetRFile() {
-      this.rFile = null;
-    }
-
-    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
-    public boolean isSetRFile() {
-      return this.rFile != null;
-    }
-
-    public void setRFileIsSet(boolean value) {
-      if (!value) {
-        this.rFile = null;
-      }
+      this.filenameToRead = null;
     }
 
-    public FileOperation getFileOperation() {
-      return this.fileOperation;
+    public String getFilenameToRead() {
+      return this.filenameToRead;
     }
 
-    public doVote_args setFileOperation(FileOperation fileOperation) {
-      this.fileOperation = fileOperation;
+    public readEncodedFile_args setFilenameToRead(String filenameToRead) {
+      this.filenameToRead = filenameToRead;
       return this;
     }
 
-    public void unsetFileOperation() {
-      this.fileOperation = null;
+    public void unsetFilenameToRead() {
+      this.filenameToRead = null;
     }
 
-    /** Returns true if field fileOperation is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileOperation() {
-      return this.fileOperation != null;
+    /** Returns true if field filenameToRead is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilenameToRead() {
+      return this.filenameToRead != null;
     }
 
-    public void setFileOperationIsSet(boolean value) {
+    public void setFilenameToReadIsSet(boolean value) {
       if (!value) {
-        this.fileOperation = null;
+        this.filenameToRead = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case R_FILE:
-        if (value == null) {
-          unsetRFile();
-        } else {
-          setRFile((RFile)value);
-        }
-        break;
-
-      case FILE_OPERATION:
+      case FILENAME_TO_READ:
         if (value == null) {
-          unsetFileOperation();
+          unsetFilenameToRead();
         } else {
-          setFileOperation((FileOperation)value);
+          setFilenameToRead((String)value);
         }
         break;
 
@@ -4136,11 +17800,8 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case R_FILE:
-        return getRFile();
-
-      case FILE_OPERATION:
-        return getFileOperation();
+      case FILENAME_TO_READ:
+        return getFilenameToRead();
 
       }
       throw new IllegalStateException();
@@ -4153,10 +17814,8 @@ public class FileStore {
       }
 
       switch (field) {
-      case R_FILE:
-        return isSetRFile();
-      case FILE_OPERATION:
-        return isSetFileOperation();
+      case FILENAME_TO_READ:
+        return isSetFilenameToRead();
       }
       throw new IllegalStateException();
     }
@@ -4165,30 +17824,21 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doVote_args)
-        return this.equals((doVote_args)that);
+      if (that instanceof readEncodedFile_args)
+        return this.equals((readEncodedFile_args)that);
       return false;
-    }
-
-    public boolean equals(doVote_args that) {
-      if (that == null)
-        return false;
-
-      boolean this_present_rFile = true && this.isSetRFile();
-      boolean that_present_rFile = true && that.isSetRFile();
-      if (this_present_rFile || that_present_rFile) {
-        if (!(this_present_rFile && that_present_rFile))
-          return false;
-        if (!this.rFile.equals(that.rFile))
-          return false;
-      }
+    }
 
-      boolean this_present_fileOperation = true && this.isSetFileOperation();
-      boolean that_present_fileOperation = true && that.isSetFileOperation();
-      if (this_present_fileOperation || that_present_fileOperation) {
-        if (!(this_present_fileOperation && that_present_fileOperation))
+    public boolean equals(readEncodedFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filenameToRead = true && this.isSetFilenameToRead();
+      boolean that_present_filenameToRead = true && that.isSetFilenameToRead();
+      if (this_present_filenameToRead || that_present_filenameToRead) {
+        if (!(this_present_filenameToRead && that_present_filenameToRead))
           return false;
-        if (!this.fileOperation.equals(that.fileOperation))
+        if (!this.filenameToRead.equals(that.filenameToRead))
           return false;
       }
 
@@ -4199,43 +17849,28 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_rFile = true && (isSetRFile());
-      list.add(present_rFile);
-      if (present_rFile)
-        list.add(rFile);
-
-      boolean present_fileOperation = true && (isSetFileOperation());
-      list.add(present_fileOperation);
-      if (present_fileOperation)
-        list.add(fileOperation);
+      boolean present_filenameToRead = true && (isSetFilenameToRead());
+      list.add(present_filenameToRead);
+      if (present_filenameToRead)
+        list.add(filenameToRead);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(doVote_args other) {
+    public int compareTo(readEncodedFile_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetRFile()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetFileOperation()).compareTo(other.isSetFileOperation());
+      lastComparison = Boolean.valueOf(isSetFilenameToRead()).compareTo(other.isSetFilenameToRead());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileOperation()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOperation, other.fileOperation);
+      if (isSetFilenameToRead()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filenameToRead, other.filenameToRead);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4257,22 +17892,14 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doVote_args(");
+      StringBuilder sb = new StringBuilder("readEncodedFile_args(");
       boolean first = true;
 
-      sb.append("rFile:");
-      if (this.rFile == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.rFile);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("fileOperation:");
-      if (this.fileOperation == null) {
+      sb.append("filenameToRead:");
+      if (this.filenameToRead == null) {
         sb.append("null");
       } else {
-        sb.append(this.fileOperation);
+        sb.append(this.filenameToRead);
       }
       first = false;
       sb.append(")");
@@ -4282,12 +17909,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (rFile != null) {
-        rFile.validate();
-      }
-      if (fileOperation != null) {
-        fileOperation.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4306,15 +17927,15 @@ public class FileStore {
       }
     }
 
-    private static class doVote_argsStandardSchemeFactory implements SchemeFactory {
-      public doVote_argsStandardScheme getScheme() {
-        return new doVote_argsStandardScheme();
+    private static class readEncodedFile_argsStandardSchemeFactory implements SchemeFactory {
+      public readEncodedFile_argsStandardScheme getScheme() {
+        return new readEncodedFile_argsStandardScheme();
       }
     }
 
-    private static class doVote_argsStandardScheme extends StandardScheme<doVote_args> {
+    private static class readEncodedFile_argsStandardScheme extends StandardScheme<readEncodedFile_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doVote_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readEncodedFile_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4324,20 +17945,10 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // R_FILE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.rFile = new RFile();
-                struct.rFile.read(iprot);
-                struct.setRFileIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // FILE_OPERATION
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.fileOperation = new FileOperation();
-                struct.fileOperation.read(iprot);
-                struct.setFileOperationIsSet(true);
+            case 1: // FILENAME_TO_READ
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filenameToRead = iprot.readString();
+                struct.setFilenameToReadIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4353,18 +17964,13 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doVote_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readEncodedFile_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.rFile != null) {
-          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
-          struct.rFile.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.fileOperation != null) {
-          oprot.writeFieldBegin(FILE_OPERATION_FIELD_DESC);
-          struct.fileOperation.write(oprot);
+        if (struct.filenameToRead != null) {
+          oprot.writeFieldBegin(FILENAME_TO_READ_FIELD_DESC);
+          oprot.writeString(struct.filenameToRead);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -4373,65 +17979,53 @@ public class FileStore {
 
     }
 
-    private static class doVote_argsTupleSchemeFactory implements SchemeFactory {
-      public doVote_argsTupleScheme getScheme() {
-        return new doVote_argsTupleScheme();
+    private static class readEncodedFile_argsTupleSchemeFactory implements SchemeFactory {
+      public readEncodedFile_argsTupleScheme getScheme() {
+        return new readEncodedFile_argsTupleScheme();
       }
     }
 
-    private static class doVote_argsTupleScheme extends TupleScheme<doVote_args> {
+    private static class readEncodedFile_argsTupleScheme extends TupleScheme<readEncodedFile_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doVote_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readEncodedFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetRFile()) {
+        if (struct.isSetFilenameToRead()) {
           optionals.set(0);
         }
-        if (struct.isSetFileOperation()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetRFile()) {
-          struct.rFile.write(oprot);
-        }
-        if (struct.isSetFileOperation()) {
-          struct.fileOperation.write(oprot);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFilenameToRead()) {
+          oprot.writeString(struct.filenameToRead);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doVote_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readEncodedFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.rFile = new RFile();
-          struct.rFile.read(iprot);
-          struct.setRFileIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.fileOperation = new FileOperation();
-          struct.fileOperation.read(iprot);
-          struct.setFileOperationIsSet(true);
+          struct.filenameToRead = iprot.readString();
+          struct.setFilenameToReadIsSet(true);
         }
       }
     }
 
   }
 
-  public static class doVote_result implements org.apache.thrift.TBase<doVote_result, doVote_result._Fields>, java.io.Serializable, Cloneable, Comparable<doVote_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doVote_result");
+  public static class readEncodedFile_result implements org.apache.thrift.TBase<readEncodedFile_result, readEncodedFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<readEncodedFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readEncodedFile_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doVote_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doVote_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new readEncodedFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readEncodedFile_resultTupleSchemeFactory());
     }
 
-    public StatusReport success; // required
+    public RFile success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -4500,18 +18094,18 @@ public class FileStore {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doVote_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readEncodedFile_result.class, metaDataMap);
     }
 
-    public doVote_result() {
+    public readEncodedFile_result() {
     }
 
-    public doVote_result(
-      StatusReport success,
+    public readEncodedFile_result(
+      RFile success,
       SystemException systemException)
     {
       this();
@@ -4522,17 +18116,17 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doVote_result(doVote_result other) {
+    public readEncodedFile_result(readEncodedFile_result other) {
       if (other.isSetSuccess()) {
-        this.success = new StatusReport(other.success);
+        this.success = new RFile(other.success);
       }
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public doVote_result deepCopy() {
-      return new doVote_result(this);
+    public readEncodedFile_result deepCopy() {
+      return new readEncodedFile_result(this);
     }
 
     @Override
@@ -4541,11 +18135,11 @@ public class FileStore {
       this.systemException = null;
     }
 
-    public StatusReport getSuccess() {
+    public RFile getSuccess() {
       return this.success;
     }
 
-    public doVote_result setSuccess(StatusReport success) {
+    public readEncodedFile_result setSuccess(RFile success) {
       this.success = success;
       return this;
     }
@@ -4569,7 +18163,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public doVote_result setSystemException(SystemException systemException) {
+    public readEncodedFile_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -4595,7 +18189,7 @@ public class FileStore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((StatusReport)value);
+          setSuccess((RFile)value);
         }
         break;
 
@@ -4641,12 +18235,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doVote_result)
-        return this.equals((doVote_result)that);
+      if (that instanceof readEncodedFile_result)
+        return this.equals((readEncodedFile_result)that);
       return false;
     }
 
-    public boolean equals(doVote_result that) {
+    public boolean equals(readEncodedFile_result that) {
       if (that == null)
         return false;
 
@@ -4689,7 +18283,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(doVote_result other) {
+    public int compareTo(readEncodedFile_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4733,7 +18327,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doVote_result(");
+      StringBuilder sb = new StringBuilder("readEncodedFile_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -4779,15 +18373,15 @@ public class FileStore {
       }
     }
 
-    private static class doVote_resultStandardSchemeFactory implements SchemeFactory {
-      public doVote_resultStandardScheme getScheme() {
-        return new doVote_resultStandardScheme();
+    private static class readEncodedFile_resultStandardSchemeFactory implements SchemeFactory {
+      public readEncodedFile_resultStandardScheme getScheme() {
+        return new readEncodedFile_resultStandardScheme();
       }
     }
 
-    private static class doVote_resultStandardScheme extends StandardScheme<doVote_result> {
+    private static class readEncodedFile_resultStandardScheme extends StandardScheme<readEncodedFile_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doVote_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readEncodedFile_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4799,7 +18393,7 @@ public class FileStore {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new StatusReport();
+                struct.success = new RFile();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -4826,7 +18420,7 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doVote_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readEncodedFile_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4846,16 +18440,16 @@ public class FileStore {
 
     }
 
-    private static class doVote_resultTupleSchemeFactory implements SchemeFactory {
-      public doVote_resultTupleScheme getScheme() {
-        return new doVote_resultTupleScheme();
+    private static class readEncodedFile_resultTupleSchemeFactory implements SchemeFactory {
+      public readEncodedFile_resultTupleScheme getScheme() {
+        return new readEncodedFile_resultTupleScheme();
       }
     }
 
-    private static class doVote_resultTupleScheme extends TupleScheme<doVote_result> {
+    private static class readEncodedFile_resultTupleScheme extends TupleScheme<readEncodedFile_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doVote_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readEncodedFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -4874,11 +18468,11 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doVote_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readEncodedFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new StatusReport();
+          struct.success = new RFile();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -4892,22 +18486,31 @@ public class FileStore {
 
   }
 
-  public static class doCommitRead_args implements org.apache.thrift.TBase<doCommitRead_args, doCommitRead_args._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitRead_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitRead_args");
+  public static class readSnapshotChunk_args implements org.apache.thrift.TBase<readSnapshotChunk_args, readSnapshotChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<readSnapshotChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readSnapshotChunk_args");
 
-    private static final org.apache.thrift.protocol.TField FILENAME_TO_READ_FIELD_DESC = new org.apache.thrift.protocol.TField("filenameToRead", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField VERSION_FIELD_DESC = new org.apache.thrift.protocol.TField("version", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doCommitRead_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doCommitRead_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new readSnapshotChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readSnapshotChunk_argsTupleSchemeFactory());
     }
 
-    public String filenameToRead; // required
+    public String filename; // required
+    public int version; // required
+    public long offset; // required
+    public int length; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILENAME_TO_READ((short)1, "filenameToRead");
+      FILENAME((short)1, "filename"),
+      VERSION((short)2, "version"),
+      OFFSET((short)3, "offset"),
+      LENGTH((short)4, "length");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4922,8 +18525,14 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILENAME_TO_READ
-            return FILENAME_TO_READ;
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // VERSION
+            return VERSION;
+          case 3: // OFFSET
+            return OFFSET;
+          case 4: // LENGTH
+            return LENGTH;
           default:
             return null;
         }
@@ -4964,74 +18573,196 @@ public class FileStore {
     }
 
     // isset id assignments
+    private static final int __VERSION_ISSET_ID = 0;
+    private static final int __OFFSET_ISSET_ID = 1;
+    private static final int __LENGTH_ISSET_ID = 2;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILENAME_TO_READ, new org.apache.thrift.meta_data.FieldMetaData("filenameToRead", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.VERSION, new org.apache.thrift.meta_data.FieldMetaData("version", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitRead_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readSnapshotChunk_args.class, metaDataMap);
     }
 
-    public doCommitRead_args() {
+    public readSnapshotChunk_args() {
+    }
+
+    public readSnapshotChunk_args(
+      String filename,
+      int version,
+      long offset,
+      int length)
+    {
+      this();
+      this.filename = filename;
+      this.version = version;
+      setVersionIsSet(true);
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readSnapshotChunk_args(readSnapshotChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
+      }
+      this.version = other.version;
+      this.offset = other.offset;
+      this.length = other.length;
+    }
+
+    public readSnapshotChunk_args deepCopy() {
+      return new readSnapshotChunk_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filename = null;
+      setVersionIsSet(false);
+      this.version = 0;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
+    }
+
+    public String getFilename() {
+      return this.filename;
+    }
+
+    public readSnapshotChunk_args setFilename(String filename) {
+      this.filename = filename;
+      return this;
+    }
+
+    public void unsetFilename() {
+      this.filename = null;
+    }
+
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
+    }
+
+    public void setFilenameIsSet(boolean value) {
+      if (!value) {
+        this.filename = null;
+      }
+    }
+
+    public int getVersion() {
+      return this.version;
+    }
+
+    public readSnapshotChunk_args setVersion(int version) {
+      this.version = version;
+      setVersionIsSet(true);
+      return this;
+    }
+
+    public void unsetVersion() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __VERSION_ISSET_ID);
+    }
+
+    /** Returns true if field version is set (has been assigned a value) and false otherwise */
+    public boolean isSetVersion() {
+      return EncodingUtils.testBit(__isset_bitfield, __VERSION_ISSET_ID);
+    }
+
+    public void setVersionIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __VERSION_ISSET_ID, value);
+    }
+
+    public long getOffset() {
+      return this.offset;
     }
 
-    public doCommitRead_args(
-      String filenameToRead)
-    {
-      this();
-      this.filenameToRead = filenameToRead;
+    public readSnapshotChunk_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public doCommitRead_args(doCommitRead_args other) {
-      if (other.isSetFilenameToRead()) {
-        this.filenameToRead = other.filenameToRead;
-      }
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
-    public doCommitRead_args deepCopy() {
-      return new doCommitRead_args(this);
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
-    @Override
-    public void clear() {
-      this.filenameToRead = null;
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
     }
 
-    public String getFilenameToRead() {
-      return this.filenameToRead;
+    public int getLength() {
+      return this.length;
     }
 
-    public doCommitRead_args setFilenameToRead(String filenameToRead) {
-      this.filenameToRead = filenameToRead;
+    public readSnapshotChunk_args setLength(int length) {
+      this.length = length;
+      setLengthIsSet(true);
       return this;
     }
 
-    public void unsetFilenameToRead() {
-      this.filenameToRead = null;
+    public void unsetLength() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
     }
 
-    /** Returns true if field filenameToRead is set (has been assigned a value) and false otherwise */
-    public boolean isSetFilenameToRead() {
-      return this.filenameToRead != null;
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
     }
 
-    public void setFilenameToReadIsSet(boolean value) {
-      if (!value) {
-        this.filenameToRead = null;
-      }
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILENAME_TO_READ:
+      case FILENAME:
         if (value == null) {
-          unsetFilenameToRead();
+          unsetFilename();
         } else {
-          setFilenameToRead((String)value);
+          setFilename((String)value);
+        }
+        break;
+
+      case VERSION:
+        if (value == null) {
+          unsetVersion();
+        } else {
+          setVersion((Integer)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unsetLength();
+        } else {
+          setLength((Integer)value);
         }
         break;
 
@@ -5040,8 +18771,17 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILENAME_TO_READ:
-        return getFilenameToRead();
+      case FILENAME:
+        return getFilename();
+
+      case VERSION:
+        return Integer.valueOf(getVersion());
+
+      case OFFSET:
+        return Long.valueOf(getOffset());
+
+      case LENGTH:
+        return Integer.valueOf(getLength());
 
       }
       throw new IllegalStateException();
@@ -5054,8 +18794,14 @@ public class FileStore {
       }
 
       switch (field) {
-      case FILENAME_TO_READ:
-        return isSetFilenameToRead();
+      case FILENAME:
+        return isSetFilename();
+      case VERSION:
+        return isSetVersion();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
       }
       throw new IllegalStateException();
     }
@@ -5064,21 +18810,48 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doCommitRead_args)
-        return this.equals((doCommitRead_args)that);
+      if (that instanceof readSnapshotChunk_args)
+        return this.equals((readSnapshotChunk_args)that);
       return false;
     }
 
-    public boolean equals(doCommitRead_args that) {
+    public boolean equals(readSnapshotChunk_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_filenameToRead = true && this.isSetFilenameToRead();
-      boolean that_present_filenameToRead = true && that.isSetFilenameToRead();
-      if (this_present_filenameToRead || that_present_filenameToRead) {
-        if (!(this_present_filenameToRead && that_present_filenameToRead))
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
           return false;
-        if (!this.filenameToRead.equals(that.filenameToRead))
+        if (!this.filename.equals(that.filename))
+          return false;
+      }
+
+      boolean this_present_version = true;
+      boolean that_present_version = true;
+      if (this_present_version || that_present_version) {
+        if (!(this_present_version && that_present_version))
+          return false;
+        if (this.version != that.version)
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
           return false;
       }
 
@@ -5089,28 +18862,73 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_filenameToRead = true && (isSetFilenameToRead());
-      list.add(present_filenameToRead);
-      if (present_filenameToRead)
-        list.add(filenameToRead);
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
+
+      boolean present_version = true;
+      list.add(present_version);
+      if (present_version)
+        list.add(version);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_length = true;
+      list.add(present_length);
+      if (present_length)
+        list.add(length);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(doCommitRead_args other) {
+    public int compareTo(readSnapshotChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFilenameToRead()).compareTo(other.isSetFilenameToRead());
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFilenameToRead()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filenameToRead, other.filenameToRead);
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetVersion()).compareTo(other.isSetVersion());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetVersion()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.version, other.version);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5132,16 +18950,28 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doCommitRead_args(");
+      StringBuilder sb = new StringBuilder("readSnapshotChunk_args(");
       boolean first = true;
 
-      sb.append("filenameToRead:");
-      if (this.filenameToRead == null) {
+      sb.append("filename:");
+      if (this.filename == null) {
         sb.append("null");
       } else {
-        sb.append(this.filenameToRead);
+        sb.append(this.filename);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("version:");
+      sb.append(this.version);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5161,21 +18991,23 @@ public class FileStore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class doCommitRead_argsStandardSchemeFactory implements SchemeFactory {
-      public doCommitRead_argsStandardScheme getScheme() {
-        return new doCommitRead_argsStandardScheme();
+    private static class readSnapshotChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public readSnapshotChunk_argsStandardScheme getScheme() {
+        return new readSnapshotChunk_argsStandardScheme();
       }
     }
 
-    private static class doCommitRead_argsStandardScheme extends StandardScheme<doCommitRead_args> {
+    private static class readSnapshotChunk_argsStandardScheme extends StandardScheme<readSnapshotChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitRead_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readSnapshotChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5185,10 +19017,34 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILENAME_TO_READ
+            case 1: // FILENAME
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.filenameToRead = iprot.readString();
-                struct.setFilenameToReadIsSet(true);
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // VERSION
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.version = iprot.readI32();
+                struct.setVersionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LENGTH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.length = iprot.readI32();
+                struct.setLengthIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5204,65 +19060,104 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitRead_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readSnapshotChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.filenameToRead != null) {
-          oprot.writeFieldBegin(FILENAME_TO_READ_FIELD_DESC);
-          oprot.writeString(struct.filenameToRead);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(VERSION_FIELD_DESC);
+        oprot.writeI32(struct.version);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class doCommitRead_argsTupleSchemeFactory implements SchemeFactory {
-      public doCommitRead_argsTupleScheme getScheme() {
-        return new doCommitRead_argsTupleScheme();
+    private static class readSnapshotChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public readSnapshotChunk_argsTupleScheme getScheme() {
+        return new readSnapshotChunk_argsTupleScheme();
       }
     }
 
-    private static class doCommitRead_argsTupleScheme extends TupleScheme<doCommitRead_args> {
+    private static class readSnapshotChunk_argsTupleScheme extends TupleScheme<readSnapshotChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitRead_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readSnapshotChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFilenameToRead()) {
+        if (struct.isSetFilename()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFilenameToRead()) {
-          oprot.writeString(struct.filenameToRead);
+        if (struct.isSetVersion()) {
+          optionals.set(1);
+        }
+        if (struct.isSetOffset()) {
+          optionals.set(2);
+        }
+        if (struct.isSetLength()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
+        }
+        if (struct.isSetVersion()) {
+          oprot.writeI32(struct.version);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetLength()) {
+          oprot.writeI32(struct.length);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitRead_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readSnapshotChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.filenameToRead = iprot.readString();
-          struct.setFilenameToReadIsSet(true);
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.version = iprot.readI32();
+          struct.setVersionIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.length = iprot.readI32();
+          struct.setLengthIsSet(true);
         }
       }
     }
 
   }
 
-  public static class doCommitRead_result implements org.apache.thrift.TBase<doCommitRead_result, doCommitRead_result._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitRead_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitRead_result");
+  public static class readSnapshotChunk_result implements org.apache.thrift.TBase<readSnapshotChunk_result, readSnapshotChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<readSnapshotChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readSnapshotChunk_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doCommitRead_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doCommitRead_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new readSnapshotChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readSnapshotChunk_resultTupleSchemeFactory());
     }
 
     public RFile success; // required
@@ -5338,13 +19233,13 @@ public class FileStore {
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitRead_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readSnapshotChunk_result.class, metaDataMap);
     }
 
-    public doCommitRead_result() {
+    public readSnapshotChunk_result() {
     }
 
-    public doCommitRead_result(
+    public readSnapshotChunk_result(
       RFile success,
       SystemException systemException)
     {
@@ -5356,7 +19251,7 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doCommitRead_result(doCommitRead_result other) {
+    public readSnapshotChunk_result(readSnapshotChunk_result other) {
       if (other.isSetSuccess()) {
         this.success = new RFile(other.success);
       }
@@ -5365,8 +19260,8 @@ public class FileStore {
       }
     }
 
-    public doCommitRead_result deepCopy() {
-      return new doCommitRead_result(this);
+    public readSnapshotChunk_result deepCopy() {
+      return new readSnapshotChunk_result(this);
     }
 
     @Override
@@ -5379,7 +19274,7 @@ public class FileStore {
       return this.success;
     }
 
-    public doCommitRead_result setSuccess(RFile success) {
+    public readSnapshotChunk_result setSuccess(RFile success) {
       this.success = success;
       return this;
     }
@@ -5403,7 +19298,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public doCommitRead_result setSystemException(SystemException systemException) {
+    public readSnapshotChunk_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -5475,12 +19370,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doCommitRead_result)
-        return this.equals((doCommitRead_result)that);
+      if (that instanceof readSnapshotChunk_result)
+        return this.equals((readSnapshotChunk_result)that);
       return false;
     }
 
-    public boolean equals(doCommitRead_result that) {
+    public boolean equals(readSnapshotChunk_result that) {
       if (that == null)
         return false;
 
@@ -5523,7 +19418,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(doCommitRead_result other) {
+    public int compareTo(readSnapshotChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5567,7 +19462,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doCommitRead_result(");
+      StringBuilder sb = new StringBuilder("readSnapshotChunk_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -5613,15 +19508,15 @@ public class FileStore {
       }
     }
 
-    private static class doCommitRead_resultStandardSchemeFactory implements SchemeFactory {
-      public doCommitRead_resultStandardScheme getScheme() {
-        return new doCommitRead_resultStandardScheme();
+    private static class readSnapshotChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public readSnapshotChunk_resultStandardScheme getScheme() {
+        return new readSnapshotChunk_resultStandardScheme();
       }
     }
 
-    private static class doCommitRead_resultStandardScheme extends StandardScheme<doCommitRead_result> {
+    private static class readSnapshotChunk_resultStandardScheme extends StandardScheme<readSnapshotChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitRead_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readSnapshotChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5660,7 +19555,7 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitRead_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readSnapshotChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5680,16 +19575,16 @@ public class FileStore {
 
     }
 
-    private static class doCommitRead_resultTupleSchemeFactory implements SchemeFactory {
-      public doCommitRead_resultTupleScheme getScheme() {
-        return new doCommitRead_resultTupleScheme();
+    private static class readSnapshotChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public readSnapshotChunk_resultTupleScheme getScheme() {
+        return new readSnapshotChunk_resultTupleScheme();
       }
     }
 
-    private static class doCommitRead_resultTupleScheme extends TupleScheme<doCommitRead_result> {
+    private static class readSnapshotChunk_resultTupleScheme extends TupleScheme<readSnapshotChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitRead_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readSnapshotChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -5708,7 +19603,7 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitRead_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readSnapshotChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -5726,22 +19621,22 @@ public class FileStore {
 
   }
 
-  public static class doCommitWrite_args implements org.apache.thrift.TBase<doCommitWrite_args, doCommitWrite_args._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitWrite_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitWrite_args");
+  public static class executeTransaction_args implements org.apache.thrift.TBase<executeTransaction_args, executeTransaction_args._Fields>, java.io.Serializable, Cloneable, Comparable<executeTransaction_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("executeTransaction_args");
 
-    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_OPS_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOps", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doCommitWrite_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doCommitWrite_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new executeTransaction_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new executeTransaction_argsTupleSchemeFactory());
     }
 
-    public RFile rFile; // required
+    public List<FileOp> fileOps; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      R_FILE((short)1, "rFile");
+      FILE_OPS((short)1, "fileOps");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5756,8 +19651,8 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // R_FILE
-            return R_FILE;
+          case 1: // FILE_OPS
+            return FILE_OPS;
           default:
             return null;
         }
@@ -5801,71 +19696,91 @@ public class FileStore {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.FILE_OPS, new org.apache.thrift.meta_data.FieldMetaData("fileOps", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOp.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitWrite_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(executeTransaction_args.class, metaDataMap);
     }
 
-    public doCommitWrite_args() {
+    public executeTransaction_args() {
     }
 
-    public doCommitWrite_args(
-      RFile rFile)
+    public executeTransaction_args(
+      List<FileOp> fileOps)
     {
       this();
-      this.rFile = rFile;
+      this.fileOps = fileOps;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doCommitWrite_args(doCommitWrite_args other) {
-      if (other.isSetRFile()) {
-        this.rFile = new RFile(other.rFile);
+    public executeTransaction_args(executeTransaction_args other) {
+      if (other.isSetFileOps()) {
+        List<FileOp> __this__fileOps = new ArrayList<FileOp>(other.fileOps.size());
+        for (FileOp other_element : other.fileOps) {
+          __this__fileOps.add(new FileOp(other_element));
+        }
+        this.fileOps = __this__fileOps;
       }
     }
 
-    public doCommitWrite_args deepCopy() {
-      return new doCommitWrite_args(this);
+    public executeTransaction_args deepCopy() {
+      return new executeTransaction_args(this);
     }
 
     @Override
     public void clear() {
-      this.rFile = null;
+      this.fileOps = null;
     }
 
-    public RFile getRFile() {
-      return this.rFile;
+    public int getFileOpsSize() {
+      return (this.fileOps == null) ? 0 : this.fileOps.size();
     }
 
-    public doCommitWrite_args setRFile(RFile rFile) {
-      this.rFile = rFile;
+    public java.util.Iterator<FileOp> getFileOpsIterator() {
+      return (this.fileOps == null) ? null : this.fileOps.iterator();
+    }
+
+    public void addToFileOps(FileOp elem) {
+      if (this.fileOps == null) {
+        this.fileOps = new ArrayList<FileOp>();
+      }
+      this.fileOps.add(elem);
+    }
+
+    public List<FileOp> getFileOps() {
+      return this.fileOps;
+    }
+
+    public executeTransaction_args setFileOps(List<FileOp> fileOps) {
+      this.fileOps = fileOps;
       return this;
     }
 
-    public void unsetRFile() {
-      this.rFile = null;
+    public void unsetFileOps() {
+      this.fileOps = null;
     }
 
-    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
-    public boolean isSetRFile() {
-      return this.rFile != null;
+    /** Returns true if field fileOps is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileOps() {
+      return this.fileOps != null;
     }
 
-    public void setRFileIsSet(boolean value) {
+    public void setFileOpsIsSet(boolean value) {
       if (!value) {
-        this.rFile = null;
+        this.fileOps = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case R_FILE:
+      case FILE_OPS:
         if (value == null) {
-          unsetRFile();
+          unsetFileOps();
         } else {
-          setRFile((RFile)value);
+          setFileOps((List<FileOp>)value);
         }
         break;
 
@@ -5874,8 +19789,8 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case R_FILE:
-        return getRFile();
+      case FILE_OPS:
+        return getFileOps();
 
       }
       throw new IllegalStateException();
@@ -5888,8 +19803,8 @@ public class FileStore {
       }
 
       switch (field) {
-      case R_FILE:
-        return isSetRFile();
+      case FILE_OPS:
+        return isSetFileOps();
       }
       throw new IllegalStateException();
     }
@@ -5898,21 +19813,21 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doCommitWrite_args)
-        return this.equals((doCommitWrite_args)that);
+      if (that instanceof executeTransaction_args)
+        return this.equals((executeTransaction_args)that);
       return false;
     }
 
-    public boolean equals(doCommitWrite_args that) {
+    public boolean equals(executeTransaction_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_rFile = true && this.isSetRFile();
-      boolean that_present_rFile = true && that.isSetRFile();
-      if (this_present_rFile || that_present_rFile) {
-        if (!(this_present_rFile && that_present_rFile))
+      boolean this_present_fileOps = true && this.isSetFileOps();
+      boolean that_present_fileOps = true && that.isSetFileOps();
+      if (this_present_fileOps || that_present_fileOps) {
+        if (!(this_present_fileOps && that_present_fileOps))
           return false;
-        if (!this.rFile.equals(that.rFile))
+        if (!this.fileOps.equals(that.fileOps))
           return false;
       }
 
@@ -5923,28 +19838,28 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_rFile = true && (isSetRFile());
-      list.add(present_rFile);
-      if (present_rFile)
-        list.add(rFile);
+      boolean present_fileOps = true && (isSetFileOps());
+      list.add(present_fileOps);
+      if (present_fileOps)
+        list.add(fileOps);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(doCommitWrite_args other) {
+    public int compareTo(executeTransaction_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
+      lastComparison = Boolean.valueOf(isSetFileOps()).compareTo(other.isSetFileOps());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRFile()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
+      if (isSetFileOps()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOps, other.fileOps);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5966,14 +19881,14 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doCommitWrite_args(");
+      StringBuilder sb = new StringBuilder("executeTransaction_args(");
       boolean first = true;
 
-      sb.append("rFile:");
-      if (this.rFile == null) {
+      sb.append("fileOps:");
+      if (this.fileOps == null) {
         sb.append("null");
       } else {
-        sb.append(this.rFile);
+        sb.append(this.fileOps);
       }
       first = false;
       sb.append(")");
@@ -5983,9 +19898,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (rFile != null) {
-        rFile.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6004,15 +19916,15 @@ public class FileStore {
       }
     }
 
-    private static class doCommitWrite_argsStandardSchemeFactory implements SchemeFactory {
-      public doCommitWrite_argsStandardScheme getScheme() {
-        return new doCommitWrite_argsStandardScheme();
+    private static class executeTransaction_argsStandardSchemeFactory implements SchemeFactory {
+      public executeTransaction_argsStandardScheme getScheme() {
+        return new executeTransaction_argsStandardScheme();
       }
     }
 
-    private static class doCommitWrite_argsStandardScheme extends StandardScheme<doCommitWrite_args> {
+    private static class executeTransaction_argsStandardScheme extends StandardScheme<executeTransaction_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitWrite_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, executeTransaction_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6022,11 +19934,21 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // R_FILE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.rFile = new RFile();
-                struct.rFile.read(iprot);
-                struct.setRFileIsSet(true);
+            case 1: // FILE_OPS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
+                  struct.fileOps = new ArrayList<FileOp>(_list16.size);
+                  FileOp _elem17;
+                  for (int _i18 = 0; _i18 < _list16.size; ++_i18)
+                  {
+                    _elem17 = new FileOp();
+                    _elem17.read(iprot);
+                    struct.fileOps.add(_elem17);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFileOpsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6042,13 +19964,20 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitWrite_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, executeTransaction_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.rFile != null) {
-          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
-          struct.rFile.write(oprot);
+        if (struct.fileOps != null) {
+          oprot.writeFieldBegin(FILE_OPS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.fileOps.size()));
+            for (FileOp _iter19 : struct.fileOps)
+            {
+              _iter19.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -6057,54 +19986,69 @@ public class FileStore {
 
     }
 
-    private static class doCommitWrite_argsTupleSchemeFactory implements SchemeFactory {
-      public doCommitWrite_argsTupleScheme getScheme() {
-        return new doCommitWrite_argsTupleScheme();
+    private static class executeTransaction_argsTupleSchemeFactory implements SchemeFactory {
+      public executeTransaction_argsTupleScheme getScheme() {
+        return new executeTransaction_argsTupleScheme();
       }
     }
 
-    private static class doCommitWrite_argsTupleScheme extends TupleScheme<doCommitWrite_args> {
+    private static class executeTransaction_argsTupleScheme extends TupleScheme<executeTransaction_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitWrite_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, executeTransaction_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetRFile()) {
+        if (struct.isSetFileOps()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetRFile()) {
-          struct.rFile.write(oprot);
+        if (struct.isSetFileOps()) {
+          {
+            oprot.writeI32(struct.fileOps.size());
+            for (FileOp _iter20 : struct.fileOps)
+            {
+              _iter20.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitWrite_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, executeTransaction_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.rFile = new RFile();
-          struct.rFile.read(iprot);
-          struct.setRFileIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.fileOps = new ArrayList<FileOp>(_list21.size);
+            FileOp _elem22;
+            for (int _i23 = 0; _i23 < _list21.size; ++_i23)
+            {
+              _elem22 = new FileOp();
+              _elem22.read(iprot);
+              struct.fileOps.add(_elem22);
+            }
+          }
+          struct.setFileOpsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class doCommitWrite_result implements org.apache.thrift.TBase<doCommitWrite_result, doCommitWrite_result._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitWrite_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitWrite_result");
+  public static class executeTransaction_result implements org.apache.thrift.TBase<executeTransaction_result, executeTransaction_result._Fields>, java.io.Serializable, Cloneable, Comparable<executeTransaction_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("executeTransaction_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doCommitWrite_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doCommitWrite_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new executeTransaction_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new executeTransaction_resultTupleSchemeFactory());
     }
 
-    public StatusReport success; // required
+    public List<FileOpResult> success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -6173,18 +20117,19 @@ public class FileStore {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOpResult.class))));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitWrite_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(executeTransaction_result.class, metaDataMap);
     }
 
-    public doCommitWrite_result() {
+    public executeTransaction_result() {
     }
 
-    public doCommitWrite_result(
-      StatusReport success,
+    public executeTransaction_result(
+      List<FileOpResult> success,
       SystemException systemException)
     {
       this();
@@ -6195,17 +20140,21 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doCommitWrite_result(doCommitWrite_result other) {
+    public executeTransaction_result(executeTransaction_result other) {
       if (other.isSetSuccess()) {
-        this.success = new StatusReport(other.success);
+        List<FileOpResult> __this__success = new ArrayList<FileOpResult>(other.success.size());
+        for (FileOpResult other_element : other.success) {
+          __this__success.add(new FileOpResult(other_element));
+        }
+        this.success = __this__success;
       }
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public doCommitWrite_result deepCopy() {
-      return new doCommitWrite_result(this);
+    public executeTransaction_result deepCopy() {
+      return new executeTransaction_result(this);
     }
 
     @Override
@@ -6214,11 +20163,26 @@ public class FileStore {
       this.systemException = null;
     }
 
-    public StatusReport getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileOpResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileOpResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileOpResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileOpResult> getSuccess() {
       return this.success;
     }
 
-    public doCommitWrite_result setSuccess(StatusReport success) {
+    public executeTransaction_result setSuccess(List<FileOpResult> success) {
       this.success = success;
       return this;
     }
@@ -6242,7 +20206,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public doCommitWrite_result setSystemException(SystemException systemException) {
+    public executeTransaction_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -6268,7 +20232,7 @@ public class FileStore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((StatusReport)value);
+          setSuccess((List<FileOpResult>)value);
         }
         break;
 
@@ -6314,12 +20278,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doCommitWrite_result)
-        return this.equals((doCommitWrite_result)that);
+      if (that instanceof executeTransaction_result)
+        return this.equals((executeTransaction_result)that);
       return false;
     }
 
-    public boolean equals(doCommitWrite_result that) {
+    public boolean equals(executeTransaction_result that) {
       if (that == null)
         return false;
 
@@ -6362,7 +20326,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(doCommitWrite_result other) {
+    public int compareTo(executeTransaction_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6406,7 +20370,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doCommitWrite_result(");
+      StringBuilder sb = new StringBuilder("executeTransaction_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6431,9 +20395,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6452,15 +20413,15 @@ public class FileStore {
       }
     }
 
-    private static class doCommitWrite_resultStandardSchemeFactory implements SchemeFactory {
-      public doCommitWrite_resultStandardScheme getScheme() {
-        return new doCommitWrite_resultStandardScheme();
+    private static class executeTransaction_resultStandardSchemeFactory implements SchemeFactory {
+      public executeTransaction_resultStandardScheme getScheme() {
+        return new executeTransaction_resultStandardScheme();
       }
     }
 
-    private static class doCommitWrite_resultStandardScheme extends StandardScheme<doCommitWrite_result> {
+    private static class executeTransaction_resultStandardScheme extends StandardScheme<executeTransaction_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitWrite_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, executeTransaction_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6471,9 +20432,19 @@ public class FileStore {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new StatusReport();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileOpResult>(_list24.size);
+                  FileOpResult _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = new FileOpResult();
+                    _elem25.read(iprot);
+                    struct.success.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -6499,13 +20470,20 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitWrite_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, executeTransaction_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileOpResult _iter27 : struct.success)
+            {
+              _iter27.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.systemException != null) {
@@ -6519,16 +20497,16 @@ public class FileStore {
 
     }
 
-    private static class doCommitWrite_resultTupleSchemeFactory implements SchemeFactory {
-      public doCommitWrite_resultTupleScheme getScheme() {
-        return new doCommitWrite_resultTupleScheme();
+    private static class executeTransaction_resultTupleSchemeFactory implements SchemeFactory {
+      public executeTransaction_resultTupleScheme getScheme() {
+        return new executeTransaction_resultTupleScheme();
       }
     }
 
-    private static class doCommitWrite_resultTupleScheme extends TupleScheme<doCommitWrite_result> {
+    private static class executeTransaction_resultTupleScheme extends TupleScheme<executeTransaction_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitWrite_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, executeTransaction_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -6539,7 +20517,13 @@ public class FileStore {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileOpResult _iter28 : struct.success)
+            {
+              _iter28.write(oprot);
+            }
+          }
         }
         if (struct.isSetSystemException()) {
           struct.systemException.write(oprot);
@@ -6547,12 +20531,21 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitWrite_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, executeTransaction_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new StatusReport();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileOpResult>(_list29.size);
+            FileOpResult _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = new FileOpResult();
+              _elem30.read(iprot);
+              struct.success.add(_elem30);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -6565,22 +20558,25 @@ public class FileStore {
 
   }
 
-  public static class doCommitDelete_args implements org.apache.thrift.TBase<doCommitDelete_args, doCommitDelete_args._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitDelete_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitDelete_args");
+  public static class doVoteBatch_args implements org.apache.thrift.TBase<doVoteBatch_args, doVoteBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<doVoteBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doVoteBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILENAME_TO_DELETE_FIELD_DESC = new org.apache.thrift.protocol.TField("filenameToDelete", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_OPS_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOps", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doCommitDelete_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doCommitDelete_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doVoteBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doVoteBatch_argsTupleSchemeFactory());
     }
 
-    public String filenameToDelete; // required
+    public List<FileOp> fileOps; // required
+    public long timestamp; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILENAME_TO_DELETE((short)1, "filenameToDelete");
+      FILE_OPS((short)1, "fileOps"),
+      TIMESTAMP((short)2, "timestamp");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6595,8 +20591,10 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILENAME_TO_DELETE
-            return FILENAME_TO_DELETE;
+          case 1: // FILE_OPS
+            return FILE_OPS;
+          case 2: // TIMESTAMP
+            return TIMESTAMP;
           default:
             return null;
         }
@@ -6637,74 +20635,136 @@ public class FileStore {
     }
 
     // isset id assignments
+    private static final int __TIMESTAMP_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILENAME_TO_DELETE, new org.apache.thrift.meta_data.FieldMetaData("filenameToDelete", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.FILE_OPS, new org.apache.thrift.meta_data.FieldMetaData("fileOps", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOp.class))));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitDelete_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doVoteBatch_args.class, metaDataMap);
     }
 
-    public doCommitDelete_args() {
+    public doVoteBatch_args() {
     }
 
-    public doCommitDelete_args(
-      String filenameToDelete)
+    public doVoteBatch_args(
+      List<FileOp> fileOps,
+      long timestamp)
     {
       this();
-      this.filenameToDelete = filenameToDelete;
+      this.fileOps = fileOps;
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doCommitDelete_args(doCommitDelete_args other) {
-      if (other.isSetFilenameToDelete()) {
-        this.filenameToDelete = other.filenameToDelete;
+    public doVoteBatch_args(doVoteBatch_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFileOps()) {
+        List<FileOp> __this__fileOps = new ArrayList<FileOp>(other.fileOps.size());
+        for (FileOp other_element : other.fileOps) {
+          __this__fileOps.add(new FileOp(other_element));
+        }
+        this.fileOps = __this__fileOps;
       }
+      this.timestamp = other.timestamp;
     }
 
-    public doCommitDelete_args deepCopy() {
-      return new doCommitDelete_args(this);
+    public doVoteBatch_args deepCopy() {
+      return new doVoteBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.filenameToDelete = null;
+      this.fileOps = null;
+      setTimestampIsSet(false);
+      this.timestamp = 0;
     }
 
-    public String getFilenameToDelete() {
-      return this.filenameToDelete;
+    public int getFileOpsSize() {
+      return (this.fileOps == null) ? 0 : this.fileOps.size();
     }
 
-    public doCommitDelete_args setFilenameToDelete(String filenameToDelete) {
-      this.filenameToDelete = filenameToDelete;
+    public java.util.Iterator<FileOp> getFileOpsIterator() {
+      return (this.fileOps == null) ? null : this.fileOps.iterator();
+    }
+
+    public void addToFileOps(FileOp elem) {
+      if (this.fileOps == null) {
+        this.fileOps = new ArrayList<FileOp>();
+      }
+      this.fileOps.add(elem);
+    }
+
+    public List<FileOp> getFileOps() {
+      return this.fileOps;
+    }
+
+    public doVoteBatch_args setFileOps(List<FileOp> fileOps) {
+      this.fileOps = fileOps;
       return this;
     }
 
-    public void unsetFilenameToDelete() {
-      this.filenameToDelete = null;
+    public void unsetFileOps() {
+      this.fileOps = null;
     }
 
-    /** Returns true if field filenameToDelete is set (has been assigned a value) and false otherwise */
-    public boolean isSetFilenameToDelete() {
-      return this.filenameToDelete != null;
+    /** Returns true if field fileOps is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileOps() {
+      return this.fileOps != null;
     }
 
-    public void setFilenameToDeleteIsSet(boolean value) {
+    public void setFileOpsIsSet(boolean value) {
       if (!value) {
-        this.filenameToDelete = null;
+        this.fileOps = null;
       }
     }
 
+    public long getTimestamp() {
+      return this.timestamp;
+    }
+
+    public doVoteBatch_args setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+      return this;
+    }
+
+    public void unsetTimestamp() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+    }
+
+    public void setTimestampIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILENAME_TO_DELETE:
+      case FILE_OPS:
         if (value == null) {
-          unsetFilenameToDelete();
+          unsetFileOps();
         } else {
-          setFilenameToDelete((String)value);
+          setFileOps((List<FileOp>)value);
+        }
+        break;
+
+      case TIMESTAMP:
+        if (value == null) {
+          unsetTimestamp();
+        } else {
+          setTimestamp((Long)value);
         }
         break;
 
@@ -6713,8 +20773,11 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILENAME_TO_DELETE:
-        return getFilenameToDelete();
+      case FILE_OPS:
+        return getFileOps();
+
+      case TIMESTAMP:
+        return Long.valueOf(getTimestamp());
 
       }
       throw new IllegalStateException();
@@ -6727,8 +20790,10 @@ public class FileStore {
       }
 
       switch (field) {
-      case FILENAME_TO_DELETE:
-        return isSetFilenameToDelete();
+      case FILE_OPS:
+        return isSetFileOps();
+      case TIMESTAMP:
+        return isSetTimestamp();
       }
       throw new IllegalStateException();
     }
@@ -6737,21 +20802,30 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doCommitDelete_args)
-        return this.equals((doCommitDelete_args)that);
+      if (that instanceof doVoteBatch_args)
+        return this.equals((doVoteBatch_args)that);
       return false;
     }
 
-    public boolean equals(doCommitDelete_args that) {
+    public boolean equals(doVoteBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_filenameToDelete = true && this.isSetFilenameToDelete();
-      boolean that_present_filenameToDelete = true && that.isSetFilenameToDelete();
-      if (this_present_filenameToDelete || that_present_filenameToDelete) {
-        if (!(this_present_filenameToDelete && that_present_filenameToDelete))
+      boolean this_present_fileOps = true && this.isSetFileOps();
+      boolean that_present_fileOps = true && that.isSetFileOps();
+      if (this_present_fileOps || that_present_fileOps) {
+        if (!(this_present_fileOps && that_present_fileOps))
           return false;
-        if (!this.filenameToDelete.equals(that.filenameToDelete))
+        if (!this.fileOps.equals(that.fileOps))
+          return false;
+      }
+
+      boolean this_present_timestamp = true;
+      boolean that_present_timestamp = true;
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
+          return false;
+        if (this.timestamp != that.timestamp)
           return false;
       }
 
@@ -6762,28 +20836,43 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_filenameToDelete = true && (isSetFilenameToDelete());
-      list.add(present_filenameToDelete);
-      if (present_filenameToDelete)
-        list.add(filenameToDelete);
+      boolean present_fileOps = true && (isSetFileOps());
+      list.add(present_fileOps);
+      if (present_fileOps)
+        list.add(fileOps);
+
+      boolean present_timestamp = true;
+      list.add(present_timestamp);
+      if (present_timestamp)
+        list.add(timestamp);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(doCommitDelete_args other) {
+    public int compareTo(doVoteBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFilenameToDelete()).compareTo(other.isSetFilenameToDelete());
+      lastComparison = Boolean.valueOf(isSetFileOps()).compareTo(other.isSetFileOps());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFilenameToDelete()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filenameToDelete, other.filenameToDelete);
+      if (isSetFileOps()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOps, other.fileOps);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(other.isSetTimestamp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -6805,16 +20894,20 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doCommitDelete_args(");
+      StringBuilder sb = new StringBuilder("doVoteBatch_args(");
       boolean first = true;
 
-      sb.append("filenameToDelete:");
-      if (this.filenameToDelete == null) {
+      sb.append("fileOps:");
+      if (this.fileOps == null) {
         sb.append("null");
       } else {
-        sb.append(this.filenameToDelete);
+        sb.append(this.fileOps);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("timestamp:");
+      sb.append(this.timestamp);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6834,21 +20927,23 @@ public class FileStore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class doCommitDelete_argsStandardSchemeFactory implements SchemeFactory {
-      public doCommitDelete_argsStandardScheme getScheme() {
-        return new doCommitDelete_argsStandardScheme();
+    private static class doVoteBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public doVoteBatch_argsStandardScheme getScheme() {
+        return new doVoteBatch_argsStandardScheme();
       }
     }
 
-    private static class doCommitDelete_argsStandardScheme extends StandardScheme<doCommitDelete_args> {
+    private static class doVoteBatch_argsStandardScheme extends StandardScheme<doVoteBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitDelete_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doVoteBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6858,10 +20953,29 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILENAME_TO_DELETE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.filenameToDelete = iprot.readString();
-                struct.setFilenameToDeleteIsSet(true);
+            case 1: // FILE_OPS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
+                  struct.fileOps = new ArrayList<FileOp>(_list32.size);
+                  FileOp _elem33;
+                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                  {
+                    _elem33 = new FileOp();
+                    _elem33.read(iprot);
+                    struct.fileOps.add(_elem33);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFileOpsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timestamp = iprot.readI64();
+                struct.setTimestampIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6877,68 +20991,104 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitDelete_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doVoteBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.filenameToDelete != null) {
-          oprot.writeFieldBegin(FILENAME_TO_DELETE_FIELD_DESC);
-          oprot.writeString(struct.filenameToDelete);
+        if (struct.fileOps != null) {
+          oprot.writeFieldBegin(FILE_OPS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.fileOps.size()));
+            for (FileOp _iter35 : struct.fileOps)
+            {
+              _iter35.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+        oprot.writeI64(struct.timestamp);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class doCommitDelete_argsTupleSchemeFactory implements SchemeFactory {
-      public doCommitDelete_argsTupleScheme getScheme() {
-        return new doCommitDelete_argsTupleScheme();
+    private static class doVoteBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public doVoteBatch_argsTupleScheme getScheme() {
+        return new doVoteBatch_argsTupleScheme();
       }
     }
 
-    private static class doCommitDelete_argsTupleScheme extends TupleScheme<doCommitDelete_args> {
+    private static class doVoteBatch_argsTupleScheme extends TupleScheme<doVoteBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitDelete_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doVoteBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFilenameToDelete()) {
+        if (struct.isSetFileOps()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFilenameToDelete()) {
-          oprot.writeString(struct.filenameToDelete);
+        if (struct.isSetTimestamp()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFileOps()) {
+          {
+            oprot.writeI32(struct.fileOps.size());
+            for (FileOp _iter36 : struct.fileOps)
+            {
+              _iter36.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetTimestamp()) {
+          oprot.writeI64(struct.timestamp);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitDelete_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doVoteBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.filenameToDelete = iprot.readString();
-          struct.setFilenameToDeleteIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.fileOps = new ArrayList<FileOp>(_list37.size);
+            FileOp _elem38;
+            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            {
+              _elem38 = new FileOp();
+              _elem38.read(iprot);
+              struct.fileOps.add(_elem38);
+            }
+          }
+          struct.setFileOpsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.timestamp = iprot.readI64();
+          struct.setTimestampIsSet(true);
         }
       }
     }
 
   }
 
-  public static class doCommitDelete_result implements org.apache.thrift.TBase<doCommitDelete_result, doCommitDelete_result._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitDelete_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitDelete_result");
+  public static class doVoteBatch_result implements org.apache.thrift.TBase<doVoteBatch_result, doVoteBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<doVoteBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doVoteBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doCommitDelete_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doCommitDelete_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doVoteBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doVoteBatch_resultTupleSchemeFactory());
     }
 
-    public StatusReport success; // required
+    public List<StatusReport> success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7007,18 +21157,19 @@ public class FileStore {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class))));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitDelete_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doVoteBatch_result.class, metaDataMap);
     }
 
-    public doCommitDelete_result() {
+    public doVoteBatch_result() {
     }
 
-    public doCommitDelete_result(
-      StatusReport success,
+    public doVoteBatch_result(
+      List<StatusReport> success,
       SystemException systemException)
     {
       this();
@@ -7029,17 +21180,21 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doCommitDelete_result(doCommitDelete_result other) {
+    public doVoteBatch_result(doVoteBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new StatusReport(other.success);
+        List<StatusReport> __this__success = new ArrayList<StatusReport>(other.success.size());
+        for (StatusReport other_element : other.success) {
+          __this__success.add(new StatusReport(other_element));
+        }
+        this.success = __this__success;
       }
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public doCommitDelete_result deepCopy() {
-      return new doCommitDelete_result(this);
+    public doVoteBatch_result deepCopy() {
+      return new doVoteBatch_result(this);
     }
 
     @Override
@@ -7048,11 +21203,26 @@ public class FileStore {
       this.systemException = null;
     }
 
-    public StatusReport getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<StatusReport> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(StatusReport elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<StatusReport>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<StatusReport> getSuccess() {
       return this.success;
     }
 
-    public doCommitDelete_result setSuccess(StatusReport success) {
+    public doVoteBatch_result setSuccess(List<StatusReport> success) {
       this.success = success;
       return this;
     }
@@ -7076,7 +21246,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public doCommitDelete_result setSystemException(SystemException systemException) {
+    public doVoteBatch_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -7102,7 +21272,7 @@ public class FileStore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((StatusReport)value);
+          setSuccess((List<StatusReport>)value);
         }
         break;
 
@@ -7148,12 +21318,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doCommitDelete_result)
-        return this.equals((doCommitDelete_result)that);
+      if (that instanceof doVoteBatch_result)
+        return this.equals((doVoteBatch_result)that);
       return false;
     }
 
-    public boolean equals(doCommitDelete_result that) {
+    public boolean equals(doVoteBatch_result that) {
       if (that == null)
         return false;
 
@@ -7196,7 +21366,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(doCommitDelete_result other) {
+    public int compareTo(doVoteBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7240,7 +21410,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doCommitDelete_result(");
+      StringBuilder sb = new StringBuilder("doVoteBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -7265,9 +21435,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -7286,15 +21453,15 @@ public class FileStore {
       }
     }
 
-    private static class doCommitDelete_resultStandardSchemeFactory implements SchemeFactory {
-      public doCommitDelete_resultStandardScheme getScheme() {
-        return new doCommitDelete_resultStandardScheme();
+    private static class doVoteBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public doVoteBatch_resultStandardScheme getScheme() {
+        return new doVoteBatch_resultStandardScheme();
       }
     }
 
-    private static class doCommitDelete_resultStandardScheme extends StandardScheme<doCommitDelete_result> {
+    private static class doVoteBatch_resultStandardScheme extends StandardScheme<doVoteBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitDelete_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doVoteBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7305,9 +21472,19 @@ public class FileStore {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new StatusReport();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                  struct.success = new ArrayList<StatusReport>(_list40.size);
+                  StatusReport _elem41;
+                  for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+                  {
+                    _elem41 = new StatusReport();
+                    _elem41.read(iprot);
+                    struct.success.add(_elem41);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -7333,13 +21510,20 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitDelete_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doVoteBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (StatusReport _iter43 : struct.success)
+            {
+              _iter43.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.systemException != null) {
@@ -7353,16 +21537,16 @@ public class FileStore {
 
     }
 
-    private static class doCommitDelete_resultTupleSchemeFactory implements SchemeFactory {
-      public doCommitDelete_resultTupleScheme getScheme() {
-        return new doCommitDelete_resultTupleScheme();
+    private static class doVoteBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public doVoteBatch_resultTupleScheme getScheme() {
+        return new doVoteBatch_resultTupleScheme();
       }
     }
 
-    private static class doCommitDelete_resultTupleScheme extends TupleScheme<doCommitDelete_result> {
+    private static class doVoteBatch_resultTupleScheme extends TupleScheme<doVoteBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitDelete_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doVoteBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -7373,7 +21557,13 @@ public class FileStore {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (StatusReport _iter44 : struct.success)
+            {
+              _iter44.write(oprot);
+            }
+          }
         }
         if (struct.isSetSystemException()) {
           struct.systemException.write(oprot);
@@ -7381,12 +21571,21 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitDelete_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doVoteBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new StatusReport();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<StatusReport>(_list45.size);
+            StatusReport _elem46;
+            for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+            {
+              _elem46 = new StatusReport();
+              _elem46.read(iprot);
+              struct.success.add(_elem46);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -7399,25 +21598,25 @@ public class FileStore {
 
   }
 
-  public static class doAbort_args implements org.apache.thrift.TBase<doAbort_args, doAbort_args._Fields>, java.io.Serializable, Cloneable, Comparable<doAbort_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbort_args");
+  public static class doCommitBatch_args implements org.apache.thrift.TBase<doCommitBatch_args, doCommitBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitBatch_args");
 
-    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField FILE_OPERATION_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOperation", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField FILE_OPS_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOps", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doAbort_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doAbort_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doCommitBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommitBatch_argsTupleSchemeFactory());
     }
 
-    public RFile rFile; // required
-    public FileOperation fileOperation; // required
+    public List<FileOp> fileOps; // required
+    public long timestamp; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      R_FILE((short)1, "rFile"),
-      FILE_OPERATION((short)2, "fileOperation");
+      FILE_OPS((short)1, "fileOps"),
+      TIMESTAMP((short)2, "timestamp");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7432,10 +21631,10 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // R_FILE
-            return R_FILE;
-          case 2: // FILE_OPERATION
-            return FILE_OPERATION;
+          case 1: // FILE_OPS
+            return FILE_OPS;
+          case 2: // TIMESTAMP
+            return TIMESTAMP;
           default:
             return null;
         }
@@ -7476,114 +21675,136 @@ public class FileStore {
     }
 
     // isset id assignments
+    private static final int __TIMESTAMP_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
-      tmpMap.put(_Fields.FILE_OPERATION, new org.apache.thrift.meta_data.FieldMetaData("fileOperation", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperation.class)));
+      tmpMap.put(_Fields.FILE_OPS, new org.apache.thrift.meta_data.FieldMetaData("fileOps", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOp.class))));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbort_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitBatch_args.class, metaDataMap);
     }
 
-    public doAbort_args() {
+    public doCommitBatch_args() {
     }
 
-    public doAbort_args(
-      RFile rFile,
-      FileOperation fileOperation)
+    public doCommitBatch_args(
+      List<FileOp> fileOps,
+      long timestamp)
     {
       this();
-      this.rFile = rFile;
-      this.fileOperation = fileOperation;
+      this.fileOps = fileOps;
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doAbort_args(doAbort_args other) {
-      if (other.isSetRFile()) {
-        this.rFile = new RFile(other.rFile);
-      }
-      if (other.isSetFileOperation()) {
-        this.fileOperation = new FileOperation(other.fileOperation);
+    public doCommitBatch_args(doCommitBatch_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFileOps()) {
+        List<FileOp> __this__fileOps = new ArrayList<FileOp>(other.fileOps.size());
+        for (FileOp other_element : other.fileOps) {
+          __this__fileOps.add(new FileOp(other_element));
+        }
+        this.fileOps = __this__fileOps;
       }
+      this.timestamp = other.timestamp;
     }
 
-    public doAbort_args deepCopy() {
-      return new doAbort_args(this);
+    public doCommitBatch_args deepCopy() {
+      return new doCommitBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.rFile = null;
-      this.fileOperation = null;
+      this.fileOps = null;
+      setTimestampIsSet(false);
+      this.timestamp = 0;
     }
 
-    public RFile getRFile() {
-      return this.rFile;
+    public int getFileOpsSize() {
+      return (this.fileOps == null) ? 0 : this.fileOps.size();
     }
 
-    public doAbort_args setRFile(RFile rFile) {
-      this.rFile = rFile;
+    public java.util.Iterator<FileOp> getFileOpsIterator() {
+      return (this.fileOps == null) ? null : this.fileOps.iterator();
+    }
+
+    public void addToFileOps(FileOp elem) {
+      if (this.fileOps == null) {
+        this.fileOps = new ArrayList<FileOp>();
+      }
+      this.fileOps.add(elem);
+    }
+
+    public List<FileOp> getFileOps() {
+      return this.fileOps;
+    }
+
+    public doCommitBatch_args setFileOps(List<FileOp> fileOps) {
+      this.fileOps = fileOps;
       return this;
     }
 
-    public void unsetRFile() {
-      this.rFile = null;
+    public void unsetFileOps() {
+      this.fileOps = null;
     }
 
-    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
-    public boolean isSetRFile() {
-      return this.rFile != null;
+    /** Returns true if field fileOps is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileOps() {
+      return this.fileOps != null;
     }
 
-    public void setRFileIsSet(boolean value) {
+    public void setFileOpsIsSet(boolean value) {
       if (!value) {
-        this.rFile = null;
+        this.fileOps = null;
       }
     }
 
-    public FileOperation getFileOperation() {
-      return this.fileOperation;
+    public long getTimestamp() {
+      return this.timestamp;
     }
 
-    public doAbort_args setFileOperation(FileOperation fileOperation) {
-      this.fileOperation = fileOperation;
+    public doCommitBatch_args setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
       return this;
     }
 
-    public void unsetFileOperation() {
-      this.fileOperation = null;
+    public void unsetTimestamp() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
     }
 
-    /** Returns true if field fileOperation is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileOperation() {
-      return this.fileOperation != null;
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
     }
 
-    public void setFileOperationIsSet(boolean value) {
-      if (!value) {
-        this.fileOperation = null;
-      }
+    public void setTimestampIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case R_FILE:
+      case FILE_OPS:
         if (value == null) {
-          unsetRFile();
+          unsetFileOps();
         } else {
-          setRFile((RFile)value);
+          setFileOps((List<FileOp>)value);
         }
         break;
 
-      case FILE_OPERATION:
+      case TIMESTAMP:
         if (value == null) {
-          unsetFileOperation();
+          unsetTimestamp();
         } else {
-          setFileOperation((FileOperation)value);
+          setTimestamp((Long)value);
         }
         break;
 
@@ -7592,11 +21813,11 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case R_FILE:
-        return getRFile();
+      case FILE_OPS:
+        return getFileOps();
 
-      case FILE_OPERATION:
-        return getFileOperation();
+      case TIMESTAMP:
+        return Long.valueOf(getTimestamp());
 
       }
       throw new IllegalStateException();
@@ -7609,10 +21830,10 @@ public class FileStore {
       }
 
       switch (field) {
-      case R_FILE:
-        return isSetRFile();
-      case FILE_OPERATION:
-        return isSetFileOperation();
+      case FILE_OPS:
+        return isSetFileOps();
+      case TIMESTAMP:
+        return isSetTimestamp();
       }
       throw new IllegalStateException();
     }
@@ -7621,30 +21842,30 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doAbort_args)
-        return this.equals((doAbort_args)that);
+      if (that instanceof doCommitBatch_args)
+        return this.equals((doCommitBatch_args)that);
       return false;
     }
 
-    public boolean equals(doAbort_args that) {
+    public boolean equals(doCommitBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_rFile = true && this.isSetRFile();
-      boolean that_present_rFile = true && that.isSetRFile();
-      if (this_present_rFile || that_present_rFile) {
-        if (!(this_present_rFile && that_present_rFile))
+      boolean this_present_fileOps = true && this.isSetFileOps();
+      boolean that_present_fileOps = true && that.isSetFileOps();
+      if (this_present_fileOps || that_present_fileOps) {
+        if (!(this_present_fileOps && that_present_fileOps))
           return false;
-        if (!this.rFile.equals(that.rFile))
+        if (!this.fileOps.equals(that.fileOps))
           return false;
       }
 
-      boolean this_present_fileOperation = true && this.isSetFileOperation();
-      boolean that_present_fileOperation = true && that.isSetFileOperation();
-      if (this_present_fileOperation || that_present_fileOperation) {
-        if (!(this_present_fileOperation && that_present_fileOperation))
+      boolean this_present_timestamp = true;
+      boolean that_present_timestamp = true;
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
           return false;
-        if (!this.fileOperation.equals(that.fileOperation))
+        if (this.timestamp != that.timestamp)
           return false;
       }
 
@@ -7655,43 +21876,43 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_rFile = true && (isSetRFile());
-      list.add(present_rFile);
-      if (present_rFile)
-        list.add(rFile);
+      boolean present_fileOps = true && (isSetFileOps());
+      list.add(present_fileOps);
+      if (present_fileOps)
+        list.add(fileOps);
 
-      boolean present_fileOperation = true && (isSetFileOperation());
-      list.add(present_fileOperation);
-      if (present_fileOperation)
-        list.add(fileOperation);
+      boolean present_timestamp = true;
+      list.add(present_timestamp);
+      if (present_timestamp)
+        list.add(timestamp);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(doAbort_args other) {
+    public int compareTo(doCommitBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
+      lastComparison = Boolean.valueOf(isSetFileOps()).compareTo(other.isSetFileOps());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRFile()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
+      if (isSetFileOps()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOps, other.fileOps);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetFileOperation()).compareTo(other.isSetFileOperation());
+      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(other.isSetTimestamp());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileOperation()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOperation, other.fileOperation);
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7713,23 +21934,19 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doAbort_args(");
+      StringBuilder sb = new StringBuilder("doCommitBatch_args(");
       boolean first = true;
 
-      sb.append("rFile:");
-      if (this.rFile == null) {
+      sb.append("fileOps:");
+      if (this.fileOps == null) {
         sb.append("null");
       } else {
-        sb.append(this.rFile);
+        sb.append(this.fileOps);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("fileOperation:");
-      if (this.fileOperation == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.fileOperation);
-      }
+      sb.append("timestamp:");
+      sb.append(this.timestamp);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -7738,12 +21955,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (rFile != null) {
-        rFile.validate();
-      }
-      if (fileOperation != null) {
-        fileOperation.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -7756,21 +21967,23 @@ public class FileStore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class doAbort_argsStandardSchemeFactory implements SchemeFactory {
-      public doAbort_argsStandardScheme getScheme() {
-        return new doAbort_argsStandardScheme();
+    private static class doCommitBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public doCommitBatch_argsStandardScheme getScheme() {
+        return new doCommitBatch_argsStandardScheme();
       }
     }
 
-    private static class doAbort_argsStandardScheme extends StandardScheme<doAbort_args> {
+    private static class doCommitBatch_argsStandardScheme extends StandardScheme<doCommitBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbort_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7780,20 +21993,29 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // R_FILE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.rFile = new RFile();
-                struct.rFile.read(iprot);
-                struct.setRFileIsSet(true);
+            case 1: // FILE_OPS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+                  struct.fileOps = new ArrayList<FileOp>(_list48.size);
+                  FileOp _elem49;
+                  for (int _i50 = 0; _i50 < _list48.size; ++_i50)
+                  {
+                    _elem49 = new FileOp();
+                    _elem49.read(iprot);
+                    struct.fileOps.add(_elem49);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFileOpsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // FILE_OPERATION
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.fileOperation = new FileOperation();
-                struct.fileOperation.read(iprot);
-                struct.setFileOperationIsSet(true);
+            case 2: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timestamp = iprot.readI64();
+                struct.setTimestampIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7809,85 +22031,104 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbort_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.rFile != null) {
-          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
-          struct.rFile.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.fileOperation != null) {
-          oprot.writeFieldBegin(FILE_OPERATION_FIELD_DESC);
-          struct.fileOperation.write(oprot);
+        if (struct.fileOps != null) {
+          oprot.writeFieldBegin(FILE_OPS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.fileOps.size()));
+            for (FileOp _iter51 : struct.fileOps)
+            {
+              _iter51.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+        oprot.writeI64(struct.timestamp);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class doAbort_argsTupleSchemeFactory implements SchemeFactory {
-      public doAbort_argsTupleScheme getScheme() {
-        return new doAbort_argsTupleScheme();
+    private static class doCommitBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public doCommitBatch_argsTupleScheme getScheme() {
+        return new doCommitBatch_argsTupleScheme();
       }
     }
 
-    private static class doAbort_argsTupleScheme extends TupleScheme<doAbort_args> {
+    private static class doCommitBatch_argsTupleScheme extends TupleScheme<doCommitBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doAbort_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetRFile()) {
+        if (struct.isSetFileOps()) {
           optionals.set(0);
         }
-        if (struct.isSetFileOperation()) {
+        if (struct.isSetTimestamp()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetRFile()) {
-          struct.rFile.write(oprot);
+        if (struct.isSetFileOps()) {
+          {
+            oprot.writeI32(struct.fileOps.size());
+            for (FileOp _iter52 : struct.fileOps)
+            {
+              _iter52.write(oprot);
+            }
+          }
         }
-        if (struct.isSetFileOperation()) {
-          struct.fileOperation.write(oprot);
+        if (struct.isSetTimestamp()) {
+          oprot.writeI64(struct.timestamp);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doAbort_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.rFile = new RFile();
-          struct.rFile.read(iprot);
-          struct.setRFileIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list53 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.fileOps = new ArrayList<FileOp>(_list53.size);
+            FileOp _elem54;
+            for (int _i55 = 0; _i55 < _list53.size; ++_i55)
+            {
+              _elem54 = new FileOp();
+              _elem54.read(iprot);
+              struct.fileOps.add(_elem54);
+            }
+          }
+          struct.setFileOpsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.fileOperation = new FileOperation();
-          struct.fileOperation.read(iprot);
-          struct.setFileOperationIsSet(true);
+          struct.timestamp = iprot.readI64();
+          struct.setTimestampIsSet(true);
         }
       }
     }
 
   }
 
-  public static class doAbort_result implements org.apache.thrift.TBase<doAbort_result, doAbort_result._Fields>, java.io.Serializable, Cloneable, Comparable<doAbort_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbort_result");
+  public static class doCommitBatch_result implements org.apache.thrift.TBase<doCommitBatch_result, doCommitBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<doCommitBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommitBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doAbort_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doAbort_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doCommitBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommitBatch_resultTupleSchemeFactory());
     }
 
-    public StatusReport success; // required
+    public List<FileOpResult> success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7956,18 +22197,19 @@ public class FileStore {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOpResult.class))));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbort_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommitBatch_result.class, metaDataMap);
     }
 
-    public doAbort_result() {
+    public doCommitBatch_result() {
     }
 
-    public doAbort_result(
-      StatusReport success,
+    public doCommitBatch_result(
+      List<FileOpResult> success,
       SystemException systemException)
     {
       this();
@@ -7978,17 +22220,21 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doAbort_result(doAbort_result other) {
+    public doCommitBatch_result(doCommitBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new StatusReport(other.success);
+        List<FileOpResult> __this__success = new ArrayList<FileOpResult>(other.success.size());
+        for (FileOpResult other_element : other.success) {
+          __this__success.add(new FileOpResult(other_element));
+        }
+        this.success = __this__success;
       }
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public doAbort_result deepCopy() {
-      return new doAbort_result(this);
+    public doCommitBatch_result deepCopy() {
+      return new doCommitBatch_result(this);
     }
 
     @Override
@@ -7997,11 +22243,26 @@ public class FileStore {
       this.systemException = null;
     }
 
-    public StatusReport getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileOpResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileOpResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileOpResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileOpResult> getSuccess() {
       return this.success;
     }
 
-    public doAbort_result setSuccess(StatusReport success) {
+    public doCommitBatch_result setSuccess(List<FileOpResult> success) {
       this.success = success;
       return this;
     }
@@ -8025,7 +22286,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public doAbort_result setSystemException(SystemException systemException) {
+    public doCommitBatch_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -8051,7 +22312,7 @@ public class FileStore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((StatusReport)value);
+          setSuccess((List<FileOpResult>)value);
         }
         break;
 
@@ -8097,12 +22358,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doAbort_result)
-        return this.equals((doAbort_result)that);
+      if (that instanceof doCommitBatch_result)
+        return this.equals((doCommitBatch_result)that);
       return false;
     }
 
-    public boolean equals(doAbort_result that) {
+    public boolean equals(doCommitBatch_result that) {
       if (that == null)
         return false;
 
@@ -8145,7 +22406,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(doAbort_result other) {
+    public int compareTo(doCommitBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8189,7 +22450,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doAbort_result(");
+      StringBuilder sb = new StringBuilder("doCommitBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -8214,9 +22475,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8235,15 +22493,15 @@ public class FileStore {
       }
     }
 
-    private static class doAbort_resultStandardSchemeFactory implements SchemeFactory {
-      public doAbort_resultStandardScheme getScheme() {
-        return new doAbort_resultStandardScheme();
+    private static class doCommitBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public doCommitBatch_resultStandardScheme getScheme() {
+        return new doCommitBatch_resultStandardScheme();
       }
     }
 
-    private static class doAbort_resultStandardScheme extends StandardScheme<doAbort_result> {
+    private static class doCommitBatch_resultStandardScheme extends StandardScheme<doCommitBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbort_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommitBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8254,9 +22512,19 @@ public class FileStore {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new StatusReport();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileOpResult>(_list56.size);
+                  FileOpResult _elem57;
+                  for (int _i58 = 0; _i58 < _list56.size; ++_i58)
+                  {
+                    _elem57 = new FileOpResult();
+                    _elem57.read(iprot);
+                    struct.success.add(_elem57);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -8282,13 +22550,20 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbort_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommitBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileOpResult _iter59 : struct.success)
+            {
+              _iter59.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.systemException != null) {
@@ -8302,16 +22577,16 @@ public class FileStore {
 
     }
 
-    private static class doAbort_resultTupleSchemeFactory implements SchemeFactory {
-      public doAbort_resultTupleScheme getScheme() {
-        return new doAbort_resultTupleScheme();
+    private static class doCommitBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public doCommitBatch_resultTupleScheme getScheme() {
+        return new doCommitBatch_resultTupleScheme();
       }
     }
 
-    private static class doAbort_resultTupleScheme extends TupleScheme<doAbort_result> {
+    private static class doCommitBatch_resultTupleScheme extends TupleScheme<doCommitBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doAbort_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommitBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8322,7 +22597,13 @@ public class FileStore {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileOpResult _iter60 : struct.success)
+            {
+              _iter60.write(oprot);
+            }
+          }
         }
         if (struct.isSetSystemException()) {
           struct.systemException.write(oprot);
@@ -8330,12 +22611,21 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doAbort_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommitBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new StatusReport();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileOpResult>(_list61.size);
+            FileOpResult _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = new FileOpResult();
+              _elem62.read(iprot);
+              struct.success.add(_elem62);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -8348,31 +22638,25 @@ public class FileStore {
 
   }
 
-  public static class getRecoveryInformation_args implements org.apache.thrift.TBase<getRecoveryInformation_args, getRecoveryInformation_args._Fields>, java.io.Serializable, Cloneable, Comparable<getRecoveryInformation_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getRecoveryInformation_args");
+  public static class doAbortBatch_args implements org.apache.thrift.TBase<doAbortBatch_args, doAbortBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<doAbortBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbortBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField FILE_OPERATION_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOperation", org.apache.thrift.protocol.TType.STRUCT, (short)2);
-    private static final org.apache.thrift.protocol.TField HOSTNAME_FIELD_DESC = new org.apache.thrift.protocol.TField("hostname", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField PORT_FIELD_DESC = new org.apache.thrift.protocol.TField("port", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField FILE_OPS_FIELD_DESC = new org.apache.thrift.protocol.TField("fileOps", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getRecoveryInformation_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getRecoveryInformation_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doAbortBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doAbortBatch_argsTupleSchemeFactory());
     }
 
-    public String filename; // required
-    public FileOperation fileOperation; // required
-    public String hostname; // required
-    public int port; // required
+    public List<FileOp> fileOps; // required
+    public long timestamp; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILENAME((short)1, "filename"),
-      FILE_OPERATION((short)2, "fileOperation"),
-      HOSTNAME((short)3, "hostname"),
-      PORT((short)4, "port");
+      FILE_OPS((short)1, "fileOps"),
+      TIMESTAMP((short)2, "timestamp");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8387,14 +22671,10 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILENAME
-            return FILENAME;
-          case 2: // FILE_OPERATION
-            return FILE_OPERATION;
-          case 3: // HOSTNAME
-            return HOSTNAME;
-          case 4: // PORT
-            return PORT;
+          case 1: // FILE_OPS
+            return FILE_OPS;
+          case 2: // TIMESTAMP
+            return TIMESTAMP;
           default:
             return null;
         }
@@ -8435,215 +22715,149 @@ public class FileStore {
     }
 
     // isset id assignments
-    private static final int __PORT_ISSET_ID = 0;
+    private static final int __TIMESTAMP_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.FILE_OPERATION, new org.apache.thrift.meta_data.FieldMetaData("fileOperation", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperation.class)));
-      tmpMap.put(_Fields.HOSTNAME, new org.apache.thrift.meta_data.FieldMetaData("hostname", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PORT, new org.apache.thrift.meta_data.FieldMetaData("port", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.FILE_OPS, new org.apache.thrift.meta_data.FieldMetaData("fileOps", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOp.class))));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getRecoveryInformation_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbortBatch_args.class, metaDataMap);
     }
 
-    public getRecoveryInformation_args() {
+    public doAbortBatch_args() {
     }
 
-    public getRecoveryInformation_args(
-      String filename,
-      FileOperation fileOperation,
-      String hostname,
-      int port)
+    public doAbortBatch_args(
+      List<FileOp> fileOps,
+      long timestamp)
     {
       this();
-      this.filename = filename;
-      this.fileOperation = fileOperation;
-      this.hostname = hostname;
-      this.port = port;
-      setPortIsSet(true);
+      this.fileOps = fileOps;
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getRecoveryInformation_args(getRecoveryInformation_args other) {
+    public doAbortBatch_args(doAbortBatch_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetFilename()) {
-        this.filename = other.filename;
-      }
-      if (other.isSetFileOperation()) {
-        this.fileOperation = new FileOperation(other.fileOperation);
-      }
-      if (other.isSetHostname()) {
-        this.hostname = other.hostname;
+      if (other.isSetFileOps()) {
+        List<FileOp> __this__fileOps = new ArrayList<FileOp>(other.fileOps.size());
+        for (FileOp other_element : other.fileOps) {
+          __this__fileOps.add(new FileOp(other_element));
+        }
+        this.fileOps = __this__fileOps;
       }
-      this.port = other.port;
+      this.timestamp = other.timestamp;
     }
 
-    public getRecoveryInformation_args deepCopy() {
-      return new getRecoveryInformation_args(this);
+    public doAbortBatch_args deepCopy() {
+      return new doAbortBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.filename = null;
-      this.fileOperation = null;
-      this.hostname = null;
-      setPortIsSet(false);
-      this.port = 0;
-    }
-
-    public String getFilename() {
-      return this.filename;
-    }
-
-    public getRecoveryInformation_args setFilename(String filename) {
-      this.filename = filename;
-      return this;
-    }
-
-    public void unsetFilename() {
-      this.filename = null;
-    }
-
-    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
-    public boolean isSetFilename() {
-      return this.filename != null;
-    }
-
-    public void setFilenameIsSet(boolean value) {
-      if (!value) {
-        this.filename = null;
-      }
-    }
-
-    public FileOperation getFileOperation() {
-      return this.fileOperation;
-    }
-
-    public getRecoveryInformation_args setFileOperation(FileOperation fileOperation) {
-      this.fileOperation = fileOperation;
-      return this;
+      this.fileOps = null;
+      setTimestampIsSet(false);
+      this.timestamp = 0;
     }
 
-    public void unsetFileOperation() {
-      this.fileOperation = null;
+    public int getFileOpsSize() {
+      return (this.fileOps == null) ? 0 : this.fileOps.size();
     }
 
-    /** Returns true if field fileOperation is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileOperation() {
-      return this.fileOperation != null;
+    public java.util.Iterator<FileOp> getFileOpsIterator() {
+      return (this.fileOps == null) ? null : this.fileOps.iterator();
     }
 
-    public void setFileOperationIsSet(boolean value) {
-      if (!value) {
-        this.fileOperation = null;
+    public void addToFileOps(FileOp elem) {
+      if (this.fileOps == null) {
+        this.fileOps = new ArrayList<FileOp>();
       }
+      this.fileOps.add(elem);
     }
 
-    public String getHostname() {
-      return this.hostname;
+    public List<FileOp> getFileOps() {
+      return this.fileOps;
     }
 
-    public getRecoveryInformation_args setHostname(String hostname) {
-      this.hostname = hostname;
+    public doAbortBatch_args setFileOps(List<FileOp> fileOps) {
+      this.fileOps = fileOps;
       return this;
     }
 
-    public void unsetHostname() {
-      this.hostname = null;
+    public void unsetFileOps() {
+      this.fileOps = null;
     }
 
-    /** Returns true if field hostname is set (has been assigned a value) and false otherwise */
-    public boolean isSetHostname() {
-      return this.hostname != null;
+    /** Returns true if field fileOps is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileOps() {
+      return this.fileOps != null;
     }
 
-    public void setHostnameIsSet(boolean value) {
+    public void setFileOpsIsSet(boolean value) {
       if (!value) {
-        this.hostname = null;
+        this.fileOps = null;
       }
     }
 
-    public int getPort() {
-      return this.port;
+    public long getTimestamp() {
+      return this.timestamp;
     }
 
-    public getRecoveryInformation_args setPort(int port) {
-      this.port = port;
-      setPortIsSet(true);
+    public doAbortBatch_args setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
       return this;
     }
 
-    public void unsetPort() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PORT_ISSET_ID);
+    public void unsetTimestamp() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
     }
 
-    /** Returns true if field port is set (has been assigned a value) and false otherwise */
-    public boolean isSetPort() {
-      return EncodingUtils.testBit(__isset_bitfield, __PORT_ISSET_ID);
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
     }
 
-    public void setPortIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PORT_ISSET_ID, value);
+    public void setTimestampIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILENAME:
-        if (value == null) {
-          unsetFilename();
-        } else {
-          setFilename((String)value);
-        }
-        break;
-
-      case FILE_OPERATION:
-        if (value == null) {
-          unsetFileOperation();
-        } else {
-          setFileOperation((FileOperation)value);
-        }
-        break;
-
-      case HOSTNAME:
+      case FILE_OPS:
         if (value == null) {
-          unsetHostname();
+          unsetFileOps();
         } else {
-          setHostname((String)value);
+          setFileOps((List<FileOp>)value);
         }
         break;
 
-      case PORT:
+      case TIMESTAMP:
         if (value == null) {
-          unsetPort();
+          unsetTimestamp();
         } else {
-          setPort((Integer)value);
+          setTimestamp((Long)value);
         }
         break;
 
       }
     }
 
-    public Object getFieldValue(_Fields field) {
-      switch (field) {
-      case FILENAME:
-        return getFilename();
-
-      case FILE_OPERATION:
-        return getFileOperation();
-
-      case HOSTNAME:
-        return getHostname();
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_OPS:
+        return getFileOps();
 
-      case PORT:
-        return Integer.valueOf(getPort());
+      case TIMESTAMP:
+        return Long.valueOf(getTimestamp());
 
       }
       throw new IllegalStateException();
@@ -8656,14 +22870,10 @@ public class FileStore {
       }
 
       switch (field) {
-      case FILENAME:
-        return isSetFilename();
-      case FILE_OPERATION:
-        return isSetFileOperation();
-      case HOSTNAME:
-        return isSetHostname();
-      case PORT:
-        return isSetPort();
+      case FILE_OPS:
+        return isSetFileOps();
+      case TIMESTAMP:
+        return isSetTimestamp();
       }
       throw new IllegalStateException();
     }
@@ -8672,48 +22882,30 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getRecoveryInformation_args)
-        return this.equals((getRecoveryInformation_args)that);
+      if (that instanceof doAbortBatch_args)
+        return this.equals((doAbortBatch_args)that);
       return false;
     }
 
-    public boolean equals(getRecoveryInformation_args that) {
+    public boolean equals(doAbortBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_filename = true && this.isSetFilename();
-      boolean that_present_filename = true && that.isSetFilename();
-      if (this_present_filename || that_present_filename) {
-        if (!(this_present_filename && that_present_filename))
-          return false;
-        if (!this.filename.equals(that.filename))
-          return false;
-      }
-
-      boolean this_present_fileOperation = true && this.isSetFileOperation();
-      boolean that_present_fileOperation = true && that.isSetFileOperation();
-      if (this_present_fileOperation || that_present_fileOperation) {
-        if (!(this_present_fileOperation && that_present_fileOperation))
-          return false;
-        if (!this.fileOperation.equals(that.fileOperation))
-          return false;
-      }
-
-      boolean this_present_hostname = true && this.isSetHostname();
-      boolean that_present_hostname = true && that.isSetHostname();
-      if (this_present_hostname || that_present_hostname) {
-        if (!(this_present_hostname && that_present_hostname))
+      boolean this_present_fileOps = true && this.isSetFileOps();
+      boolean that_present_fileOps = true && that.isSetFileOps();
+      if (this_present_fileOps || that_present_fileOps) {
+        if (!(this_present_fileOps && that_present_fileOps))
           return false;
-        if (!this.hostname.equals(that.hostname))
+        if (!this.fileOps.equals(that.fileOps))
           return false;
       }
 
-      boolean this_present_port = true;
-      boolean that_present_port = true;
-      if (this_present_port || that_present_port) {
-        if (!(this_present_port && that_present_port))
+      boolean this_present_timestamp = true;
+      boolean that_present_timestamp = true;
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
           return false;
-        if (this.port != that.port)
+        if (this.timestamp != that.timestamp)
           return false;
       }
 
@@ -8724,73 +22916,43 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_filename = true && (isSetFilename());
-      list.add(present_filename);
-      if (present_filename)
-        list.add(filename);
-
-      boolean present_fileOperation = true && (isSetFileOperation());
-      list.add(present_fileOperation);
-      if (present_fileOperation)
-        list.add(fileOperation);
-
-      boolean present_hostname = true && (isSetHostname());
-      list.add(present_hostname);
-      if (present_hostname)
-        list.add(hostname);
+      boolean present_fileOps = true && (isSetFileOps());
+      list.add(present_fileOps);
+      if (present_fileOps)
+        list.add(fileOps);
 
-      boolean present_port = true;
-      list.add(present_port);
-      if (present_port)
-        list.add(port);
+      boolean present_timestamp = true;
+      list.add(present_timestamp);
+      if (present_timestamp)
+        list.add(timestamp);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getRecoveryInformation_args other) {
+    public int compareTo(doAbortBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFilename()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetFileOperation()).compareTo(other.isSetFileOperation());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFileOperation()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOperation, other.fileOperation);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetHostname()).compareTo(other.isSetHostname());
+      lastComparison = Boolean.valueOf(isSetFileOps()).compareTo(other.isSetFileOps());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetHostname()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.hostname, other.hostname);
+      if (isSetFileOps()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileOps, other.fileOps);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPort()).compareTo(other.isSetPort());
+      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(other.isSetTimestamp());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPort()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.port, other.port);
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8812,35 +22974,19 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getRecoveryInformation_args(");
+      StringBuilder sb = new StringBuilder("doAbortBatch_args(");
       boolean first = true;
 
-      sb.append("filename:");
-      if (this.filename == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.filename);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("fileOperation:");
-      if (this.fileOperation == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.fileOperation);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("hostname:");
-      if (this.hostname == null) {
+      sb.append("fileOps:");
+      if (this.fileOps == null) {
         sb.append("null");
       } else {
-        sb.append(this.hostname);
+        sb.append(this.fileOps);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("port:");
-      sb.append(this.port);
+      sb.append("timestamp:");
+      sb.append(this.timestamp);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -8849,9 +22995,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (fileOperation != null) {
-        fileOperation.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8872,15 +23015,15 @@ public class FileStore {
       }
     }
 
-    private static class getRecoveryInformation_argsStandardSchemeFactory implements SchemeFactory {
-      public getRecoveryInformation_argsStandardScheme getScheme() {
-        return new getRecoveryInformation_argsStandardScheme();
+    private static class doAbortBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public doAbortBatch_argsStandardScheme getScheme() {
+        return new doAbortBatch_argsStandardScheme();
       }
     }
 
-    private static class getRecoveryInformation_argsStandardScheme extends StandardScheme<getRecoveryInformation_args> {
+    private static class doAbortBatch_argsStandardScheme extends StandardScheme<doAbortBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getRecoveryInformation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbortBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8890,35 +23033,29 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILENAME
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.filename = iprot.readString();
-                struct.setFilenameIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // FILE_OPERATION
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.fileOperation = new FileOperation();
-                struct.fileOperation.read(iprot);
-                struct.setFileOperationIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // HOSTNAME
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.hostname = iprot.readString();
-                struct.setHostnameIsSet(true);
+            case 1: // FILE_OPS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+                  struct.fileOps = new ArrayList<FileOp>(_list64.size);
+                  FileOp _elem65;
+                  for (int _i66 = 0; _i66 < _list64.size; ++_i66)
+                  {
+                    _elem65 = new FileOp();
+                    _elem65.read(iprot);
+                    struct.fileOps.add(_elem65);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFileOpsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 4: // PORT
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.port = iprot.readI32();
-                struct.setPortIsSet(true);
+            case 2: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timestamp = iprot.readI64();
+                struct.setTimestampIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8934,27 +23071,24 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getRecoveryInformation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbortBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.filename != null) {
-          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
-          oprot.writeString(struct.filename);
-          oprot.writeFieldEnd();
-        }
-        if (struct.fileOperation != null) {
-          oprot.writeFieldBegin(FILE_OPERATION_FIELD_DESC);
-          struct.fileOperation.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.hostname != null) {
-          oprot.writeFieldBegin(HOSTNAME_FIELD_DESC);
-          oprot.writeString(struct.hostname);
+        if (struct.fileOps != null) {
+          oprot.writeFieldBegin(FILE_OPS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.fileOps.size()));
+            for (FileOp _iter67 : struct.fileOps)
+            {
+              _iter67.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(PORT_FIELD_DESC);
-        oprot.writeI32(struct.port);
+        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+        oprot.writeI64(struct.timestamp);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -8962,84 +23096,79 @@ public class FileStore {
 
     }
 
-    private static class getRecoveryInformation_argsTupleSchemeFactory implements SchemeFactory {
-      public getRecoveryInformation_argsTupleScheme getScheme() {
-        return new getRecoveryInformation_argsTupleScheme();
+    private static class doAbortBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public doAbortBatch_argsTupleScheme getScheme() {
+        return new doAbortBatch_argsTupleScheme();
       }
     }
 
-    private static class getRecoveryInformation_argsTupleScheme extends TupleScheme<getRecoveryInformation_args> {
+    private static class doAbortBatch_argsTupleScheme extends TupleScheme<doAbortBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doAbortBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFilename()) {
+        if (struct.isSetFileOps()) {
           optionals.set(0);
         }
-        if (struct.isSetFileOperation()) {
+        if (struct.isSetTimestamp()) {
           optionals.set(1);
         }
-        if (struct.isSetHostname()) {
-          optionals.set(2);
-        }
-        if (struct.isSetPort()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
-        if (struct.isSetFilename()) {
-          oprot.writeString(struct.filename);
-        }
-        if (struct.isSetFileOperation()) {
-          struct.fileOperation.write(oprot);
-        }
-        if (struct.isSetHostname()) {
-          oprot.writeString(struct.hostname);
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFileOps()) {
+          {
+            oprot.writeI32(struct.fileOps.size());
+            for (FileOp _iter68 : struct.fileOps)
+            {
+              _iter68.write(oprot);
+            }
+          }
         }
-        if (struct.isSetPort()) {
-          oprot.writeI32(struct.port);
+        if (struct.isSetTimestamp()) {
+          oprot.writeI64(struct.timestamp);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doAbortBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.filename = iprot.readString();
-          struct.setFilenameIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.fileOps = new ArrayList<FileOp>(_list69.size);
+            FileOp _elem70;
+            for (int _i71 = 0; _i71 < _list69.size; ++_i71)
+            {
+              _elem70 = new FileOp();
+              _elem70.read(iprot);
+              struct.fileOps.add(_elem70);
+            }
+          }
+          struct.setFileOpsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.fileOperation = new FileOperation();
-          struct.fileOperation.read(iprot);
-          struct.setFileOperationIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.hostname = iprot.readString();
-          struct.setHostnameIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.port = iprot.readI32();
-          struct.setPortIsSet(true);
+          struct.timestamp = iprot.readI64();
+          struct.setTimestampIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getRecoveryInformation_result implements org.apache.thrift.TBase<getRecoveryInformation_result, getRecoveryInformation_result._Fields>, java.io.Serializable, Cloneable, Comparable<getRecoveryInformation_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getRecoveryInformation_result");
+  public static class doAbortBatch_result implements org.apache.thrift.TBase<doAbortBatch_result, doAbortBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<doAbortBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbortBatch_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getRecoveryInformation_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getRecoveryInformation_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doAbortBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doAbortBatch_resultTupleSchemeFactory());
     }
 
-    public RecoveryInformation success; // required
+    public StatusReport success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -9108,18 +23237,18 @@ public class FileStore {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RecoveryInformation.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getRecoveryInformation_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbortBatch_result.class, metaDataMap);
     }
 
-    public getRecoveryInformation_result() {
+    public doAbortBatch_result() {
     }
 
-    public getRecoveryInformation_result(
-      RecoveryInformation success,
+    public doAbortBatch_result(
+      StatusReport success,
       SystemException systemException)
     {
       this();
@@ -9130,17 +23259,17 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getRecoveryInformation_result(getRecoveryInformation_result other) {
+    public doAbortBatch_result(doAbortBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new RecoveryInformation(other.success);
+        this.success = new StatusReport(other.success);
       }
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public getRecoveryInformation_result deepCopy() {
-      return new getRecoveryInformation_result(this);
+    public doAbortBatch_result deepCopy() {
+      return new doAbortBatch_result(this);
     }
 
     @Override
@@ -9149,11 +23278,11 @@ public class FileStore {
       this.systemException = null;
     }
 
-    public RecoveryInformation getSuccess() {
+    public StatusReport getSuccess() {
       return this.success;
     }
 
-    public getRecoveryInformation_result setSuccess(RecoveryInformation success) {
+    public doAbortBatch_result setSuccess(StatusReport success) {
       this.success = success;
       return this;
     }
@@ -9177,7 +23306,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public getRecoveryInformation_result setSystemException(SystemException systemException) {
+    public doAbortBatch_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -9203,7 +23332,7 @@ public class FileStore {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((RecoveryInformation)value);
+          setSuccess((StatusReport)value);
         }
         break;
 
@@ -9249,12 +23378,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getRecoveryInformation_result)
-        return this.equals((getRecoveryInformation_result)that);
+      if (that instanceof doAbortBatch_result)
+        return this.equals((doAbortBatch_result)that);
       return false;
     }
 
-    public boolean equals(getRecoveryInformation_result that) {
+    public boolean equals(doAbortBatch_result that) {
       if (that == null)
         return false;
 
@@ -9297,7 +23426,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(getRecoveryInformation_result other) {
+    public int compareTo(doAbortBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9341,7 +23470,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getRecoveryInformation_result(");
+      StringBuilder sb = new StringBuilder("doAbortBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -9387,15 +23516,15 @@ public class FileStore {
       }
     }
 
-    private static class getRecoveryInformation_resultStandardSchemeFactory implements SchemeFactory {
-      public getRecoveryInformation_resultStandardScheme getScheme() {
-        return new getRecoveryInformation_resultStandardScheme();
+    private static class doAbortBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public doAbortBatch_resultStandardScheme getScheme() {
+        return new doAbortBatch_resultStandardScheme();
       }
     }
 
-    private static class getRecoveryInformation_resultStandardScheme extends StandardScheme<getRecoveryInformation_result> {
+    private static class doAbortBatch_resultStandardScheme extends StandardScheme<doAbortBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getRecoveryInformation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbortBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9407,7 +23536,7 @@ public class FileStore {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new RecoveryInformation();
+                struct.success = new StatusReport();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -9434,7 +23563,7 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getRecoveryInformation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbortBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9454,16 +23583,16 @@ public class FileStore {
 
     }
 
-    private static class getRecoveryInformation_resultTupleSchemeFactory implements SchemeFactory {
-      public getRecoveryInformation_resultTupleScheme getScheme() {
-        return new getRecoveryInformation_resultTupleScheme();
+    private static class doAbortBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public doAbortBatch_resultTupleScheme getScheme() {
+        return new doAbortBatch_resultTupleScheme();
       }
     }
 
-    private static class getRecoveryInformation_resultTupleScheme extends TupleScheme<getRecoveryInformation_result> {
+    private static class doAbortBatch_resultTupleScheme extends TupleScheme<doAbortBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doAbortBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9482,11 +23611,11 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getRecoveryInformation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doAbortBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new RecoveryInformation();
+          struct.success = new StatusReport();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -1,21 +1,36 @@
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.Stack;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
 
 import org.apache.thrift.TException;
 
@@ -28,24 +43,164 @@ public class FileStoreServer implements FileStore.Iface{
 
 	private static String parentDirectory = null;
 	private static String archiveDirectory = null;
+	private static String stagingDirectory = null;
 	private static String logFilePathString = null;
+	/*
+	 * keeps the live files and their versions in the archive directory.
+	 * participant.storageEngine is one of,
+	 * 		VERSIONED			every version is a file of its own (see StorageEngine).
+	 * 		CONTENT_ADDRESSED	versions with the same content share one blob in <host>/blobs (see ContentAddressedStorageEngine).
+	 */
+	private static final StorageMode STORAGE_MODE = StorageMode.valueOf(System.getProperty("participant.storageEngine", StorageMode.VERSIONED.toString()));
+	private static StorageEngine storageEngine = null;
+	/*
+	 * the metadata of the files is kept in <host>.metadata (see MetadataIndex) and loaded into the lock table on startup.
+	 * participant.metadata.compactionRecords is the least number of changes after which the index is compacted.
+	 */
+	private static final long METADATA_COMPACTION_RECORDS = Long.getLong("participant.metadata.compactionRecords", 10000);
+	private static MetadataIndex metadataIndex = null;
 
-	private static HashMap<String, RFileMetadata> filesMap = new HashMap<String, RFileMetadata>();
-	private static HashMap<String, HashMap<Operation, Boolean>> ongoingOperationFlagMap = new HashMap<String, HashMap<Operation,Boolean>>();
-	private static Set<String> readyStateFiles = new HashSet<String>();
+	/*
+	 * the metadata of every file and the locks of the operations voted for (see LockTable).
+	 * participant.lockTimeout is how long in milliseconds a conflicting vote waits for the lock, 0 to vote against it right away.
+	 * 		it has to be well below the time the coordinator waits for the votes.
+	 * participant.lockPolicy decides by the timestamps of the transactions whether a conflicting vote waits at all,
+	 * 		WOUND_WAIT (the default) or WAIT_DIE (see LockTable.ConflictPolicy).
+	 * 		the coordinator hands out the timestamps in increasing order, so a vote nearly always conflicts with an older holder.
+	 * 		under WAIT_DIE such a vote gives up right away as it would with a lock timeout of 0, only WOUND_WAIT lets it wait.
+	 */
+	private static final long LOCK_TIMEOUT = Long.getLong("participant.lockTimeout", 2000);
+	private static final LockTable.ConflictPolicy LOCK_POLICY = LockTable.ConflictPolicy.valueOf(System.getProperty("participant.lockPolicy", LockTable.ConflictPolicy.WOUND_WAIT.toString()));
+	private static final LockTable lockTable = new LockTable(LOCK_POLICY);
 	private static final String COORDINATOR_HOSTNAME = "localhost";
 	private static final String COORDINATOR_IPADDRESS = "127.0.0.1";
 	private static final int COORDINATOR_PORT = 9090;
+	private static final int COORDINATOR_TIME_OUT = 5000;
+	/*
+	 * the log records are made durable by a log appender.
+	 * participant.log.durability is one of PER_RECORD, GROUP or INTERVAL (see LogAppender.DurabilityPolicy).
+	 * participant.log.flushInterval is the interval in milliseconds used by the INTERVAL policy.
+	 * participant.log.batchSize is the maximum number of records forced together.
+	 * participant.log.segmentSize is the size in bytes after which the log goes on in a new segment file.
+	 * participant.log.checkpointInterval is the interval in milliseconds between checkpoints, 0 to not checkpoint.
+	 * participant.log.archiveSegments keeps the segments covered by a checkpoint in <log>.archive instead of deleting them.
+	 */
+	private static final LogAppender.DurabilityPolicy LOG_DURABILITY_POLICY = LogAppender.DurabilityPolicy.valueOf(System.getProperty("participant.log.durability", LogAppender.DurabilityPolicy.GROUP.toString()));
+	private static final long LOG_FLUSH_INTERVAL = Long.getLong("participant.log.flushInterval", 5);
+	private static final int LOG_BATCH_SIZE = Integer.getInteger("participant.log.batchSize", 256);
+	private static final long LOG_SEGMENT_SIZE = Long.getLong("participant.log.segmentSize", 16 * 1024 * 1024);
+	private static final long LOG_CHECKPOINT_INTERVAL = Long.getLong("participant.log.checkpointInterval", 60000);
+	private static final boolean LOG_ARCHIVE_SEGMENTS = Boolean.getBoolean("participant.log.archiveSegments");
+	private static LogAppender logAppender = null;
+	private static LogCheckpointer logCheckpointer = null;
+	//number of threads applying the outcomes of the in-doubt operations on boot.
+	private static final int RECOVERY_THREADS = Integer.getInteger("participant.recoveryThreads", Runtime.getRuntime().availableProcessors());
+	/*
+	 * a large file is written in chunks (beginWrite, appendChunk, finishWrite) into a staging file, which the commit then moves into place.
+	 * so neither the upload nor the commit needs more memory than a chunk.
+	 * participant.maxChunkSize is the largest chunk handed out by readChunk.
+	 */
+	private static final int MAX_CHUNK_SIZE = Integer.getInteger("participant.maxChunkSize", 4 * 1024 * 1024);
+	/*
+	 * participant.readEngine is one of,
+	 * 		CHANNEL	every read reads the live file.
+	 * 		MMAP	live files are memory-mapped and repeated reads are served from the mappings (see MappedFileCache).
+	 * participant.mmap.maxMappings and participant.mmap.maxMappedBytes bound the number of mappings and the bytes mapped.
+	 */
+	private static final ReadEngine READ_ENGINE = ReadEngine.valueOf(System.getProperty("participant.readEngine", ReadEngine.CHANNEL.toString()));
+	private static final MappedFileCache mappedFileCache = READ_ENGINE.equals(ReadEngine.MMAP) ?
+			new MappedFileCache(Integer.getInteger("participant.mmap.maxMappings", 256), Long.getLong("participant.mmap.maxMappedBytes", 256L * 1024 * 1024)) : null;
+	/*
+	 * the content of recently read files is kept in memory (see ContentCache), whichever the read engine.
+	 * participant.contentCache.maxBytes bounds the bytes cached, 0 to not cache.
+	 * participant.contentCache.maxEntryBytes is the largest file that is cached.
+	 */
+	private static final long CONTENT_CACHE_MAX_BYTES = Long.getLong("participant.contentCache.maxBytes", 64L * 1024 * 1024);
+	private static final ContentCache contentCache = CONTENT_CACHE_MAX_BYTES > 0 ?
+			new ContentCache(CONTENT_CACHE_MAX_BYTES, Long.getLong("participant.contentCache.maxEntryBytes", 4L * 1024 * 1024)) : null;
+	/*
+	 * participant.compression is the codec the content of a write is stored with, NONE or DEFLATE.
+	 * 		only content of at least participant.compression.threshold bytes that comes out smaller is stored compressed.
+	 * 		participant.compression.level is the deflate level, from 1 (fastest) to 9 (smallest).
+	 * the codec and the length before compression are kept in the metadata, and the content is decompressed on read.
+	 * the content of chunked writes is always stored as is, so that it can be read in ranges.
+	 */
+	private static final Codec COMPRESSION_CODEC = Codec.valueOf(System.getProperty("participant.compression", Codec.NONE.toString()));
+	private static final int COMPRESSION_THRESHOLD = Integer.getInteger("participant.compression.threshold", 4096);
+	private static final int COMPRESSION_LEVEL = Integer.getInteger("participant.compression.level", Deflater.DEFAULT_COMPRESSION);
+	/*
+	 * participant.snapshotReads serves reads from the last committed version of a file, without putting the file in the ready state.
+	 * 		a read then never makes a write fail its vote, nor a prepared write a read.
+	 * 		the versions a write supersedes are kept for participant.snapshotRetention milliseconds, so that a reader can go on reading
+	 * 		the version it started with (readSnapshotChunk) while the file is rewritten. versions behind that watermark are garbage collected.
+	 * 		the versions kept are only known in memory, after a restart only the current version of a file can be read.
+	 * whichever the mode, the committed versions of a file are kept in snapshotVersions along with their version files,
+	 * 		the current and the previous one (the rollback image), and those kept for snapshot reads.
+	 * 		a read looks up the version file of the metadata it got and reads that, never the live file, so the content it returns
+	 * 		is always the one its metadata describes even if the file is rewritten in between (see readCommittedVersion).
+	 */
+	private static final boolean SNAPSHOT_READS = Boolean.getBoolean("participant.snapshotReads");
+	private static final long SNAPSHOT_RETENTION = Long.getLong("participant.snapshotRetention", 60000);
+	private static final ConcurrentMap<String, ConcurrentNavigableMap<Integer, SnapshotVersion>> snapshotVersions = new ConcurrentHashMap<String, ConcurrentNavigableMap<Integer, SnapshotVersion>>();
+	private static ScheduledExecutorService snapshotCollector = null;
+	/*
+	 * participant.stagedWriteTimeout is how long (in milliseconds) a chunked write that has not been voted for may stay idle
+	 * 		before its staging file is removed, in case the coordinator never finishes or aborts it.
+	 * 		it is meant to be longer than coordinator.chunkedWriteTimeout, which aborts the write on all the servers.
+	 */
+	private static final long STAGED_WRITE_TIMEOUT = Long.getLong("participant.stagedWriteTimeout", 120000);
+	private static ScheduledExecutorService stagedWriteSweeper = null;
+	private static final ConcurrentMap<Long, StagedWrite> stagedWrites = new ConcurrentHashMap<Long, StagedWrite>();
+	private static final AtomicLong writeIdGenerator = new AtomicLong(new Date().getTime() * 1000);
+	/*
+	 * a write or delete that was voted for stays in doubt, and keeps its file locked, until it is carried out and its commit is logged.
+	 * 		otherwise a later transaction on the file could commit first, and be overwritten (or, for a delete, undone)
+	 * 		once the recovery carries out the earlier one.
+	 * participant.commitRetryInterval is how long in milliseconds a commit that could not be carried out or logged waits before
+	 * 		it is tried again, and how long an operation still in doubt after the recovery on boot waits before it is recovered again.
+	 */
+	private static final long COMMIT_RETRY_INTERVAL = Long.getLong("participant.commitRetryInterval", 5000);
+	private static ScheduledExecutorService commitRetrier = null;
+
+	private static class StagedWrite{
+		private final String filename;
+		private final FileChannel fileChannel;
+		//guarded by the StagedWrite object.
+		private boolean finished = false;
+		//set once the write is voted for, its staging file is then only removed by the commit or abort. guarded by the StagedWrite object.
+		private boolean prepared = false;
+		//the time the write was begun or last had a chunk appended. guarded by the StagedWrite object.
+		private long lastActivity = new Date().getTime();
+
+		private StagedWrite(String filename, FileChannel fileChannel){
+			this.filename = filename;
+			this.fileChannel = fileChannel;
+		}
+	}
+
+	private static class SnapshotVersion{
+		//the metadata of the version as committed.
+		private final RFileMetadata metadata;
+		private final Path versionPath;
+
+		private SnapshotVersion(RFileMetadata metadata, Path versionPath){
+			this.metadata = metadata;
+			this.versionPath = versionPath;
+		}
+	}
 
-	private static final Map<Operation, Boolean> definedOperationFlagMap;
+	private static interface VersionRead<T>{
+		T read(SnapshotVersion committedVersion) throws IOException;
+	}
 
-	static{
-		Map<Operation, Boolean> definedOperationFlagInitializerMap = new HashMap<Operation, Boolean>();
-		definedOperationFlagInitializerMap.put(Operation.READ, true);
-		definedOperationFlagInitializerMap.put(Operation.WRITE, false);
-		definedOperationFlagInitializerMap.put(Operation.DELETE, false);
+	private static enum StorageMode{
+		VERSIONED,
+		CONTENT_ADDRESSED;
+	}
 
-		definedOperationFlagMap = Collections.unmodifiableMap(definedOperationFlagInitializerMap);
+	private static enum ReadEngine{
+		CHANNEL,
+		MMAP;
 	}
 
 	private static enum OperationStatus{
@@ -76,213 +231,356 @@ public class FileStoreServer implements FileStore.Iface{
 
 		parentDirectory = hostname+"/live";
 		archiveDirectory = hostname+"/archive";
+		stagingDirectory = hostname+"/staging";
 		logFilePathString = hostname+".log";
 		File parentDirectoryFile = new File(parentDirectory);
 		File archiveDirectoryFile = new File(archiveDirectory);
+		File stagingDirectoryFile = new File(stagingDirectory);
 		if(!parentDirectoryFile.exists()){
 			if(parentDirectoryFile.mkdirs()){}
 		}
 		if(!archiveDirectoryFile.exists()){
 			if(archiveDirectoryFile.mkdirs()){}
 		}
+		if(!stagingDirectoryFile.exists()){
+			if(stagingDirectoryFile.mkdirs()){}
+		}
+
+		try{
+			if(STORAGE_MODE.equals(StorageMode.CONTENT_ADDRESSED)){
+				storageEngine = new ContentAddressedStorageEngine(parentDirectory, archiveDirectory, hostname+"/blobs");
+			}
+			else{
+				storageEngine = new StorageEngine(parentDirectory, archiveDirectory);
+			}
+			//nothing is written before the sweep, the server is not serving yet.
+			int removed = storageEngine.sweep();
+			if(removed > 0){
+				System.out.println("Removed "+removed+" files left behind by incomplete writes");
+			}
+			if(SNAPSHOT_READS){
+				storageEngine.setRetentionInterval(SNAPSHOT_RETENTION);
+				startSnapshotCollector();
+			}
+			startStagedWriteSweeper();
+			startCommitRetrier();
+		}
+		catch(IOException ioException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error opening "+archiveDirectory+" : "+ioException.getMessage());
+			throw systemException;
+		}
+
+		try{
+			metadataIndex = new MetadataIndex(hostname+".metadata", METADATA_COMPACTION_RECORDS);
+			for(RFileMetadata metadata : metadataIndex.getEntries().values()){
+				addSnapshotVersion(metadata);
+				lockTable.putMetadata(metadata);
+			}
+		}
+		catch(IOException ioException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error loading the metadata of "+hostname+" : "+ioException.getMessage());
+			throw systemException;
+		}
 
-		Map<String, FileOperation> inconsistentLog = getInconsistentLog();
+		List<LogRecord> inconsistentLog = getInconsistentLog();
+		try{
+			logAppender = new LogAppender(logFilePathString, LOG_DURABILITY_POLICY, LOG_FLUSH_INTERVAL, LOG_BATCH_SIZE, LOG_SEGMENT_SIZE);
+			logCheckpointer = new LogCheckpointer(logAppender, LogCheckpoint.Role.PARTICIPANT, LOG_ARCHIVE_SEGMENTS);
+			logCheckpointer.start(LOG_CHECKPOINT_INTERVAL);
+		}
+		catch(IOException ioException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error opening "+logFilePathString+" : "+ioException.getMessage());
+			throw systemException;
+		}
+		/*
+		 * the staging files of chunked writes that are in doubt are still needed by the recovery,
+		 * 		hence the staging directory is only swept once nothing is in doubt anymore.
+		 */
 		if(inconsistentLog != null){
-			for(Map.Entry<String, FileOperation> inconsistentLogEntry : inconsistentLog.entrySet()){
-				FileStore.Client coordinator = ServerFetcher.getServer(COORDINATOR_HOSTNAME, COORDINATOR_PORT);
-				RecoveryInformation recoveryInformation = null;
-				RFile rFile = null;
-				try {
-					recoveryInformation = coordinator.getRecoveryInformation(inconsistentLogEntry.getKey(), inconsistentLogEntry.getValue(), this.hostname, this.port);
-					if(recoveryInformation.getStatus().equals(Status.SUCCESSFUL)){
-						if(inconsistentLogEntry.getValue().getOperation().equals(Operation.WRITE)){
-							rFile = recoveryInformation.getRFile();
-							FileOutputStream liveFileOutputStream = null;
-							FileOutputStream archiveFileOutputStream = null;
-							byte[] contentBytes = rFile.getContent().getBytes();
-							try{
-								liveFileOutputStream = new FileOutputStream(parentDirectory+"/"+rFile.getMetadata().getFilename(), true);
-								archiveFileOutputStream = new FileOutputStream(archiveDirectory+"/"+rFile.getMetadata().getFilename(), true);
-								liveFileOutputStream.write(contentBytes);
-								archiveFileOutputStream.write(contentBytes);
-								writeLog(OperationStatus.GLOBAL_COMMIT, inconsistentLogEntry.getValue(), inconsistentLogEntry.getKey());
-							}
-							catch(FileNotFoundException fileNotFoundException){
-								fileNotFoundException.printStackTrace();
-							}
-							catch(IOException ioException){
-								ioException.printStackTrace();
-							}
-							finally{
-								try{
-									if(liveFileOutputStream != null){
-										liveFileOutputStream.close();
-									}
-									if(archiveFileOutputStream != null){
-										archiveFileOutputStream.close();
-									}
-								}
-								catch(IOException exception){
-									exception.printStackTrace();
-								}
-							}
+			inconsistentLog = recover(inconsistentLog);
+		}
+		if(inconsistentLog == null || inconsistentLog.isEmpty()){
+			sweepStagingDirectory();
+		}
+		else{
+			lockInDoubt(inconsistentLog);
+			retryRecovery(inconsistentLog);
+		}
+		if(contentCache != null){
+			Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+				@Override
+				public void run() {
+					System.out.println("Content cache of "+FileStoreServer.this.hostname+" : "+contentCache);
+				}
+			}));
+		}
+	}
+
+	private List<LogRecord> recover(List<LogRecord> inconsistentLog) throws SystemException{
+		/*
+		 * asks the coordinator for the outcome of all the in-doubt operations in one round trip,
+		 * 		each identified by the transaction it was voted for in,
+		 * 		then applies the outcomes in parallel, as they are on different files.
+		 * the outcome of every operation is logged once it is applied, so that it is no longer in doubt on the next boot.
+		 * 		an outcome that could not be applied is not logged, the operation stays in doubt until it is recovered again (see retryRecovery).
+		 * the log records of the outcomes are forced to disk together by the log appender, and awaited once all of them are applied.
+		 * returns the operations still in doubt, all of them if the outcomes could not be fetched, none if every outcome was applied.
+		 */
+		final List<RecoveryRequest> recoveryRequests = new ArrayList<RecoveryRequest>(inconsistentLog.size());
+		for(LogRecord logRecord : inconsistentLog){
+			recoveryRequests.add(new RecoveryRequest(logRecord.getFilename(), new FileOperation(logRecord.getOperation()), logRecord.getTransactionId()));
+		}
+		ServerInfo coordinatorInfo = new ServerInfo(COORDINATOR_HOSTNAME, COORDINATOR_IPADDRESS, COORDINATOR_PORT);
+		FileStore.Client coordinator = ServerFetcher.borrowServer(coordinatorInfo, new Date().getTime() + COORDINATOR_TIME_OUT);
+		if(coordinator == null){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Coordinator not reachable, cannot recover "+inconsistentLog.size()+" operations");
+			throw systemException;
+		}
+		boolean reusable = false;
+		final List<RecoveryInformation> recoveryInformationList;
+		try{
+			recoveryInformationList = coordinator.getRecoveryInformationBatch(recoveryRequests, this.hostname, this.port);
+			reusable = true;
+		}
+		catch(TException tException){
+			tException.printStackTrace();
+			return inconsistentLog;
+		}
+		finally{
+			ServerFetcher.returnServer(coordinatorInfo, coordinator, reusable);
+		}
+
+		ExecutorService recoveryExecutor = Executors.newFixedThreadPool(Math.max(1, Math.min(RECOVERY_THREADS, recoveryRequests.size())));
+		List<LogRecord> inDoubtRecords = new ArrayList<LogRecord>();
+		try{
+			List<Future<Future<Long>>> recoveries = new ArrayList<Future<Future<Long>>>(recoveryRequests.size());
+			for(int i = 0; i < recoveryRequests.size(); i++){
+				final RecoveryRequest recoveryRequest = recoveryRequests.get(i);
+				final RecoveryInformation recoveryInformation = recoveryInformationList.get(i);
+				recoveries.add(recoveryExecutor.submit(new Callable<Future<Long>>() {
+					@Override
+					public Future<Long> call() throws Exception {
+						if(!applyRecovery(recoveryRequest.getFileOperation(), recoveryInformation)){
+							return null;
 						}
-						else if(inconsistentLogEntry.getValue().getOperation().equals(Operation.DELETE)){
-							rFile = recoveryInformation.getRFile();
-							String fileToDeletePathString = rFile.getMetadata().getFilename();
-							Path livePath = Paths.get(parentDirectory+"/"+fileToDeletePathString);
-							Path archivePath = Paths.get(archiveDirectory+"/"+fileToDeletePathString);
-							if(Files.exists(livePath)){
-								try {
-									Files.delete(livePath);
-								} catch (IOException e) {
-									e.printStackTrace();
-								}
-							}
-							if(Files.exists(archivePath)){
-								try {
-									Files.delete(archivePath);
-								} catch (IOException e) {
-									e.printStackTrace();
-								}
-							}
+						if(recoveryInformation.getStatus().equals(Status.SUCCESSFUL)){
+							return appendLog(OperationStatus.GLOBAL_COMMIT, recoveryRequest.getFileOperation(), recoveryRequest.getTransactionId(), recoveryRequest.getFilename());
 						}
+						return appendLog(OperationStatus.ABORT, recoveryRequest.getFileOperation(), recoveryRequest.getTransactionId(), recoveryRequest.getFilename());
+					}
+				}));
+			}
+			for(int i = 0; i < recoveries.size(); i++){
+				try{
+					Future<Long> logRecord = recoveries.get(i).get();
+					if(logRecord != null){
+						awaitLog(logRecord, recoveryRequests.get(i).getFilename());
 					}
 					else{
-						//rolling back to the archive directory
-						try {
-							File[] archiveFiles = archiveDirectoryFile.listFiles();
-							Path destinationPath = null;
-							for(File archiveFile : archiveFiles){
-								destinationPath = archiveFile.toPath();
-								Files.copy(archiveFile.toPath(), destinationPath);
-							}
-						} catch (IOException e) {
-							e.printStackTrace();
-						}
+						inDoubtRecords.add(inconsistentLog.get(i));
 					}
-				} catch (TException e) {
-					e.printStackTrace();
+				}
+				catch(ExecutionException executionException){
+					executionException.getCause().printStackTrace();
+					inDoubtRecords.add(inconsistentLog.get(i));
+				}
+				catch(InterruptedException interruptedException){
+					Thread.currentThread().interrupt();
+					SystemException systemException = new SystemException();
+					systemException.setMessage("Interrupted while recovering "+recoveryRequests.get(i).getFilename());
+					throw systemException;
 				}
 			}
 		}
-
+		finally{
+			recoveryExecutor.shutdown();
+		}
+		return inDoubtRecords;
 	}
 
-	public static FileStoreServer getInstance(String hostname, String ipAddress, int port) throws SystemException{
-		if(singletonInstance == null){
-			singletonInstance = new FileStoreServer(hostname, ipAddress, port);
-			return singletonInstance;
+	private static void lockInDoubt(List<LogRecord> inDoubtRecords){
+		/*
+		 * locks the files of the writes and deletes still in doubt after the recovery on boot, until they are recovered (see retryRecovery).
+		 * 		the lock is taken for a write, whichever the operation, as the file of a delete may be gone already.
+		 * 		the server is not serving yet, hence nothing else holds a lock.
+		 * a read in doubt changes nothing, its file is left alone.
+		 */
+		for(LogRecord logRecord : inDoubtRecords){
+			if(Operation.READ.equals(logRecord.getOperation())){
+				continue;
+			}
+			try{
+				lockTable.lock(logRecord.getFilename(), Operation.WRITE, logRecord.getTransactionId(), 0);
+			}
+			catch(InterruptedException interruptedException){
+				Thread.currentThread().interrupt();
+				return;
+			}
 		}
-		return singletonInstance;
 	}
 
-	private static Map<String, FileOperation> getInconsistentLog(){
-		Path logFilePath = Paths.get(logFilePathString);
-		if(!Files.exists(logFilePath)){
-			new File(logFilePathString);
-			return null;
-		}
-		else{
-			BufferedReader bufferedReader = null;
-			Stack<String> readStack = new Stack<String>();
-			Stack<String> writeStack = new Stack<String>();
-			Stack<String> deleteStack = new Stack<String>();
-			String line = null;
-			String[] lastLogComponents = null;
-			String[] fileInfoLastLineLog = null;
-			File logFile = new File(logFilePathString);
-			try{
-				bufferedReader = new BufferedReader(new FileReader(logFile));
-				while((line = bufferedReader.readLine()) != null){
-					lastLogComponents = line.split(":");
-					fileInfoLastLineLog = lastLogComponents[1].split("\\s+");
-					if(lastLogComponents[0].equals(OperationStatus.GLOBAL_COMMIT) || lastLogComponents[0].equals(OperationStatus.ABORT)){
-						if(fileInfoLastLineLog[0].equals("READ")){
-							if(!readStack.isEmpty()){
-								readStack.pop();
-							}
-						}
-						else if(fileInfoLastLineLog[0].equals("WRITE")){
-							if(!writeStack.isEmpty()){
-								writeStack.pop();
-							}
-						}
-						else{
-							//DELETE operation
-							if(!deleteStack.isEmpty()){
-								deleteStack.pop();
-							}
-						}
-					}
-					else{
-						if(lastLogComponents[0].equals(OperationStatus.LOCAL_COMMIT)){
-							if(fileInfoLastLineLog[0].equals("READ")){
-								readStack.push(lastLogComponents[1]);
-							}
-							else if(fileInfoLastLineLog[0].equals("WRITE")){
-								writeStack.push(lastLogComponents[1]);
-							}
-							else{
-								//DELETE operation
-								deleteStack.push(lastLogComponents[1]);
-							}
-						}
-					}
+	private void retryRecovery(final List<LogRecord> inDoubtRecords){
+		/*
+		 * recovers the operations still in doubt after participant.commitRetryInterval, and releases the files of those recovered.
+		 * the ones that are still in doubt are tried again later.
+		 */
+		commitRetrier.schedule(new Runnable() {
+			@Override
+			public void run() {
+				List<LogRecord> remainingRecords = inDoubtRecords;
+				try{
+					remainingRecords = recover(inDoubtRecords);
 				}
-				/*
-				 * now we check whether all of the stacks are empty
-				 * if yes then return null
-				 * else return all the values that are still present in the stacks
-				 */
-				if(readStack.isEmpty() && writeStack.isEmpty() && deleteStack.isEmpty()){
-					return null;
+				catch(SystemException systemException){
+					System.out.println("Error recovering "+inDoubtRecords.size()+" operations : "+systemException.getMessage());
 				}
-				else{
-					Map<String, FileOperation> inconsistentMap = new HashMap<String, FileOperation>();
-					if(!readStack.isEmpty()){
-						while(!readStack.isEmpty()){
-							FileOperation fileOperation = new FileOperation(Operation.READ);
-							inconsistentMap.put(readStack.pop(), fileOperation);
-						}
+				for(LogRecord logRecord : inDoubtRecords){
+					if(!remainingRecords.contains(logRecord) && !Operation.READ.equals(logRecord.getOperation())){
+						lockTable.unlock(logRecord.getFilename(), Operation.WRITE, logRecord.getTransactionId());
 					}
-					if(!writeStack.isEmpty()){
-						while(!writeStack.isEmpty()){
-							FileOperation fileOperation = new FileOperation(Operation.WRITE);
-							inconsistentMap.put(writeStack.pop(), fileOperation);
-						}
+				}
+				if(!remainingRecords.isEmpty()){
+					retryRecovery(remainingRecords);
+				}
+			}
+		}, COMMIT_RETRY_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
+	private static void retryCommit(final RFile rFile, final Operation operation, final long timestamp, final boolean carriedOut){
+		/*
+		 * carries out a write or delete whose commit could not be carried out or logged after participant.commitRetryInterval,
+		 * 		then logs it and releases the file. until then the transaction keeps the file locked and the operation stays in doubt,
+		 * 		so if the participant goes down first, the recovery carries it out instead.
+		 * an operation carried out already is only logged.
+		 */
+		commitRetrier.schedule(new Runnable() {
+			@Override
+			public void run() {
+				String filename = rFile.getMetadata().getFilename();
+				boolean applied = carriedOut || applyRecovery(new FileOperation(operation), new RecoveryInformation(Status.SUCCESSFUL, rFile));
+				if(applied){
+					try{
+						writeLog(OperationStatus.GLOBAL_COMMIT, new FileOperation(operation), timestamp, filename);
+						lockTable.unlock(filename, operation, timestamp);
+						return;
 					}
-					if(!deleteStack.isEmpty()){
-						while(!deleteStack.isEmpty()){
-							FileOperation fileOperation = new FileOperation(Operation.DELETE);
-							inconsistentMap.put(deleteStack.pop(), fileOperation);
-						}
+					catch(SystemException systemException){
+						System.out.println("Error committing "+operation+" of "+filename+" : "+systemException.getMessage());
 					}
-					return inconsistentMap;
 				}
+				retryCommit(rFile, operation, timestamp, applied);
 			}
-			catch(FileNotFoundException fileNotFoundException){
+		}, COMMIT_RETRY_INTERVAL, TimeUnit.MILLISECONDS);
+	}
 
+	private static void sweepStagingDirectory(){
+		/*
+		 * removes the staging files of chunked writes that were neither committed nor aborted before the last shutdown.
+		 */
+		File[] stagingFiles = new File(stagingDirectory).listFiles();
+		if(stagingFiles == null){
+			return;
+		}
+		for(File stagingFile : stagingFiles){
+			try{
+				Files.deleteIfExists(stagingFile.toPath());
 			}
 			catch(IOException ioException){
+				ioException.printStackTrace();
+			}
+		}
+	}
 
+	private static boolean applyRecovery(FileOperation fileOperation, RecoveryInformation recoveryInformation){
+		/*
+		 * returns false if the outcome could not be applied.
+		 */
+		RFile rFile = null;
+		if(recoveryInformation.getStatus().equals(Status.SUCCESSFUL)){
+			if(fileOperation.getOperation().equals(Operation.WRITE)){
+				rFile = recoveryInformation.getRFile();
+				if(!rFile.isSetContent() && !rFile.isSetWriteId()){
+					//the coordinator restarted since and only knows that the write was committed, not its content.
+					System.out.println("Error recovering "+rFile.getMetadata().getFilename()+" : content of the committed write not available");
+					return false;
+				}
+				try{
+					storeFile(rFile);
+				}
+				catch(SystemException systemException){
+					System.out.println("Error recovering "+rFile.getMetadata().getFilename()+" : "+systemException.getMessage());
+					return false;
+				}
 			}
-			finally{
+			else if(fileOperation.getOperation().equals(Operation.DELETE)){
+				rFile = recoveryInformation.getRFile();
+				String fileToDeletePathString = rFile.getMetadata().getFilename();
+				//the delete may have been carried out in part already, a file that is gone is no error.
+				beginUpdate(fileToDeletePathString);
 				try{
-					if(bufferedReader != null){
-						bufferedReader.close();
+					if(Files.exists(storageEngine.getLivePath(fileToDeletePathString))){
+						storageEngine.delete(fileToDeletePathString);
 					}
+					metadataIndex.remove(fileToDeletePathString);
+					lockTable.removeMetadata(fileToDeletePathString);
+					snapshotVersions.remove(fileToDeletePathString);
+				}
+				catch(IOException ioException){
+					System.out.println("Error recovering "+fileToDeletePathString+" : "+ioException.getMessage());
+					return false;
 				}
-				catch(IOException ioException2){
-					ioException2.printStackTrace();
+				finally{
+					endUpdate(fileToDeletePathString);
 				}
 			}
+		}
+		/*
+		 * nothing to undo for an aborted operation, the live file is only ever changed by a commit,
+		 * 		and a committed write replaces it in one rename, so it is never left partly written.
+		 */
+		return true;
+	}
+
+
+	public static FileStoreServer getInstance(String hostname, String ipAddress, int port) throws SystemException{
+		if(singletonInstance == null){
+			singletonInstance = new FileStoreServer(hostname, ipAddress, port);
+			return singletonInstance;
+		}
+		return singletonInstance;
+	}
+
+	private static List<LogRecord> getInconsistentLog(){
+		/*
+		 * finds the operations that were voted for (LOCAL_COMMIT) but never got a decision (GLOBAL_COMMIT or ABORT).
+		 * only the log after the last checkpoint is replayed, the checkpoint holds the operations in doubt before it.
+		 * returns null if there are no such operations.
+		 */
+		LogCheckpoint logCheckpoint = null;
+		try{
+			logCheckpoint = LogCheckpoint.recover(logFilePathString, LogCheckpoint.Role.PARTICIPANT);
+		}
+		catch(IOException ioException){
+			System.out.println("Error recovering from "+logFilePathString+" : "+ioException.getMessage());
+			return null;
+		}
+		List<LogRecord> inDoubtRecords = logCheckpoint.getPendingRecords();
+		if(inDoubtRecords.isEmpty()){
 			return null;
 		}
+		return inDoubtRecords;
 	}
 
 	@Override
 	public StatusReport writeFile(RFile rFile) throws SystemException, TException {
+		return storeFile(rFile);
+	}
+
+	private static StatusReport storeFile(RFile rFile) throws SystemException{
 		/*
 		 * set operation flag to false
 		 * checking whether file with the given name exists in the directory
@@ -298,200 +596,144 @@ public class FileStoreServer implements FileStore.Iface{
 		 *
 		 * set operation flag to null
 		 * return statusReport
+		 *
+		 * the content is written once, straight from the buffer it was received in, as a new version of the file (see StorageEngine).
+		 * the content of a chunked write is already in its staging file, which becomes the new version instead.
+		 * the metadata is made durable in the metadata index before the write returns.
+		 * if the metadata cannot be brought up to date, the file is rolled back to its previous version.
+		 * also applies the writes committed while the participant was down, on recovery.
 		 */
 		RFileMetadata metadataFromRFile = rFile.getMetadata();
 		RFileMetadata fileMetadata = null;
 		String filenameToWrite= metadataFromRFile.getFilename();
-		String content = rFile.getContent();
+		ByteBuffer content = getContentBuffer(rFile);
+		long contentLength = 0;
+		long rawLength = 0;
+		Codec codec = Codec.NONE;
 		String contentHash = null;
 		StatusReport statusReport = null;
-		File liveFile = null, archiveFile = null;
-		FileOutputStream liveFileOutputStream = null, archiveFileOutputStream = null;
+		boolean published = false;
 
-		liveFile = new File(parentDirectory+"/"+filenameToWrite);
-		archiveFile = new File(archiveDirectory+"/"+filenameToWrite);
-
-		if(filesMap.containsKey(filenameToWrite)){
-			try{
-				//overwriting the content
-				liveFileOutputStream = new FileOutputStream(liveFile, false);
-				liveFileOutputStream.write(rFile.getContent().getBytes());
-				liveFileOutputStream.flush();
-
-				//need to overwrite the same content in the corresponding archive file also.
-				archiveFileOutputStream = new FileOutputStream(archiveFile, false);
-				archiveFileOutputStream.write(rFile.getContent().getBytes());
-				archiveFileOutputStream.flush();
+		//the file must not be read through a mapping while it is rewritten.
+		beginUpdate(filenameToWrite);
+		try{
+			if(rFile.isSetWriteId()){
+				contentLength = installStagedContent(rFile.getWriteId(), filenameToWrite);
+				published = true;
+				rawLength = contentLength;
+				contentHash = new String(getContentHash(storageEngine.getLivePath(filenameToWrite)));
+			}
+			else{
+				//the hash is of the content as written by the client, whichever way it is stored.
+				contentHash = new String(getContentHash(content));
+				rawLength = content.remaining();
+				ByteBuffer compressedContent = compressContent(content);
+				if(compressedContent != null){
+					codec = COMPRESSION_CODEC;
+					content = compressedContent;
+				}
+				//replacing the content, or creating the file if it is new.
+				contentLength = storageEngine.write(filenameToWrite, content);
+				published = true;
+			}
 
+			/*
+			 * the metadata is copied rather than updated in place, as it is read without any lock.
+			 * only the prepared write of a file (or the recovery) stores it, so nothing else changes the metadata meanwhile.
+			 */
+			RFileMetadata previousMetadata = lockTable.getMetadata(filenameToWrite);
+			if(previousMetadata != null){
 				//updating meta information
-				fileMetadata = filesMap.get(filenameToWrite);
+				fileMetadata = previousMetadata.deepCopy();
 				fileMetadata.setUpdated(new Date().getTime());
-				fileMetadata.setContentHash(metadataFromRFile.getContentHash());
 				fileMetadata.setVersion(fileMetadata.getVersion()+1);
-				fileMetadata.setContentLength(content.length());
-				contentHash = new String(MessageDigest.getInstance("MD5").digest(rFile.getContent().getBytes()));
+				fileMetadata.setContentLength(contentLength);
 				fileMetadata.setContentHash(contentHash);
-
-				//putting back the updated metadata
-				filesMap.put(filenameToWrite, fileMetadata);
-
-				//setting statusReport to be SUCCESSFUL
-				statusReport = new StatusReport();
-				statusReport.setStatus(Status.SUCCESSFUL);
-			}
-			catch(FileNotFoundException fileNotFoundException){
-				SystemException systemException = new FileNotPresentException();
-				systemException.setMessage(filenameToWrite+" not found!");
-				throw systemException;
-			}
-			catch(IOException ioException){
-				SystemException systemException = new FileNotPresentException();
-				systemException.setMessage("Error opening file : "+filenameToWrite+"!");
-				throw systemException;
-			}
-			catch (NoSuchAlgorithmException e) {
-				e.printStackTrace();
-			}
-			finally{
-				try{
-					if(liveFileOutputStream != null){
-						liveFileOutputStream.close();
-					}
-					if(archiveFileOutputStream != null){
-						archiveFileOutputStream.close();
-					}
-				}
-				catch(IOException ioException2){
-					SystemException systemException = new SystemException();
-					systemException.setMessage("Error closing file : "+filenameToWrite+"!");
-					throw systemException;
-				}
 			}
-		}
-		else{
-			try{
-				//creating new file and write contents
-				liveFileOutputStream = new FileOutputStream(liveFile);
-				liveFileOutputStream.write(rFile.getContent().getBytes());
-				liveFileOutputStream.flush();
-
-				//need to write the same contents to the archive file also
-				archiveFileOutputStream = new FileOutputStream(archiveFile);
-				archiveFileOutputStream.write(rFile.getContent().getBytes());
-				archiveFileOutputStream.flush();
-
+			else{
 				//creating new meta information
 				long created = new Date().getTime();
-				contentHash = new String(MessageDigest.getInstance("MD5").digest(rFile.getContent().getBytes()));
-				fileMetadata = createNewMetadata(created, created, 0, content.length(), contentHash, filenameToWrite);
+				fileMetadata = createNewMetadata(created, created, 0, contentLength, contentHash, filenameToWrite);
+			}
+			fileMetadata.setCodec(codec);
+			fileMetadata.setRawLength(rawLength);
 
-				//putting back the updated metadata
-				filesMap.put(filenameToWrite, fileMetadata);
+			/*
+			 * the metadata is made durable before it is put back.
+			 * the version is known before its metadata is put back, so that a reader finds the version file of any metadata it gets.
+			 */
+			metadataIndex.put(fileMetadata);
+			addSnapshotVersion(fileMetadata);
+			lockTable.putMetadata(fileMetadata);
 
-				//setting statusReport to be SUCCESSFUL
-				statusReport = new StatusReport();
-				statusReport.setStatus(Status.SUCCESSFUL);
-				setOperationFlag(filenameToWrite, Operation.WRITE, null);
-				if(readyStateFiles.contains(filenameToWrite)){
-					removeReadyStateFile(filenameToWrite);
-				}
-			}
-			catch(FileNotFoundException fileNotFoundException){
-				SystemException systemException = new FileNotPresentException();
-				systemException.setMessage(filenameToWrite+" not found!");
-				throw systemException;
-			}
-			catch(IOException ioException){
-				SystemException systemException = new FileNotPresentException();
-				systemException.setMessage("Error opening file : "+filenameToWrite+"!");
-				throw systemException;
-			}
-			catch(NoSuchAlgorithmException noSuchAlgorithmException){
-				SystemException systemException = new SystemException();
-				systemException.setMessage("Error creating content hash!");
-				throw systemException;
+			//setting statusReport to be SUCCESSFUL
+			statusReport = new StatusReport();
+			statusReport.setStatus(Status.SUCCESSFUL);
+		}
+		catch(IOException ioException){
+			if(published){
+				rollback(filenameToWrite);
 			}
-			finally{
-				try{
-					if(liveFileOutputStream != null){
-						liveFileOutputStream.close();
-					}
-					if(archiveFileOutputStream != null){
-						archiveFileOutputStream.close();
-					}
-				}
-				catch(IOException ioException2){
-					SystemException systemException = new SystemException();
-					systemException.setMessage("Error closing file : "+filenameToWrite+"!");
-					throw systemException;
-				}
+			SystemException systemException = new FileNotPresentException();
+			systemException.setMessage("Error writing file : "+filenameToWrite+"!");
+			throw systemException;
+		}
+		catch(NoSuchAlgorithmException noSuchAlgorithmException){
+			if(published){
+				rollback(filenameToWrite);
 			}
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error creating content hash!");
+			throw systemException;
+		}
+		finally{
+			endUpdate(filenameToWrite);
 		}
 		return statusReport;
 	}
 
 	@Override
-	public RFile readFile(String filenameToRead) throws SystemException, TException {
+	public RFile readFile(final String filenameToRead) throws SystemException, TException {
 
 		/*
-		 * set operation flag to true
 		 * checking whether a file with the given name exists within the directory
-		 * 	if yes then we read in the contents of the file, set operation flag to be null and return it
+		 * 	if yes then we read in the contents of the file and return it
 		 * 	else we return FileNotPresentException
+		 * the file is read as is into a buffer of its size, which is handed to thrift without another copy.
+		 * compressed content is decompressed, and the metadata sent along describes the decompressed content.
 		 */
-		RFileMetadata metadata;
-		RFile rFile = new RFile();
-		String content;
-		StringBuilder contentBuilder = new StringBuilder("");
-		File file;
-		BufferedReader bufferedReader = null;
-		String line;
-
-		if(filesMap.containsKey(filenameToRead)){
-			try{
-				file = new File(parentDirectory+"/"+filenameToRead);
-				metadata = filesMap.get(filenameToRead);
-				bufferedReader = new BufferedReader(new FileReader(file));
-				while((line = bufferedReader.readLine()) != null){
-					contentBuilder.append(line+"\n");
-				}
-				contentBuilder.setLength(contentBuilder.length()-1);
-				content = contentBuilder.toString();
-
-				//setting metadata and content to RFile object
-				rFile.setContent(content);
-				rFile.setMetadata(metadata);
-			}
-			catch(FileNotFoundException fileNotFoundException){
-				SystemException systemException = new FileNotPresentException();
-				systemException.setMessage(filenameToRead+" not present!");
-				throw systemException;
-			}
-			catch(IOException ioException){
-				SystemException systemException = new SystemException();
-				systemException.setMessage("Error opening file : "+filenameToRead);
-				throw systemException;
-			}
-			finally{
-				try{
-					if(bufferedReader != null){
-						bufferedReader.close();
-					}
-				}
-				catch(IOException e){
-					e.printStackTrace();
+		RFile rFile = null;
+		try{
+			rFile = readCommittedVersion(filenameToRead, new VersionRead<RFile>() {
+				@Override
+				public RFile read(SnapshotVersion committedVersion) throws IOException {
+					//setting metadata and content to RFile object
+					RFile rFile = new RFile();
+					rFile.content = readDecodedContent(filenameToRead, committedVersion);
+					rFile.setMetadata(getDecodedMetadata(committedVersion.metadata));
+					return rFile;
 				}
-			}
+			});
 		}
-		else{
+		catch(NoSuchFileException noSuchFileException){
 			SystemException systemException = new FileNotPresentException();
-			systemException.setMessage(filenameToRead+" does not exist!");
+			systemException.setMessage(filenameToRead+" not present!");
+			throw systemException;
+		}
+		catch(IOException ioException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error opening file : "+filenameToRead);
 			throw systemException;
 		}
-		setOperationFlag(filenameToRead, Operation.READ, null);
-		if(readyStateFiles.contains(filenameToRead)){
-			removeReadyStateFile(filenameToRead);
+		if(rFile == null){
+			SystemException systemException = new FileNotPresentException();
+			systemException.setMessage(filenameToRead+" does not exist!");
+			throw systemException;
 		}
+		/*
+		 * the file is released by doCommitRead.
+		 * readFile is also called directly by the coordinator for single server reads, which must not touch the state of an ongoing transaction.
+		 */
 		return rFile;
 	}
 
@@ -503,21 +745,18 @@ public class FileStoreServer implements FileStore.Iface{
 		 * checking if the file is present in the directory
 		 * 	if yes then,
 		 * 		delete the file
-		 * 		remove entry from filesMap
-		 * 		remove entry from operationsMap
+		 * 		remove the metadata of the file
 		 * 	else throw FileNotPresentException
-		 * need to delete corresponding file from archive directory also.
+		 * the versions of the file in the archive directory are deleted along with it.
 		 * return statusReport
 		 */
-		File liveFile = null, archiveFile = null;
 		StatusReport statusReport = new StatusReport();
+		beginUpdate(filenameToDelete);
 		try{
-			liveFile = new File(parentDirectory+"/"+filenameToDelete);
-			archiveFile = new File(archiveDirectory+"/"+filenameToDelete);
-			Files.delete(liveFile.toPath());
-			Files.delete(archiveFile.toPath());
-			filesMap.remove(filenameToDelete);
-			removeOperationFlagEntry(filenameToDelete);
+			storageEngine.delete(filenameToDelete);
+			metadataIndex.remove(filenameToDelete);
+			lockTable.removeMetadata(filenameToDelete);
+			snapshotVersions.remove(filenameToDelete);
 			statusReport.setStatus(Status.SUCCESSFUL);
 		}
 		catch(IOException ioException){
@@ -525,107 +764,249 @@ public class FileStoreServer implements FileStore.Iface{
 			systemException.setMessage(filenameToDelete+" not found!");
 			throw systemException;
 		}
-		if(readyStateFiles.contains(filenameToDelete)){
-			removeReadyStateFile(filenameToDelete);
+		finally{
+			endUpdate(filenameToDelete);
 		}
-		//need to remove file from archive directory
 		return statusReport;
 	}
 
 	@Override
-	public StatusReport doVote(RFile rFile, FileOperation fileOperation)
+	public StatusReport doVote(RFile rFile, FileOperation fileOperation, long timestamp)
 			throws SystemException, TException {
-		Operation operation = fileOperation.getOperation();
-		StatusReport statusReport = new StatusReport();
-		String filename = rFile.getMetadata().getFilename();
 		/*
-		 * checking if file not currently in ready state.
-		 * 	If not then,
+		 * taking the lock of the operation on the file, waiting for up to participant.lockTimeout if it conflicts with the locks held.
+		 * 	If taken then,
 		 * 		vote commit
-		 * 	else we need to perform additional check for conflicting operations.
-		 */
-		synchronized (filesMap) {
-			if(!filesMap.containsKey(filename)){
-				/*
-				 * the file is not present in the directory.
-				 * if the operation is delete, then abort
-				 * else commit and add entry to the filesMap and ongoingOperationFlag
-				 */
-				if(Operation.DELETE.equals(fileOperation) || Operation.READ.equals(fileOperation)){
-					statusReport.setStatus(Status.FAILED);
-					//write vote-abort to log
-					writeLog(OperationStatus.ABORT, fileOperation, filename);
-				}
-				else{
-					statusReport.setStatus(Status.SUCCESSFUL);
-					filesMap.put(filename, rFile.getMetadata());
-					HashMap<Operation, Boolean> ongoingOperationEntry = new HashMap<Operation, Boolean>();
-					ongoingOperationEntry.put(operation, false);
-					ongoingOperationFlagMap.put(filename, ongoingOperationEntry);
-					readyStateFiles.add(filename);
-					//write vote-commit to log
-					writeLog(OperationStatus.LOCAL_COMMIT, fileOperation, filename);
-				}
+		 * 	else vote abort.
+		 * votes on different files do not share any lock, and concurrent votes are forced to disk together.
+		 * if the vote-commit cannot be logged, the lock is released again and the vote fails, the coordinator then aborts the transaction.
+		 */
+		StatusReport statusReport = new StatusReport();
+		String filename = rFile.getMetadata().getFilename();
+		if(vote(rFile, fileOperation.getOperation(), timestamp, new Date().getTime() + LOCK_TIMEOUT)){
+			statusReport.setStatus(Status.SUCCESSFUL);
+			//write vote-commit to log
+			try{
+				writeLog(OperationStatus.LOCAL_COMMIT, fileOperation, timestamp, filename);
+			}
+			catch(SystemException systemException){
+				releaseVote(rFile, fileOperation.getOperation(), timestamp);
+				throw systemException;
+			}
+		}
+		else{
+			statusReport.setStatus(Status.FAILED);
+			//write vote-abort to log
+			writeLog(OperationStatus.ABORT, fileOperation, timestamp, filename);
+		}
+		return statusReport;
+
+	}
+
+	private static boolean vote(RFile rFile, Operation operation, long timestamp, long deadline){
+		/*
+		 * takes the lock of the operation, returns true to vote commit and false to vote abort.
+		 * a conflicting operation waits for the lock up to the deadline.
+		 */
+		String filename = rFile.getMetadata().getFilename();
+		if(rFile.isSetWriteId() && !isStagedWriteFinished(rFile.getWriteId())){
+			//the content of a chunked write has to be completely staged before we can vote for it.
+			return false;
+		}
+		if(SNAPSHOT_READS && Operation.READ.equals(operation)){
+			/*
+			 * a read is served from the last committed version of the file, which a prepared write or delete does not change.
+			 * 		it does not prepare the file, so it never conflicts with a write and a write never conflicts with it.
+			 */
+			return lockTable.getMetadata(filename) != null && Files.exists(storageEngine.getLivePath(filename));
+		}
+		try{
+			/*
+			 * reads share a file, a write or a delete has it to itself.
+			 * the metadata of an existing file is kept, the coordinator only sends the filename.
+			 * it is brought up to date by the write itself (version, lengths, codec).
+			 */
+			if(!lockTable.lock(filename, operation, timestamp, Math.max(0, deadline - new Date().getTime()))){
+				return false;
+			}
+			if(rFile.isSetWriteId() && !prepareStagedWrite(rFile.getWriteId())){
+				//the staged write was swept while we waited for the lock.
+				lockTable.unlock(filename, operation, timestamp);
+				return false;
+			}
+			return true;
+		}
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	@Override
+	public List<StatusReport> doVoteBatch(List<FileOp> fileOps, long timestamp) throws SystemException, TException {
+		/*
+		 * votes on all the operations of a transaction over several files at once, one vote per operation in the order given,
+		 * 		so that the coordinator can tell which of them could not be prepared.
+		 * the files are locked in the order of their names and the waits for the locks share one deadline (participant.lockTimeout).
+		 * the records of the votes are forced to disk together.
+		 * 		if any of them cannot be logged, the locks taken are released again and the votes fail.
+		 */
+		List<Integer> lockOrder = new ArrayList<Integer>();
+		for(int i = 0; i < fileOps.size(); i++){
+			lockOrder.add(i);
+		}
+		final List<FileOp> operations = fileOps;
+		Collections.sort(lockOrder, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer first, Integer second) {
+				return operations.get(first).getRFile().getMetadata().getFilename().compareTo(operations.get(second).getRFile().getMetadata().getFilename());
+			}
+		});
+		long deadline = new Date().getTime() + LOCK_TIMEOUT;
+		StatusReport[] statusReports = new StatusReport[fileOps.size()];
+		List<Future<Long>> logRecords = new ArrayList<Future<Long>>();
+		for(int index : lockOrder){
+			FileOp fileOp = fileOps.get(index);
+			FileOperation fileOperation = new FileOperation(fileOp.getOperation());
+			String filename = fileOp.getRFile().getMetadata().getFilename();
+			if(vote(fileOp.getRFile(), fileOp.getOperation(), timestamp, deadline)){
+				statusReports[index] = new StatusReport(Status.SUCCESSFUL);
+				logRecords.add(appendLog(OperationStatus.LOCAL_COMMIT, fileOperation, timestamp, filename));
 			}
 			else{
-				/*
-				 * If file not in ready state then we can vote commit
-				 * else we need to check for corresponding conflicting operations.
-				 */
-				if(!readyStateFiles.contains(filename)){
-					statusReport.setStatus(Status.SUCCESSFUL);
-					filesMap.put(filename, rFile.getMetadata());
-					if(Operation.WRITE.equals(operation) || Operation.DELETE.equals(operation)){
-						ongoingOperationFlagMap.get(filename).put(operation, false);
-					}
-					else{
-						ongoingOperationFlagMap.get(filename).put(operation, true);
-					}
-					readyStateFiles.add(filename);
-					//write vote-commit to log
-					writeLog(OperationStatus.LOCAL_COMMIT, fileOperation, filename);
+				statusReports[index] = new StatusReport(Status.FAILED);
+				logRecords.add(appendLog(OperationStatus.ABORT, fileOperation, timestamp, filename));
+			}
+		}
+		try{
+			for(int i = 0; i < logRecords.size(); i++){
+				awaitLog(logRecords.get(i), fileOps.get(lockOrder.get(i)).getRFile().getMetadata().getFilename());
+			}
+		}
+		catch(SystemException systemException){
+			for(int i = 0; i < fileOps.size(); i++){
+				if(Status.SUCCESSFUL.equals(statusReports[i].getStatus())){
+					releaseVote(fileOps.get(i).getRFile(), fileOps.get(i).getOperation(), timestamp);
+				}
+			}
+			throw systemException;
+		}
+		return Arrays.asList(statusReports);
+	}
+
+	@Override
+	public List<FileOpResult> doCommitBatch(List<FileOp> fileOps, long timestamp) throws SystemException, TException {
+		/*
+		 * carry out every operation, then write global-commit to log for the ones carried out, forced to disk together.
+		 * release the files once the log records are on disk.
+		 * 		as for a single commit, a write or delete that could not be carried out or logged stays in doubt
+		 * 		and keeps its file locked until it is (see retryCommit), and the commit is not acknowledged.
+		 * 		a read that could not be carried out only fails, and its file is released.
+		 * return the result of every operation in the order given, with the content of the reads.
+		 */
+		List<FileOpResult> fileOpResults = new ArrayList<FileOpResult>();
+		List<Future<Long>> logRecords = new ArrayList<Future<Long>>();
+		List<FileOp> loggedOperations = new ArrayList<FileOp>();
+		SystemException failure = null;
+		for(FileOp fileOp : fileOps){
+			String filename = fileOp.getRFile().getMetadata().getFilename();
+			FileOpResult fileOpResult = new FileOpResult(Status.SUCCESSFUL);
+			try{
+				if(Operation.READ.equals(fileOp.getOperation())){
+					fileOpResult.setRFile(readFile(filename));
+				}
+				else if(Operation.WRITE.equals(fileOp.getOperation())){
+					fileOpResult.setStatus(writeFile(fileOp.getRFile()).getStatus());
 				}
 				else{
-					Boolean ongoingOperationFlag;
-					if(!ongoingOperationFlagMap.get(filename).containsKey(operation) || (ongoingOperationFlag = ongoingOperationFlagMap.get(filename).get(operation)) == null){
-						statusReport.setStatus(Status.SUCCESSFUL);
-						if(Operation.WRITE.equals(operation) || Operation.DELETE.equals(operation)){
-							ongoingOperationFlagMap.get(filename).put(operation, false);
-						}
-						else{
-							ongoingOperationFlagMap.get(filename).put(operation, true);
-						}
-						readyStateFiles.add(filename);
-						//write vote-commit to log
-						writeLog(OperationStatus.LOCAL_COMMIT, fileOperation, filename);
-					}
-					else{
-						if(ongoingOperationFlagMap.get(filename).containsKey(operation) && ((ongoingOperationFlag = ongoingOperationFlagMap.get(filename).get(operation)) && definedOperationFlagMap.get(operation))){
-							statusReport.setStatus(Status.SUCCESSFUL);
-							if(Operation.WRITE.equals(operation) || Operation.DELETE.equals(operation)){
-								ongoingOperationFlagMap.get(filename).put(operation, false);
-							}
-							else{
-								ongoingOperationFlagMap.get(filename).put(operation, true);
-							}
-							readyStateFiles.add(filename);
-							//write vote-commit to log
-							writeLog(OperationStatus.LOCAL_COMMIT, fileOperation, filename);
-						}
-						else{
-							statusReport.setStatus(Status.FAILED);
-							//write vote-abort to log
-							writeLog(OperationStatus.ABORT, fileOperation, filename);
-						}
-					}
+					fileOpResult.setStatus(deleteFile(filename).getStatus());
+				}
+				logRecords.add(appendLog(OperationStatus.GLOBAL_COMMIT, new FileOperation(fileOp.getOperation()), timestamp, filename));
+				loggedOperations.add(fileOp);
+			}
+			catch(SystemException systemException){
+				fileOpResult.setStatus(Status.FAILED);
+				fileOpResult.setMessage(systemException.getMessage());
+				if(Operation.READ.equals(fileOp.getOperation())){
+					unlockRead(filename, timestamp);
+				}
+				else{
+					retryCommit(fileOp.getRFile(), fileOp.getOperation(), timestamp, false);
+					failure = failure != null ? failure : systemException;
+				}
+			}
+			fileOpResults.add(fileOpResult);
+		}
+		for(int i = 0; i < logRecords.size(); i++){
+			FileOp fileOp = loggedOperations.get(i);
+			String filename = fileOp.getRFile().getMetadata().getFilename();
+			try{
+				awaitLog(logRecords.get(i), filename);
+			}
+			catch(SystemException systemException){
+				if(!Operation.READ.equals(fileOp.getOperation())){
+					retryCommit(fileOp.getRFile(), fileOp.getOperation(), timestamp, true);
+					failure = failure != null ? failure : systemException;
+					continue;
 				}
-
 			}
+			if(Operation.READ.equals(fileOp.getOperation())){
+				unlockRead(filename, timestamp);
+			}
+			else{
+				lockTable.unlock(filename, fileOp.getOperation(), timestamp);
+			}
+		}
+		if(failure != null){
+			throw failure;
+		}
+		return fileOpResults;
+	}
 
+	private static void releaseVote(RFile rFile, Operation operation, long timestamp){
+		/*
+		 * gives up the lock of a vote whose vote-commit could not be logged, and lets the next waiting operation go ahead.
+		 * the transaction is going to be aborted, hence the staged content of a chunked write goes as well.
+		 */
+		if(rFile.isSetWriteId()){
+			removeStagedWrite(rFile.getWriteId(), stagedWrites.remove(rFile.getWriteId()));
 		}
-		return statusReport;
+		if(!(SNAPSHOT_READS && Operation.READ.equals(operation))){
+			lockTable.unlock(rFile.getMetadata().getFilename(), operation, timestamp);
+		}
+	}
+
+	private static void unlockRead(String filename, long timestamp){
+		if(!SNAPSHOT_READS){
+			//a snapshot read never prepared the file.
+			lockTable.unlock(filename, Operation.READ, timestamp);
+		}
+	}
 
+	@Override
+	public StatusReport doAbortBatch(List<FileOp> fileOps, long timestamp) throws SystemException, TException {
+		/*
+		 * write global-abort to log for all the operations, forced to disk together.
+		 * release the files of the operations that were prepared.
+		 */
+		List<Future<Long>> logRecords = new ArrayList<Future<Long>>();
+		for(FileOp fileOp : fileOps){
+			logRecords.add(appendLog(OperationStatus.ABORT, new FileOperation(fileOp.getOperation()), timestamp, fileOp.getRFile().getMetadata().getFilename()));
+		}
+		for(int i = 0; i < logRecords.size(); i++){
+			awaitLog(logRecords.get(i), fileOps.get(i).getRFile().getMetadata().getFilename());
+		}
+		for(FileOp fileOp : fileOps){
+			if(fileOp.getRFile().isSetWriteId()){
+				abortWrite(fileOp.getRFile().getWriteId());
+			}
+			if(!(SNAPSHOT_READS && Operation.READ.equals(fileOp.getOperation()))){
+				lockTable.unlock(fileOp.getRFile().getMetadata().getFilename(), fileOp.getOperation(), timestamp);
+			}
+		}
+		return new StatusReport(Status.SUCCESSFUL);
 	}
+
 	/*
 	 * we need to perform the corresponding operation on the file
 	 * if operation is READ then,
@@ -635,74 +1016,481 @@ public class FileStoreServer implements FileStore.Iface{
 	 * else call deleteFile and pass the filename as argument
 	 */
 	@Override
-	public RFile doCommitRead(String filenameToRead) throws SystemException,
+	public RFile doCommitRead(String filenameToRead, long timestamp) throws SystemException,
 	TException {
 		/*
-		 * write global-commit to log.
 		 * call readFile method and pass the filename as the argument.
-		 * set corresponding ongoingOperationFlag to null.
-		 * remove corresponding ready state file entry.
+		 * write global-commit to log.
+		 * release the file, whether or not it could be read.
 		 * return the RFile object returned from the readFile method.
 		 */
-		writeLog(OperationStatus.GLOBAL_COMMIT, new FileOperation(Operation.READ), filenameToRead);
-		RFile rFile = readFile(filenameToRead);
-		setOperationFlag(filenameToRead, Operation.READ, null);
-		removeReadyStateFile(filenameToRead);
-		return rFile;
+		try{
+			RFile rFile = readFile(filenameToRead);
+			writeLog(OperationStatus.GLOBAL_COMMIT, new FileOperation(Operation.READ), timestamp, filenameToRead);
+			return rFile;
+		}
+		finally{
+			unlockRead(filenameToRead, timestamp);
+		}
 	}
 
 	@Override
-	public StatusReport doCommitWrite(RFile rFile) throws SystemException,
+	public StatusReport doCommitWrite(RFile rFile, long timestamp) throws SystemException,
 	TException {
 		/*
-		 * write global-commit to log.
 		 * call writeFile and pass rFile as the argument.
-		 * set corresponding ongoingOperationFlag to null.
-		 * remove corresponding ready state file entry.
+		 * write global-commit to log, only once the write is applied.
+		 * 		a crash before that leaves the write in doubt, hence it is applied by the recovery rather than lost.
+		 * release the file once the commit is logged.
+		 * 		if the write could not be applied or logged, it stays in doubt and keeps the file locked until it is (see retryCommit),
+		 * 		and the commit is not acknowledged.
 		 * return the statusReport returned by writeFile method.
 		 */
-		writeLog(OperationStatus.GLOBAL_COMMIT, new FileOperation(Operation.WRITE), rFile.getMetadata().getFilename());
-		StatusReport statusReport = writeFile(rFile);
-		setOperationFlag(rFile.getMetadata().getFilename(), Operation.WRITE, null);
-		removeReadyStateFile(rFile.getMetadata().getFilename());
-		return statusReport;
+		boolean applied = false;
+		try{
+			StatusReport statusReport = writeFile(rFile);
+			applied = true;
+			writeLog(OperationStatus.GLOBAL_COMMIT, new FileOperation(Operation.WRITE), timestamp, rFile.getMetadata().getFilename());
+			lockTable.unlock(rFile.getMetadata().getFilename(), Operation.WRITE, timestamp);
+			return statusReport;
+		}
+		catch(SystemException systemException){
+			retryCommit(rFile, Operation.WRITE, timestamp, applied);
+			throw systemException;
+		}
 	}
 
 	@Override
-	public StatusReport doCommitDelete(String filenameToDelete)
+	public StatusReport doCommitDelete(String filenameToDelete, long timestamp)
 			throws SystemException, TException {
 		/*
-		 * write global=commit to log.
 		 * call deleteFile and pass the filename as argument.
-		 * set corresponding ongoingOperationFlag to null.
-		 * remove corresponding ready state file entry.
+		 * write global-commit to log, only once the delete is applied.
+		 * release the file once the commit is logged, as for a write.
 		 * return the statusReport returned by deleteFile method.
 		 */
-		writeLog(OperationStatus.GLOBAL_COMMIT, new FileOperation(Operation.DELETE), filenameToDelete);
-		StatusReport statusReport = deleteFile(filenameToDelete);
-		removeReadyStateFile(filenameToDelete);
-		return statusReport;
+		boolean applied = false;
+		try{
+			StatusReport statusReport = deleteFile(filenameToDelete);
+			applied = true;
+			writeLog(OperationStatus.GLOBAL_COMMIT, new FileOperation(Operation.DELETE), timestamp, filenameToDelete);
+			lockTable.unlock(filenameToDelete, Operation.DELETE, timestamp);
+			return statusReport;
+		}
+		catch(SystemException systemException){
+			RFile rFile = new RFile();
+			RFileMetadata rFileMetadata = new RFileMetadata();
+			rFileMetadata.setFilename(filenameToDelete);
+			rFile.setMetadata(rFileMetadata);
+			retryCommit(rFile, Operation.DELETE, timestamp, applied);
+			throw systemException;
+		}
 	}
 
 
 	@Override
-	public StatusReport doAbort(RFile rFile, FileOperation fileOperation)
+	public StatusReport doAbort(RFile rFile, FileOperation fileOperation, long timestamp)
 			throws SystemException, TException {
 		/*
 		 * write global-abort to log.
-		 * remove corresponding ready state file entry if present (this will only be the case if voted YES).
+		 * release the file if the operation was prepared (this will only be the case if voted YES).
 		 * return a successful status report.
 		 */
-		writeLog(OperationStatus.ABORT, fileOperation, rFile.getMetadata().getFilename());
-		String filename;
-		if(readyStateFiles.contains(filename = rFile.getMetadata().getFilename())){
-			removeReadyStateFile(filename);
+		writeLog(OperationStatus.ABORT, fileOperation, timestamp, rFile.getMetadata().getFilename());
+		if(rFile.isSetWriteId()){
+			//the staged content of a chunked write is of no use anymore.
+			abortWrite(rFile.getWriteId());
+		}
+		if(!(SNAPSHOT_READS && Operation.READ.equals(fileOperation.getOperation()))){
+			lockTable.unlock(rFile.getMetadata().getFilename(), fileOperation.getOperation(), timestamp);
 		}
 		return new StatusReport(Status.SUCCESSFUL);
 
 	}
 
-	private synchronized RFileMetadata createNewMetadata(long createdTime, long updatedTime, int version, int contentLength, String contentHash, String filename){
+	private static ByteBuffer getContentBuffer(RFile rFile){
+		/*
+		 * the content as received, read through a view of its own so that the position of the original is left alone.
+		 * the generated getters and setters copy the buffer, hence the field is used directly.
+		 */
+		if(rFile.content == null){
+			return ByteBuffer.allocate(0);
+		}
+		return rFile.content.duplicate();
+	}
+
+	private static ByteBuffer readContent(Path path) throws IOException{
+		/*
+		 * the buffer needs to be a heap buffer, as thrift writes binaries out of the backing array.
+		 */
+		FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+		try{
+			long size = fileChannel.size();
+			if(size > Integer.MAX_VALUE){
+				throw new IOException(path+" is too large to be read at once");
+			}
+			ByteBuffer content = ByteBuffer.allocate((int)size);
+			while(content.hasRemaining()){
+				if(fileChannel.read(content) < 0){
+					break;
+				}
+			}
+			content.flip();
+			return content;
+		}
+		finally{
+			fileChannel.close();
+		}
+	}
+
+	private static void addSnapshotVersion(RFileMetadata metadata) throws IOException{
+		/*
+		 * remembers the version just committed along with its version file, for the reads and readSnapshotChunk.
+		 * without snapshot reads only the versions the storage engine keeps anyway are remembered, the current and the previous one.
+		 */
+		Path versionPath = storageEngine.getCurrentVersionPath(metadata.getFilename());
+		if(versionPath == null){
+			return;
+		}
+		ConcurrentNavigableMap<Integer, SnapshotVersion> versions = snapshotVersions.get(metadata.getFilename());
+		if(versions == null){
+			ConcurrentNavigableMap<Integer, SnapshotVersion> newVersions = new ConcurrentSkipListMap<Integer, SnapshotVersion>();
+			versions = snapshotVersions.putIfAbsent(metadata.getFilename(), newVersions);
+			if(versions == null){
+				versions = newVersions;
+			}
+		}
+		versions.put(metadata.getVersion(), new SnapshotVersion(metadata.deepCopy(), versionPath));
+		if(!SNAPSHOT_READS){
+			versions.headMap(metadata.getVersion() - 1).clear();
+		}
+	}
+
+	private static SnapshotVersion getCommittedVersion(String filename){
+		/*
+		 * returns the current version of the file along with its version file, null if the file does not exist.
+		 * a file that has no version file (stored before versions were) is read through its live file.
+		 */
+		RFileMetadata metadata = lockTable.getMetadata(filename);
+		while(metadata != null){
+			ConcurrentNavigableMap<Integer, SnapshotVersion> versions = snapshotVersions.get(filename);
+			SnapshotVersion snapshotVersion = versions != null ? versions.get(metadata.getVersion()) : null;
+			if(snapshotVersion != null && snapshotVersion.metadata.equals(metadata)){
+				return snapshotVersion;
+			}
+			RFileMetadata currentMetadata = lockTable.getMetadata(filename);
+			if(currentMetadata == metadata){
+				return new SnapshotVersion(metadata, storageEngine.getLivePath(filename));
+			}
+			//rewritten more than once since the metadata was taken.
+			metadata = currentMetadata;
+		}
+		return null;
+	}
+
+	private static <T> T readCommittedVersion(String filename, VersionRead<T> versionRead) throws IOException{
+		/*
+		 * reads the current version of the file, returns null if the file does not exist.
+		 * a version file is never changed, only deleted once superseded. if it is deleted before the read opens it,
+		 * 		the read is made again on the version that superseded it.
+		 */
+		SnapshotVersion committedVersion = getCommittedVersion(filename);
+		while(committedVersion != null){
+			try{
+				return versionRead.read(committedVersion);
+			}
+			catch(NoSuchFileException noSuchFileException){
+				SnapshotVersion currentVersion = getCommittedVersion(filename);
+				if(currentVersion == null || currentVersion.versionPath.equals(committedVersion.versionPath)){
+					throw noSuchFileException;
+				}
+				committedVersion = currentVersion;
+			}
+		}
+		return null;
+	}
+
+	private static void startSnapshotCollector(){
+		/*
+		 * collects the versions behind the watermark every second, and forgets the snapshot versions whose version file is gone.
+		 */
+		snapshotCollector = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "snapshot-collector");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		snapshotCollector.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				try{
+					storageEngine.collectGarbage();
+				}
+				catch(IOException ioException){
+					ioException.printStackTrace();
+				}
+				for(ConcurrentNavigableMap<Integer, SnapshotVersion> versions : snapshotVersions.values()){
+					for(Map.Entry<Integer, SnapshotVersion> versionEntry : versions.entrySet()){
+						if(!Files.exists(versionEntry.getValue().versionPath)){
+							versions.remove(versionEntry.getKey(), versionEntry.getValue());
+						}
+					}
+				}
+			}
+		}, 1, 1, TimeUnit.SECONDS);
+	}
+
+	private static ByteBuffer readContentRange(Path path, long offset, int length) throws IOException{
+		/*
+		 * returns up to length bytes of the file from the offset, an empty buffer if the offset is past the end of the file.
+		 */
+		FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+		try{
+			long chunkLength = Math.max(0, Math.min(length, fileChannel.size() - offset));
+			ByteBuffer chunk = ByteBuffer.allocate((int)chunkLength);
+			while(chunk.hasRemaining()){
+				if(fileChannel.read(chunk, offset + chunk.position()) < 0){
+					break;
+				}
+			}
+			chunk.flip();
+			return chunk;
+		}
+		finally{
+			fileChannel.close();
+		}
+	}
+
+	private static ByteBuffer sliceChunk(ByteBuffer content, long offset, int length){
+		ByteBuffer chunk = content.duplicate();
+		chunk.position((int)Math.min(offset, chunk.limit()));
+		chunk.limit((int)Math.min(chunk.limit(), (long)chunk.position() + Math.min(length, MAX_CHUNK_SIZE)));
+		return chunk.slice();
+	}
+
+	private static ByteBuffer readDecodedContent(String filename, SnapshotVersion committedVersion) throws IOException{
+		/*
+		 * returns the content of the version as written by the client, from the content cache if it is there.
+		 * the cache holds decompressed content, so that a hit does not need to decompress again.
+		 */
+		RFileMetadata metadata = committedVersion.metadata;
+		int version = metadata.getVersion();
+		ByteBuffer content = contentCache != null ? contentCache.get(filename, version) : null;
+		if(content == null){
+			//taken before the file is read, so that the content is not cached if the file was written meanwhile.
+			long ticket = contentCache != null ? contentCache.getTicket(filename) : 0;
+			content = decodeContent(readStoredContent(filename, committedVersion.versionPath), metadata);
+			if(contentCache != null){
+				contentCache.put(filename, version, content, ticket);
+			}
+		}
+		return content;
+	}
+
+	private static ByteBuffer readStoredContent(String filename, Path path) throws IOException{
+		ByteBuffer content = readMappedContent(filename, path, 0, Integer.MAX_VALUE);
+		if(content == null){
+			content = readContent(path);
+		}
+		return content;
+	}
+
+	private static ByteBuffer compressContent(ByteBuffer content){
+		/*
+		 * returns null if the content is to be stored as is.
+		 */
+		if(COMPRESSION_CODEC.equals(Codec.NONE) || content.remaining() < COMPRESSION_THRESHOLD){
+			return null;
+		}
+		return ContentCompressor.compress(content, COMPRESSION_LEVEL);
+	}
+
+	private static ByteBuffer decodeContent(ByteBuffer content, RFileMetadata metadata) throws IOException{
+		if(isCompressed(metadata)){
+			return ContentCompressor.decompress(content, metadata.getRawLength());
+		}
+		return content;
+	}
+
+	private static boolean isCompressed(RFileMetadata metadata){
+		return metadata.isSetCodec() && !metadata.getCodec().equals(Codec.NONE);
+	}
+
+	private static RFileMetadata getDecodedMetadata(RFileMetadata metadata){
+		/*
+		 * the metadata of the content once decompressed.
+		 */
+		if(!isCompressed(metadata)){
+			return metadata;
+		}
+		RFileMetadata decodedMetadata = metadata.deepCopy();
+		decodedMetadata.setCodec(Codec.NONE);
+		decodedMetadata.setContentLength(metadata.getRawLength());
+		return decodedMetadata;
+	}
+
+	private static ByteBuffer readMappedContent(String filename, Path path, long offset, int length) throws IOException{
+		/*
+		 * returns null if the mmap read engine is off or the file cannot be served from a mapping right now.
+		 */
+		if(mappedFileCache == null){
+			return null;
+		}
+		return mappedFileCache.read(filename, path, offset, length);
+	}
+
+	private static byte[] getContentHash(ByteBuffer content) throws NoSuchAlgorithmException{
+		MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+		messageDigest.update(content.duplicate());
+		return messageDigest.digest();
+	}
+
+	private static byte[] getContentHash(Path path) throws NoSuchAlgorithmException, IOException{
+		/*
+		 * the file is hashed a buffer at a time, so that a large file is never held in memory.
+		 */
+		MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+		FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+		try{
+			ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+			while(fileChannel.read(buffer) >= 0){
+				buffer.flip();
+				messageDigest.update(buffer);
+				buffer.clear();
+			}
+		}
+		finally{
+			fileChannel.close();
+		}
+		return messageDigest.digest();
+	}
+
+	private static void beginUpdate(String filename){
+		if(contentCache != null){
+			contentCache.invalidate(filename);
+		}
+		if(mappedFileCache != null){
+			mappedFileCache.beginUpdate(filename);
+		}
+	}
+
+	private static void endUpdate(String filename){
+		if(mappedFileCache != null){
+			mappedFileCache.endUpdate(filename);
+		}
+		/*
+		 * invalidated again once the file has changed, to drop any content cached by a read that began before the update.
+		 */
+		if(contentCache != null){
+			contentCache.invalidate(filename);
+		}
+	}
+
+	public static ContentCache getContentCache(){
+		return contentCache;
+	}
+
+	private static Path getStagingPath(long writeId){
+		return Paths.get(stagingDirectory+"/"+writeId);
+	}
+
+	private static boolean isStagedWriteFinished(long writeId){
+		StagedWrite stagedWrite = stagedWrites.get(writeId);
+		if(stagedWrite == null){
+			return false;
+		}
+		synchronized(stagedWrite){
+			return stagedWrite.finished;
+		}
+	}
+
+	private static boolean prepareStagedWrite(long writeId){
+		StagedWrite stagedWrite = stagedWrites.get(writeId);
+		if(stagedWrite == null){
+			return false;
+		}
+		synchronized(stagedWrite){
+			if(stagedWrites.get(writeId) != stagedWrite){
+				return false;
+			}
+			stagedWrite.prepared = true;
+			return true;
+		}
+	}
+
+	private static void startStagedWriteSweeper(){
+		/*
+		 * removes, every second, the staged writes that were not voted for and went idle for longer than the time out.
+		 * a staged write is taken out of the map under its own lock, so a vote either prepares it before or finds it gone.
+		 */
+		if(STAGED_WRITE_TIMEOUT <= 0){
+			return;
+		}
+		stagedWriteSweeper = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "staged-write-sweeper");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		stagedWriteSweeper.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				long idleSince = new Date().getTime() - STAGED_WRITE_TIMEOUT;
+				for(Map.Entry<Long, StagedWrite> stagedWriteEntry : stagedWrites.entrySet()){
+					StagedWrite stagedWrite = stagedWriteEntry.getValue();
+					synchronized(stagedWrite){
+						if(stagedWrite.prepared || stagedWrite.lastActivity >= idleSince || !stagedWrites.remove(stagedWriteEntry.getKey(), stagedWrite)){
+							continue;
+						}
+					}
+					System.out.println("Removing idle staged write "+stagedWriteEntry.getKey()+" of "+stagedWrite.filename);
+					removeStagedWrite(stagedWriteEntry.getKey(), stagedWrite);
+				}
+			}
+		}, 1, 1, TimeUnit.SECONDS);
+	}
+
+	private static void startCommitRetrier(){
+		commitRetrier = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "commit-retrier");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	private static long installStagedContent(long writeId, String filename) throws IOException{
+		/*
+		 * makes the staged content of a chunked write the new version of the file and returns its length.
+		 * the staging file is in the same directory tree as the archive, hence it is renamed into place rather than copied.
+		 * on recovery the staged write is no longer known in memory, but its staging file is still on disk.
+		 */
+		StagedWrite stagedWrite = stagedWrites.remove(writeId);
+		if(stagedWrite != null){
+			stagedWrite.fileChannel.close();
+		}
+		return storageEngine.install(filename, getStagingPath(writeId));
+	}
+
+	private static void rollback(String filename){
+		try{
+			if(!storageEngine.rollback(filename)){
+				//a new file, there is no previous version to go back to.
+				storageEngine.delete(filename);
+			}
+		}
+		catch(IOException ioException){
+			ioException.printStackTrace();
+		}
+	}
+
+	private static synchronized RFileMetadata createNewMetadata(long createdTime, long updatedTime, int version, long contentLength, String contentHash, String filename){
 
 		RFileMetadata fileMetadata = new RFileMetadata();
 		fileMetadata.setCreated(createdTime);
@@ -715,55 +1503,34 @@ public class FileStoreServer implements FileStore.Iface{
 		return fileMetadata;
 	}
 
-	private static synchronized void setOperationFlag(String filename, Operation operation, Boolean flag){
-		ongoingOperationFlagMap.get(filename).put(operation, flag);
-	}
-
-	private static synchronized void removeOperationFlagEntry(String filenameToRemove){
-		ongoingOperationFlagMap.remove(filenameToRemove);
+	private static void writeLog(OperationStatus operationStatus, FileOperation fileOperation, long transactionId, String filename) throws SystemException{
+		awaitLog(appendLog(operationStatus, fileOperation, transactionId, filename), filename);
 	}
 
-	private static synchronized void removeReadyStateFile(String filename){
-		readyStateFiles.remove(filename);
+	private static Future<Long> appendLog(OperationStatus operationStatus, FileOperation fileOperation, long transactionId, String filename){
+		/*
+		 * the record is handed to the log appender, which forces it to disk along with the records of the other ongoing votes and commits.
+		 * the returned future completes once the record is durable.
+		 * the id of the transaction is the timestamp the coordinator stamped it with, 0 if there is none (e.g. on recovery).
+		 */
+		LogRecord logRecord = new LogRecord(LogRecord.Type.valueOf(operationStatus.toString()), fileOperation.getOperation(), transactionId, filename);
+		return logAppender.append(logRecord);
 	}
 
-	private static synchronized void writeLog(OperationStatus operationStatus, FileOperation fileOperation, String filename) throws SystemException{
-		StringBuilder logBuilder = new StringBuilder("");
-		logBuilder.append(operationStatus.toString());
-		logBuilder.append(":");
-		logBuilder.append(fileOperation.getOperation().toString());
-		logBuilder.append(" ");
-		logBuilder.append(filename);
-		logBuilder.append("\n");
-
-		File logFile = new File(logFilePathString);
-		FileOutputStream fileOutputStream = null;
+	private static void awaitLog(Future<Long> logRecord, String filename) throws SystemException{
 		try{
-			fileOutputStream = new FileOutputStream(logFile, true);
-			fileOutputStream.write(logBuilder.toString().getBytes());
-			fileOutputStream.flush();
-		}
-		catch(FileNotFoundException fileNotFoundException){
-			SystemException systemException = new FileNotPresentException();
-			systemException.setMessage(filename+" does not exist!");
-			throw systemException;
+			logRecord.get();
 		}
-		catch(IOException ioException){
+		catch(ExecutionException executionException){
 			SystemException systemException = new SystemException();
 			systemException.setMessage("Error in logging!");
 			throw systemException;
 		}
-		finally{
-			try{
-				if(fileOutputStream != null){
-					fileOutputStream.close();
-				}
-			}
-			catch(IOException exception){
-				SystemException systemException = new SystemException();
-				systemException.setMessage("Error occured while closing the output stream to file "+filename);
-				throw systemException;
-			}
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Interrupted while logging "+filename);
+			throw systemException;
 		}
 	}
 
@@ -808,8 +1575,262 @@ public class FileStoreServer implements FileStore.Iface{
 
 	@Override
 	public RecoveryInformation getRecoveryInformation(String filename,
-			FileOperation fileOperation, String hostname, int port) throws SystemException, TException {
+			FileOperation fileOperation, String hostname, int port, long transactionId) throws SystemException, TException {
+		return null;
+	}
+
+	@Override
+	public List<RecoveryInformation> getRecoveryInformationBatch(List<RecoveryRequest> recoveryRequests, String hostname, int port) throws SystemException, TException {
 		return null;
 	}
 
+	@Override
+	public List<FileOpResult> executeTransaction(List<FileOp> fileOps) throws SystemException, TException {
+		return null;
+	}
+
+	@Override
+	public long beginWrite(String filename, long writeId) throws SystemException, TException {
+		/*
+		 * opens the staging file of a chunked write.
+		 * the coordinator passes the same write id to all the servers, a write id of 0 asks for a new one.
+		 */
+		if(writeId == 0){
+			writeId = writeIdGenerator.incrementAndGet();
+		}
+		FileChannel fileChannel = null;
+		try{
+			fileChannel = FileChannel.open(getStagingPath(writeId), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		}
+		catch(IOException ioException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error staging file : "+filename+"!");
+			throw systemException;
+		}
+		if(stagedWrites.putIfAbsent(writeId, new StagedWrite(filename, fileChannel)) != null){
+			try{
+				fileChannel.close();
+			}
+			catch(IOException ioException){
+				ioException.printStackTrace();
+			}
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Write "+writeId+" is already in progress!");
+			throw systemException;
+		}
+		return writeId;
+	}
+
+	@Override
+	public StatusReport appendChunk(long writeId, ByteBuffer chunk) throws SystemException, TException {
+		StagedWrite stagedWrite = getStagedWrite(writeId);
+		synchronized(stagedWrite){
+			if(stagedWrite.finished){
+				SystemException systemException = new SystemException();
+				systemException.setMessage("Write "+writeId+" is already finished!");
+				throw systemException;
+			}
+			try{
+				ByteBuffer buffer = chunk.duplicate();
+				while(buffer.hasRemaining()){
+					stagedWrite.fileChannel.write(buffer);
+				}
+				stagedWrite.lastActivity = new Date().getTime();
+			}
+			catch(IOException ioException){
+				SystemException systemException = new SystemException();
+				systemException.setMessage("Error staging file : "+stagedWrite.filename+"!");
+				throw systemException;
+			}
+		}
+		return new StatusReport(Status.SUCCESSFUL);
+	}
+
+	@Override
+	public StatusReport finishWrite(long writeId) throws SystemException, TException {
+		/*
+		 * the staged content is forced to disk before the write can be voted for, as the commit only renames it.
+		 */
+		StagedWrite stagedWrite = getStagedWrite(writeId);
+		synchronized(stagedWrite){
+			try{
+				if(!stagedWrite.finished){
+					stagedWrite.fileChannel.force(true);
+					stagedWrite.finished = true;
+				}
+			}
+			catch(IOException ioException){
+				SystemException systemException = new SystemException();
+				systemException.setMessage("Error staging file : "+stagedWrite.filename+"!");
+				throw systemException;
+			}
+		}
+		return new StatusReport(Status.SUCCESSFUL);
+	}
+
+	@Override
+	public StatusReport abortWrite(long writeId) throws SystemException, TException {
+		removeStagedWrite(writeId, stagedWrites.remove(writeId));
+		return new StatusReport(Status.SUCCESSFUL);
+	}
+
+	private static void removeStagedWrite(long writeId, StagedWrite stagedWrite){
+		try{
+			if(stagedWrite != null){
+				stagedWrite.fileChannel.close();
+			}
+			Files.deleteIfExists(getStagingPath(writeId));
+		}
+		catch(IOException ioException){
+			ioException.printStackTrace();
+		}
+	}
+
+	@Override
+	public RFile readChunk(final String filename, final long offset, final int length) throws SystemException, TException {
+		/*
+		 * reads at most length bytes (and at most participant.maxChunkSize) of the file from the given offset.
+		 * the metadata is sent along with every chunk, so that the reader can tell from the version if the file changed in between chunks.
+		 * an empty chunk means the offset is at or past the end of the file.
+		 */
+		if(offset < 0 || length < 0){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Invalid range "+offset+"+"+length+" of "+filename);
+			throw systemException;
+		}
+		RFile rFile = null;
+		try{
+			rFile = readCommittedVersion(filename, new VersionRead<RFile>() {
+				@Override
+				public RFile read(SnapshotVersion committedVersion) throws IOException {
+					RFile rFile = new RFile();
+					if(isCompressed(committedVersion.metadata)){
+						//a compressed file cannot be read in ranges, the chunk is cut out of the whole decompressed content.
+						rFile.content = sliceChunk(readDecodedContent(filename, committedVersion), offset, length);
+						rFile.setMetadata(getDecodedMetadata(committedVersion.metadata));
+						return rFile;
+					}
+					ByteBuffer chunk = readMappedContent(filename, committedVersion.versionPath, offset, Math.min(length, MAX_CHUNK_SIZE));
+					if(chunk == null){
+						chunk = readContentRange(committedVersion.versionPath, offset, Math.min(length, MAX_CHUNK_SIZE));
+					}
+					rFile.content = chunk;
+					rFile.setMetadata(committedVersion.metadata);
+					return rFile;
+				}
+			});
+		}
+		catch(NoSuchFileException noSuchFileException){
+			SystemException systemException = new FileNotPresentException();
+			systemException.setMessage(filename+" not present!");
+			throw systemException;
+		}
+		catch(IOException ioException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error opening file : "+filename);
+			throw systemException;
+		}
+		if(rFile == null){
+			SystemException systemException = new FileNotPresentException();
+			systemException.setMessage(filename+" does not exist!");
+			throw systemException;
+		}
+		return rFile;
+	}
+
+	@Override
+	public RFile readSnapshotChunk(String filename, int version, long offset, int length) throws SystemException, TException {
+		/*
+		 * like readChunk, but reads the given version of the file, which is kept for a while after it is superseded (see participant.snapshotReads).
+		 * a reader passes the version of its first chunk with every other chunk, and so reads one version throughout even if the file is rewritten.
+		 * a version file is never changed once written, so it is read directly instead of through the live file.
+		 */
+		if(offset < 0 || length < 0){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Invalid range "+offset+"+"+length+" of "+filename);
+			throw systemException;
+		}
+		ConcurrentNavigableMap<Integer, SnapshotVersion> versions = snapshotVersions.get(filename);
+		SnapshotVersion snapshotVersion = versions != null ? versions.get(version) : null;
+		if(snapshotVersion == null){
+			RFileMetadata metadata = lockTable.getMetadata(filename);
+			if(metadata != null && metadata.getVersion() == version){
+				//a version committed before the last restart, only its current version is known.
+				return readChunk(filename, offset, length);
+			}
+			SystemException systemException = new FileNotPresentException();
+			systemException.setMessage("Version "+version+" of "+filename+" is not available!");
+			throw systemException;
+		}
+		RFile rFile = new RFile();
+		try{
+			if(isCompressed(snapshotVersion.metadata)){
+				ByteBuffer content = ContentCompressor.decompress(readContent(snapshotVersion.versionPath), snapshotVersion.metadata.getRawLength());
+				rFile.content = sliceChunk(content, offset, length);
+			}
+			else{
+				rFile.content = readContentRange(snapshotVersion.versionPath, offset, Math.min(length, MAX_CHUNK_SIZE));
+			}
+			rFile.setMetadata(getDecodedMetadata(snapshotVersion.metadata));
+		}
+		catch(NoSuchFileException noSuchFileException){
+			//collected in the meantime.
+			SystemException systemException = new FileNotPresentException();
+			systemException.setMessage("Version "+version+" of "+filename+" is not available!");
+			throw systemException;
+		}
+		catch(IOException ioException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error opening file : "+filename);
+			throw systemException;
+		}
+		return rFile;
+	}
+
+	@Override
+	public RFile readEncodedFile(final String filenameToRead) throws SystemException, TException {
+		/*
+		 * reads the content as it is stored, compressed or not, for a reader that decompresses it on its own.
+		 * the metadata tells the codec and the length of the decompressed content.
+		 */
+		RFile rFile = null;
+		try{
+			rFile = readCommittedVersion(filenameToRead, new VersionRead<RFile>() {
+				@Override
+				public RFile read(SnapshotVersion committedVersion) throws IOException {
+					RFile rFile = new RFile();
+					rFile.content = readStoredContent(filenameToRead, committedVersion.versionPath);
+					rFile.setMetadata(committedVersion.metadata);
+					return rFile;
+				}
+			});
+		}
+		catch(NoSuchFileException noSuchFileException){
+			SystemException systemException = new FileNotPresentException();
+			systemException.setMessage(filenameToRead+" not present!");
+			throw systemException;
+		}
+		catch(IOException ioException){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Error opening file : "+filenameToRead);
+			throw systemException;
+		}
+		if(rFile == null){
+			SystemException systemException = new FileNotPresentException();
+			systemException.setMessage(filenameToRead+" does not exist!");
+			throw systemException;
+		}
+		return rFile;
+	}
+
+	private static StagedWrite getStagedWrite(long writeId) throws SystemException{
+		StagedWrite stagedWrite = stagedWrites.get(writeId);
+		if(stagedWrite == null){
+			SystemException systemException = new SystemException();
+			systemException.setMessage("Unknown write "+writeId+"!");
+			throw systemException;
+		}
+		return stagedWrite;
+	}
+
 }
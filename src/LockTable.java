@@ -0,0 +1,160 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class LockTable {
+
+	/*
+	 * the locks a participant holds on its files for the operations it voted for, taken by the vote and released by the commit or abort.
+	 * a read takes a shared lock and a write or a delete an exclusive one (see FileState).
+	 * a vote that conflicts with the locks held waits in the queue of the file for up to the timeout instead of failing right away,
+	 * 		so a transaction on a busy file costs a short wait rather than an aborted round and a retry by the client.
+	 * the table holds the state of every file, along with its metadata. the state of a file that neither exists nor is locked is dropped.
+	 * the votes carry the timestamp of their transaction, given out by the coordinator in increasing order (smaller is older).
+	 * 		which of two conflicting transactions waits is decided by the conflict policy, so that transactions on several files
+	 * 		do not end up waiting on each other in a cycle until they time out.
+	 * the coordinator may give up on a vote that is still waiting here, and abort the transaction. unlocking an operation that
+	 * 		is not locked makes it give up if it is waiting, or else remembers the abort, so that a vote that only gets here
+	 * 		afterwards fails right away instead of taking a lock no one releases. the most recent aborts are remembered.
+	 */
+	private final ConcurrentMap<String, FileState> fileStates = new ConcurrentHashMap<String, FileState>();
+	private final ConflictPolicy conflictPolicy;
+	private static final int MAX_ABORTED_OPERATIONS = 4096;
+	//the aborted operations that were neither locked nor waiting, by filename and timestamp, guarded by the map.
+	private final Map<String, Boolean> abortedOperations = new LinkedHashMap<String, Boolean>(16, 0.75f, false){
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return size() > MAX_ABORTED_OPERATIONS;
+		}
+	};
+
+	public static enum ConflictPolicy{
+		/*
+		 * WAIT_DIE		an older transaction waits for a younger one, a younger one gives up (dies) right away.
+		 * 				every wait is for a younger transaction, hence there is no cycle of waits.
+		 * 				as the holder of a lock is nearly always older than a vote that conflicts with it, the vote nearly always dies.
+		 * 				so this trades the waits for aborted rounds, only an old transaction held up by a newer one waits.
+		 * WOUND_WAIT	a younger transaction waits for an older one, an older one makes the younger ones waiting ahead of it give up (wounds them).
+		 * 				a transaction that already holds the lock voted to commit and cannot be wounded, an older one waits for it
+		 * 				up to the timeout. so this only avoids the waits in the queue, and a cycle through the holders ends with the timeout.
+		 */
+		WAIT_DIE,
+		WOUND_WAIT;
+	}
+
+	public LockTable(ConflictPolicy conflictPolicy){
+		this.conflictPolicy = conflictPolicy;
+	}
+
+	public RFileMetadata getMetadata(String filename){
+		FileState fileState = fileStates.get(filename);
+		return fileState != null ? fileState.getMetadata() : null;
+	}
+
+	public void putMetadata(RFileMetadata metadata){
+		while(true){
+			FileState fileState = getFileState(metadata.getFilename(), true);
+			synchronized(fileState){
+				if(fileState.isRetired()){
+					continue;
+				}
+				fileState.setMetadata(metadata);
+				return;
+			}
+		}
+	}
+
+	public void removeMetadata(String filename){
+		/*
+		 * forgets the metadata of a deleted file, its state goes as well once the file is unlocked.
+		 */
+		FileState fileState = fileStates.get(filename);
+		if(fileState == null){
+			return;
+		}
+		synchronized(fileState){
+			fileState.setMetadata(null);
+			retire(fileState);
+		}
+	}
+
+	public boolean lock(String filename, Operation operation, long timestamp, long timeout) throws InterruptedException{
+		/*
+		 * returns true once the lock is granted, false if it could not be within the timeout or the file to read or delete does not exist.
+		 */
+		while(true){
+			FileState fileState = getFileState(filename, Operation.WRITE.equals(operation));
+			if(fileState == null){
+				return false;
+			}
+			synchronized(fileState){
+				if(fileState.isRetired()){
+					//the file was deleted meanwhile, it has a new state by now.
+					continue;
+				}
+				if(isAborted(filename, timestamp)){
+					return false;
+				}
+				return fileState.prepare(operation, timestamp, timeout, conflictPolicy);
+			}
+		}
+	}
+
+	public void unlock(String filename, Operation operation, long timestamp){
+		/*
+		 * an operation that was voted against holds no lock, unlocking it leaves the file as it is.
+		 * it may be that its vote has not been taken yet though (see above).
+		 */
+		FileState fileState = fileStates.get(filename);
+		if(fileState == null){
+			addAborted(filename, timestamp);
+			return;
+		}
+		synchronized(fileState){
+			if(!fileState.release(operation, timestamp) && !fileState.abortWaiting(timestamp)){
+				addAborted(filename, timestamp);
+			}
+			retire(fileState);
+		}
+	}
+
+	private void addAborted(String filename, long timestamp){
+		//the operations the coordinator did not stamp cannot be told apart.
+		if(timestamp == 0){
+			return;
+		}
+		synchronized(abortedOperations){
+			abortedOperations.put(timestamp+":"+filename, Boolean.TRUE);
+		}
+	}
+
+	private boolean isAborted(String filename, long timestamp){
+		if(timestamp == 0){
+			return false;
+		}
+		synchronized(abortedOperations){
+			return abortedOperations.containsKey(timestamp+":"+filename);
+		}
+	}
+
+	private FileState getFileState(String filename, boolean create){
+		FileState fileState = fileStates.get(filename);
+		if(fileState == null && create){
+			FileState newFileState = new FileState(filename, null);
+			fileState = fileStates.putIfAbsent(filename, newFileState);
+			if(fileState == null){
+				fileState = newFileState;
+			}
+		}
+		return fileState;
+	}
+
+	private void retire(FileState fileState){
+		if(fileState.retire()){
+			fileStates.remove(fileState.getFilename(), fileState);
+		}
+	}
+}
@@ -0,0 +1,291 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class LogAppender {
+
+	/*
+	 * appends records to a log on behalf of concurrent transactions and makes them durable in groups.
+	 * the current segment file is kept open, and a single writer thread takes whatever records are queued (up to the batch size),
+	 * 		writes them out and forces them to disk with one fsync for the whole batch.
+	 * if a flush interval is given then the writer waits up to that long after the first record of a batch for more records to join it,
+	 * 		trading a bit of latency for fewer fsyncs under load.
+	 * the future handed out for a record completes with the lsn of the record once the record is on disk.
+	 * once the current segment has grown past the segment size, the next batch goes to a new segment (see LogReader for the layout),
+	 * 		so that the segments a checkpoint has covered can be dropped (see LogCheckpointer).
+	 * on opening, a torn tail left behind by a crash is cut off, so that new records follow the last intact one.
+	 * a log in an older, unsegmented format is moved aside to <log file>.legacy, as it cannot be appended to.
+	 */
+	public static enum DurabilityPolicy{
+		//every record is forced to disk on its own.
+		PER_RECORD,
+		//the records queued while the previous batch was being forced make up the next batch.
+		GROUP,
+		//a batch is forced once the flush interval since its first record has passed or it is full.
+		INTERVAL;
+	}
+
+	private final String logFilePathString;
+	//only touched by the writer thread once the appender is open.
+	private FileChannel fileChannel;
+	private long segmentStartLsn;
+	private final long segmentSize;
+	private final long flushInterval;
+	private final int maxBatchSize;
+	private final LinkedBlockingQueue<PendingRecord> pendingRecords = new LinkedBlockingQueue<PendingRecord>();
+	private final Thread writerThread;
+	//guarded by the LogAppender object.
+	private boolean closed = false;
+	private long nextLsn = 0;
+	//end of the records that are on disk.
+	private volatile long durableLsn = 0;
+	//set once a batch could not be written, as the lsns handed out after it no longer match the log.
+	private volatile IOException writeFailure = null;
+	private final PendingRecord closeMarker = new PendingRecord(ByteBuffer.allocate(0), -1);
+
+	private static final Runnable NO_OP = new Runnable() {
+		@Override
+		public void run() {}
+	};
+
+	private static class PendingRecord extends FutureTask<Long>{
+		private final ByteBuffer record;
+		private final long lsn;
+
+		private PendingRecord(ByteBuffer record, long lsn){
+			super(NO_OP, null);
+			this.record = record;
+			this.lsn = lsn;
+		}
+
+		private void durable(){
+			set(lsn);
+		}
+
+		private void failed(Throwable throwable){
+			setException(throwable);
+		}
+	}
+
+	public LogAppender(String logFilePathString, long flushInterval, int maxBatchSize, long segmentSize) throws IOException{
+		this.logFilePathString = logFilePathString;
+		this.segmentSize = segmentSize;
+		this.flushInterval = flushInterval;
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		openLog();
+		this.writerThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				writeBatches();
+			}
+		}, "log-appender-"+logFilePathString);
+		this.writerThread.setDaemon(true);
+		this.writerThread.start();
+	}
+
+	public LogAppender(String logFilePathString, DurabilityPolicy durabilityPolicy, long flushInterval, int maxBatchSize, long segmentSize) throws IOException{
+		this(logFilePathString,
+				durabilityPolicy.equals(DurabilityPolicy.INTERVAL) ? flushInterval : 0,
+				durabilityPolicy.equals(DurabilityPolicy.PER_RECORD) ? 1 : maxBatchSize,
+				segmentSize);
+	}
+
+	private void openLog() throws IOException{
+		Path logFilePath = Paths.get(logFilePathString);
+		if(Files.exists(logFilePath)){
+			Path legacyLogFilePath = Paths.get(logFilePathString+".legacy");
+			Files.move(logFilePath, legacyLogFilePath, StandardCopyOption.REPLACE_EXISTING);
+			System.out.println(logFilePathString+" is not in the segmented log format, moved it to "+legacyLogFilePath);
+		}
+		List<Long> segmentStartLsns = LogReader.listSegments(logFilePathString);
+		if(segmentStartLsns.isEmpty()){
+			startSegment(0);
+			return;
+		}
+		long lastSegmentStartLsn = segmentStartLsns.get(segmentStartLsns.size() - 1);
+		fileChannel = FileChannel.open(LogReader.getSegmentPath(logFilePathString, lastSegmentStartLsn), StandardOpenOption.READ, StandardOpenOption.WRITE);
+		if(!LogReader.hasHeader(fileChannel, lastSegmentStartLsn)){
+			//crashed while starting the segment, before its header was on disk.
+			fileChannel.close();
+			startSegment(lastSegmentStartLsn);
+			return;
+		}
+		LogReader logReader = new LogReader(logFilePathString, lastSegmentStartLsn);
+		try{
+			while(logReader.next() != null){}
+		}
+		finally{
+			logReader.close();
+		}
+		long endLsn = logReader.getEndLsn();
+		long endPosition = LogReader.SEGMENT_HEADER_LENGTH + endLsn - lastSegmentStartLsn;
+		if(endPosition < fileChannel.size()){
+			//cutting off the torn tail.
+			fileChannel.truncate(endPosition);
+			fileChannel.force(true);
+		}
+		fileChannel.position(endPosition);
+		segmentStartLsn = lastSegmentStartLsn;
+		nextLsn = endLsn;
+		durableLsn = endLsn;
+	}
+
+	private void startSegment(long startLsn) throws IOException{
+		/*
+		 * the header is forced before any record goes into the segment, so a segment without a header only ever lacks records.
+		 */
+		fileChannel = FileChannel.open(LogReader.getSegmentPath(logFilePathString, startLsn),
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		ByteBuffer header = ByteBuffer.allocate(LogReader.SEGMENT_HEADER_LENGTH);
+		header.put(LogRecord.FILE_MAGIC);
+		header.putLong(startLsn);
+		header.flip();
+		while(header.hasRemaining()){
+			fileChannel.write(header);
+		}
+		fileChannel.force(true);
+		segmentStartLsn = startLsn;
+	}
+
+	public Future<Long> append(LogRecord logRecord){
+		/*
+		 * the lsn is handed out in the same order the records are queued in, which is the order they are written in.
+		 */
+		synchronized(this){
+			if(closed || writeFailure != null){
+				PendingRecord pendingRecord = new PendingRecord(ByteBuffer.allocate(0), -1);
+				pendingRecord.failed(closed ? new IOException("Log appender is closed") : writeFailure);
+				return pendingRecord;
+			}
+			ByteBuffer record = logRecord.encode(nextLsn);
+			PendingRecord pendingRecord = new PendingRecord(record, nextLsn);
+			nextLsn += record.remaining();
+			pendingRecords.add(pendingRecord);
+			return pendingRecord;
+		}
+	}
+
+	public synchronized long getEndLsn(){
+		return this.nextLsn;
+	}
+
+	public long getDurableLsn(){
+		/*
+		 * every record before this lsn is on disk, hence can be read back by a checkpoint.
+		 */
+		return this.durableLsn;
+	}
+
+	public String getLogFilePathString(){
+		return this.logFilePathString;
+	}
+
+	public void close() throws IOException{
+		/*
+		 * records already queued are still written out before the file is closed.
+		 * the writer is stopped with a marker record rather than an interrupt, as an interrupt would close the channel in the middle of a write.
+		 */
+		synchronized(this){
+			closed = true;
+		}
+		pendingRecords.add(closeMarker);
+		try{
+			writerThread.join();
+		}
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+		}
+		fileChannel.close();
+		PendingRecord pendingRecord = null;
+		while((pendingRecord = pendingRecords.poll()) != null){
+			pendingRecord.failed(new IOException("Log appender is closed"));
+		}
+	}
+
+	private void writeBatches(){
+		List<PendingRecord> batch = new ArrayList<PendingRecord>(maxBatchSize);
+		boolean closing = false;
+		while(!closing){
+			try{
+				batch.add(pendingRecords.take());
+				pendingRecords.drainTo(batch, maxBatchSize - batch.size());
+				if(flushInterval > 0){
+					long batchDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushInterval);
+					while(batch.size() < maxBatchSize && !batch.contains(closeMarker)){
+						long remainingTime = batchDeadline - System.nanoTime();
+						if(remainingTime <= 0){
+							break;
+						}
+						PendingRecord pendingRecord = pendingRecords.poll(remainingTime, TimeUnit.NANOSECONDS);
+						if(pendingRecord == null){
+							break;
+						}
+						batch.add(pendingRecord);
+						pendingRecords.drainTo(batch, maxBatchSize - batch.size());
+					}
+				}
+			}
+			catch(InterruptedException interruptedException){
+				closing = true;
+			}
+			if(batch.remove(closeMarker)){
+				closing = true;
+				pendingRecords.drainTo(batch);
+			}
+			flush(batch);
+			batch.clear();
+		}
+	}
+
+	private void flush(List<PendingRecord> batch){
+		if(batch.isEmpty()){
+			return;
+		}
+		if(writeFailure != null){
+			for(PendingRecord pendingRecord : batch){
+				pendingRecord.failed(writeFailure);
+			}
+			return;
+		}
+		try{
+			long batchStartLsn = batch.get(0).lsn;
+			if(batchStartLsn - segmentStartLsn >= segmentSize){
+				//rolling over to a new segment, the old one is complete and already on disk.
+				fileChannel.close();
+				startSegment(batchStartLsn);
+			}
+			ByteBuffer[] records = new ByteBuffer[batch.size()];
+			long batchLength = 0;
+			for(int i = 0; i < batch.size(); i++){
+				records[i] = batch.get(i).record;
+				batchLength += records[i].remaining();
+			}
+			long written = 0;
+			while(written < batchLength){
+				written += fileChannel.write(records);
+			}
+			fileChannel.force(false);
+			durableLsn = batchStartLsn + batchLength;
+			for(PendingRecord pendingRecord : batch){
+				pendingRecord.durable();
+			}
+		}
+		catch(IOException ioException){
+			writeFailure = ioException;
+			for(PendingRecord pendingRecord : batch){
+				pendingRecord.failed(ioException);
+			}
+		}
+	}
+}
@@ -0,0 +1,187 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+public class LogCheckpoint {
+
+	/*
+	 * the operations that are still pending as of an lsn of the log, which depends on whose log it is (see Role).
+	 * the records before that lsn are no longer needed for recovery, which then only replays the log from the checkpoint onwards.
+	 * a checkpoint is kept in <log>.checkpoint, laid out as,
+	 * 		magic			8 bytes		CHECKPOINT_MAGIC.
+	 * 		lsn				long
+	 * 		count			int			number of pending operations.
+	 * 		records						the record that left each operation pending, as in the log.
+	 * 		checksum		int			CRC32 of everything before it.
+	 * the file is replaced atomically, so a crash leaves either the old or the new checkpoint behind.
+	 */
+	private static final byte[] CHECKPOINT_MAGIC = {'2', 'P', 'C', 'C', 'K', 'P', '0', '1'};
+
+	public static enum Role{
+		/*
+		 * PARTICIPANT	an operation voted for (LOCAL_COMMIT) is in doubt until its decision (GLOBAL_COMMIT or ABORT) is logged.
+		 * COORDINATOR	a commit (GLOBAL_COMMIT) is pending until every server has acknowledged it (END),
+		 * 				as a server that recovers asks for it. an abort is never pending, a decision we have no record of is an abort.
+		 */
+		PARTICIPANT,
+		COORDINATOR;
+	}
+
+	private long lsn;
+	private final Role role;
+	//the record of every pending operation, keyed by transaction id and filename.
+	private final Map<String, LogRecord> pendingRecords = new LinkedHashMap<String, LogRecord>();
+
+	public LogCheckpoint(long lsn, Role role){
+		this.lsn = lsn;
+		this.role = role;
+	}
+
+	public long getLsn(){
+		return this.lsn;
+	}
+
+	public List<LogRecord> getPendingRecords(){
+		return new ArrayList<LogRecord>(pendingRecords.values());
+	}
+
+	public void apply(LogRecord logRecord){
+		/*
+		 * the last record of a transaction on a file decides whether it is still pending.
+		 * a decision only settles the transaction it belongs to, a participant also logs aborts for votes of other transactions on the file,
+		 * 		which must not drop an operation that is still in doubt.
+		 */
+		String key = logRecord.getTransactionId()+":"+logRecord.getFilename();
+		if(role.equals(Role.PARTICIPANT)){
+			if(logRecord.getType().equals(LogRecord.Type.LOCAL_COMMIT)){
+				pendingRecords.put(key, logRecord);
+			}
+			else{
+				pendingRecords.remove(key);
+			}
+		}
+		else{
+			if(logRecord.getType().equals(LogRecord.Type.GLOBAL_COMMIT)){
+				pendingRecords.put(key, logRecord);
+			}
+			else{
+				pendingRecords.remove(key);
+			}
+		}
+	}
+
+	public void replay(LogReader logReader) throws IOException{
+		/*
+		 * moves the checkpoint forward over the records read, the reader must start at the lsn of the checkpoint.
+		 */
+		LogRecord logRecord = null;
+		while((logRecord = logReader.next()) != null){
+			apply(logRecord);
+		}
+		this.lsn = logReader.getEndLsn();
+	}
+
+	public static Path getCheckpointPath(String logFilePathString){
+		return Paths.get(logFilePathString+".checkpoint");
+	}
+
+	public static LogCheckpoint load(String logFilePathString, Role role) throws IOException{
+		/*
+		 * returns the checkpoint of the log, or a checkpoint at the start of the log if there is none yet.
+		 */
+		Path checkpointPath = getCheckpointPath(logFilePathString);
+		if(!Files.exists(checkpointPath)){
+			return new LogCheckpoint(0, role);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(checkpointPath));
+		if(buffer.remaining() < CHECKPOINT_MAGIC.length + 8 + 4 + 4){
+			throw new IOException(checkpointPath+" is not a checkpoint");
+		}
+		CRC32 crc32 = new CRC32();
+		crc32.update(buffer.array(), 0, buffer.limit() - 4);
+		byte[] magic = new byte[CHECKPOINT_MAGIC.length];
+		buffer.get(magic);
+		if(!Arrays.equals(magic, CHECKPOINT_MAGIC) || buffer.getInt(buffer.limit() - 4) != (int)crc32.getValue()){
+			throw new IOException(checkpointPath+" is corrupt");
+		}
+		LogCheckpoint logCheckpoint = new LogCheckpoint(buffer.getLong(), role);
+		int count = buffer.getInt();
+		buffer.limit(buffer.limit() - 4);
+		for(int i = 0; i < count; i++){
+			LogRecord logRecord = null;
+			if(buffer.remaining() >= LogRecord.MIN_LENGTH){
+				int length = buffer.getInt(buffer.position());
+				long recordLsn = buffer.getLong(buffer.position() + 4);
+				if(length >= LogRecord.MIN_LENGTH && length <= buffer.remaining()){
+					logRecord = LogRecord.decode(buffer, length, recordLsn);
+				}
+			}
+			if(logRecord == null){
+				throw new IOException(checkpointPath+" is corrupt");
+			}
+			logCheckpoint.apply(logRecord);
+		}
+		return logCheckpoint;
+	}
+
+	public void store(String logFilePathString) throws IOException{
+		List<ByteBuffer> records = new ArrayList<ByteBuffer>();
+		int length = CHECKPOINT_MAGIC.length + 8 + 4 + 4;
+		for(LogRecord logRecord : pendingRecords.values()){
+			ByteBuffer record = logRecord.encode(logRecord.getLsn());
+			records.add(record);
+			length += record.remaining();
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		buffer.put(CHECKPOINT_MAGIC);
+		buffer.putLong(lsn);
+		buffer.putInt(records.size());
+		for(ByteBuffer record : records){
+			buffer.put(record);
+		}
+		CRC32 crc32 = new CRC32();
+		crc32.update(buffer.array(), 0, buffer.position());
+		buffer.putInt((int)crc32.getValue());
+		buffer.flip();
+
+		Path checkpointPath = getCheckpointPath(logFilePathString);
+		Path temporaryPath = Paths.get(checkpointPath+".tmp");
+		FileChannel fileChannel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		try{
+			while(buffer.hasRemaining()){
+				fileChannel.write(buffer);
+			}
+			fileChannel.force(true);
+		}
+		finally{
+			fileChannel.close();
+		}
+		Files.move(temporaryPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public static LogCheckpoint recover(String logFilePathString, Role role) throws IOException{
+		/*
+		 * the pending operations as of the end of the log, found by replaying the log from the last checkpoint.
+		 */
+		LogCheckpoint logCheckpoint = load(logFilePathString, role);
+		LogReader logReader = new LogReader(logFilePathString, logCheckpoint.getLsn());
+		try{
+			logCheckpoint.replay(logReader);
+		}
+		finally{
+			logReader.close();
+		}
+		return logCheckpoint;
+	}
+}
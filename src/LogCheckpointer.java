@@ -0,0 +1,97 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+public class LogCheckpointer {
+
+	/*
+	 * periodically checkpoints a log that is being appended to, and drops the segments that the checkpoint has made unnecessary.
+	 * a checkpoint only covers records that are durable, and the segments are dropped only after the checkpoint itself is durable.
+	 * a segment is dropped once the segment after it starts at or before the checkpoint, i.e. when all of its records are covered.
+	 * 		the records of the operations still pending are kept in the checkpoint itself.
+	 * dropped segments are deleted, or moved to <log>.archive if they are to be kept around.
+	 */
+	private final String logFilePathString;
+	private final LogAppender logAppender;
+	private final boolean archiveSegments;
+	//guarded by the LogCheckpointer object.
+	private LogCheckpoint logCheckpoint;
+	private ScheduledExecutorService checkpointExecutor = null;
+
+	public LogCheckpointer(LogAppender logAppender, LogCheckpoint.Role role, boolean archiveSegments) throws IOException{
+		this.logFilePathString = logAppender.getLogFilePathString();
+		this.logAppender = logAppender;
+		this.archiveSegments = archiveSegments;
+		this.logCheckpoint = LogCheckpoint.load(logFilePathString, role);
+	}
+
+	public void start(long checkpointInterval){
+		if(checkpointInterval <= 0){
+			return;
+		}
+		checkpointExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "log-checkpointer-"+logFilePathString);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		checkpointExecutor.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				try{
+					checkpoint();
+				}
+				catch(IOException ioException){
+					//the log is left as it is, the next checkpoint tries again.
+					System.out.println("Error checkpointing "+logFilePathString+" : "+ioException.getMessage());
+				}
+			}
+		}, checkpointInterval, checkpointInterval, TimeUnit.MILLISECONDS);
+	}
+
+	public void stop(){
+		if(checkpointExecutor != null){
+			checkpointExecutor.shutdown();
+		}
+	}
+
+	public synchronized void checkpoint() throws IOException{
+		long durableLsn = logAppender.getDurableLsn();
+		if(durableLsn > logCheckpoint.getLsn()){
+			LogReader logReader = new LogReader(logFilePathString, logCheckpoint.getLsn());
+			try{
+				logReader.setLimitLsn(durableLsn);
+				logCheckpoint.replay(logReader);
+			}
+			finally{
+				logReader.close();
+			}
+			logCheckpoint.store(logFilePathString);
+		}
+		dropSegments(logCheckpoint.getLsn());
+	}
+
+	private void dropSegments(long checkpointLsn) throws IOException{
+		List<Long> segmentStartLsns = LogReader.listSegments(logFilePathString);
+		Path archivePath = Paths.get(logFilePathString+".archive");
+		for(int i = 0; i + 1 < segmentStartLsns.size() && segmentStartLsns.get(i + 1) <= checkpointLsn; i++){
+			Path segmentPath = LogReader.getSegmentPath(logFilePathString, segmentStartLsns.get(i));
+			if(archiveSegments){
+				Files.createDirectories(archivePath);
+				Files.move(segmentPath, archivePath.resolve(segmentPath.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+			}
+			else{
+				Files.delete(segmentPath);
+			}
+		}
+	}
+}
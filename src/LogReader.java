@@ -0,0 +1,181 @@
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class LogReader implements Closeable {
+
+	/*
+	 * reads the records of a log one after the other, starting at any record boundary (e.g. the lsn of a checkpoint).
+	 * a log is made of segment files named <log>.<lsn of the first record in the segment>, each starting with a header of
+	 * 		FILE_MAGIC followed by that lsn. the records of a segment follow the header, so the record at offset o of the segment
+	 * 		starting at lsn s has the lsn s + o - SEGMENT_HEADER_LENGTH, i.e. lsns run on across segments.
+	 * the files are read in large chunks, so a scan costs about as much as reading the files.
+	 * reading stops at the first record that is not intact, which after a crash is the torn tail of the log.
+	 * getEndLsn then tells where the intact part of the log ends.
+	 */
+	public static final int SEGMENT_HEADER_LENGTH = LogRecord.FILE_MAGIC.length + 8;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final String logFilePathString;
+	private final List<Long> segmentStartLsns;
+	private int segmentIndex;
+	private FileChannel fileChannel = null;
+	private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+	//lsn of the next record to be read, i.e. the end of the records read so far.
+	private long nextLsn;
+	private long limitLsn = Long.MAX_VALUE;
+	private boolean endOfLog = false;
+
+	public LogReader(String logFilePathString, long startLsn) throws IOException{
+		this.logFilePathString = logFilePathString;
+		this.segmentStartLsns = listSegments(logFilePathString);
+		this.nextLsn = startLsn;
+		if(segmentStartLsns.isEmpty()){
+			endOfLog = true;
+			return;
+		}
+		segmentIndex = Collections.binarySearch(segmentStartLsns, startLsn);
+		if(segmentIndex < 0){
+			segmentIndex = -segmentIndex - 2;
+		}
+		if(segmentIndex < 0){
+			throw new IOException(logFilePathString+" no longer holds lsn "+startLsn+", it starts at "+segmentStartLsns.get(0));
+		}
+		openSegment(segmentIndex, startLsn);
+	}
+
+	public static List<Long> listSegments(String logFilePathString){
+		/*
+		 * returns the start lsns of the segments of the log in ascending order.
+		 */
+		File logFile = new File(logFilePathString).getAbsoluteFile();
+		String prefix = logFile.getName()+".";
+		List<Long> segmentStartLsns = new ArrayList<Long>();
+		File[] files = logFile.getParentFile().listFiles();
+		if(files == null){
+			return segmentStartLsns;
+		}
+		for(File file : files){
+			String name = file.getName();
+			if(name.startsWith(prefix) && name.length() == prefix.length() + 20 && name.substring(prefix.length()).matches("\\d{20}")){
+				segmentStartLsns.add(Long.parseLong(name.substring(prefix.length())));
+			}
+		}
+		Collections.sort(segmentStartLsns);
+		return segmentStartLsns;
+	}
+
+	public static Path getSegmentPath(String logFilePathString, long startLsn){
+		return Paths.get(logFilePathString+"."+String.format("%020d", startLsn));
+	}
+
+	public static boolean hasHeader(FileChannel fileChannel, long startLsn) throws IOException{
+		ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_LENGTH);
+		while(header.hasRemaining()){
+			if(fileChannel.read(header, header.position()) < 0){
+				return false;
+			}
+		}
+		byte[] magic = new byte[LogRecord.FILE_MAGIC.length];
+		header.flip();
+		header.get(magic);
+		return Arrays.equals(magic, LogRecord.FILE_MAGIC) && header.getLong() == startLsn;
+	}
+
+	public void setLimitLsn(long limitLsn){
+		/*
+		 * records at or beyond the limit are not read, e.g. records that are written but not yet durable.
+		 */
+		this.limitLsn = limitLsn;
+	}
+
+	public LogRecord next() throws IOException{
+		/*
+		 * returns the next record, or null at the end of the intact part of the log.
+		 * at the end of a segment, reading goes on in the next segment if it starts right where this one ended.
+		 */
+		while(!endOfLog && nextLsn < limitLsn){
+			LogRecord logRecord = readRecord();
+			if(logRecord != null){
+				nextLsn += logRecord.getLength();
+				return logRecord;
+			}
+			if(segmentIndex + 1 < segmentStartLsns.size() && segmentStartLsns.get(segmentIndex + 1) == nextLsn){
+				fileChannel.close();
+				segmentIndex++;
+				openSegment(segmentIndex, nextLsn);
+			}
+			else{
+				endOfLog = true;
+			}
+		}
+		return null;
+	}
+
+	public long getEndLsn(){
+		return this.nextLsn;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if(fileChannel != null){
+			fileChannel.close();
+		}
+	}
+
+	private void openSegment(int index, long lsn) throws IOException{
+		long segmentStartLsn = segmentStartLsns.get(index);
+		fileChannel = FileChannel.open(getSegmentPath(logFilePathString, segmentStartLsn), StandardOpenOption.READ);
+		if(!hasHeader(fileChannel, segmentStartLsn)){
+			endOfLog = true;
+			return;
+		}
+		fileChannel.position(SEGMENT_HEADER_LENGTH + lsn - segmentStartLsn);
+		buffer.clear();
+		buffer.flip();
+	}
+
+	private LogRecord readRecord() throws IOException{
+		if(!fill(4)){
+			return null;
+		}
+		int length = buffer.getInt(buffer.position());
+		if(length < LogRecord.MIN_LENGTH || length > LogRecord.MAX_LENGTH || !fill(length)){
+			return null;
+		}
+		return LogRecord.decode(buffer, length, nextLsn);
+	}
+
+	private boolean fill(int length) throws IOException{
+		/*
+		 * makes sure the buffer holds at least length bytes, returns false if the segment ends before that.
+		 */
+		if(buffer.remaining() >= length){
+			return true;
+		}
+		if(buffer.capacity() < length){
+			ByteBuffer largerBuffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+			largerBuffer.put(buffer);
+			buffer = largerBuffer;
+		}
+		else{
+			buffer.compact();
+		}
+		while(buffer.position() < length){
+			if(fileChannel.read(buffer) < 0){
+				break;
+			}
+		}
+		buffer.flip();
+		return buffer.remaining() >= length;
+	}
+}
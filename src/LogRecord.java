@@ -0,0 +1,145 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.zip.CRC32;
+
+public class LogRecord {
+
+	/*
+	 * a record of the write-ahead log of the coordinator and the participants.
+	 * on disk a record is laid out as,
+	 * 		length			int		length of the whole record in bytes, including this field and the checksum.
+	 * 		lsn				long	position of the record in the log, checked on reading so that a record is never read from the wrong place.
+	 * 		type			byte
+	 * 		operation		byte
+	 * 		transactionId	long
+	 * 		filenameLength	short	followed by the filename in UTF-8.
+	 * 		checksum		int		CRC32 of everything before it.
+	 * every segment file of a log starts with FILE_MAGIC, see LogReader.
+	 */
+	public static enum Type{
+		LOCAL_COMMIT,
+		GLOBAL_COMMIT,
+		ABORT,
+		//logged by the coordinator once every server has acknowledged a decision.
+		END;
+	}
+
+	public static final byte[] FILE_MAGIC = {'2', 'P', 'C', 'W', 'A', 'L', '0', '2'};
+	private static final int HEADER_LENGTH = 4 + 8 + 1 + 1 + 8 + 2;
+	private static final int CHECKSUM_LENGTH = 4;
+	public static final int MIN_LENGTH = HEADER_LENGTH + CHECKSUM_LENGTH;
+	public static final int MAX_LENGTH = MIN_LENGTH + 0xFFFF;
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private long lsn = -1;
+	private int length = -1;
+	private final Type type;
+	private final Operation operation;
+	private final long transactionId;
+	private final String filename;
+
+	public LogRecord(Type type, Operation operation, long transactionId, String filename){
+		this.type = type;
+		this.operation = operation;
+		this.transactionId = transactionId;
+		this.filename = filename;
+	}
+
+	public long getLsn(){
+		return this.lsn;
+	}
+
+	public int getLength(){
+		return this.length;
+	}
+
+	public Type getType(){
+		return this.type;
+	}
+
+	public Operation getOperation(){
+		return this.operation;
+	}
+
+	public long getTransactionId(){
+		return this.transactionId;
+	}
+
+	public String getFilename(){
+		return this.filename;
+	}
+
+	public ByteBuffer encode(long lsn){
+		byte[] filenameBytes = filename.getBytes(UTF_8);
+		if(filenameBytes.length > 0xFFFF){
+			throw new IllegalArgumentException("Filename too long to be logged : "+filename);
+		}
+		this.lsn = lsn;
+		this.length = MIN_LENGTH + filenameBytes.length;
+		ByteBuffer record = ByteBuffer.allocate(length);
+		record.putInt(length);
+		record.putLong(lsn);
+		record.put((byte)type.ordinal());
+		record.put((byte)operation.getValue());
+		record.putLong(transactionId);
+		record.putShort((short)filenameBytes.length);
+		record.put(filenameBytes);
+		CRC32 crc32 = new CRC32();
+		crc32.update(record.array(), 0, length - CHECKSUM_LENGTH);
+		record.putInt((int)crc32.getValue());
+		record.flip();
+		return record;
+	}
+
+	public static LogRecord decode(ByteBuffer buffer, int length, long expectedLsn){
+		/*
+		 * decodes the record of the given length starting at the position of the buffer, which is moved past the record.
+		 * returns null if the record is not intact (torn write, bit rot or not a record at all).
+		 */
+		int start = buffer.position();
+		CRC32 crc32 = new CRC32();
+		if(buffer.hasArray()){
+			crc32.update(buffer.array(), buffer.arrayOffset() + start, length - CHECKSUM_LENGTH);
+		}
+		else{
+			byte[] recordBytes = new byte[length - CHECKSUM_LENGTH];
+			buffer.duplicate().get(recordBytes);
+			crc32.update(recordBytes, 0, recordBytes.length);
+		}
+		if(buffer.getInt(start + length - CHECKSUM_LENGTH) != (int)crc32.getValue()){
+			return null;
+		}
+		buffer.position(start + 4);
+		long lsn = buffer.getLong();
+		int typeOrdinal = buffer.get();
+		Operation operation = Operation.findByValue(buffer.get());
+		long transactionId = buffer.getLong();
+		int filenameLength = buffer.getShort() & 0xFFFF;
+		if(lsn != expectedLsn || typeOrdinal < 0 || typeOrdinal >= Type.values().length || operation == null || MIN_LENGTH + filenameLength != length){
+			return null;
+		}
+		byte[] filenameBytes = new byte[filenameLength];
+		buffer.get(filenameBytes);
+		buffer.position(start + length);
+		LogRecord logRecord = new LogRecord(Type.values()[typeOrdinal], operation, transactionId, new String(filenameBytes, UTF_8));
+		logRecord.lsn = lsn;
+		logRecord.length = length;
+		return logRecord;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder stringBuilder = new StringBuilder("");
+		stringBuilder.append(this.lsn);
+		stringBuilder.append(" ");
+		stringBuilder.append(this.type);
+		stringBuilder.append(":");
+		stringBuilder.append(this.operation);
+		stringBuilder.append(" ");
+		stringBuilder.append(this.filename);
+		stringBuilder.append(" (");
+		stringBuilder.append(this.transactionId);
+		stringBuilder.append(")");
+		return stringBuilder.toString();
+	}
+}
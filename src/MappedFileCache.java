@@ -0,0 +1,157 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class MappedFileCache {
+
+	/*
+	 * keeps live files memory-mapped, so that repeated reads of a file are served from its mapping without opening or reading the file.
+	 * the cache is bounded by the number of mappings and by the bytes mapped, the least recently read mapping is evicted first.
+	 * a file must not be truncated while it is mapped and being read (the reader would fault), hence a writer brackets
+	 * 		its update with beginUpdate and endUpdate. beginUpdate drops the mapping of the file and waits for the reads of it in progress,
+	 * 		and no mapping of the file is made until endUpdate.
+	 * a file is mapped from the path it is read through, which may be one of its version files rather than the live file.
+	 * 		a read through another path (a newer version) replaces the mapping, so a mapping never serves other content than asked for.
+	 * read returns null whenever the file cannot be served from a mapping, and the caller then reads the file as usual.
+	 * thrift writes a binary out of its backing array, hence the requested bytes are copied out of the mapping into a heap buffer.
+	 * evicted mappings are unmapped by the garbage collector, as java offers no way of unmapping them right away.
+	 */
+	private final int maxMappings;
+	private final long maxMappedBytes;
+	//least recently read first, guarded by the MappedFileCache object along with the rest of the state.
+	private final LinkedHashMap<String, Mapping> mappings = new LinkedHashMap<String, Mapping>(16, 0.75f, true);
+	//number of updates in progress per file.
+	private final Map<String, Integer> updatingFiles = new HashMap<String, Integer>();
+	private long mappedBytes = 0;
+
+	private static class Mapping{
+		private final Path path;
+		private final MappedByteBuffer buffer;
+		//held for reading while bytes are copied out of the mapping.
+		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		//guarded by lock.
+		private boolean invalid = false;
+
+		private Mapping(Path path, MappedByteBuffer buffer){
+			this.path = path;
+			this.buffer = buffer;
+		}
+
+		private void invalidate(){
+			lock.writeLock().lock();
+			try{
+				invalid = true;
+			}
+			finally{
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	public MappedFileCache(int maxMappings, long maxMappedBytes){
+		this.maxMappings = Math.max(1, maxMappings);
+		this.maxMappedBytes = maxMappedBytes;
+	}
+
+	public ByteBuffer read(String filename, Path path, long offset, int length) throws IOException{
+		/*
+		 * returns up to length bytes of the file from the offset, an empty buffer if the offset is past the end of the file.
+		 */
+		Mapping mapping = getMapping(filename, path);
+		if(mapping == null){
+			return null;
+		}
+		mapping.lock.readLock().lock();
+		try{
+			if(mapping.invalid){
+				return null;
+			}
+			ByteBuffer region = mapping.buffer.duplicate();
+			int start = (int)Math.min(offset, region.limit());
+			int end = (int)Math.min(region.limit(), (long)start + length);
+			region.position(start);
+			region.limit(end);
+			ByteBuffer content = ByteBuffer.allocate(region.remaining());
+			content.put(region);
+			content.flip();
+			return content;
+		}
+		finally{
+			mapping.lock.readLock().unlock();
+		}
+	}
+
+	public void beginUpdate(String filename){
+		Mapping mapping = null;
+		synchronized(this){
+			Integer updates = updatingFiles.get(filename);
+			updatingFiles.put(filename, updates == null ? 1 : updates + 1);
+			mapping = mappings.remove(filename);
+			if(mapping != null){
+				mappedBytes -= mapping.buffer.capacity();
+			}
+		}
+		if(mapping != null){
+			mapping.invalidate();
+		}
+	}
+
+	public synchronized void endUpdate(String filename){
+		Integer updates = updatingFiles.get(filename);
+		if(updates == null || updates <= 1){
+			updatingFiles.remove(filename);
+		}
+		else{
+			updatingFiles.put(filename, updates - 1);
+		}
+	}
+
+	private synchronized Mapping getMapping(String filename, Path path) throws IOException{
+		if(updatingFiles.containsKey(filename)){
+			return null;
+		}
+		Mapping mapping = mappings.get(filename);
+		if(mapping != null && mapping.path.equals(path)){
+			return mapping;
+		}
+		if(mapping != null){
+			mappings.remove(filename);
+			mappedBytes -= mapping.buffer.capacity();
+			mapping.invalidate();
+		}
+		FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+		try{
+			long size = fileChannel.size();
+			if(size > Integer.MAX_VALUE || size > maxMappedBytes){
+				return null;
+			}
+			mapping = new Mapping(path, fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+		}
+		finally{
+			//the mapping stays valid after the channel is closed.
+			fileChannel.close();
+		}
+		mappings.put(filename, mapping);
+		mappedBytes += mapping.buffer.capacity();
+		Iterator<Map.Entry<String, Mapping>> iterator = mappings.entrySet().iterator();
+		while((mappings.size() > maxMappings || mappedBytes > maxMappedBytes) && iterator.hasNext()){
+			Mapping eldestMapping = iterator.next().getValue();
+			if(eldestMapping == mapping){
+				break;
+			}
+			iterator.remove();
+			mappedBytes -= eldestMapping.buffer.capacity();
+			//no reader waits on the cache while copying, so waiting for the readers of the evicted mapping here cannot deadlock.
+			eldestMapping.invalidate();
+		}
+		return mapping;
+	}
+}
@@ -0,0 +1,493 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TCompactProtocol;
+
+public class MetadataIndex {
+
+	/*
+	 * keeps the metadata of the files of a participant on disk, so that it is known again after a restart without scanning any directory.
+	 * the index is a snapshot of all the metadata, <index>, and a journal of the changes made since, <index>.log.
+	 * 		loading reads the snapshot and replays the journal, both sequentially.
+	 * every change is appended to the journal and forced to disk before it returns.
+	 * 		the changes are made durable in groups, like the records of a log (see LogAppender). a single writer thread takes
+	 * 		whatever changes are queued, appends them and forces the journal once for all of them.
+	 * once the journal holds as many records as there are files (and at least compactionRecords), it is compacted off the commit path.
+	 * 		the writer renames the journal to <index>.log.compacting and goes on in a new journal. a compactor thread writes
+	 * 		the entries as of the rename into a new snapshot and then deletes the renamed journal.
+	 * 		loading replays the renamed journal, if a crash left it behind, before the journal.
+	 * 		the journal never costs much more than the snapshot to replay.
+	 * the snapshot is laid out as,
+	 * 		magic			8 bytes		SNAPSHOT_MAGIC.
+	 * 		count			int			number of files.
+	 * 		entries						length (int) followed by the metadata of a file in thrift's compact protocol.
+	 * 		checksum		int			CRC32 of everything before it.
+	 * 		and is replaced atomically, so a crash leaves either the old or the new snapshot behind.
+	 * a journal record is laid out as,
+	 * 		length			int			length of the whole record in bytes, including this field and the checksum.
+	 * 		type			byte		PUT followed by the metadata of a file, or REMOVE followed by a filename in UTF-8.
+	 * 		checksum		int			CRC32 of everything before it.
+	 * 		a torn record at the end of the journal is cut off on loading. the records are whole states, so replaying one twice is harmless.
+	 */
+	private static final byte[] SNAPSHOT_MAGIC = {'2', 'P', 'C', 'M', 'I', 'X', '0', '1'};
+	private static final byte PUT = 0;
+	private static final byte REMOVE = 1;
+	private static final int RECORD_OVERHEAD = 4 + 1 + 4;
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final int MAX_BATCH_SIZE = 256;
+
+	private final Path snapshotPath;
+	private final Path journalPath;
+	private final Path compactingJournalPath;
+	private final long compactionRecords;
+	//the serialized metadata of every file, guarded by the MetadataIndex object along with the rest of the state.
+	private final Map<String, byte[]> entries = new HashMap<String, byte[]>();
+	private boolean closed = false;
+	//set once a batch could not be written, as the journal may then end in a torn record.
+	private IOException writeFailure = null;
+	//only touched by the writer thread once the index is open.
+	private FileChannel journalChannel;
+	private long journalRecords = 0;
+	//set while a compaction is running, and left set if it failed, so that the renamed journal is never overwritten.
+	private volatile boolean compacting = false;
+	private final LinkedBlockingQueue<PendingChange> pendingChanges = new LinkedBlockingQueue<PendingChange>();
+	private final Thread writerThread;
+	private final ExecutorService compactor;
+	private final PendingChange closeMarker = new PendingChange(REMOVE, null, new byte[0]);
+
+	private static final Runnable NO_OP = new Runnable() {
+		@Override
+		public void run() {}
+	};
+
+	private static class PendingChange extends FutureTask<Void>{
+		private final byte type;
+		private final String filename;
+		private final byte[] payload;
+
+		private PendingChange(byte type, String filename, byte[] payload){
+			super(NO_OP, null);
+			this.type = type;
+			this.filename = filename;
+			this.payload = payload;
+		}
+
+		private void durable(){
+			set(null);
+		}
+
+		private void failed(Throwable throwable){
+			setException(throwable);
+		}
+	}
+
+	public MetadataIndex(String indexPathString, long compactionRecords) throws IOException{
+		this.snapshotPath = Paths.get(indexPathString);
+		this.journalPath = Paths.get(indexPathString+".log");
+		this.compactingJournalPath = Paths.get(indexPathString+".log.compacting");
+		this.compactionRecords = compactionRecords;
+		loadSnapshot();
+		boolean compactionInterrupted = Files.exists(compactingJournalPath);
+		if(compactionInterrupted){
+			replayJournal(compactingJournalPath);
+			journalRecords = 0;
+		}
+		openJournal();
+		if(compactionInterrupted){
+			//completed here before anything is written, the journal goes on as it is.
+			storeSnapshot(entries);
+			Files.delete(compactingJournalPath);
+		}
+		this.compactor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "metadata-compactor-"+snapshotPath);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.writerThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				writeBatches();
+			}
+		}, "metadata-writer-"+snapshotPath);
+		this.writerThread.setDaemon(true);
+		this.writerThread.start();
+	}
+
+	public synchronized Map<String, RFileMetadata> getEntries() throws IOException{
+		Map<String, RFileMetadata> metadataMap = new HashMap<String, RFileMetadata>(entries.size() * 2);
+		TDeserializer deserializer = new TDeserializer(new TCompactProtocol.Factory());
+		for(Map.Entry<String, byte[]> entry : entries.entrySet()){
+			RFileMetadata metadata = new RFileMetadata();
+			try{
+				deserializer.deserialize(metadata, entry.getValue());
+			}
+			catch(TException tException){
+				throw new IOException("Corrupt metadata of "+entry.getKey()+" in "+snapshotPath, tException);
+			}
+			metadataMap.put(entry.getKey(), metadata);
+		}
+		return metadataMap;
+	}
+
+	public void put(RFileMetadata metadata) throws IOException{
+		byte[] serializedMetadata = null;
+		try{
+			serializedMetadata = new TSerializer(new TCompactProtocol.Factory()).serialize(metadata);
+		}
+		catch(TException tException){
+			throw new IOException("Error serializing the metadata of "+metadata.getFilename(), tException);
+		}
+		change(PUT, metadata.getFilename(), serializedMetadata);
+	}
+
+	public void remove(String filename) throws IOException{
+		synchronized(this){
+			if(!entries.containsKey(filename)){
+				return;
+			}
+		}
+		change(REMOVE, filename, filename.getBytes(UTF_8));
+	}
+
+	public void close() throws IOException{
+		/*
+		 * changes already queued are still written out before the journal is closed, a running compaction is left to complete.
+		 */
+		synchronized(this){
+			if(closed){
+				return;
+			}
+			closed = true;
+		}
+		pendingChanges.add(closeMarker);
+		try{
+			writerThread.join();
+		}
+		catch(InterruptedException interruptedException){
+			Thread.currentThread().interrupt();
+		}
+		compactor.shutdown();
+		journalChannel.close();
+		PendingChange pendingChange = null;
+		while((pendingChange = pendingChanges.poll()) != null){
+			pendingChange.failed(new IOException("Metadata index is closed"));
+		}
+	}
+
+	private void change(byte type, String filename, byte[] payload) throws IOException{
+		/*
+		 * returns once the change is on disk.
+		 */
+		PendingChange pendingChange = new PendingChange(type, filename, payload);
+		synchronized(this){
+			if(closed || writeFailure != null){
+				throw closed ? new IOException("Metadata index is closed") : writeFailure;
+			}
+			pendingChanges.add(pendingChange);
+		}
+		try{
+			pendingChange.get();
+		}
+		catch(ExecutionException executionException){
+			if(executionException.getCause() instanceof IOException){
+				throw (IOException)executionException.getCause();
+			}
+			throw new IOException(executionException.getCause());
+		}
+		catch(InterruptedException interruptedException){
+			//the change is still made, only not waited for.
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while writing the metadata of "+filename);
+		}
+	}
+
+	private void writeBatches(){
+		List<PendingChange> batch = new ArrayList<PendingChange>(MAX_BATCH_SIZE);
+		boolean closing = false;
+		while(!closing){
+			try{
+				batch.add(pendingChanges.take());
+				pendingChanges.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+			}
+			catch(InterruptedException interruptedException){
+				closing = true;
+			}
+			if(batch.remove(closeMarker)){
+				closing = true;
+				pendingChanges.drainTo(batch);
+			}
+			flush(batch);
+			batch.clear();
+		}
+	}
+
+	private void flush(List<PendingChange> batch){
+		/*
+		 * the entries are brought up to date once the batch is on disk, in the order of the journal.
+		 */
+		if(batch.isEmpty()){
+			return;
+		}
+		IOException failure = null;
+		synchronized(this){
+			failure = writeFailure;
+		}
+		if(failure == null){
+			try{
+				ByteBuffer[] records = new ByteBuffer[batch.size()];
+				long batchLength = 0;
+				for(int i = 0; i < batch.size(); i++){
+					records[i] = encode(batch.get(i).type, batch.get(i).payload);
+					batchLength += records[i].remaining();
+				}
+				long written = 0;
+				while(written < batchLength){
+					written += journalChannel.write(records);
+				}
+				journalChannel.force(false);
+				journalRecords += batch.size();
+				synchronized(this){
+					for(PendingChange pendingChange : batch){
+						if(pendingChange.type == PUT){
+							entries.put(pendingChange.filename, pendingChange.payload);
+						}
+						else{
+							entries.remove(pendingChange.filename);
+						}
+					}
+				}
+				compactIfNeeded();
+			}
+			catch(IOException ioException){
+				synchronized(this){
+					writeFailure = ioException;
+				}
+				failure = ioException;
+			}
+		}
+		for(PendingChange pendingChange : batch){
+			if(failure == null){
+				pendingChange.durable();
+			}
+			else{
+				pendingChange.failed(failure);
+			}
+		}
+	}
+
+	private static ByteBuffer encode(byte type, byte[] payload){
+		int length = RECORD_OVERHEAD + payload.length;
+		ByteBuffer record = ByteBuffer.allocate(length);
+		record.putInt(length);
+		record.put(type);
+		record.put(payload);
+		CRC32 crc32 = new CRC32();
+		crc32.update(record.array(), 0, record.position());
+		record.putInt((int)crc32.getValue());
+		record.flip();
+		return record;
+	}
+
+	private void compactIfNeeded() throws IOException{
+		/*
+		 * runs on the writer thread, which only renames the journal and copies the references to the entries,
+		 * 		the snapshot is written by the compactor.
+		 */
+		final Map<String, byte[]> snapshotEntries;
+		synchronized(this){
+			if(compacting || journalRecords < Math.max(compactionRecords, entries.size())){
+				return;
+			}
+			snapshotEntries = new HashMap<String, byte[]>(entries);
+		}
+		compacting = true;
+		journalChannel.close();
+		Files.move(journalPath, compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+		journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		journalRecords = 0;
+		//the rename and the new journal are made durable before any record goes into the new journal.
+		StorageEngine.forceDirectory(journalPath.toAbsolutePath().getParent());
+		compactor.execute(new Runnable() {
+			@Override
+			public void run() {
+				try{
+					storeSnapshot(snapshotEntries);
+					//the snapshot covers every record of the renamed journal.
+					Files.delete(compactingJournalPath);
+					compacting = false;
+				}
+				catch(IOException ioException){
+					ioException.printStackTrace();
+				}
+			}
+		});
+	}
+
+	private void storeSnapshot(Map<String, byte[]> snapshotEntries) throws IOException{
+		Path temporaryPath = Paths.get(snapshotPath+".tmp");
+		FileOutputStream fileOutputStream = new FileOutputStream(temporaryPath.toFile());
+		try{
+			CheckedOutputStream checkedOutputStream = new CheckedOutputStream(new BufferedOutputStream(fileOutputStream, 64 * 1024), new CRC32());
+			DataOutputStream dataOutputStream = new DataOutputStream(checkedOutputStream);
+			dataOutputStream.write(SNAPSHOT_MAGIC);
+			dataOutputStream.writeInt(snapshotEntries.size());
+			for(byte[] serializedMetadata : snapshotEntries.values()){
+				dataOutputStream.writeInt(serializedMetadata.length);
+				dataOutputStream.write(serializedMetadata);
+			}
+			dataOutputStream.writeInt((int)checkedOutputStream.getChecksum().getValue());
+			dataOutputStream.flush();
+			fileOutputStream.getChannel().force(true);
+		}
+		finally{
+			fileOutputStream.close();
+		}
+		Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		StorageEngine.forceDirectory(snapshotPath.toAbsolutePath().getParent());
+	}
+
+	private void loadSnapshot() throws IOException{
+		if(!Files.exists(snapshotPath)){
+			return;
+		}
+		TDeserializer deserializer = new TDeserializer(new TCompactProtocol.Factory());
+		RFileMetadata metadata = new RFileMetadata();
+		InputStream inputStream = Files.newInputStream(snapshotPath);
+		try{
+			CheckedInputStream checkedInputStream = new CheckedInputStream(new BufferedInputStream(inputStream, 64 * 1024), new CRC32());
+			DataInputStream dataInputStream = new DataInputStream(checkedInputStream);
+			byte[] magic = new byte[SNAPSHOT_MAGIC.length];
+			dataInputStream.readFully(magic);
+			if(!Arrays.equals(magic, SNAPSHOT_MAGIC)){
+				throw new IOException(snapshotPath+" is not a metadata index");
+			}
+			int count = dataInputStream.readInt();
+			for(int i = 0; i < count; i++){
+				byte[] serializedMetadata = new byte[dataInputStream.readInt()];
+				dataInputStream.readFully(serializedMetadata);
+				metadata.clear();
+				deserializer.deserialize(metadata, serializedMetadata);
+				entries.put(metadata.getFilename(), serializedMetadata);
+			}
+			int checksum = (int)checkedInputStream.getChecksum().getValue();
+			if(dataInputStream.readInt() != checksum){
+				throw new IOException(snapshotPath+" is corrupt");
+			}
+		}
+		catch(EOFException eofException){
+			throw new IOException(snapshotPath+" is corrupt");
+		}
+		catch(TException tException){
+			throw new IOException(snapshotPath+" is corrupt", tException);
+		}
+		finally{
+			inputStream.close();
+		}
+	}
+
+	private void openJournal() throws IOException{
+		/*
+		 * applies the records of the journal to the entries, then opens the journal for appending after the last whole record.
+		 */
+		journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		long endPosition = replayJournal(journalPath);
+		if(endPosition < journalChannel.size()){
+			journalChannel.truncate(endPosition);
+			journalChannel.force(true);
+		}
+		journalChannel.position(endPosition);
+	}
+
+	private long replayJournal(Path path) throws IOException{
+		/*
+		 * applies the whole records of the journal to the entries, and returns where the last of them ends.
+		 */
+		long size = Files.size(path);
+		TDeserializer deserializer = new TDeserializer(new TCompactProtocol.Factory());
+		RFileMetadata metadata = new RFileMetadata();
+		DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024));
+		long endPosition = 0;
+		try{
+			while(true){
+				int length = 0;
+				try{
+					length = dataInputStream.readInt();
+				}
+				catch(EOFException eofException){
+					break;
+				}
+				if(length < RECORD_OVERHEAD || length > size - endPosition){
+					break;
+				}
+				byte[] record = new byte[length];
+				ByteBuffer.wrap(record).putInt(length);
+				try{
+					dataInputStream.readFully(record, 4, length - 4);
+				}
+				catch(EOFException eofException){
+					break;
+				}
+				CRC32 crc32 = new CRC32();
+				crc32.update(record, 0, length - 4);
+				if(ByteBuffer.wrap(record).getInt(length - 4) != (int)crc32.getValue()){
+					break;
+				}
+				byte[] payload = Arrays.copyOfRange(record, 5, length - 4);
+				if(record[4] == PUT){
+					metadata.clear();
+					deserializer.deserialize(metadata, payload);
+					entries.put(metadata.getFilename(), payload);
+				}
+				else if(record[4] == REMOVE){
+					entries.remove(new String(payload, UTF_8));
+				}
+				else{
+					break;
+				}
+				endPosition += length;
+				journalRecords++;
+			}
+		}
+		catch(TException tException){
+			//a record that passed its checksum but is not metadata, nothing after it can be trusted.
+		}
+		finally{
+			dataInputStream.close();
+		}
+		return endPosition;
+	}
+}
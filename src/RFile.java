@@ -5,7 +5,9 @@
  * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
  *  @generated
  */
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -16,6 +18,7 @@ import java.util.Map;
 
 import javax.annotation.Generated;
 
+import org.apache.thrift.EncodingUtils;
 import org.apache.thrift.protocol.TTupleProtocol;
 import org.apache.thrift.scheme.IScheme;
 import org.apache.thrift.scheme.SchemeFactory;
@@ -29,6 +32,7 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
 
   private static final org.apache.thrift.protocol.TField METADATA_FIELD_DESC = new org.apache.thrift.protocol.TField("metadata", org.apache.thrift.protocol.TType.STRUCT, (short)1);
   private static final org.apache.thrift.protocol.TField CONTENT_FIELD_DESC = new org.apache.thrift.protocol.TField("content", org.apache.thrift.protocol.TType.STRING, (short)2);
+  private static final org.apache.thrift.protocol.TField WRITE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("writeId", org.apache.thrift.protocol.TType.I64, (short)3);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -37,12 +41,14 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
   }
 
   public RFileMetadata metadata; // optional
-  public String content; // optional
+  public ByteBuffer content; // optional
+  public long writeId; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     METADATA((short)1, "metadata"),
-    CONTENT((short)2, "content");
+    CONTENT((short)2, "content"),
+    WRITE_ID((short)3, "writeId");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -61,6 +67,8 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
           return METADATA;
         case 2: // CONTENT
           return CONTENT;
+        case 3: // WRITE_ID
+          return WRITE_ID;
         default:
           return null;
       }
@@ -101,14 +109,18 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
   }
 
   // isset id assignments
-  private static final _Fields optionals[] = {_Fields.METADATA,_Fields.CONTENT};
+  private static final int __WRITEID_ISSET_ID = 0;
+  private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.METADATA,_Fields.CONTENT,_Fields.WRITE_ID};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
     tmpMap.put(_Fields.METADATA, new org.apache.thrift.meta_data.FieldMetaData("metadata", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFileMetadata.class)));
     tmpMap.put(_Fields.CONTENT, new org.apache.thrift.meta_data.FieldMetaData("content", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
-        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+    tmpMap.put(_Fields.WRITE_ID, new org.apache.thrift.meta_data.FieldMetaData("writeId", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RFile.class, metaDataMap);
   }
@@ -120,12 +132,14 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
    * Performs a deep copy on <i>other</i>.
    */
   public RFile(RFile other) {
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetMetadata()) {
       this.metadata = new RFileMetadata(other.metadata);
     }
     if (other.isSetContent()) {
-      this.content = other.content;
+      this.content = org.apache.thrift.TBaseHelper.copyBinary(other.content);
     }
+    this.writeId = other.writeId;
   }
 
   public RFile deepCopy() {
@@ -136,6 +150,8 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
   public void clear() {
     this.metadata = null;
     this.content = null;
+    setWriteIdIsSet(false);
+    this.writeId = 0;
   }
 
   public RFileMetadata getMetadata() {
@@ -162,12 +178,22 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
     }
   }
 
-  public String getContent() {
-    return this.content;
+  public byte[] getContent() {
+    setContent(org.apache.thrift.TBaseHelper.rightSize(content));
+    return content == null ? null : content.array();
   }
 
-  public RFile setContent(String content) {
-    this.content = content;
+  public ByteBuffer bufferForContent() {
+    return org.apache.thrift.TBaseHelper.copyBinary(content);
+  }
+
+  public RFile setContent(byte[] content) {
+    this.content = content == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(content, content.length));
+    return this;
+  }
+
+  public RFile setContent(ByteBuffer content) {
+    this.content = org.apache.thrift.TBaseHelper.copyBinary(content);
     return this;
   }
 
@@ -186,6 +212,29 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
     }
   }
 
+  public long getWriteId() {
+    return this.writeId;
+  }
+
+  public RFile setWriteId(long writeId) {
+    this.writeId = writeId;
+    setWriteIdIsSet(true);
+    return this;
+  }
+
+  public void unsetWriteId() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WRITEID_ISSET_ID);
+  }
+
+  /** Returns true if field writeId is set (has been assigned a value) and false otherwise */
+  public boolean isSetWriteId() {
+    return EncodingUtils.testBit(__isset_bitfield, __WRITEID_ISSET_ID);
+  }
+
+  public void setWriteIdIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WRITEID_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case METADATA:
@@ -200,7 +249,15 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       if (value == null) {
         unsetContent();
       } else {
-        setContent((String)value);
+        setContent((ByteBuffer)value);
+      }
+      break;
+
+    case WRITE_ID:
+      if (value == null) {
+        unsetWriteId();
+      } else {
+        setWriteId((Long)value);
       }
       break;
 
@@ -215,6 +272,9 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
     case CONTENT:
       return getContent();
 
+    case WRITE_ID:
+      return Long.valueOf(getWriteId());
+
     }
     throw new IllegalStateException();
   }
@@ -230,6 +290,8 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       return isSetMetadata();
     case CONTENT:
       return isSetContent();
+    case WRITE_ID:
+      return isSetWriteId();
     }
     throw new IllegalStateException();
   }
@@ -265,6 +327,15 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
         return false;
     }
 
+    boolean this_present_writeId = true && this.isSetWriteId();
+    boolean that_present_writeId = true && that.isSetWriteId();
+    if (this_present_writeId || that_present_writeId) {
+      if (!(this_present_writeId && that_present_writeId))
+        return false;
+      if (this.writeId != that.writeId)
+        return false;
+    }
+
     return true;
   }
 
@@ -282,6 +353,11 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
     if (present_content)
       list.add(content);
 
+    boolean present_writeId = true && (isSetWriteId());
+    list.add(present_writeId);
+    if (present_writeId)
+      list.add(writeId);
+
     return list.hashCode();
   }
 
@@ -313,6 +389,16 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetWriteId()).compareTo(other.isSetWriteId());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetWriteId()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.writeId, other.writeId);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -348,10 +434,16 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       if (this.content == null) {
         sb.append("null");
       } else {
-        sb.append(this.content);
+        org.apache.thrift.TBaseHelper.toString(this.content, sb);
       }
       first = false;
     }
+    if (isSetWriteId()) {
+      if (!first) sb.append(", ");
+      sb.append("writeId:");
+      sb.append(this.writeId);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -374,6 +466,8 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bitfield = 0;
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te);
@@ -409,12 +503,20 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
             break;
           case 2: // CONTENT
             if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-              struct.content = iprot.readString();
+              struct.content = iprot.readBinary();
               struct.setContentIsSet(true);
             } else { 
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // WRITE_ID
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.writeId = iprot.readI64();
+              struct.setWriteIdIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -440,10 +542,15 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       if (struct.content != null) {
         if (struct.isSetContent()) {
           oprot.writeFieldBegin(CONTENT_FIELD_DESC);
-          oprot.writeString(struct.content);
+          oprot.writeBinary(struct.content);
           oprot.writeFieldEnd();
         }
       }
+      if (struct.isSetWriteId()) {
+        oprot.writeFieldBegin(WRITE_ID_FIELD_DESC);
+        oprot.writeI64(struct.writeId);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -468,28 +575,38 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       if (struct.isSetContent()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetWriteId()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
       if (struct.isSetMetadata()) {
         struct.metadata.write(oprot);
       }
       if (struct.isSetContent()) {
-        oprot.writeString(struct.content);
+        oprot.writeBinary(struct.content);
+      }
+      if (struct.isSetWriteId()) {
+        oprot.writeI64(struct.writeId);
       }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RFile struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(2);
+      BitSet incoming = iprot.readBitSet(3);
       if (incoming.get(0)) {
         struct.metadata = new RFileMetadata();
         struct.metadata.read(iprot);
         struct.setMetadataIsSet(true);
       }
       if (incoming.get(1)) {
-        struct.content = iprot.readString();
+        struct.content = iprot.readBinary();
         struct.setContentIsSet(true);
       }
+      if (incoming.get(2)) {
+        struct.writeId = iprot.readI64();
+        struct.setWriteIdIsSet(true);
+      }
     }
   }
 
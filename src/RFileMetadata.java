@@ -33,7 +33,9 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
   private static final org.apache.thrift.protocol.TField CREATED_FIELD_DESC = new org.apache.thrift.protocol.TField("created", org.apache.thrift.protocol.TType.I64, (short)3);
   private static final org.apache.thrift.protocol.TField UPDATED_FIELD_DESC = new org.apache.thrift.protocol.TField("updated", org.apache.thrift.protocol.TType.I64, (short)4);
   private static final org.apache.thrift.protocol.TField VERSION_FIELD_DESC = new org.apache.thrift.protocol.TField("version", org.apache.thrift.protocol.TType.I32, (short)5);
-  private static final org.apache.thrift.protocol.TField CONTENT_LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("contentLength", org.apache.thrift.protocol.TType.I32, (short)6);
+  private static final org.apache.thrift.protocol.TField CONTENT_LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("contentLength", org.apache.thrift.protocol.TType.I64, (short)6);
+  private static final org.apache.thrift.protocol.TField CODEC_FIELD_DESC = new org.apache.thrift.protocol.TField("codec", org.apache.thrift.protocol.TType.I32, (short)7);
+  private static final org.apache.thrift.protocol.TField RAW_LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("rawLength", org.apache.thrift.protocol.TType.I64, (short)8);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -46,7 +48,13 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
   public long created; // optional
   public long updated; // optional
   public int version; // optional
-  public int contentLength; // optional
+  public long contentLength; // optional
+  /**
+   * 
+   * @see Codec
+   */
+  public Codec codec; // optional
+  public long rawLength; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -55,7 +63,13 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
     CREATED((short)3, "created"),
     UPDATED((short)4, "updated"),
     VERSION((short)5, "version"),
-    CONTENT_LENGTH((short)6, "contentLength");
+    CONTENT_LENGTH((short)6, "contentLength"),
+    /**
+     * 
+     * @see Codec
+     */
+    CODEC((short)7, "codec"),
+    RAW_LENGTH((short)8, "rawLength");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -82,6 +96,10 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
           return VERSION;
         case 6: // CONTENT_LENGTH
           return CONTENT_LENGTH;
+        case 7: // CODEC
+          return CODEC;
+        case 8: // RAW_LENGTH
+          return RAW_LENGTH;
         default:
           return null;
       }
@@ -126,8 +144,9 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
   private static final int __UPDATED_ISSET_ID = 1;
   private static final int __VERSION_ISSET_ID = 2;
   private static final int __CONTENTLENGTH_ISSET_ID = 3;
+  private static final int __RAWLENGTH_ISSET_ID = 4;
   private byte __isset_bitfield = 0;
-  private static final _Fields optionals[] = {_Fields.FILENAME,_Fields.CONTENT_HASH,_Fields.CREATED,_Fields.UPDATED,_Fields.VERSION,_Fields.CONTENT_LENGTH};
+  private static final _Fields optionals[] = {_Fields.FILENAME,_Fields.CONTENT_HASH,_Fields.CREATED,_Fields.UPDATED,_Fields.VERSION,_Fields.CONTENT_LENGTH,_Fields.CODEC,_Fields.RAW_LENGTH};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -142,7 +161,11 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
     tmpMap.put(_Fields.VERSION, new org.apache.thrift.meta_data.FieldMetaData("version", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
     tmpMap.put(_Fields.CONTENT_LENGTH, new org.apache.thrift.meta_data.FieldMetaData("contentLength", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
-        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.CODEC, new org.apache.thrift.meta_data.FieldMetaData("codec", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Codec.class)));
+    tmpMap.put(_Fields.RAW_LENGTH, new org.apache.thrift.meta_data.FieldMetaData("rawLength", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RFileMetadata.class, metaDataMap);
   }
@@ -165,6 +188,10 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
     this.updated = other.updated;
     this.version = other.version;
     this.contentLength = other.contentLength;
+    if (other.isSetCodec()) {
+      this.codec = other.codec;
+    }
+    this.rawLength = other.rawLength;
   }
 
   public RFileMetadata deepCopy() {
@@ -183,6 +210,9 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
     this.version = 0;
     setContentLengthIsSet(false);
     this.contentLength = 0;
+    this.codec = null;
+    setRawLengthIsSet(false);
+    this.rawLength = 0;
   }
 
   public String getFilename() {
@@ -302,11 +332,11 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
     __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __VERSION_ISSET_ID, value);
   }
 
-  public int getContentLength() {
+  public long getContentLength() {
     return this.contentLength;
   }
 
-  public RFileMetadata setContentLength(int contentLength) {
+  public RFileMetadata setContentLength(long contentLength) {
     this.contentLength = contentLength;
     setContentLengthIsSet(true);
     return this;
@@ -325,6 +355,61 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
     __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID, value);
   }
 
+  /**
+   * 
+   * @see Codec
+   */
+  public Codec getCodec() {
+    return this.codec;
+  }
+
+  /**
+   * 
+   * @see Codec
+   */
+  public RFileMetadata setCodec(Codec codec) {
+    this.codec = codec;
+    return this;
+  }
+
+  public void unsetCodec() {
+    this.codec = null;
+  }
+
+  /** Returns true if field codec is set (has been assigned a value) and false otherwise */
+  public boolean isSetCodec() {
+    return this.codec != null;
+  }
+
+  public void setCodecIsSet(boolean value) {
+    if (!value) {
+      this.codec = null;
+    }
+  }
+
+  public long getRawLength() {
+    return this.rawLength;
+  }
+
+  public RFileMetadata setRawLength(long rawLength) {
+    this.rawLength = rawLength;
+    setRawLengthIsSet(true);
+    return this;
+  }
+
+  public void unsetRawLength() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RAWLENGTH_ISSET_ID);
+  }
+
+  /** Returns true if field rawLength is set (has been assigned a value) and false otherwise */
+  public boolean isSetRawLength() {
+    return EncodingUtils.testBit(__isset_bitfield, __RAWLENGTH_ISSET_ID);
+  }
+
+  public void setRawLengthIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RAWLENGTH_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case FILENAME:
@@ -371,7 +456,23 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
       if (value == null) {
         unsetContentLength();
       } else {
-        setContentLength((Integer)value);
+        setContentLength((Long)value);
+      }
+      break;
+
+    case CODEC:
+      if (value == null) {
+        unsetCodec();
+      } else {
+        setCodec((Codec)value);
+      }
+      break;
+
+    case RAW_LENGTH:
+      if (value == null) {
+        unsetRawLength();
+      } else {
+        setRawLength((Long)value);
       }
       break;
 
@@ -396,7 +497,13 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
       return Integer.valueOf(getVersion());
 
     case CONTENT_LENGTH:
-      return Integer.valueOf(getContentLength());
+      return Long.valueOf(getContentLength());
+
+    case CODEC:
+      return getCodec();
+
+    case RAW_LENGTH:
+      return Long.valueOf(getRawLength());
 
     }
     throw new IllegalStateException();
@@ -421,6 +528,10 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
       return isSetVersion();
     case CONTENT_LENGTH:
       return isSetContentLength();
+    case CODEC:
+      return isSetCodec();
+    case RAW_LENGTH:
+      return isSetRawLength();
     }
     throw new IllegalStateException();
   }
@@ -492,6 +603,24 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
         return false;
     }
 
+    boolean this_present_codec = true && this.isSetCodec();
+    boolean that_present_codec = true && that.isSetCodec();
+    if (this_present_codec || that_present_codec) {
+      if (!(this_present_codec && that_present_codec))
+        return false;
+      if (!this.codec.equals(that.codec))
+        return false;
+    }
+
+    boolean this_present_rawLength = true && this.isSetRawLength();
+    boolean that_present_rawLength = true && that.isSetRawLength();
+    if (this_present_rawLength || that_present_rawLength) {
+      if (!(this_present_rawLength && that_present_rawLength))
+        return false;
+      if (this.rawLength != that.rawLength)
+        return false;
+    }
+
     return true;
   }
 
@@ -529,6 +658,16 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
     if (present_contentLength)
       list.add(contentLength);
 
+    boolean present_codec = true && (isSetCodec());
+    list.add(present_codec);
+    if (present_codec)
+      list.add(codec.getValue());
+
+    boolean present_rawLength = true && (isSetRawLength());
+    list.add(present_rawLength);
+    if (present_rawLength)
+      list.add(rawLength);
+
     return list.hashCode();
   }
 
@@ -600,6 +739,26 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetCodec()).compareTo(other.isSetCodec());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetCodec()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.codec, other.codec);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetRawLength()).compareTo(other.isSetRawLength());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetRawLength()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rawLength, other.rawLength);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -663,6 +822,22 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
       sb.append(this.contentLength);
       first = false;
     }
+    if (isSetCodec()) {
+      if (!first) sb.append(", ");
+      sb.append("codec:");
+      if (this.codec == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.codec);
+      }
+      first = false;
+    }
+    if (isSetRawLength()) {
+      if (!first) sb.append(", ");
+      sb.append("rawLength:");
+      sb.append(this.rawLength);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -749,13 +924,29 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
             }
             break;
           case 6: // CONTENT_LENGTH
-            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-              struct.contentLength = iprot.readI32();
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.contentLength = iprot.readI64();
               struct.setContentLengthIsSet(true);
             } else { 
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 7: // CODEC
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.codec = Codec.findByValue(iprot.readI32());
+              struct.setCodecIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 8: // RAW_LENGTH
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.rawLength = iprot.readI64();
+              struct.setRawLengthIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -802,7 +993,19 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
       }
       if (struct.isSetContentLength()) {
         oprot.writeFieldBegin(CONTENT_LENGTH_FIELD_DESC);
-        oprot.writeI32(struct.contentLength);
+        oprot.writeI64(struct.contentLength);
+        oprot.writeFieldEnd();
+      }
+      if (struct.codec != null) {
+        if (struct.isSetCodec()) {
+          oprot.writeFieldBegin(CODEC_FIELD_DESC);
+          oprot.writeI32(struct.codec.getValue());
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.isSetRawLength()) {
+        oprot.writeFieldBegin(RAW_LENGTH_FIELD_DESC);
+        oprot.writeI64(struct.rawLength);
         oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
@@ -841,7 +1044,13 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
       if (struct.isSetContentLength()) {
         optionals.set(5);
       }
-      oprot.writeBitSet(optionals, 6);
+      if (struct.isSetCodec()) {
+        optionals.set(6);
+      }
+      if (struct.isSetRawLength()) {
+        optionals.set(7);
+      }
+      oprot.writeBitSet(optionals, 8);
       if (struct.isSetFilename()) {
         oprot.writeString(struct.filename);
       }
@@ -858,14 +1067,20 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
         oprot.writeI32(struct.version);
       }
       if (struct.isSetContentLength()) {
-        oprot.writeI32(struct.contentLength);
+        oprot.writeI64(struct.contentLength);
+      }
+      if (struct.isSetCodec()) {
+        oprot.writeI32(struct.codec.getValue());
+      }
+      if (struct.isSetRawLength()) {
+        oprot.writeI64(struct.rawLength);
       }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RFileMetadata struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(6);
+      BitSet incoming = iprot.readBitSet(8);
       if (incoming.get(0)) {
         struct.filename = iprot.readString();
         struct.setFilenameIsSet(true);
@@ -887,9 +1102,17 @@ public class RFileMetadata implements org.apache.thrift.TBase<RFileMetadata, RFi
         struct.setVersionIsSet(true);
       }
       if (incoming.get(5)) {
-        struct.contentLength = iprot.readI32();
+        struct.contentLength = iprot.readI64();
         struct.setContentLengthIsSet(true);
       }
+      if (incoming.get(6)) {
+        struct.codec = Codec.findByValue(iprot.readI32());
+        struct.setCodecIsSet(true);
+      }
+      if (incoming.get(7)) {
+        struct.rawLength = iprot.readI64();
+        struct.setRawLengthIsSet(true);
+      }
     }
   }
 
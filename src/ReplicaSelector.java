@@ -0,0 +1,87 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaSelector {
+
+	/*
+	 * picks the server a single-replica read is sent to.
+	 * servers are ranked by the number of requests currently in flight to them, and ties are broken by their latency EWMA.
+	 * a failed request counts as a request that took the penalty latency, so a failing server sinks in the ranking until it recovers.
+	 */
+	private static final double EWMA_WEIGHT = 0.2;
+
+	private final long failurePenalty;
+	private final ConcurrentMap<ServerInfo, ReplicaStats> replicaStatsMap = new ConcurrentHashMap<ServerInfo, ReplicaStats>();
+
+	private static class ReplicaStats{
+		private final AtomicInteger inFlight = new AtomicInteger(0);
+		//guarded by the ReplicaStats object.
+		private double latencyEwma = 0;
+	}
+
+	public ReplicaSelector(long failurePenalty){
+		this.failurePenalty = failurePenalty;
+	}
+
+	public List<ServerInfo> rank(Collection<ServerInfo> servers){
+		/*
+		 * returns the servers best first, the rest of the list is the order to fall back in.
+		 * the stats are snapshotted before sorting, as they keep changing under concurrent reads.
+		 */
+		final List<ServerInfo> rankedServers = new ArrayList<ServerInfo>(servers);
+		final Map<ServerInfo, double[]> snapshot = new HashMap<ServerInfo, double[]>();
+		for(ServerInfo serverInfo : rankedServers){
+			ReplicaStats replicaStats = getReplicaStats(serverInfo);
+			synchronized(replicaStats){
+				snapshot.put(serverInfo, new double[]{replicaStats.inFlight.get(), replicaStats.latencyEwma});
+			}
+		}
+		Collections.sort(rankedServers, new Comparator<ServerInfo>() {
+			@Override
+			public int compare(ServerInfo serverInfo1, ServerInfo serverInfo2) {
+				double[] stats1 = snapshot.get(serverInfo1);
+				double[] stats2 = snapshot.get(serverInfo2);
+				if(stats1[0] != stats2[0]){
+					return Double.compare(stats1[0], stats2[0]);
+				}
+				return Double.compare(stats1[1], stats2[1]);
+			}
+		});
+		return rankedServers;
+	}
+
+	public void requestStarted(ServerInfo serverInfo){
+		getReplicaStats(serverInfo).inFlight.incrementAndGet();
+	}
+
+	public void requestFinished(ServerInfo serverInfo, long latency, boolean successful){
+		ReplicaStats replicaStats = getReplicaStats(serverInfo);
+		replicaStats.inFlight.decrementAndGet();
+		double sample = successful ? latency : Math.max(latency, failurePenalty);
+		synchronized(replicaStats){
+			if(replicaStats.latencyEwma == 0){
+				replicaStats.latencyEwma = sample;
+			}
+			else{
+				replicaStats.latencyEwma = EWMA_WEIGHT * sample + (1 - EWMA_WEIGHT) * replicaStats.latencyEwma;
+			}
+		}
+	}
+
+	private ReplicaStats getReplicaStats(ServerInfo serverInfo){
+		ReplicaStats replicaStats = replicaStatsMap.get(serverInfo);
+		if(replicaStats == null){
+			replicaStatsMap.putIfAbsent(serverInfo, new ReplicaStats());
+			replicaStats = replicaStatsMap.get(serverInfo);
+		}
+		return replicaStats;
+	}
+}
@@ -0,0 +1,164 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class RequestCoalescer {
+
+	/*
+	 * gathers the operations of concurrent clients into batches, so that a batch is voted on and committed
+	 * 		with one request per server instead of one request per operation and server.
+	 * a single collector thread takes whatever operations are queued (up to the batch size) and, if a window is given,
+	 * 		waits up to that long after the first operation of a batch for more operations to join it.
+	 * the batch is then handed to the batch handler on the executor, so the next batch is gathered while this one is carried out.
+	 * the handler returns a result per operation, in the order of the batch, and the future handed out for an operation completes with it.
+	 * 		if the handler fails, every operation of the batch fails with it.
+	 * the operations of a batch are meant to be independent of each other, hence no two of them are on the same file.
+	 * 		the caller makes sure no two conflicting operations are queued at once, but the reads of a file share it.
+	 * 		a read of a file the batch already has an operation on is held back for the next batch.
+	 */
+	public static interface BatchHandler{
+		List<FileOpResult> handle(List<FileOp> fileOps) throws Exception;
+	}
+
+	private final long window;
+	private final int maxBatchSize;
+	private final BatchHandler batchHandler;
+	private final ExecutorService executor;
+	private final LinkedBlockingQueue<PendingRequest> pendingRequests = new LinkedBlockingQueue<PendingRequest>();
+	private final Thread collectorThread;
+
+	private static final Runnable NO_OP = new Runnable() {
+		@Override
+		public void run() {}
+	};
+
+	private static class PendingRequest extends FutureTask<FileOpResult>{
+		private final FileOp fileOp;
+
+		private PendingRequest(FileOp fileOp){
+			super(NO_OP, null);
+			this.fileOp = fileOp;
+		}
+
+		private void done(FileOpResult fileOpResult){
+			set(fileOpResult);
+		}
+
+		private void failed(Throwable throwable){
+			setException(throwable);
+		}
+	}
+
+	public RequestCoalescer(long window, int maxBatchSize, BatchHandler batchHandler, ExecutorService executor){
+		this.window = window;
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		this.batchHandler = batchHandler;
+		this.executor = executor;
+		this.collectorThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				collectBatches();
+			}
+		}, "request-coalescer");
+		this.collectorThread.setDaemon(true);
+		this.collectorThread.start();
+	}
+
+	public Future<FileOpResult> submit(FileOp fileOp){
+		PendingRequest pendingRequest = new PendingRequest(fileOp);
+		pendingRequests.add(pendingRequest);
+		return pendingRequest;
+	}
+
+	private void collectBatches(){
+		//the requests held back from the last batch, they start the next one.
+		List<PendingRequest> heldBackRequests = new ArrayList<PendingRequest>();
+		while(true){
+			List<PendingRequest> batch = new ArrayList<PendingRequest>(maxBatchSize);
+			Set<String> filenames = new HashSet<String>();
+			List<PendingRequest> requests = heldBackRequests;
+			heldBackRequests = new ArrayList<PendingRequest>();
+			try{
+				if(requests.isEmpty()){
+					requests.add(pendingRequests.take());
+				}
+				pendingRequests.drainTo(requests, maxBatchSize - requests.size());
+				addToBatch(requests, batch, filenames, heldBackRequests);
+				if(window > 0){
+					long batchDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(window);
+					while(batch.size() < maxBatchSize){
+						long remainingTime = batchDeadline - System.nanoTime();
+						if(remainingTime <= 0){
+							break;
+						}
+						PendingRequest pendingRequest = pendingRequests.poll(remainingTime, TimeUnit.NANOSECONDS);
+						if(pendingRequest == null){
+							break;
+						}
+						requests = new ArrayList<PendingRequest>();
+						requests.add(pendingRequest);
+						pendingRequests.drainTo(requests, maxBatchSize - batch.size() - 1);
+						addToBatch(requests, batch, filenames, heldBackRequests);
+					}
+				}
+			}
+			catch(InterruptedException interruptedException){
+				//the operations gathered so far are still carried out, each held back one in a batch of its own.
+				dispatch(batch);
+				for(PendingRequest heldBackRequest : heldBackRequests){
+					List<PendingRequest> singleBatch = new ArrayList<PendingRequest>(1);
+					singleBatch.add(heldBackRequest);
+					dispatch(singleBatch);
+				}
+				return;
+			}
+			dispatch(batch);
+		}
+	}
+
+	private void addToBatch(List<PendingRequest> requests, List<PendingRequest> batch, Set<String> filenames, List<PendingRequest> heldBackRequests){
+		/*
+		 * adds the requests to the batch, holding back those whose file the batch already has and those that do not fit anymore.
+		 */
+		for(PendingRequest request : requests){
+			if(batch.size() < maxBatchSize && filenames.add(request.fileOp.getRFile().getMetadata().getFilename())){
+				batch.add(request);
+			}
+			else{
+				heldBackRequests.add(request);
+			}
+		}
+	}
+
+	private void dispatch(final List<PendingRequest> batch){
+		if(batch.isEmpty()){
+			return;
+		}
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				List<FileOp> fileOps = new ArrayList<FileOp>(batch.size());
+				for(PendingRequest pendingRequest : batch){
+					fileOps.add(pendingRequest.fileOp);
+				}
+				try{
+					List<FileOpResult> fileOpResults = batchHandler.handle(fileOps);
+					for(int i = 0; i < batch.size(); i++){
+						batch.get(i).done(fileOpResults.get(i));
+					}
+				}
+				catch(Throwable throwable){
+					for(PendingRequest pendingRequest : batch){
+						pendingRequest.failed(throwable);
+					}
+				}
+			}
+		});
+	}
+}
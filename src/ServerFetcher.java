@@ -6,6 +6,24 @@ import org.apache.thrift.transport.TTransportException;
 
 public class ServerFetcher {
 
+	private static final ConnectionPool connectionPool = new ConnectionPool();
+
+	public static FileStore.Client borrowServer(ServerInfo serverInfo, long deadline){
+		/*
+		 * borrows a pooled connection to the server, waiting for it at most till the deadline.
+		 * the connection needs to be given back with returnServer once done with it.
+		 */
+		return connectionPool.borrow(serverInfo, deadline);
+	}
+
+	public static void returnServer(ServerInfo serverInfo, FileStore.Client server, boolean reusable){
+		/*
+		 * reusable should be false if the call on the connection failed with anything other than a SystemException,
+		 * in which case the connection is closed rather than handed out again.
+		 */
+		connectionPool.release(serverInfo, server, reusable);
+	}
+
 	public static FileStore.Client getServer(String hostname, int port){
 		TSocket tSocket = null;
 		TIOStreamTransport tioStreamTransport = null;
@@ -0,0 +1,384 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StorageEngine {
+
+	/*
+	 * stores every file as a sequence of version files in the version directory, named <filename>.v<sequence number>.
+	 * the content of a write is written once, into a new version file, and forced to disk.
+	 * the live file is then switched over to the new version in one step, by hard linking the version file under a temporary name
+	 * 		in the link directory and renaming the link over the live file. readers see either the old or the new content, never a mix.
+	 * 		the link directory (<live directory>.links) is next to the live directory, so it is on the same file system,
+	 * 		and holds nothing but temporary links, so no live file is ever taken for one, whatever its name.
+	 * 		if the file system does not support hard links, the version file is copied instead.
+	 * the live file is never written in place, so the previous version file stays intact and is kept as the rollback image.
+	 * 		versions older than that are deleted.
+	 * a version file is written under a temporary name and only renamed to its version name once it is forced to disk,
+	 * 		and the directory is forced after every rename, so that a crash never leaves a partly written version or live file behind.
+	 * 		the temporary files and links a crash may leave behind are removed by sweep.
+	 * with a retention interval, the versions superseded within the interval are kept as well (for snapshot reads),
+	 * 		and collected by the next write of the file or by collectGarbage once they fall behind the watermark (now - interval).
+	 * 		when the versions were superseded is only known in memory, after a restart the older versions go with the next write.
+	 * the version files of every file are indexed in memory by their sequence numbers, so that finding the versions of a file
+	 * 		never lists the version directory, which holds the versions of all the files. the index is built from the directory on startup.
+	 */
+	private static final String VERSION_SEPARATOR = ".v";
+	private static final String LINK_SUFFIX = ".link-";
+	protected static final String TEMPORARY_SUFFIX = ".tmp";
+	private final Path liveDirectory;
+	private final Path linkDirectory;
+	protected final Path versionDirectory;
+	private final AtomicLong sequenceGenerator = new AtomicLong(new Date().getTime() * 1000);
+	private volatile long retentionInterval = 0;
+	private final ConcurrentMap<Path, SupersededVersion> supersededVersions = new ConcurrentHashMap<Path, SupersededVersion>();
+	//the version files of every file by sequence number.
+	private final ConcurrentMap<String, ConcurrentNavigableMap<Long, Path>> versionIndex = new ConcurrentHashMap<String, ConcurrentNavigableMap<Long, Path>>();
+
+	private static class SupersededVersion{
+		private final String filename;
+		private final long supersededTime;
+
+		private SupersededVersion(String filename, long supersededTime){
+			this.filename = filename;
+			this.supersededTime = supersededTime;
+		}
+	}
+
+	public StorageEngine(String liveDirectory, String versionDirectory) throws IOException{
+		this.liveDirectory = Paths.get(liveDirectory);
+		this.linkDirectory = Paths.get(liveDirectory+".links");
+		this.versionDirectory = Paths.get(versionDirectory);
+		Files.createDirectories(this.liveDirectory);
+		Files.createDirectories(this.linkDirectory);
+		Files.createDirectories(this.versionDirectory);
+		indexVersions();
+	}
+
+	public Path getLivePath(String filename){
+		return liveDirectory.resolve(filename);
+	}
+
+	public void setRetentionInterval(long retentionInterval){
+		this.retentionInterval = retentionInterval;
+	}
+
+	public Path getCurrentVersionPath(String filename) throws IOException{
+		/*
+		 * returns the version file the live file was last switched to, null if the file has no versions.
+		 */
+		List<Path> versionPaths = listVersions(filename);
+		if(versionPaths.isEmpty()){
+			return null;
+		}
+		return versionPaths.get(versionPaths.size() - 1);
+	}
+
+	public int collectGarbage() throws IOException{
+		/*
+		 * deletes the versions kept for snapshot reads that fell behind the watermark, returns how many were deleted.
+		 * the current and the previous version of a file are always kept.
+		 */
+		int deleted = 0;
+		long watermark = new Date().getTime() - retentionInterval;
+		for(Map.Entry<Path, SupersededVersion> supersededVersionEntry : supersededVersions.entrySet()){
+			SupersededVersion supersededVersion = supersededVersionEntry.getValue();
+			if(supersededVersion.supersededTime > watermark){
+				continue;
+			}
+			List<Path> versionPaths = listVersions(supersededVersion.filename);
+			int index = versionPaths.indexOf(supersededVersionEntry.getKey());
+			if(index >= 0 && index >= versionPaths.size() - 2){
+				//still the previous version, kept as the rollback image.
+				continue;
+			}
+			if(index >= 0){
+				deleteVersion(supersededVersionEntry.getKey());
+				unindexVersion(supersededVersion.filename, supersededVersionEntry.getKey());
+				deleted++;
+			}
+			supersededVersions.remove(supersededVersionEntry.getKey());
+		}
+		return deleted;
+	}
+
+	public long write(String filename, ByteBuffer content) throws IOException{
+		/*
+		 * makes the content the new version of the file and returns its length.
+		 */
+		long sequence = sequenceGenerator.incrementAndGet();
+		Path versionPath = getVersionPath(filename, sequence);
+		createVersion(versionPath, content);
+		indexVersion(filename, sequence, versionPath);
+		publish(filename, versionPath, sequence);
+		return content.remaining();
+	}
+
+	public long install(String filename, Path stagedPath) throws IOException{
+		/*
+		 * makes a file that was already written and forced to disk (the staging file of a chunked write) the new version of the file.
+		 * the staging file has to be on the same file system, so that it is renamed into place rather than copied.
+		 */
+		long sequence = sequenceGenerator.incrementAndGet();
+		Path versionPath = getVersionPath(filename, sequence);
+		installVersion(versionPath, stagedPath);
+		indexVersion(filename, sequence, versionPath);
+		publish(filename, versionPath, sequence);
+		return Files.size(versionPath);
+	}
+
+	public void delete(String filename) throws IOException{
+		/*
+		 * throws NoSuchFileException if there is no live file.
+		 */
+		Files.delete(getLivePath(filename));
+		forceDirectory(liveDirectory);
+		for(Path versionPath : listVersions(filename)){
+			deleteVersion(versionPath);
+			unindexVersion(filename, versionPath);
+			supersededVersions.remove(versionPath);
+		}
+		//the archive copy of the layout before versions.
+		Files.deleteIfExists(versionDirectory.resolve(filename));
+	}
+
+	protected void createVersion(Path versionPath, ByteBuffer content) throws IOException{
+		/*
+		 * writes the content into the version file.
+		 */
+		Path temporaryPath = versionDirectory.resolve(versionPath.getFileName()+TEMPORARY_SUFFIX);
+		writeTemporaryFile(temporaryPath, content);
+		Files.move(temporaryPath, versionPath, StandardCopyOption.ATOMIC_MOVE);
+		forceDirectory(versionDirectory);
+	}
+
+	protected void installVersion(Path versionPath, Path stagedPath) throws IOException{
+		/*
+		 * makes the staged file the version file.
+		 */
+		Files.move(stagedPath, versionPath, StandardCopyOption.ATOMIC_MOVE);
+		forceDirectory(versionDirectory);
+	}
+
+	protected void deleteVersion(Path versionPath) throws IOException{
+		Files.deleteIfExists(versionPath);
+	}
+
+	public int sweep() throws IOException{
+		/*
+		 * removes the temporary version files and links left behind by writes that did not complete, and returns how many were removed.
+		 * must be called before any write is made.
+		 */
+		int removed = 0;
+		List<Path> orphanPaths = new ArrayList<Path>();
+		DirectoryStream<Path> directoryStream = Files.newDirectoryStream(versionDirectory);
+		try{
+			for(Path path : directoryStream){
+				if(path.getFileName().toString().endsWith(TEMPORARY_SUFFIX)){
+					orphanPaths.add(path);
+				}
+			}
+		}
+		finally{
+			directoryStream.close();
+		}
+		directoryStream = Files.newDirectoryStream(linkDirectory);
+		try{
+			for(Path path : directoryStream){
+				orphanPaths.add(path);
+			}
+		}
+		finally{
+			directoryStream.close();
+		}
+		for(Path orphanPath : orphanPaths){
+			Files.delete(orphanPath);
+			removed++;
+		}
+		if(removed > 0){
+			forceDirectory(versionDirectory);
+			forceDirectory(linkDirectory);
+		}
+		return removed;
+	}
+
+	public boolean rollback(String filename) throws IOException{
+		/*
+		 * switches the live file back to the previous version and drops the current one.
+		 * returns false if there is no previous version to go back to.
+		 */
+		List<Path> versionPaths = listVersions(filename);
+		if(versionPaths.size() < 2){
+			return false;
+		}
+		Path previousVersionPath = versionPaths.get(versionPaths.size() - 2);
+		link(filename, previousVersionPath, sequenceGenerator.incrementAndGet());
+		deleteVersion(versionPaths.get(versionPaths.size() - 1));
+		unindexVersion(filename, versionPaths.get(versionPaths.size() - 1));
+		return true;
+	}
+
+	private void publish(String filename, Path versionPath, long sequence) throws IOException{
+		link(filename, versionPath, sequence);
+		List<Path> versionPaths = listVersions(filename);
+		long now = new Date().getTime();
+		if(retentionInterval > 0 && versionPaths.size() > 1){
+			supersededVersions.putIfAbsent(versionPaths.get(versionPaths.size() - 2), new SupersededVersion(filename, now));
+		}
+		//keeping the new version, the one before it, and the ones superseded within the retention interval.
+		for(int i = 0; i < versionPaths.size() - 2; i++){
+			SupersededVersion supersededVersion = supersededVersions.get(versionPaths.get(i));
+			if(supersededVersion == null || supersededVersion.supersededTime <= now - retentionInterval){
+				deleteVersion(versionPaths.get(i));
+				unindexVersion(filename, versionPaths.get(i));
+				supersededVersions.remove(versionPaths.get(i));
+			}
+		}
+		Files.deleteIfExists(versionDirectory.resolve(filename));
+	}
+
+	private void link(String filename, Path versionPath, long sequence) throws IOException{
+		Path linkPath = linkDirectory.resolve(filename+LINK_SUFFIX+sequence);
+		try{
+			Files.createLink(linkPath, versionPath);
+		}
+		catch(UnsupportedOperationException unsupportedOperationException){
+			copy(versionPath, linkPath);
+		}
+		catch(FileSystemException fileSystemException){
+			//hard links not permitted, or the directories are on different file systems.
+			Files.deleteIfExists(linkPath);
+			copy(versionPath, linkPath);
+		}
+		Files.move(linkPath, getLivePath(filename), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		//renaming a link over another link to the same file does nothing and leaves both in place.
+		Files.deleteIfExists(linkPath);
+		forceDirectory(liveDirectory);
+	}
+
+	private static void copy(Path sourcePath, Path destinationPath) throws IOException{
+		Files.copy(sourcePath, destinationPath);
+		FileChannel fileChannel = FileChannel.open(destinationPath, StandardOpenOption.WRITE);
+		try{
+			fileChannel.force(true);
+		}
+		finally{
+			fileChannel.close();
+		}
+	}
+
+	protected static void writeTemporaryFile(Path temporaryPath, ByteBuffer content) throws IOException{
+		FileChannel fileChannel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		try{
+			ByteBuffer buffer = content.duplicate();
+			while(buffer.hasRemaining()){
+				fileChannel.write(buffer);
+			}
+			fileChannel.force(true);
+		}
+		finally{
+			fileChannel.close();
+		}
+	}
+
+	protected static void forceDirectory(Path directory) throws IOException{
+		/*
+		 * makes the renames and deletes in the directory durable.
+		 * not every platform can open a directory, in which case the directory is left to the file system to write out.
+		 */
+		FileChannel fileChannel = null;
+		try{
+			fileChannel = FileChannel.open(directory, StandardOpenOption.READ);
+		}
+		catch(IOException ioException){
+			return;
+		}
+		try{
+			fileChannel.force(true);
+		}
+		finally{
+			fileChannel.close();
+		}
+	}
+
+	private Path getVersionPath(String filename, long sequence){
+		return versionDirectory.resolve(filename+VERSION_SEPARATOR+sequence);
+	}
+
+	private List<Path> listVersions(String filename){
+		/*
+		 * returns the version files of the file, oldest first.
+		 */
+		ConcurrentNavigableMap<Long, Path> versions = versionIndex.get(filename);
+		if(versions == null){
+			return new ArrayList<Path>();
+		}
+		return new ArrayList<Path>(versions.values());
+	}
+
+	private void indexVersion(String filename, long sequence, Path versionPath){
+		ConcurrentNavigableMap<Long, Path> versions = versionIndex.get(filename);
+		if(versions == null){
+			ConcurrentNavigableMap<Long, Path> newVersions = new ConcurrentSkipListMap<Long, Path>();
+			versions = versionIndex.putIfAbsent(filename, newVersions);
+			if(versions == null){
+				versions = newVersions;
+			}
+		}
+		versions.put(sequence, versionPath);
+	}
+
+	private void unindexVersion(String filename, Path versionPath){
+		ConcurrentNavigableMap<Long, Path> versions = versionIndex.get(filename);
+		if(versions == null){
+			return;
+		}
+		versions.values().remove(versionPath);
+		if(versions.isEmpty()){
+			//a file that is written again meanwhile indexes its version in a new map.
+			versionIndex.remove(filename, versions);
+		}
+	}
+
+	private void indexVersions() throws IOException{
+		/*
+		 * indexes the version files in the version directory, named <filename>.v<sequence number>.
+		 * the temporary files and the archive copies of the layout before versions are not version files.
+		 */
+		DirectoryStream<Path> directoryStream = Files.newDirectoryStream(versionDirectory);
+		try{
+			for(Path path : directoryStream){
+				String name = path.getFileName().toString();
+				int index = name.lastIndexOf(VERSION_SEPARATOR);
+				if(index <= 0 || name.endsWith(TEMPORARY_SUFFIX)){
+					continue;
+				}
+				try{
+					indexVersion(name.substring(0, index), Long.parseLong(name.substring(index + VERSION_SEPARATOR.length())), path);
+				}
+				catch(NumberFormatException numberFormatException){
+					//not a version file.
+				}
+			}
+		}
+		finally{
+			directoryStream.close();
+		}
+	}
+}